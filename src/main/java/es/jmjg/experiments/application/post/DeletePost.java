@@ -1,20 +1,32 @@
 package es.jmjg.experiments.application.post;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.application.post.dto.DeletePostDto;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
 
 @Service
 public class DeletePost {
 
   private final PostRepository postRepository;
+  private final TagRepository tagRepository;
+  private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public DeletePost(PostRepository postRepository) {
+  public DeletePost(PostRepository postRepository, TagRepository tagRepository, UserRepository userRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.postRepository = postRepository;
+    this.tagRepository = tagRepository;
+    this.userRepository = userRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -29,6 +41,10 @@ public class DeletePost {
         !deletePostDto.authenticatedUser().isAdmin()) {
       throw new Forbidden("You are not the owner of this post");
     }
+
+    tagRepository.incrementPostCounts(post.get().getTags().stream().map(Tag::getId).toList(), -1);
+    userRepository.incrementPostCount(post.get().getUser().getId(), -1);
     postRepository.deleteById(post.get().getId());
+    eventPublisher.publishEvent(new PostChanged(deletePostDto.uuid()));
   }
 }
@@ -1,9 +1,12 @@
 package es.jmjg.experiments.application.post;
 
 import es.jmjg.experiments.application.post.dto.DeletePostCommentDto;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.exception.PostCommentNotFound;
 import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,9 +14,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class DeletePostComment {
 
   private final PostCommentRepository postCommentRepository;
+  private final PostRepository postRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public DeletePostComment(PostCommentRepository postCommentRepository) {
+  public DeletePostComment(PostCommentRepository postCommentRepository, PostRepository postRepository,
+    ApplicationEventPublisher eventPublisher) {
     this.postCommentRepository = postCommentRepository;
+    this.postRepository = postRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -28,6 +36,8 @@ public class DeletePostComment {
       throw new PostCommentNotFound("Post comment with id " + deletePostCommentDto.uuid() + " not found for post with id " + deletePostCommentDto.postUuid());
     }
 
+    postRepository.incrementCommentCount(postComment.getPost().getId(), -1);
     postCommentRepository.deleteById(postComment.getId());
+    eventPublisher.publishEvent(new PostChanged(deletePostCommentDto.postUuid()));
   }
 }
@@ -0,0 +1,26 @@
+package es.jmjg.experiments.application.post;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.domain.post.projection.PostCommentExport;
+import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+
+@Service
+public class ExportPostComments {
+
+  private final PostCommentRepository postCommentRepository;
+
+  public ExportPostComments(PostCommentRepository postCommentRepository) {
+    this.postCommentRepository = postCommentRepository;
+  }
+
+  /** Same as {@link ExportPosts#export} for the comments of every post. */
+  @Transactional(readOnly = true)
+  public void export(LocalDateTime since, Consumer<PostCommentExport> consumer) {
+    postCommentRepository.exportCreatedSince(since, consumer);
+  }
+}
@@ -0,0 +1,29 @@
+package es.jmjg.experiments.application.post;
+
+import java.time.LocalDateTime;
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.domain.post.projection.PostExport;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+
+@Service
+public class ExportPosts {
+
+  private final PostRepository postRepository;
+
+  public ExportPosts(PostRepository postRepository) {
+    this.postRepository = postRepository;
+  }
+
+  /**
+   * Hands the posts created since {@code since}, all of them when null, to {@code consumer} one at
+   * a time. The transaction keeps the database cursor open until the last one is consumed.
+   */
+  @Transactional(readOnly = true)
+  public void export(LocalDateTime since, Consumer<PostExport> consumer) {
+    postRepository.exportCreatedSince(since, consumer);
+  }
+}
@@ -2,10 +2,13 @@ package es.jmjg.experiments.application.post;
 
 import es.jmjg.experiments.application.post.dto.FindAllPostsDto;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
 
 @Service
@@ -18,7 +21,25 @@ public class FindAllPosts {
   }
 
   @Transactional(readOnly = true)
-  public Page<Post> findAll(FindAllPostsDto dto) {
-    return postRepository.findAll(dto.pageable());
+  public Page<PostSummary> findAll(FindAllPostsDto dto) {
+    if (!dto.approximateCount()) {
+      return postRepository.findAll(dto.pageable(), dto.bodyMode());
+    }
+
+    Slice<PostSummary> posts = postRepository.findAllWithoutCount(dto.pageable(), dto.bodyMode());
+    return new PageImpl<>(posts.getContent(), dto.pageable(), approximateTotal(posts, dto.pageable()));
+  }
+
+  // The estimate may lag behind recent writes, never let it contradict the slice that was actually read
+  private long approximateTotal(Slice<PostSummary> posts, Pageable pageable) {
+    long readSoFar = pageable.getOffset() + posts.getNumberOfElements();
+    if (!posts.hasNext() && posts.hasContent()) {
+      return readSoFar;
+    }
+    if (!posts.hasContent()) {
+      // Past the end: there are at most offset posts, a larger estimate would point at pages that do not exist
+      return Math.min(postRepository.estimateCount(), pageable.getOffset());
+    }
+    return Math.max(postRepository.estimateCount(), posts.hasNext() ? readSoFar + 1 : readSoFar);
   }
 }
@@ -0,0 +1,24 @@
+package es.jmjg.experiments.application.post;
+
+import es.jmjg.experiments.application.post.dto.FindAllPostsByCursorDto;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+
+@Service
+public class FindAllPostsByCursor {
+
+  private final PostRepository postRepository;
+
+  public FindAllPostsByCursor(PostRepository postRepository) {
+    this.postRepository = postRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<PostSummary> findAll(FindAllPostsByCursorDto dto) {
+    return postRepository.findAllAfter(dto.afterId(), dto.limit(), dto.bodyMode());
+  }
+}
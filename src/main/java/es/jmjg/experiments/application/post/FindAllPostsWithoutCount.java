@@ -0,0 +1,24 @@
+package es.jmjg.experiments.application.post;
+
+import es.jmjg.experiments.application.post.dto.FindAllPostsDto;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+
+@Service
+public class FindAllPostsWithoutCount {
+
+  private final PostRepository postRepository;
+
+  public FindAllPostsWithoutCount(PostRepository postRepository) {
+    this.postRepository = postRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<PostSummary> findAll(FindAllPostsDto dto) {
+    return postRepository.findAllWithoutCount(dto.pageable(), dto.bodyMode());
+  }
+}
@@ -1,5 +1,6 @@
 package es.jmjg.experiments.application.post;
 
+import java.util.Optional;
 import java.util.UUID;
 
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
@@ -24,6 +25,16 @@ public class FindPostByUuid {
       throw new IllegalArgumentException("UUID cannot be null");
     }
 
-    return postRepository.findByUuid(uuid).orElseThrow(() -> new PostNotFound("Post with UUID " + uuid + " not found"));
+    return postRepository.findByUuidWithUserAndTags(uuid).orElseThrow(() -> new PostNotFound("Post with UUID " + uuid + " not found"));
+  }
+
+  /** Version of the post for conditional requests, empty when there is no such post. */
+  @Transactional(readOnly = true)
+  public Optional<Long> findVersion(UUID uuid) {
+    if (uuid == null) {
+      throw new IllegalArgumentException("UUID cannot be null");
+    }
+
+    return postRepository.findVersionByUuid(uuid);
   }
 }
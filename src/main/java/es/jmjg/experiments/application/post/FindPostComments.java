@@ -0,0 +1,42 @@
+package es.jmjg.experiments.application.post;
+
+import es.jmjg.experiments.application.post.dto.FindPostCommentsDto;
+import es.jmjg.experiments.application.shared.PageSize;
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.exception.PostNotFound;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+public class FindPostComments {
+
+  private final PostCommentRepository postCommentRepository;
+  private final PostRepository postRepository;
+
+  public FindPostComments(PostCommentRepository postCommentRepository, PostRepository postRepository) {
+    this.postCommentRepository = postCommentRepository;
+    this.postRepository = postRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<PostCommentSummary> findByPost(FindPostCommentsDto dto) {
+    Slice<PostCommentSummary> comments = postCommentRepository.findByPostUuid(
+        dto.postUuid(), dto.afterCreatedAt(), dto.afterId(), PageSize.of(dto.limit()));
+
+    // Only an empty page can hide a missing post, a non empty one already proves it exists
+    if (comments.isEmpty() && postRepository.findByUuid(dto.postUuid()).isEmpty()) {
+      throw new PostNotFound("Post with UUID " + dto.postUuid() + " not found");
+    }
+    return comments;
+  }
+
+  /** First comments of a post the caller has already found, so no lookup is needed when it has none. */
+  @Transactional(readOnly = true)
+  public Slice<PostCommentSummary> findPreview(Post post, int limit) {
+    return postCommentRepository.findByPostUuid(post.getUuid(), null, null, limit);
+  }
+}
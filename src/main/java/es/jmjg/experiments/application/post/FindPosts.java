@@ -7,7 +7,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
 
 @Service
@@ -20,13 +21,18 @@ public class FindPosts {
   }
 
   @Transactional(readOnly = true)
-  public List<Post> find(String query, int limit) {
+  public List<PostSummary> find(String query, int limit) {
+    return find(query, limit, PostBodyMode.FULL);
+  }
+
+  @Transactional(readOnly = true)
+  public List<PostSummary> find(String query, int limit, PostBodyMode bodyMode) {
     if (query == null || query.trim().isEmpty()) {
       return List.of();
     }
 
     Pageable pageable = PageRequest.of(0, limit);
 
-    return postRepository.searchByContent(query.trim(), pageable);
+    return postRepository.searchByContent(query.trim(), pageable, bodyMode);
   }
 }
@@ -0,0 +1,299 @@
+package es.jmjg.experiments.application.post;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import es.jmjg.experiments.application.post.dto.ImportPostCommentDto;
+import es.jmjg.experiments.application.post.dto.ImportPostDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsReport;
+import es.jmjg.experiments.application.post.dto.ImportPostsReport.RecordError;
+import es.jmjg.experiments.application.tag.shared.TagCache;
+import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.entity.PostComment;
+import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.exception.TagNotFound;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.exception.UserNotFound;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+
+/**
+ * Imports posts with their tags and comments as they are read. Records are stored in batches,
+ * each batch in its own transaction, so only one batch is held in memory and a bad record never
+ * undoes the ones stored before it. Users, tags and the uuids and titles already taken are looked
+ * up once per batch.
+ *
+ * <p>Not transactional on purpose: a single transaction would keep the whole import in the
+ * persistence context and roll it back on the first failure.
+ */
+@Service
+public class ImportPosts {
+
+  private final PostRepository postRepository;
+  private final PostCommentRepository postCommentRepository;
+  private final UserRepository userRepository;
+  private final TagCache tagCache;
+
+  public ImportPosts(PostRepository postRepository, PostCommentRepository postCommentRepository,
+      UserRepository userRepository, TagCache tagCache) {
+    this.postRepository = postRepository;
+    this.postCommentRepository = postCommentRepository;
+    this.userRepository = userRepository;
+    this.tagCache = tagCache;
+  }
+
+  public ImportPostsReport importPosts(ImportPostsDto importPostsDto) {
+    if (importPostsDto.batchSize() <= 0) {
+      throw new InvalidRequest("Batch size must be positive");
+    }
+
+    Report report = new Report(importPostsDto.maxReportedErrors());
+    AuthenticatedUserDto importer = importPostsDto.authenticatedUser();
+    List<NumberedPost> batch = new ArrayList<>(importPostsDto.batchSize());
+    Iterator<ImportPostDto> posts = importPostsDto.posts();
+    long number = 0;
+
+    while (posts.hasNext()) {
+      number++;
+      ImportPostDto post = null;
+      try {
+        post = posts.next();
+        checkRecord(post, importer);
+      } catch (InvalidRequest | Forbidden e) {
+        report.fail(number, post != null ? post.uuid() : null, e.getMessage());
+        continue;
+      }
+
+      batch.add(new NumberedPost(number, post));
+      if (batch.size() == importPostsDto.batchSize()) {
+        storeBatch(batch, importer, report);
+        batch.clear();
+      }
+    }
+    if (!batch.isEmpty()) {
+      storeBatch(batch, importer, report);
+    }
+
+    return report.toReport();
+  }
+
+  private void checkRecord(ImportPostDto post, AuthenticatedUserDto importer) {
+    if (post == null) {
+      throw new InvalidRequest("Record must be a post");
+    }
+    if (post.uuid() == null) {
+      throw new InvalidRequest("Identifier is required");
+    }
+    if (post.title() == null || post.title().isEmpty()) {
+      throw new InvalidRequest("Title is required");
+    }
+    if (post.body() == null || post.body().isEmpty()) {
+      throw new InvalidRequest("Body is required");
+    }
+    checkOwner(post.userUuid(), importer);
+
+    for (ImportPostCommentDto comment : comments(post)) {
+      if (comment == null || comment.uuid() == null) {
+        throw new InvalidRequest("Comment identifier is required");
+      }
+      if (comment.comment() == null || comment.comment().isBlank()) {
+        throw new InvalidRequest("Comment is required");
+      }
+      checkOwner(comment.userUuid(), importer);
+    }
+  }
+
+  // Same rule as editing a post: only admins may write on behalf of someone else
+  private static void checkOwner(UUID userUuid, AuthenticatedUserDto importer) {
+    if (userUuid != null && !userUuid.equals(importer.id()) && !importer.isAdmin()) {
+      throw new Forbidden("You can only import posts and comments of your own");
+    }
+  }
+
+  private void storeBatch(List<NumberedPost> batch, AuthenticatedUserDto importer, Report report) {
+    Set<UUID> userUuids = new HashSet<>();
+    Set<String> tagNames = new HashSet<>();
+    Set<UUID> commentUuids = new HashSet<>();
+    for (NumberedPost numbered : batch) {
+      ImportPostDto post = numbered.post();
+      userUuids.add(authorOf(post.userUuid(), importer));
+      tagNames.addAll(trimmedTagNames(post));
+      for (ImportPostCommentDto comment : comments(post)) {
+        userUuids.add(authorOf(comment.userUuid(), importer));
+        commentUuids.add(comment.uuid());
+      }
+    }
+
+    Map<UUID, User> usersByUuid = userRepository.findAllByUuidIn(userUuids).stream()
+        .collect(Collectors.toMap(User::getUuid, Function.identity()));
+    Map<String, Tag> tagsByName = tagCache.findAllByName(tagNames).stream()
+        .collect(Collectors.toMap(Tag::getName, Function.identity()));
+    Set<UUID> takenUuids = new HashSet<>(postRepository.findExistingUuids(
+        batch.stream().map(numbered -> numbered.post().uuid()).toList()));
+    Set<String> takenTitles = new HashSet<>(postRepository.findExistingTitles(
+        batch.stream().map(numbered -> numbered.post().title()).toList()));
+    Set<UUID> takenCommentUuids = new HashSet<>(postCommentRepository.findExistingUuids(commentUuids));
+
+    List<NumberedPost> accepted = new ArrayList<>(batch.size());
+    List<Post> posts = new ArrayList<>(batch.size());
+    for (NumberedPost numbered : batch) {
+      ImportPostDto post = numbered.post();
+      try {
+        Post entity = toPost(post, importer, usersByUuid, tagsByName);
+        if (takenUuids.contains(post.uuid())) {
+          throw new InvalidRequest("A post with identifier " + post.uuid() + " already exists");
+        }
+        if (takenTitles.contains(post.title())) {
+          throw new InvalidRequest("A post with title '" + post.title() + "' already exists");
+        }
+        Set<UUID> postCommentUuids = new HashSet<>();
+        for (ImportPostCommentDto comment : comments(post)) {
+          if (takenCommentUuids.contains(comment.uuid()) || !postCommentUuids.add(comment.uuid())) {
+            throw new InvalidRequest("A comment with identifier " + comment.uuid() + " already exists");
+          }
+        }
+
+        // Accepted records take their keys, so duplicates inside the batch are caught as well
+        takenUuids.add(post.uuid());
+        takenTitles.add(post.title());
+        takenCommentUuids.addAll(postCommentUuids);
+        posts.add(entity);
+        accepted.add(numbered);
+      } catch (InvalidRequest | UserNotFound | TagNotFound e) {
+        report.fail(numbered.number(), post.uuid(), e.getMessage());
+      }
+    }
+    if (posts.isEmpty()) {
+      return;
+    }
+
+    try {
+      postRepository.importAll(posts);
+      report.imported(posts.size());
+    } catch (DataAccessException e) {
+      // Something the checks above could not see, a concurrent insert for instance. The batch was
+      // rolled back, storing its posts one by one tells which of them is at fault.
+      for (NumberedPost numbered : accepted) {
+        storeOne(numbered, importer, usersByUuid, tagsByName, report);
+      }
+    }
+  }
+
+  private void storeOne(NumberedPost numbered, AuthenticatedUserDto importer, Map<UUID, User> usersByUuid,
+      Map<String, Tag> tagsByName, Report report) {
+    try {
+      postRepository.importAll(List.of(toPost(numbered.post(), importer, usersByUuid, tagsByName)));
+      report.imported(1);
+    } catch (DataAccessException e) {
+      report.fail(numbered.number(), numbered.post().uuid(), NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+    }
+  }
+
+  private Post toPost(ImportPostDto importPostDto, AuthenticatedUserDto importer, Map<UUID, User> usersByUuid,
+      Map<String, Tag> tagsByName) {
+    Post post = new Post();
+    post.setUuid(importPostDto.uuid());
+    post.setTitle(importPostDto.title());
+    post.setBody(importPostDto.body());
+    post.setUser(findUser(authorOf(importPostDto.userUuid(), importer), usersByUuid));
+
+    List<String> missingTagNames = new ArrayList<>();
+    for (String tagName : trimmedTagNames(importPostDto)) {
+      Tag tag = tagsByName.get(tagName);
+      if (tag != null) {
+        post.getTags().add(tag);
+      } else {
+        missingTagNames.add(tagName);
+      }
+    }
+    if (!missingTagNames.isEmpty()) {
+      throw new TagNotFound("Tag not found: " + String.join(", ", missingTagNames));
+    }
+
+    for (ImportPostCommentDto importComment : comments(importPostDto)) {
+      PostComment comment = new PostComment();
+      comment.setUuid(importComment.uuid());
+      comment.setComment(importComment.comment());
+      comment.setUser(findUser(authorOf(importComment.userUuid(), importer), usersByUuid));
+      comment.setPost(post);
+      post.getComments().add(comment);
+    }
+    return post;
+  }
+
+  private static User findUser(UUID uuid, Map<UUID, User> usersByUuid) {
+    User user = usersByUuid.get(uuid);
+    if (user == null) {
+      throw new UserNotFound(uuid);
+    }
+    return user;
+  }
+
+  private static UUID authorOf(UUID userUuid, AuthenticatedUserDto importer) {
+    return userUuid != null ? userUuid : importer.id();
+  }
+
+  private static Set<String> trimmedTagNames(ImportPostDto post) {
+    Set<String> trimmed = new LinkedHashSet<>();
+    if (post.tagNames() != null) {
+      for (String tagName : post.tagNames()) {
+        if (tagName != null && !tagName.trim().isEmpty()) {
+          trimmed.add(tagName.trim());
+        }
+      }
+    }
+    return trimmed;
+  }
+
+  private static List<ImportPostCommentDto> comments(ImportPostDto post) {
+    return post.comments() != null ? post.comments() : List.of();
+  }
+
+  private record NumberedPost(long number, ImportPostDto post) {
+  }
+
+  /** Counts every outcome but keeps only the first {@code maxErrors} failures. */
+  private static final class Report {
+
+    private final int maxErrors;
+    private final List<RecordError> errors = new ArrayList<>();
+    private long imported;
+    private long failed;
+
+    Report(int maxErrors) {
+      this.maxErrors = maxErrors;
+    }
+
+    void imported(int count) {
+      imported += count;
+    }
+
+    void fail(long number, UUID uuid, String message) {
+      failed++;
+      if (errors.size() < maxErrors) {
+        errors.add(new RecordError(number, uuid, message));
+      }
+    }
+
+    ImportPostsReport toReport() {
+      return new ImportPostsReport(imported, failed, List.copyOf(errors));
+    }
+  }
+}
@@ -50,6 +50,8 @@ public class SavePost {
       processPostTags.processTagsForPost(post, savePostDto.tagNames());
     }
 
-    return postRepository.save(post);
+    Post saved = postRepository.save(post);
+    userRepository.incrementPostCount(user.get().getId(), 1);
+    return saved;
   }
 }
@@ -2,6 +2,7 @@ package es.jmjg.experiments.application.post;
 
 import es.jmjg.experiments.application.post.dto.SavePostCommentDto;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.entity.PostComment;
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
@@ -10,6 +11,7 @@ import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,11 +21,14 @@ public class SavePostComment {
   private final PostRepository postRepository;
   private final UserRepository userRepository;
   private final PostCommentRepository postCommentRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public SavePostComment(PostRepository postRepository, UserRepository userRepository, PostCommentRepository postCommentRepository) {
+  public SavePostComment(PostRepository postRepository, UserRepository userRepository, PostCommentRepository postCommentRepository,
+    ApplicationEventPublisher eventPublisher) {
     this.postRepository = postRepository;
     this.userRepository = userRepository;
     this.postCommentRepository = postCommentRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -50,10 +55,14 @@ public class SavePostComment {
 
     post.getComments().add(postComment);
 
+    PostComment saved;
     try {
-      return postCommentRepository.save(postComment);
+      saved = postCommentRepository.save(postComment);
     } catch (Exception e) {
       throw new InvalidRequest("Could not save Post Comment with error: " + e.getMessage());
     }
+    postRepository.incrementCommentCount(post.getId(), 1);
+    eventPublisher.publishEvent(new PostChanged(post.getUuid()));
+    return saved;
   }
 }
@@ -3,6 +3,7 @@ package es.jmjg.experiments.application.post;
 import es.jmjg.experiments.application.post.shared.ProcessPostTags;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -10,6 +11,7 @@ import es.jmjg.experiments.application.post.dto.UpdatePostDto;
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
 
 @Service
@@ -17,10 +19,13 @@ public class UpdatePost {
 
   private final PostRepository postRepository;
   private final ProcessPostTags processPostTags;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public UpdatePost(PostRepository postRepository, ProcessPostTags processPostTags) {
+  public UpdatePost(PostRepository postRepository, ProcessPostTags processPostTags,
+      ApplicationEventPublisher eventPublisher) {
     this.postRepository = postRepository;
     this.processPostTags = processPostTags;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -44,6 +49,8 @@ public class UpdatePost {
       processPostTags.processTagsForPost(existingPost, updatePostDto.tagNames());
     }
 
-    return postRepository.save(existingPost);
+    Post saved = postRepository.save(existingPost);
+    eventPublisher.publishEvent(new PostChanged(saved.getUuid()));
+    return saved;
   }
 }
@@ -6,7 +6,9 @@ import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,10 +16,13 @@ import org.springframework.transaction.annotation.Transactional;
 public class UpdatePostTags {
     private final PostRepository postRepository;
     private final ProcessPostTags processPostTags;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public UpdatePostTags(PostRepository postRepository, ProcessPostTags processPostTags) {
+    public UpdatePostTags(PostRepository postRepository, ProcessPostTags processPostTags,
+        ApplicationEventPublisher eventPublisher) {
         this.postRepository = postRepository;
         this.processPostTags = processPostTags;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -33,6 +38,8 @@ public class UpdatePostTags {
         }
 
         processPostTags.processTagsForPost(post, dto.tagNames());
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChanged(saved.getUuid()));
+        return saved;
     }
 }
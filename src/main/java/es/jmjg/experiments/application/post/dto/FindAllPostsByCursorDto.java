@@ -0,0 +1,19 @@
+package es.jmjg.experiments.application.post.dto;
+
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import java.util.Objects;
+
+public record FindAllPostsByCursorDto(
+  Integer afterId,
+  int limit,
+  PostBodyMode bodyMode
+) {
+
+  public FindAllPostsByCursorDto {
+    Objects.requireNonNull(bodyMode, "bodyMode cannot be null");
+  }
+
+  public FindAllPostsByCursorDto(Integer afterId, int limit) {
+    this(afterId, limit, PostBodyMode.FULL);
+  }
+}
@@ -1,13 +1,25 @@
 package es.jmjg.experiments.application.post.dto;
 
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
 import java.util.Objects;
 import org.springframework.data.domain.Pageable;
 
 public record FindAllPostsDto(
-  Pageable pageable
+  Pageable pageable,
+  boolean approximateCount,
+  PostBodyMode bodyMode
 ) {
 
   public FindAllPostsDto {
     Objects.requireNonNull(pageable, "pageable cannot be null");
+    Objects.requireNonNull(bodyMode, "bodyMode cannot be null");
+  }
+
+  public FindAllPostsDto(Pageable pageable) {
+    this(pageable, false);
+  }
+
+  public FindAllPostsDto(Pageable pageable, boolean approximateCount) {
+    this(pageable, approximateCount, PostBodyMode.FULL);
   }
 }
@@ -0,0 +1,20 @@
+package es.jmjg.experiments.application.post.dto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+public record FindPostCommentsDto(
+    UUID postUuid,
+    LocalDateTime afterCreatedAt,
+    Integer afterId,
+    int limit) {
+
+  public FindPostCommentsDto {
+    Objects.requireNonNull(postUuid, "post id cannot be null");
+  }
+
+  public FindPostCommentsDto(UUID postUuid, int limit) {
+    this(postUuid, null, null, limit);
+  }
+}
@@ -0,0 +1,10 @@
+package es.jmjg.experiments.application.post.dto;
+
+import java.util.UUID;
+
+/** Comment of an imported post, a null {@code userUuid} stands for the importer. */
+public record ImportPostCommentDto(
+    UUID uuid,
+    UUID userUuid,
+    String comment) {
+}
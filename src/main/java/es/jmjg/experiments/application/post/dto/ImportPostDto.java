@@ -0,0 +1,17 @@
+package es.jmjg.experiments.application.post.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One record of a post import. Fields are checked by the import itself so that a bad record is
+ * reported instead of failing the whole job. A null {@code userUuid} stands for the importer.
+ */
+public record ImportPostDto(
+    UUID uuid,
+    String title,
+    String body,
+    UUID userUuid,
+    List<String> tagNames,
+    List<ImportPostCommentDto> comments) {
+}
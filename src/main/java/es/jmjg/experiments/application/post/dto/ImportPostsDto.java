@@ -0,0 +1,23 @@
+package es.jmjg.experiments.application.post.dto;
+
+import java.util.Iterator;
+import java.util.Objects;
+
+import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Import job. {@code posts} is read once, record by record; a call to {@code next()} throwing
+ * {@link es.jmjg.experiments.domain.shared.exception.InvalidRequest} fails that record only.
+ */
+public record ImportPostsDto(
+    @NotNull Iterator<ImportPostDto> posts,
+    @NotNull AuthenticatedUserDto authenticatedUser,
+    int batchSize,
+    int maxReportedErrors) {
+
+  public ImportPostsDto {
+    Objects.requireNonNull(posts, "posts cannot be null");
+    Objects.requireNonNull(authenticatedUser, "authenticatedUser cannot be null");
+  }
+}
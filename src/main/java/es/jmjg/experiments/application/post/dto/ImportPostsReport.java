@@ -0,0 +1,18 @@
+package es.jmjg.experiments.application.post.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of an import. {@code errors} holds the first failures only, {@code failed} counts all
+ * of them.
+ */
+public record ImportPostsReport(
+    long imported,
+    long failed,
+    List<RecordError> errors) {
+
+  /** Failed record, numbered from 1 in input order. {@code uuid} is null when it could not be read. */
+  public record RecordError(long record, UUID uuid, String message) {
+  }
+}
@@ -1,13 +1,18 @@
 package es.jmjg.experiments.application.post.shared;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import jakarta.validation.constraints.NotNull;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
@@ -15,35 +20,54 @@ import es.jmjg.experiments.domain.tag.repository.TagRepository;
 @Service
 public class ProcessPostTags {
 
+  private final TagCache tagCache;
   private final TagRepository tagRepository;
 
-  public ProcessPostTags(TagRepository tagRepository) {
+  public ProcessPostTags(TagCache tagCache, TagRepository tagRepository) {
+    this.tagCache = tagCache;
     this.tagRepository = tagRepository;
   }
 
+  /**
+   * Replaces the tags of the post and moves the post counts of the tags it gained and lost, in the
+   * transaction that saves the post.
+   */
   @Transactional
   public void processTagsForPost(Post post, @NotNull List<String> tagNames) {
     if (tagNames == null) {
       return;
     }
 
-    List<Tag> processedTags = new ArrayList<>();
-
+    Set<String> trimmedTagNames = new LinkedHashSet<>();
     for (String tagName : tagNames) {
-      if (tagName == null || tagName.trim().isEmpty()) {
-        continue;
+      if (tagName != null && !tagName.trim().isEmpty()) {
+        trimmedTagNames.add(tagName.trim());
       }
+    }
 
-      String trimmedTagName = tagName.trim();
-      Optional<Tag> existingTag = tagRepository.findByName(trimmedTagName);
+    Map<String, Tag> tagsByName = tagCache.findAllByName(trimmedTagNames).stream()
+        .collect(Collectors.toMap(Tag::getName, Function.identity()));
 
-      if (existingTag.isPresent()) {
-        processedTags.add(existingTag.get());
+    List<Tag> processedTags = new ArrayList<>();
+    List<String> missingTagNames = new ArrayList<>();
+    for (String tagName : trimmedTagNames) {
+      Tag tag = tagsByName.get(tagName);
+      if (tag != null) {
+        processedTags.add(tag);
       } else {
-        throw new TagNotFound("Tag not found: " + trimmedTagName);
+        missingTagNames.add(tagName);
       }
     }
 
+    if (!missingTagNames.isEmpty()) {
+      throw new TagNotFound("Tag not found: " + String.join(", ", missingTagNames));
+    }
+
+    Set<Integer> previousIds = post.getTags().stream().map(Tag::getId).collect(Collectors.toSet());
+    Set<Integer> processedIds = processedTags.stream().map(Tag::getId).collect(Collectors.toSet());
+    tagRepository.incrementPostCounts(processedIds.stream().filter(id -> !previousIds.contains(id)).toList(), 1);
+    tagRepository.incrementPostCounts(previousIds.stream().filter(id -> !processedIds.contains(id)).toList(), -1);
+
     post.setTags(processedTags);
   }
 }
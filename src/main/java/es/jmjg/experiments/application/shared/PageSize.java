@@ -0,0 +1,23 @@
+package es.jmjg.experiments.application.shared;
+
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+
+/** Page sizes asked for by clients of the keyset paged reads. */
+public final class PageSize {
+
+  public static final int MAX = 100;
+
+  private PageSize() {
+  }
+
+  /**
+   * The size to read: a size below one is rejected, a size above {@link #MAX} is cut to it so a
+   * client cannot ask for the whole collection in one page.
+   */
+  public static int of(int requested) {
+    if (requested < 1) {
+      throw new InvalidRequest("Page size must be at least 1, was " + requested);
+    }
+    return Math.clamp(requested, 1, MAX);
+  }
+}
@@ -0,0 +1,52 @@
+package es.jmjg.experiments.application.shared;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.application.shared.dto.ReconciledCounters;
+import es.jmjg.experiments.domain.post.event.PostChanged;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+
+/**
+ * Recounts comments per post and posts and users per tag and user, and writes the counters that
+ * differ. The use cases keep the counters in their own transactions, but two concurrent edits of
+ * the tags of one post diff against the same previous tags, and rows written outside the
+ * application are not counted at all.
+ */
+@Service
+public class ReconcileCounters {
+
+  private final PostRepository postRepository;
+  private final TagRepository tagRepository;
+  private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
+
+  public ReconcileCounters(PostRepository postRepository, TagRepository tagRepository,
+      UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
+    this.postRepository = postRepository;
+    this.tagRepository = tagRepository;
+    this.userRepository = userRepository;
+    this.eventPublisher = eventPublisher;
+  }
+
+  // A counter moved by a transaction committed after the snapshot fails the run with a
+  // serialization error instead of being overwritten with a stale count
+  @Transactional(isolation = Isolation.REPEATABLE_READ)
+  public ReconciledCounters reconcile() {
+    // A repaired comment count changes the rendered post like a new comment does
+    List<UUID> posts = postRepository.reconcileCommentCounts();
+    posts.forEach(postUuid -> eventPublisher.publishEvent(new PostChanged(postUuid)));
+
+    return new ReconciledCounters(
+        posts.size(),
+        tagRepository.reconcileCounts(),
+        userRepository.reconcilePostCounts());
+  }
+}
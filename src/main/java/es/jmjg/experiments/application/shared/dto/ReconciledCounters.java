@@ -0,0 +1,12 @@
+package es.jmjg.experiments.application.shared.dto;
+
+/** Rows whose counters had drifted and were repaired by a reconciliation. */
+public record ReconciledCounters(
+    int posts,
+    int tags,
+    int users) {
+
+  public int total() {
+    return posts + tags + users;
+  }
+}
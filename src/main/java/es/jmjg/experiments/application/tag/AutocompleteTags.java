@@ -0,0 +1,29 @@
+package es.jmjg.experiments.application.tag;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+
+@Service
+public class AutocompleteTags {
+
+  public static final int MAX_SUGGESTIONS = 20;
+
+  private final TagRepository tagRepository;
+
+  public AutocompleteTags(TagRepository tagRepository) {
+    this.tagRepository = tagRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public List<Tag> autocomplete(String query, int limit) {
+    if (query == null || query.trim().isEmpty()) {
+      return List.of();
+    }
+    return tagRepository.findForAutocomplete(query.trim(), Math.clamp(limit, 1, MAX_SUGGESTIONS));
+  }
+}
@@ -1,23 +1,32 @@
 package es.jmjg.experiments.application.tag;
 
 import es.jmjg.experiments.application.tag.dto.DeleteTagDto;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
 
 @Service
 public class DeleteTag {
 
   private final TagRepository tagRepository;
+  private final TagCache tagCache;
 
-  public DeleteTag(TagRepository tagRepository) {
+  public DeleteTag(TagRepository tagRepository, TagCache tagCache) {
     this.tagRepository = tagRepository;
+    this.tagCache = tagCache;
   }
 
   @Transactional
   public void delete(DeleteTagDto deleteTagDto) {
-    tagRepository.deleteByUuid(deleteTagDto.uuid());
+    // Resolved first so that a refusal names the tag, whichever check refuses it
+    Tag tag = tagCache.findByUuid(deleteTagDto.uuid())
+        .orElseThrow(() -> new TagNotFound(deleteTagDto.uuid()));
+    tagRepository.delete(tag);
+    tagCache.evict(deleteTagDto.uuid());
   }
 }
@@ -3,42 +3,50 @@ package es.jmjg.experiments.application.tag;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import es.jmjg.experiments.application.shared.PageSize;
+import es.jmjg.experiments.application.tag.dto.FindPostsByTagDto;
+import es.jmjg.experiments.application.tag.shared.TagCache;
+
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
-import es.jmjg.experiments.domain.tag.repository.TagRepository;
 
 @Service
 public class FindPostsByTag {
 
   private final PostRepository postRepository;
-  private final TagRepository tagRepository;
+  private final TagCache tagCache;
 
-  public FindPostsByTag(PostRepository postRepository, TagRepository tagRepository) {
+  public FindPostsByTag(PostRepository postRepository, TagCache tagCache) {
     this.postRepository = postRepository;
-    this.tagRepository = tagRepository;
+    this.tagCache = tagCache;
   }
 
   @Transactional(readOnly = true)
-  public List<Post> findByTagUuid(UUID tagUuid) {
-    var tag = tagRepository.findByUuid(tagUuid)
+  public Slice<PostSummary> findByTagUuid(UUID tagUuid, FindPostsByTagDto dto) {
+    int limit = PageSize.of(dto.limit());
+    var tag = tagCache.findByUuid(tagUuid)
         .orElseThrow(() -> new TagNotFound(tagUuid));
 
-    return postRepository.findByTagId(tag.getId());
+    return postRepository.findByTagIdAfter(tag.getId(), dto.afterId(), limit, dto.bodyMode());
   }
 
   @Transactional(readOnly = true)
-  public List<Post> findByTagName(String tagName) {
+  public Slice<PostSummary> findByTagName(String tagName, FindPostsByTagDto dto) {
+    int limit = PageSize.of(dto.limit());
     if (tagName == null || tagName.trim().isEmpty()) {
-      return List.of();
+      return new SliceImpl<>(List.of(), PageRequest.of(0, limit), false);
     }
 
-    var tag = tagRepository.findByName(tagName.trim())
+    var tag = tagCache.findByName(tagName.trim())
         .orElseThrow(() -> new TagNotFound("Tag not found with name: " + tagName));
 
-    return postRepository.findByTagId(tag.getId());
+    return postRepository.findByTagIdAfter(tag.getId(), dto.afterId(), limit, dto.bodyMode());
   }
 }
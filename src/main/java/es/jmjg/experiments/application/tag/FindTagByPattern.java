@@ -5,6 +5,8 @@ import java.util.List;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import es.jmjg.experiments.application.tag.dto.TagDetail;
+import es.jmjg.experiments.application.tag.shared.TagPreviews;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
 
@@ -12,9 +14,11 @@ import es.jmjg.experiments.domain.tag.repository.TagRepository;
 public class FindTagByPattern {
 
   private final TagRepository tagRepository;
+  private final TagPreviews tagPreviews;
 
-  public FindTagByPattern(TagRepository tagRepository) {
+  public FindTagByPattern(TagRepository tagRepository, TagPreviews tagPreviews) {
     this.tagRepository = tagRepository;
+    this.tagPreviews = tagPreviews;
   }
 
   @Transactional(readOnly = true)
@@ -24,4 +28,10 @@ public class FindTagByPattern {
     }
     return tagRepository.findByNameContainingPattern(pattern.trim());
   }
+
+  /** The matching tags, each with at most {@code previewSize} of its posts and of its users. */
+  @Transactional(readOnly = true)
+  public List<TagDetail> findDetailsByPattern(String pattern, int previewSize) {
+    return tagPreviews.withPreviews(findByPattern(pattern), previewSize);
+  }
 }
@@ -6,6 +6,8 @@ import java.util.UUID;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import es.jmjg.experiments.application.tag.dto.TagDetail;
+import es.jmjg.experiments.application.tag.shared.TagPreviews;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
@@ -14,9 +16,11 @@ import es.jmjg.experiments.domain.tag.repository.TagRepository;
 public class FindTagByUuid {
 
   private final TagRepository tagRepository;
+  private final TagPreviews tagPreviews;
 
-  public FindTagByUuid(TagRepository tagRepository) {
+  public FindTagByUuid(TagRepository tagRepository, TagPreviews tagPreviews) {
     this.tagRepository = tagRepository;
+    this.tagPreviews = tagPreviews;
   }
 
   @Transactional(readOnly = true)
@@ -28,6 +32,21 @@ public class FindTagByUuid {
         .orElseThrow(() -> new TagNotFound(uuid));
   }
 
+  /** The tag with at most {@code previewSize} of its posts and of its users. */
+  @Transactional(readOnly = true)
+  public TagDetail findDetailByUuid(UUID uuid, int previewSize) {
+    return tagPreviews.withPreviews(findByUuid(uuid), previewSize);
+  }
+
+  /** Version of the tag for conditional requests, empty when there is no such tag. */
+  @Transactional(readOnly = true)
+  public Optional<Long> findVersion(UUID uuid) {
+    if (uuid == null) {
+      throw new IllegalArgumentException("UUID cannot be null");
+    }
+    return tagRepository.findVersionByUuid(uuid);
+  }
+
   @Transactional(readOnly = true)
   public Optional<Tag> findByUuidOptional(UUID uuid) {
     if (uuid == null) {
@@ -3,42 +3,50 @@ package es.jmjg.experiments.application.tag;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import es.jmjg.experiments.application.shared.PageSize;
+import es.jmjg.experiments.application.tag.dto.FindUsersByTagDto;
+import es.jmjg.experiments.application.tag.shared.TagCache;
+
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
-import es.jmjg.experiments.domain.user.entity.User;
-import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 
 @Service
 public class FindUsersByTag {
 
   private final UserRepository userRepository;
-  private final TagRepository tagRepository;
+  private final TagCache tagCache;
 
-  public FindUsersByTag(UserRepository userRepository, TagRepository tagRepository) {
+  public FindUsersByTag(UserRepository userRepository, TagCache tagCache) {
     this.userRepository = userRepository;
-    this.tagRepository = tagRepository;
+    this.tagCache = tagCache;
   }
 
   @Transactional(readOnly = true)
-  public List<User> findByTagUuid(UUID tagUuid) {
-    var tag = tagRepository.findByUuid(tagUuid)
+  public Slice<UserSummary> findByTagUuid(UUID tagUuid, FindUsersByTagDto dto) {
+    int limit = PageSize.of(dto.limit());
+    var tag = tagCache.findByUuid(tagUuid)
         .orElseThrow(() -> new TagNotFound(tagUuid));
 
-    return userRepository.findByTagId(tag.getId());
+    return userRepository.findByTagIdAfter(tag.getId(), dto.afterId(), limit);
   }
 
   @Transactional(readOnly = true)
-  public List<User> findByTagName(String tagName) {
+  public Slice<UserSummary> findByTagName(String tagName, FindUsersByTagDto dto) {
+    int limit = PageSize.of(dto.limit());
     if (tagName == null || tagName.trim().isEmpty()) {
-      return List.of();
+      return new SliceImpl<>(List.of(), PageRequest.of(0, limit), false);
     }
 
-    var tag = tagRepository.findByName(tagName.trim())
+    var tag = tagCache.findByName(tagName.trim())
         .orElseThrow(() -> new TagNotFound("Tag not found with name: " + tagName));
 
-    return userRepository.findByTagId(tag.getId());
+    return userRepository.findByTagIdAfter(tag.getId(), dto.afterId(), limit);
   }
 }
@@ -2,6 +2,7 @@ package es.jmjg.experiments.application.tag;
 
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.application.tag.dto.SaveTagDto;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,17 +14,19 @@ import es.jmjg.experiments.domain.tag.repository.TagRepository;
 public class SaveTag {
 
   private final TagRepository tagRepository;
+  private final TagCache tagCache;
 
-  public SaveTag(TagRepository tagRepository) {
+  public SaveTag(TagRepository tagRepository, TagCache tagCache) {
     this.tagRepository = tagRepository;
+    this.tagCache = tagCache;
   }
 
   @Transactional
   public Tag save(SaveTagDto dto) {
-    tagRepository.findByUuid(dto.uuid()).ifPresent(t -> {
+    tagCache.findByUuid(dto.uuid()).ifPresent(t -> {
       throw new TagAlreadyExistsException(dto.uuid());
     });
-    tagRepository.findByName(dto.tagName()).ifPresent(t -> {
+    tagCache.findByName(dto.tagName()).ifPresent(t -> {
       throw new TagAlreadyExistsException(dto.tagName(), t.getUuid());
     });
 
@@ -34,6 +37,8 @@ public class SaveTag {
     Tag tag = new Tag();
     tag.setUuid(dto.uuid());
     tag.setName(dto.tagName());
-    return tagRepository.save(tag);
+    Tag savedTag = tagRepository.save(tag);
+    tagCache.put(savedTag);
+    return savedTag;
   }
 }
@@ -2,21 +2,28 @@ package es.jmjg.experiments.application.tag;
 
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.application.tag.dto.UpdateTagDto;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.event.TagRenamed;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
 
 @Service
 public class UpdateTag {
 
   private final TagRepository tagRepository;
+  private final TagCache tagCache;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public UpdateTag(TagRepository tagRepository) {
+  public UpdateTag(TagRepository tagRepository, TagCache tagCache, ApplicationEventPublisher eventPublisher) {
     this.tagRepository = tagRepository;
+    this.tagCache = tagCache;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -32,7 +39,16 @@ public class UpdateTag {
     var tag = tagRepository.findByUuid(dto.uuid())
         .orElseThrow(() -> new TagNotFound(dto.uuid()));
 
-    tag.setName(dto.tagName().trim());
-    return tagRepository.save(tag);
+    String name = dto.tagName().trim();
+    if (!name.equals(tag.getName())) {
+      // Its posts and users render the name, so their ETags have to change with it
+      tagRepository.incrementMemberRevisions(tag.getId());
+      eventPublisher.publishEvent(new TagRenamed(tag.getUuid()));
+    }
+
+    tag.setName(name);
+    Tag updatedTag = tagRepository.save(tag);
+    tagCache.put(updatedTag);
+    return updatedTag;
   }
 }
@@ -0,0 +1,19 @@
+package es.jmjg.experiments.application.tag.dto;
+
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import java.util.Objects;
+
+public record FindPostsByTagDto(
+  Integer afterId,
+  int limit,
+  PostBodyMode bodyMode
+) {
+
+  public FindPostsByTagDto {
+    Objects.requireNonNull(bodyMode, "bodyMode cannot be null");
+  }
+
+  public FindPostsByTagDto(Integer afterId, int limit) {
+    this(afterId, limit, PostBodyMode.FULL);
+  }
+}
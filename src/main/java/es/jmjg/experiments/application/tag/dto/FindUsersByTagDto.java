@@ -0,0 +1,7 @@
+package es.jmjg.experiments.application.tag.dto;
+
+public record FindUsersByTagDto(
+  Integer afterId,
+  int limit
+) {
+}
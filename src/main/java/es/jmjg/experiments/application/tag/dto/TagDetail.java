@@ -0,0 +1,21 @@
+package es.jmjg.experiments.application.tag.dto;
+
+import java.util.Objects;
+
+import org.springframework.data.domain.Slice;
+
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
+
+/** A tag with the first of its posts and users; the totals are the counters kept on the tag. */
+public record TagDetail(
+    Tag tag,
+    Slice<TagMember> posts,
+    Slice<TagMember> users) {
+
+  public TagDetail {
+    Objects.requireNonNull(tag, "tag cannot be null");
+    Objects.requireNonNull(posts, "posts cannot be null");
+    Objects.requireNonNull(users, "users cannot be null");
+  }
+}
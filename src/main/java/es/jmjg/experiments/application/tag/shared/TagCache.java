@@ -0,0 +1,157 @@
+package es.jmjg.experiments.application.tag.shared;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Process-local dictionary of tags by name and by uuid. It is loaded once the application is
+ * ready and kept coherent by the tag use cases, so resolving the tags of a post costs no database
+ * round trip. Lookups that miss fall back to the repository.
+ *
+ * <p>Only the identifier, uuid and name are kept. Every hit returns a fresh detached {@link Tag},
+ * which is enough to link it from a post or a user but must not be used to navigate its posts or
+ * users.
+ */
+@Service
+public class TagCache {
+
+  private final TagRepository tagRepository;
+  private final Map<UUID, CachedTag> byUuid = new ConcurrentHashMap<>();
+  private final Map<String, CachedTag> byName = new ConcurrentHashMap<>();
+  private final Counter hits;
+  private final Counter misses;
+
+  public TagCache(TagRepository tagRepository, MeterRegistry meterRegistry) {
+    this.tagRepository = tagRepository;
+    this.hits = Counter.builder("tag.cache.gets").tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder("tag.cache.gets").tag("result", "miss").register(meterRegistry);
+    Gauge.builder("tag.cache.size", byUuid, Map::size).register(meterRegistry);
+  }
+
+  @EventListener(ApplicationReadyEvent.class)
+  public void load() {
+    tagRepository.findAll().forEach(tag -> store(CachedTag.of(tag)));
+  }
+
+  public Optional<Tag> findByName(String name) {
+    CachedTag cached = byName.get(name);
+    if (cached != null) {
+      hits.increment();
+      return Optional.of(cached.toTag());
+    }
+
+    misses.increment();
+    Optional<Tag> tag = tagRepository.findByName(name);
+    tag.ifPresent(this::put);
+    return tag;
+  }
+
+  /** Tags named in {@code names}; the ones not cached are loaded together in one query. */
+  public List<Tag> findAllByName(Collection<String> names) {
+    List<Tag> tags = new ArrayList<>(names.size());
+    List<String> missing = new ArrayList<>();
+    for (String name : names) {
+      CachedTag cached = byName.get(name);
+      if (cached != null) {
+        tags.add(cached.toTag());
+      } else {
+        missing.add(name);
+      }
+    }
+    hits.increment(tags.size());
+    misses.increment(missing.size());
+
+    if (!missing.isEmpty()) {
+      List<Tag> loaded = tagRepository.findAllByNameIn(missing);
+      loaded.forEach(this::put);
+      tags.addAll(loaded);
+    }
+    return tags;
+  }
+
+  public Optional<Tag> findByUuid(UUID uuid) {
+    CachedTag cached = byUuid.get(uuid);
+    if (cached != null) {
+      hits.increment();
+      return Optional.of(cached.toTag());
+    }
+
+    misses.increment();
+    Optional<Tag> tag = tagRepository.findByUuid(uuid);
+    tag.ifPresent(this::put);
+    return tag;
+  }
+
+  /** Adds or renames a tag once the current transaction, if any, commits. */
+  public void put(Tag tag) {
+    CachedTag cached = CachedTag.of(tag);
+    afterCommit(() -> store(cached));
+  }
+
+  /** Forgets a tag once the current transaction, if any, commits. */
+  public void evict(UUID uuid) {
+    afterCommit(() -> remove(uuid));
+  }
+
+  private synchronized void store(CachedTag cached) {
+    CachedTag previous = byUuid.put(cached.uuid(), cached);
+    if (previous != null) {
+      byName.remove(previous.name(), previous);
+    }
+    byName.put(cached.name(), cached);
+  }
+
+  private synchronized void remove(UUID uuid) {
+    CachedTag previous = byUuid.remove(uuid);
+    if (previous != null) {
+      byName.remove(previous.name(), previous);
+    }
+  }
+
+  // A rolled back write must never become visible through the cache
+  private static void afterCommit(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+
+  private record CachedTag(Integer id, UUID uuid, String name) {
+
+    static CachedTag of(Tag tag) {
+      return new CachedTag(tag.getId(), tag.getUuid(), tag.getName());
+    }
+
+    Tag toTag() {
+      Tag tag = new Tag();
+      tag.setId(id);
+      tag.setUuid(uuid);
+      tag.setName(name);
+      return tag;
+    }
+  }
+}
@@ -0,0 +1,46 @@
+package es.jmjg.experiments.application.tag.shared;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.application.tag.dto.TagDetail;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+
+/**
+ * Adds the first posts and users to tags. Two queries cover any number of tags and each reads at
+ * most {@code size + 1} members per tag, so neither collection of a tag is ever loaded whole.
+ */
+@Service
+public class TagPreviews {
+
+  private final TagRepository tagRepository;
+
+  public TagPreviews(TagRepository tagRepository) {
+    this.tagRepository = tagRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public List<TagDetail> withPreviews(List<Tag> tags, int size) {
+    if (tags.isEmpty()) {
+      return List.of();
+    }
+
+    List<Integer> tagIds = tags.stream().map(Tag::getId).toList();
+    Map<Integer, Slice<TagMember>> posts = tagRepository.findPostPreviews(tagIds, size);
+    Map<Integer, Slice<TagMember>> users = tagRepository.findUserPreviews(tagIds, size);
+    return tags.stream()
+        .map(tag -> new TagDetail(tag, posts.get(tag.getId()), users.get(tag.getId())))
+        .toList();
+  }
+
+  @Transactional(readOnly = true)
+  public TagDetail withPreviews(Tag tag, int size) {
+    return withPreviews(List.of(tag), size).getFirst();
+  }
+}
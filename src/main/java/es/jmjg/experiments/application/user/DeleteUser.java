@@ -1,10 +1,18 @@
 package es.jmjg.experiments.application.user;
 
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.application.user.dto.DeleteUserDto;
+import es.jmjg.experiments.domain.post.event.PostChanged;
+import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.event.UserChanged;
 import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 
@@ -12,9 +20,14 @@ import es.jmjg.experiments.domain.user.repository.UserRepository;
 public class DeleteUser {
 
   private final UserRepository userRepository;
+  private final PostCommentRepository postCommentRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public DeleteUser(UserRepository userRepository) {
+  public DeleteUser(UserRepository userRepository, PostCommentRepository postCommentRepository,
+      ApplicationEventPublisher eventPublisher) {
     this.userRepository = userRepository;
+    this.postCommentRepository = postCommentRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -23,8 +36,13 @@ public class DeleteUser {
       throw new Forbidden("Only admin users can delete users");
     }
 
-    userRepository.findByUuid(deleteUserDto.uuid()).orElseThrow(() -> new UserNotFound(deleteUserDto.uuid()));
+    User user = userRepository.findByUuid(deleteUserDto.uuid())
+        .orElseThrow(() -> new UserNotFound(deleteUserDto.uuid()));
 
+    // The comments of the user go with it, which changes the posts of others they were on
+    List<UUID> commentedPosts = postCommentRepository.findPostUuidsCommentedBy(user.getUuid());
     userRepository.deleteByUuid(deleteUserDto.uuid());
+    eventPublisher.publishEvent(new UserChanged(user.getUsername(), user.getUuid()));
+    commentedPosts.forEach(postUuid -> eventPublisher.publishEvent(new PostChanged(postUuid)));
   }
 }
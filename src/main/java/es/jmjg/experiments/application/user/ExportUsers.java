@@ -0,0 +1,31 @@
+package es.jmjg.experiments.application.user;
+
+import java.util.function.Consumer;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.application.user.dto.ExportUsersDto;
+import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import es.jmjg.experiments.domain.user.projection.UserExport;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+
+@Service
+public class ExportUsers {
+
+  private final UserRepository userRepository;
+
+  public ExportUsers(UserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  /** Same as {@code ExportPosts#export} for users, which only admin users can export. */
+  @Transactional(readOnly = true)
+  public void export(ExportUsersDto exportUsersDto, Consumer<UserExport> consumer) {
+    if (!exportUsersDto.authenticatedUser().isAdmin()) {
+      throw new Forbidden("Only admin users can export users");
+    }
+
+    userRepository.exportCreatedSince(exportUsersDto.since(), consumer);
+  }
+}
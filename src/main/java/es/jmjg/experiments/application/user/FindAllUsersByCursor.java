@@ -0,0 +1,29 @@
+package es.jmjg.experiments.application.user;
+
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import es.jmjg.experiments.application.user.dto.FindAllUsersByCursorDto;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+
+@Service
+public class FindAllUsersByCursor {
+
+  private final UserRepository userRepository;
+
+  public FindAllUsersByCursor(UserRepository userRepository) {
+    this.userRepository = userRepository;
+  }
+
+  @Transactional(readOnly = true)
+  public Slice<User> findAll(FindAllUsersByCursorDto findAllUsersByCursorDto) {
+    if (!findAllUsersByCursorDto.authenticatedUser().isAdmin()) {
+      throw new Forbidden("Only admin users can view all users");
+    }
+
+    return userRepository.findAllAfter(findAllUsersByCursorDto.afterId(), findAllUsersByCursorDto.limit());
+  }
+}
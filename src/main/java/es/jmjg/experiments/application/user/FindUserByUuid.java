@@ -4,6 +4,8 @@ import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
+
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.application.user.dto.FindUserByUuidDto;
 import es.jmjg.experiments.domain.user.entity.User;
@@ -20,11 +22,26 @@ public class FindUserByUuid {
 
   @Transactional(readOnly = true)
   public User findByUuid(FindUserByUuidDto findUserByUuidDto) {
+    checkAccess(findUserByUuidDto);
+
+    return userRepository.findByUuid(findUserByUuidDto.uuid()).orElseThrow(() -> new UserNotFound("user with id " + findUserByUuidDto.uuid() + " not found"));
+  }
+
+  /**
+   * Version of the user for conditional requests, empty when there is no such user. Checked like
+   * {@link #findByUuid}, so it tells nothing about users the caller cannot view.
+   */
+  @Transactional(readOnly = true)
+  public Optional<Long> findVersion(FindUserByUuidDto findUserByUuidDto) {
+    checkAccess(findUserByUuidDto);
+
+    return userRepository.findVersionByUuid(findUserByUuidDto.uuid());
+  }
+
+  private void checkAccess(FindUserByUuidDto findUserByUuidDto) {
     if (!findUserByUuidDto.authenticatedUser().isAdmin() &&
         !findUserByUuidDto.authenticatedUser().id().equals(findUserByUuidDto.uuid())) {
       throw new Forbidden("Access denied: only admins or the user themselves can view user data");
     }
-
-    return userRepository.findByUuid(findUserByUuidDto.uuid()).orElseThrow(() -> new UserNotFound("user with id " + findUserByUuidDto.uuid() + " not found"));
   }
 }
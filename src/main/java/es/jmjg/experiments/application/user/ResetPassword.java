@@ -5,9 +5,11 @@ import es.jmjg.experiments.application.user.dto.ResetPasswordDto;
 import es.jmjg.experiments.application.user.shared.ResetPasswordKeyService;
 import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.event.UserChanged;
 import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 import java.time.LocalDateTime;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,11 +19,14 @@ public class ResetPassword {
   private final UserRepository userRepository;
   private final PasswordEncoder passwordEncoder;
   private final ResetPasswordKeyService resetPasswordKeyService;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public ResetPassword(UserRepository userRepository, PasswordEncoder passwordEncoder, ResetPasswordKeyService resetPasswordKeyService) {
+  public ResetPassword(UserRepository userRepository, PasswordEncoder passwordEncoder,
+      ResetPasswordKeyService resetPasswordKeyService, ApplicationEventPublisher eventPublisher) {
     this.userRepository = userRepository;
     this.passwordEncoder = passwordEncoder;
     this.resetPasswordKeyService = resetPasswordKeyService;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -50,5 +55,6 @@ public class ResetPassword {
     //TODO: Validate password strength
     user.setPassword(passwordEncoder.encode(dto.newPassword()));
     userRepository.save(user);
+    eventPublisher.publishEvent(new UserChanged(user.getUsername(), user.getUuid()));
   }
 }
@@ -2,6 +2,7 @@ package es.jmjg.experiments.application.user;
 
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,15 +10,18 @@ import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.application.user.dto.UpdateUserDto;
 import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.event.UserChanged;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 
 @Service
 public class UpdateUser {
 
   private final UserRepository userRepository;
+  private final ApplicationEventPublisher eventPublisher;
 
-  public UpdateUser(UserRepository userRepository) {
+  public UpdateUser(UserRepository userRepository, ApplicationEventPublisher eventPublisher) {
     this.userRepository = userRepository;
+    this.eventPublisher = eventPublisher;
   }
 
   @Transactional
@@ -35,6 +39,8 @@ public class UpdateUser {
     User existingUser = existing.get();
     existingUser.setName(updateUserDto.name());
     existingUser.setEmail(updateUserDto.email());
-    return userRepository.save(existingUser);
+    User savedUser = userRepository.save(existingUser);
+    eventPublisher.publishEvent(new UserChanged(existingUser.getUsername(), existingUser.getUuid()));
+    return savedUser;
   }
 }
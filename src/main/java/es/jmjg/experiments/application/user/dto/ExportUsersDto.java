@@ -0,0 +1,15 @@
+package es.jmjg.experiments.application.user.dto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.validation.constraints.NotNull;
+
+public record ExportUsersDto(
+    LocalDateTime since,
+    @NotNull AuthenticatedUserDto authenticatedUser) {
+
+  public ExportUsersDto {
+    Objects.requireNonNull(authenticatedUser, "authenticatedUser cannot be null");
+  }
+}
@@ -0,0 +1,15 @@
+package es.jmjg.experiments.application.user.dto;
+
+import java.util.Objects;
+
+import jakarta.validation.constraints.NotNull;
+
+public record FindAllUsersByCursorDto(
+    Integer afterId,
+    int limit,
+    @NotNull AuthenticatedUserDto authenticatedUser) {
+
+  public FindAllUsersByCursorDto {
+    Objects.requireNonNull(authenticatedUser, "authenticatedUser cannot be null");
+  }
+}
@@ -3,10 +3,13 @@ package es.jmjg.experiments.domain.post.entity;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.user.entity.User;
 import jakarta.persistence.CascadeType;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
@@ -19,8 +22,12 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -29,12 +36,23 @@ import lombok.Setter;
 
 @Entity
 @Table(name = "post")
+@NamedEntityGraph(name = Post.USER_AND_TAGS_GRAPH, attributeNodes = {
+  @NamedAttributeNode("user"),
+  @NamedAttributeNode("tags")
+})
 @NoArgsConstructor
 @Getter
 @Setter
 public class Post {
+  /**
+   * Fetch plan shared by the post read endpoints. Comments are a second bag, so they are
+   * initialised by a separate query instead of being joined here.
+   */
+  public static final String USER_AND_TAGS_GRAPH = "Post.userAndTags";
+
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_id_seq")
+  @SequenceGenerator(name = "post_id_seq", sequenceName = "post_id_seq", allocationSize = 50)
   private Integer id;
 
   @NotNull
@@ -53,10 +71,30 @@ public class Post {
   @NotEmpty
   private String body;
 
+  @Column(name = "created_at", insertable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  // Maintained with relative updates through PostRepository, never written back from the entity
+  @Column(name = "comment_count", nullable = false, updatable = false)
+  private int commentCount;
+
+  // Optimistic lock, incremented only by the writes of the entity
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  // Incremented by the bulk updates of the counter and of the tags instead of the version, so they
+  // change the ETag without failing a concurrent edit, see V11
+  @Column(name = "revision", nullable = false, insertable = false, updatable = false)
+  private long revision;
+
   @ManyToMany(fetch = FetchType.LAZY)
   @JoinTable(name = "post_tag", joinColumns = @JoinColumn(name = "post_id"), inverseJoinColumns = @JoinColumn(name = "tag_id"))
   private List<Tag> tags = new ArrayList<>();
 
+  // Adding or removing a comment increments the revision through the comment count, relatively, so
+  // concurrent comments do not conflict with each other or with an edit of the post
+  @OptimisticLock(excluded = true)
   @OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
   private List<PostComment> comments = new ArrayList<>();
 }
@@ -18,7 +18,8 @@ import org.hibernate.annotations.CreationTimestamp;
 @Setter
 public class PostComment {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "post_comment_id_seq")
+  @SequenceGenerator(name = "post_comment_id_seq", sequenceName = "post_comment_id_seq", allocationSize = 50)
   private Integer id;
 
   @Column(name = "uuid", nullable = false, unique = true)
@@ -32,6 +33,10 @@ public class PostComment {
   @CreationTimestamp
   private LocalDateTime createdAt;
 
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "post_id", nullable = false)
   private Post post;
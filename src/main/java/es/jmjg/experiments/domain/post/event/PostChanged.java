@@ -0,0 +1,12 @@
+package es.jmjg.experiments.domain.post.event;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** Published when a post is updated, retagged or deleted, or gets or loses a comment. */
+public record PostChanged(UUID uuid) {
+
+  public PostChanged {
+    Objects.requireNonNull(uuid, "Post uuid cannot be null");
+  }
+}
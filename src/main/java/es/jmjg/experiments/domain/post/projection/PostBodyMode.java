@@ -0,0 +1,11 @@
+package es.jmjg.experiments.domain.post.projection;
+
+/** How much of each post body a listing reads from the database. */
+public enum PostBodyMode {
+  /** The whole body. */
+  FULL,
+  /** The first characters of the body, up to the configured excerpt length. */
+  EXCERPT,
+  /** No body, the column is not read at all. */
+  NONE
+}
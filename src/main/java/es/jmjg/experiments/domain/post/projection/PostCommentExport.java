@@ -0,0 +1,13 @@
+package es.jmjg.experiments.domain.post.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Read-only view of a comment for the export. */
+public record PostCommentExport(
+    UUID uuid,
+    UUID postUuid,
+    UUID userUuid,
+    String comment,
+    LocalDateTime createdAt) {
+}
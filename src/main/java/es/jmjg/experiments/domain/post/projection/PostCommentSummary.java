@@ -0,0 +1,16 @@
+package es.jmjg.experiments.domain.post.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of a comment for the paged comments of a post. {@code id} and {@code createdAt}
+ * are the keyset the next page continues from.
+ */
+public record PostCommentSummary(
+    Integer id,
+    UUID uuid,
+    UUID userUuid,
+    String comment,
+    LocalDateTime createdAt) {
+}
@@ -0,0 +1,15 @@
+package es.jmjg.experiments.domain.post.projection;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/** Read-only view of a post for the export, with the names of its tags. */
+public record PostExport(
+    UUID uuid,
+    UUID userUuid,
+    String title,
+    String body,
+    List<String> tagNames,
+    LocalDateTime createdAt) {
+}
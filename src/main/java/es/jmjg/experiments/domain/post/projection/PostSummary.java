@@ -0,0 +1,24 @@
+package es.jmjg.experiments.domain.post.projection;
+
+import java.util.List;
+import java.util.UUID;
+
+import es.jmjg.experiments.domain.tag.projection.TagSummary;
+
+/**
+ * Read-only view of a post for the listing endpoints, built from the columns they render instead
+ * of a managed {@code Post}. {@code body} is whole, cut or null depending on the {@link PostBodyMode}
+ * of the listing. {@code commentUuids} holds only the first comments of the post, at most
+ * {@code app.post-comment-preview-size}, while {@code commentCount} is the stored counter of all of
+ * them. The rest are paged by post.
+ */
+public record PostSummary(
+    Integer id,
+    UUID uuid,
+    UUID userUuid,
+    String title,
+    String body,
+    List<TagSummary> tags,
+    List<UUID> commentUuids,
+    int commentCount) {
+}
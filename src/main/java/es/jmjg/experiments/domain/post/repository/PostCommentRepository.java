@@ -1,11 +1,33 @@
 package es.jmjg.experiments.domain.post.repository;
 
 import es.jmjg.experiments.domain.post.entity.PostComment;
+import es.jmjg.experiments.domain.post.projection.PostCommentExport;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import org.springframework.data.domain.Slice;
 
 public interface PostCommentRepository {
   PostComment save(PostComment postComment);
   Optional<PostComment> findByUuid(UUID uuid);
   void deleteById(Integer id);
+
+  /** Uuids among {@code uuids} already taken by a comment. */
+  List<UUID> findExistingUuids(Collection<UUID> uuids);
+
+  /** Uuids of the posts the user has commented on. */
+  List<UUID> findPostUuidsCommentedBy(UUID userUuid);
+
+  /**
+   * Comments of the post, oldest first, that follow the comment created at {@code afterCreatedAt}
+   * with id {@code afterId}, or from the first one when both are null.
+   */
+  Slice<PostCommentSummary> findByPostUuid(UUID postUuid, LocalDateTime afterCreatedAt, Integer afterId, int limit);
+
+  /** Comments created at or after {@code since}, all when null, see {@link PostRepository#exportCreatedSince}. */
+  void exportCreatedSince(LocalDateTime since, Consumer<PostCommentExport> consumer);
 }
@@ -1,31 +1,97 @@
 package es.jmjg.experiments.domain.post.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostExport;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 
 public interface PostRepository {
 
   void deleteById(Integer id);
 
-  Page<Post> findAll(Pageable pageable);
+  /**
+   * Paged listing: summaries with the tags and the first comment uuids of every post in the page.
+   * {@code bodyMode} decides how much of each body is read.
+   */
+  Page<PostSummary> findAll(Pageable pageable, PostBodyMode bodyMode);
+
+  /** Keyset variant of {@link #findAll(Pageable, PostBodyMode)}: posts with an id greater than {@code afterId}, in id order. */
+  Slice<PostSummary> findAllAfter(Integer afterId, int limit, PostBodyMode bodyMode);
+
+  /** Same listing as {@link #findAll(Pageable, PostBodyMode)} without counting the posts. */
+  Slice<PostSummary> findAllWithoutCount(Pageable pageable, PostBodyMode bodyMode);
+
+  /** Approximate number of posts, cheap enough to call on every listing. */
+  long estimateCount();
 
   Optional<Post> findByTitle(String trim);
 
   Optional<Post> findByUuid(UUID uuid);
 
-  List<Post> searchByContent(String trim, Pageable pageable);
+  /**
+   * Version of the post, read without loading it. It changes whenever anything rendered with the
+   * single post does: the post, its tags, their names and its comments.
+   */
+  Optional<Long> findVersionByUuid(UUID uuid);
+
+  /** Single post fetch plan: loads user and tags of the post, comments are paged on their own. */
+  Optional<Post> findByUuidWithUserAndTags(UUID uuid);
+
+  /** Search hits with their tags, best matches first. Comment uuids are not read. */
+  List<PostSummary> searchByContent(String trim, Pageable pageable, PostBodyMode bodyMode);
 
   Post save(Post post);
 
+  /**
+   * Inserts new posts with their tags and comments in one transaction, in JDBC batches, and
+   * detaches them afterwards so a long import does not keep every post in memory. The posts are
+   * added to the counters of their authors and tags in the same transaction.
+   */
+  void importAll(List<Post> posts);
+
+  /**
+   * Adds {@code delta} to the comment count of the post in a single relative update, so concurrent
+   * comments do not overwrite each other's count. The loaded entity is not refreshed.
+   */
+  void incrementCommentCount(Integer postId, int delta);
+
+  /**
+   * Sets every comment count that differs from the actual number of comments, returns the uuids of
+   * the posts it changed.
+   */
+  List<UUID> reconcileCommentCounts();
+
+  /** Uuids among {@code uuids} already taken by a post. */
+  List<UUID> findExistingUuids(Collection<UUID> uuids);
+
+  /** Titles among {@code titles} already taken by a post. */
+  List<String> findExistingTitles(Collection<String> titles);
+
   Optional<Post> findById(Integer id);
 
-  List<Post> findByTagId(Integer id);
+  /**
+   * Summaries of the posts tagged with {@code tagId} after {@code afterId}, with their tags and
+   * first comment uuids, in id order. A null {@code afterId} starts from the first post.
+   */
+  Slice<PostSummary> findByTagIdAfter(Integer tagId, Integer afterId, int limit, PostBodyMode bodyMode);
 
   List<Post> findByUserId(Integer userId);
+
+  /**
+   * Hands every post created at or after {@code since}, all of them when it is null, to
+   * {@code consumer} in id order. Rows are read through one database cursor as the consumer takes
+   * them, so memory stays flat whatever the number of posts. Must run inside a transaction.
+   */
+  void exportCreatedSince(LocalDateTime since, Consumer<PostExport> consumer);
 }
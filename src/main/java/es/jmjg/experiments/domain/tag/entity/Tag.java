@@ -6,6 +6,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
@@ -13,7 +15,9 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -27,7 +31,8 @@ import lombok.Setter;
 @Setter
 public class Tag {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_id_seq")
+  @SequenceGenerator(name = "tag_id_seq", sequenceName = "tag_id_seq", allocationSize = 50)
   private Integer id;
 
   @NotNull
@@ -38,9 +43,28 @@ public class Tag {
   @Column(name = "tag", unique = true, nullable = false)
   private String name;
 
+  // Maintained with relative updates through TagRepository, never written back from the entity
+  @Column(name = "post_count", nullable = false, updatable = false)
+  private int postCount;
+
+  @Column(name = "user_count", nullable = false, updatable = false)
+  private int userCount;
+
+  // Optimistic lock, incremented only by the writes of the entity
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  // Incremented by the bulk updates of the counters instead of the version, see Post#revision
+  @Column(name = "revision", nullable = false, insertable = false, updatable = false)
+  private long revision;
+
+  // The counters increment the revision instead, see Post#comments
+  @OptimisticLock(excluded = true)
   @ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY)
   private List<User> users = new ArrayList<>();
 
+  @OptimisticLock(excluded = true)
   @ManyToMany(mappedBy = "tags", fetch = FetchType.LAZY)
   private List<Post> posts = new ArrayList<>();
 }
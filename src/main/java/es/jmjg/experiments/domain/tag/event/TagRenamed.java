@@ -0,0 +1,12 @@
+package es.jmjg.experiments.domain.tag.event;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** Published when a tag gets a new name, which its posts and users render. */
+public record TagRenamed(UUID uuid) {
+
+  public TagRenamed {
+    Objects.requireNonNull(uuid, "Tag uuid cannot be null");
+  }
+}
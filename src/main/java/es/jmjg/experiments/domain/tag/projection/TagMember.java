@@ -0,0 +1,7 @@
+package es.jmjg.experiments.domain.tag.projection;
+
+import java.util.UUID;
+
+/** Post or user a tag is assigned to, as previewed with the tag. {@code id} positions it for paging. */
+public record TagMember(Integer id, UUID uuid) {
+}
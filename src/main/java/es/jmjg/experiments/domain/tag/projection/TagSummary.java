@@ -0,0 +1,7 @@
+package es.jmjg.experiments.domain.tag.projection;
+
+import java.util.UUID;
+
+/** Read-only view of a tag as embedded in post and user listings. */
+public record TagSummary(UUID uuid, String name) {
+}
@@ -1,20 +1,63 @@
 package es.jmjg.experiments.domain.tag.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Slice;
+
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
 
 public interface TagRepository {
 
   Optional<Tag> findByUuid(UUID uuid);
 
-  void deleteByUuid(UUID uuid);
+  /** Version of the tag, read without loading it. Its name, posts and users change it. */
+  Optional<Long> findVersionByUuid(UUID uuid);
+
+  List<Tag> findAll();
+
+  /**
+   * Deletes the tag unless a post or a user has it, which is refused with a
+   * {@link es.jmjg.experiments.domain.tag.exception.TagInUseException} naming it by {@code tag}'s name.
+   */
+  void delete(Tag tag);
 
   Optional<Tag> findByName(String trim);
 
+  /** Tags whose name is one of {@code names}, resolved in a single query. Unknown names are skipped. */
+  List<Tag> findAllByNameIn(Collection<String> names);
+
+  /** Names containing {@code trim}, ignoring case. LIKE wildcards in it are honoured, as they always were. */
   List<Tag> findByNameContainingPattern(String trim);
 
+  /** Names starting with {@code query} first, then the most similar names, at most {@code limit}. */
+  List<Tag> findForAutocomplete(String query, int limit);
+
   Tag save(Tag tag);
+
+  /**
+   * The first {@code size} posts of each tag in id order, keyed by tag id, read in one query for all
+   * the tags. Each slice tells whether more posts follow.
+   */
+  Map<Integer, Slice<TagMember>> findPostPreviews(Collection<Integer> tagIds, int size);
+
+  /** The first {@code size} users of each tag, see {@link #findPostPreviews}. */
+  Map<Integer, Slice<TagMember>> findUserPreviews(Collection<Integer> tagIds, int size);
+
+  /** Adds {@code delta} to the post count of each tag, see {@code PostRepository#incrementCommentCount}. */
+  void incrementPostCounts(Collection<Integer> tagIds, int delta);
+
+  /**
+   * Increments the revisions of the posts and users tagged with the tag, for changes to the tag that
+   * are rendered with them but do not write their rows. Their versions, and so edits of them made
+   * at the same time, are left alone.
+   */
+  void incrementMemberRevisions(Integer tagId);
+
+  /** Sets every post and user count that differs from the actual ones, returns how many tags. */
+  int reconcileCounts();
 }
@@ -3,10 +3,13 @@ package es.jmjg.experiments.domain.user.entity;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.post.entity.PostComment;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
+import org.hibernate.annotations.OptimisticLock;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -18,7 +21,9 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -33,7 +38,8 @@ import lombok.Setter;
 
 public class User {
   @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+  @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
   private Integer id;
 
   @NotNull
@@ -54,6 +60,25 @@ public class User {
   @Column(nullable = false)
   private String password;
 
+  @Column(name = "created_at", insertable = false, updatable = false)
+  private LocalDateTime createdAt;
+
+  // Maintained with relative updates through UserRepository, never written back from the entity
+  @Column(name = "post_count", nullable = false, updatable = false)
+  private int postCount;
+
+  // Optimistic lock, incremented only by the writes of the entity
+  @Version
+  @Column(name = "version", nullable = false)
+  private long version;
+
+  // Incremented by the bulk updates of the counter and of the tags instead of the version, see
+  // Post#revision
+  @Column(name = "revision", nullable = false, insertable = false, updatable = false)
+  private long revision;
+
+  // The counters increment the revision instead, see Post#comments
+  @OptimisticLock(excluded = true)
   @OneToMany(mappedBy = "user", cascade = { CascadeType.ALL }, fetch = FetchType.LAZY)
   private List<Post> posts = new ArrayList<>();
 
@@ -61,6 +86,7 @@ public class User {
   @JoinTable(name = "user_tag", joinColumns = @JoinColumn(name = "user_id"), inverseJoinColumns = @JoinColumn(name = "tag_id"))
   private List<Tag> tags = new ArrayList<>();
 
+  @OptimisticLock(excluded = true)
   @OneToMany(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
   private List<PostComment> comments = new ArrayList<>();
 }
@@ -0,0 +1,13 @@
+package es.jmjg.experiments.domain.user.event;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/** Published when a user is updated, deleted or gets a new password. */
+public record UserChanged(String username, UUID uuid) {
+
+  public UserChanged {
+    Objects.requireNonNull(username, "Username cannot be null");
+    Objects.requireNonNull(uuid, "Uuid cannot be null");
+  }
+}
@@ -0,0 +1,13 @@
+package es.jmjg.experiments.domain.user.projection;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/** Read-only view of a user for the export. The password hash is never read. */
+public record UserExport(
+    UUID uuid,
+    String name,
+    String email,
+    String username,
+    LocalDateTime createdAt) {
+}
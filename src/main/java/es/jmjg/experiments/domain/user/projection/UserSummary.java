@@ -0,0 +1,21 @@
+package es.jmjg.experiments.domain.user.projection;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read-only view of a user for the listing endpoints, built from the columns they render instead
+ * of a managed {@code User}. Never carries the password hash. {@code postUuids} holds only the
+ * first posts of the user, at most {@code app.user-post-preview-size}, {@code postCount} counts all
+ * of them.
+ */
+public record UserSummary(
+    Integer id,
+    UUID uuid,
+    String name,
+    String email,
+    String username,
+    List<UUID> postUuids,
+    List<String> tagNames,
+    int postCount) {
+}
@@ -1,28 +1,65 @@
 package es.jmjg.experiments.domain.user.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserExport;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
 
 public interface UserRepository {
+  /**
+   * Deletes the user along with their posts, comments and tag assignments, taking them off the
+   * counters of the posts and tags that remain.
+   */
   void deleteByUuid(UUID uuid);
 
   Page<User> findAll(Pageable pageable);
 
+  /** Keyset variant of {@link #findAll(Pageable)}: users with an id greater than {@code afterId}, in id order. */
+  Slice<User> findAllAfter(Integer afterId, int limit);
+
   Optional<User> findByEmail(String email);
 
   Optional<User> findById(Integer id);
 
   Optional<User> findByUsername(String username);
 
+  /**
+   * Replaces the password hash of the user without checking or incrementing the version, so that
+   * concurrent logins rehashing it do not fail each other. Returns false when there is no such user.
+   */
+  boolean updatePassword(String username, String password);
+
   Optional<User> findByUuid(UUID uuid);
 
+  /** Version of the user, read without loading it. It changes with the user, their posts and tags. */
+  Optional<Long> findVersionByUuid(UUID uuid);
+
+  List<User> findAllByUuidIn(Collection<UUID> uuids);
+
   User save(User existingUser);
 
-  List<User> findByTagId(Integer id);
+  /**
+   * Summaries of the users tagged with {@code tagId} after {@code afterId}, with their post uuids and
+   * tag names, in id order. A null {@code afterId} starts from the first user.
+   */
+  Slice<UserSummary> findByTagIdAfter(Integer tagId, Integer afterId, int limit);
+
+  /** Users created at or after {@code since}, all when null, see {@code PostRepository#exportCreatedSince}. */
+  void exportCreatedSince(LocalDateTime since, Consumer<UserExport> consumer);
+
+  /** Adds {@code delta} to the post count of the user, see {@code PostRepository#incrementCommentCount}. */
+  void incrementPostCount(Integer userId, int delta);
+
+  /** Sets every post count that differs from the actual number of posts, returns how many. */
+  int reconcilePostCounts();
 }
@@ -1,11 +1,19 @@
 package es.jmjg.experiments.infrastructure.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Data;
 
 @Component
@@ -19,4 +27,67 @@ public class AppProperties {
 
   @NotBlank(message = "app.admin-username admin username is required")
   private String adminUsername;
+
+  @NotNull(message = "app.approximate-count-max-staleness must not be null")
+  private Duration approximateCountMaxStaleness = Duration.ofMinutes(1);
+
+  @NotNull(message = "app.post-search-engine must not be null")
+  private PostSearchEngine postSearchEngine = PostSearchEngine.FULL_TEXT;
+
+  @Positive(message = "app.post-excerpt-length must be positive")
+  private int postExcerptLength = 200;
+
+  @Positive(message = "app.post-comment-preview-size must be positive")
+  private int postCommentPreviewSize = 10;
+
+  @Positive(message = "app.tag-preview-size must be positive")
+  private int tagPreviewSize = 10;
+
+  @Positive(message = "app.user-post-preview-size must be positive")
+  private int userPostPreviewSize = 10;
+
+  @NotNull(message = "app.post-response-cache-max-size must not be null")
+  private DataSize postResponseCacheMaxSize = DataSize.ofMegabytes(16);
+
+  @Positive(message = "app.post-import-batch-size must be positive")
+  private int postImportBatchSize = 500;
+
+  @PositiveOrZero(message = "app.post-import-max-reported-errors must not be negative")
+  private int postImportMaxReportedErrors = 1000;
+
+  @NotNull(message = "app.principal-cache-ttl must not be null")
+  private Duration principalCacheTtl = Duration.ofMinutes(1);
+
+  @Positive(message = "app.principal-cache-max-size must be positive")
+  private int principalCacheMaxSize = 10_000;
+
+  @PositiveOrZero(message = "app.verified-token-cache-max-size must not be negative")
+  private int verifiedTokenCacheMaxSize = 10_000;
+
+  @Min(value = 4, message = "app.password-bcrypt-strength must be between 4 and 31")
+  @Max(value = 31, message = "app.password-bcrypt-strength must be between 4 and 31")
+  private int passwordBcryptStrength = 10;
+
+  @Positive(message = "app.password-hashing-max-concurrency must be positive")
+  private int passwordHashingMaxConcurrency = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+  @PositiveOrZero(message = "app.password-hashing-queue-capacity must not be negative")
+  private int passwordHashingQueueCapacity = 100;
+
+  private boolean sqlMetricsEnabled = true;
+
+  private boolean sqlRowMetricsEnabled = false;
+
+  @NotNull(message = "app.slow-query-threshold must not be null")
+  private Duration slowQueryThreshold = Duration.ofMillis(500);
+
+  @NotNull(message = "app.counter-reconciliation-interval must not be null")
+  private Duration counterReconciliationInterval = Duration.ofHours(1);
+
+  public enum PostSearchEngine {
+    /** Ranked match against the indexed post.search_vector column. */
+    FULL_TEXT,
+    /** Case-insensitive substring match on title and body, kept for comparison. */
+    LIKE
+  }
 }
@@ -0,0 +1,64 @@
+package es.jmjg.experiments.infrastructure.config;
+
+import java.time.Duration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.FixedDelayTask;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+
+import es.jmjg.experiments.application.shared.ReconcileCounters;
+import es.jmjg.experiments.application.shared.dto.ReconciledCounters;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs {@link ReconcileCounters} every {@code app.counter-reconciliation-interval}, the first time
+ * one interval after startup. A zero interval disables it.
+ */
+@Configuration
+@EnableScheduling
+@Slf4j
+public class CounterReconciliationConfig implements SchedulingConfigurer {
+
+  private final ReconcileCounters reconcileCounters;
+  private final Duration interval;
+  private final Counter repaired;
+
+  public CounterReconciliationConfig(ReconcileCounters reconcileCounters, AppProperties appProperties,
+      MeterRegistry meterRegistry) {
+    this.reconcileCounters = reconcileCounters;
+    this.interval = appProperties.getCounterReconciliationInterval();
+    this.repaired = Counter.builder("counters.reconciled")
+        .description("Rows whose denormalized counters had drifted and were repaired")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public void configureTasks(ScheduledTaskRegistrar registrar) {
+    if (interval.isZero()) {
+      return;
+    }
+    registrar.addFixedDelayTask(new FixedDelayTask(this::reconcile, interval, interval));
+  }
+
+  void reconcile() {
+    ReconciledCounters reconciled;
+    try {
+      reconciled = reconcileCounters.reconcile();
+    } catch (DataAccessException e) {
+      // Usually a serialization failure against a concurrent write, the next run tries again
+      log.info("Counter reconciliation did not complete, retrying in {}: {}", interval, e.getMessage());
+      return;
+    }
+
+    if (reconciled.total() > 0) {
+      repaired.increment(reconciled.total());
+      log.warn("Repaired drifted counters of {} posts, {} tags and {} users",
+          reconciled.posts(), reconciled.tags(), reconciled.users());
+    }
+  }
+}
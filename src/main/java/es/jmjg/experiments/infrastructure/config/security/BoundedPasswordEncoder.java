@@ -0,0 +1,77 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * Runs the hash computations of another encoder on a small dedicated pool, so a burst of logins
+ * cannot take every CPU away from the rest of the API. Callers wait for their turn; once the queue
+ * is full they get a 503 instead.
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+  private final PasswordEncoder delegate;
+  private final ThreadPoolExecutor executor;
+
+  public BoundedPasswordEncoder(PasswordEncoder delegate, int maxConcurrency, int queueCapacity) {
+    this.delegate = delegate;
+    BlockingQueue<Runnable> queue = queueCapacity > 0
+        ? new ArrayBlockingQueue<>(queueCapacity)
+        : new SynchronousQueue<>();
+    this.executor = new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS, queue,
+        Thread.ofPlatform().name("password-hashing-", 0).daemon().factory());
+  }
+
+  @Override
+  public String encode(CharSequence rawPassword) {
+    return compute(() -> delegate.encode(rawPassword));
+  }
+
+  @Override
+  public boolean matches(CharSequence rawPassword, String encodedPassword) {
+    return compute(() -> delegate.matches(rawPassword, encodedPassword));
+  }
+
+  @Override
+  public boolean upgradeEncoding(String encodedPassword) {
+    return delegate.upgradeEncoding(encodedPassword);
+  }
+
+  @Override
+  public void close() {
+    executor.shutdown();
+  }
+
+  private <T> T compute(Callable<T> hashing) {
+    final Future<T> future;
+    try {
+      future = executor.submit(hashing);
+    } catch (RejectedExecutionException ex) {
+      throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many password checks in progress, retry later");
+    }
+
+    try {
+      return future.get();
+    } catch (InterruptedException ex) {
+      future.cancel(true);
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while hashing a password", ex);
+    } catch (ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException runtimeException) {
+        throw runtimeException;
+      }
+      throw new IllegalStateException(ex.getCause());
+    }
+  }
+}
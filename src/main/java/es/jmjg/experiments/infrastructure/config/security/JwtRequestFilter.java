@@ -7,7 +7,6 @@ import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
 import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -22,15 +21,15 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class JwtRequestFilter extends OncePerRequestFilter {
-  private final UserDetailsService userDetailsService;
+  private final PrincipalCache principalCache;
   private final JwtTokenService jwtTokenService;
   private final SecurityContextHolderStrategy securityContextHolderStrategy;
 
   public JwtRequestFilter(
-      final UserDetailsService userDetailsService,
+      final PrincipalCache principalCache,
       final JwtTokenService jwtTokenService,
       final SecurityContextHolderStrategy securityContextHolderStrategy) {
-    this.userDetailsService = userDetailsService;
+    this.principalCache = principalCache;
     this.jwtTokenService = jwtTokenService;
     this.securityContextHolderStrategy = securityContextHolderStrategy;
   }
@@ -66,7 +65,7 @@ public class JwtRequestFilter extends OncePerRequestFilter {
 
     final UserDetails userDetails;
     try {
-      userDetails = userDetailsService.loadUserByUsername(jwt.getSubject());
+      userDetails = principalCache.load(jwt.getSubject(), jwt.getIssuedAtAsInstant());
     } catch (final UsernameNotFoundException userNotFoundEx) {
       // user not found
       log.warn("User not found: {}", jwt.getSubject());
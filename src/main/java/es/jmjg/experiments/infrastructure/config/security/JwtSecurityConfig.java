@@ -1,5 +1,7 @@
 package es.jmjg.experiments.infrastructure.config.security;
 
+import jakarta.servlet.DispatcherType;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -12,8 +14,6 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.context.SecurityContextHolderStrategy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -22,11 +22,6 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @EnableWebSecurity
 public class JwtSecurityConfig {
 
-  @Bean
-  public PasswordEncoder passwordEncoder() {
-    return new BCryptPasswordEncoder();
-  }
-
   @Bean
   public AuthenticationManager authenticationManager(
     final AuthenticationConfiguration authenticationConfiguration) throws Exception {
@@ -40,10 +35,10 @@ public class JwtSecurityConfig {
 
   @Bean
   public JwtRequestFilter jwtRequestFilter(
-    final JwtUserDetailsService jwtUserDetailsService,
+    final PrincipalCache principalCache,
     final JwtTokenService jwtTokenService,
     final SecurityContextHolderStrategy securityContextHolderStrategy) {
-    return new JwtRequestFilter(jwtUserDetailsService, jwtTokenService, securityContextHolderStrategy);
+    return new JwtRequestFilter(principalCache, jwtTokenService, securityContextHolderStrategy);
   }
 
   @Bean
@@ -58,18 +53,30 @@ public class JwtSecurityConfig {
       .csrf(AbstractHttpConfigurer::disable)
       .authorizeHttpRequests(
         authorize -> authorize
+          // Async dispatches write the streamed responses of requests that were already authorized, and
+          // error dispatches render the errors of requests that were already rejected
+          .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR)
+          .permitAll()
           .requestMatchers("/", "/authenticate", "/api-docs/**", "/swagger-ui/**")
           .permitAll()
           .requestMatchers(HttpMethod.GET, "/api/users/password/*/*/reset")
           .permitAll()
           .requestMatchers(HttpMethod.PATCH, "/api/users/password/*/*/reset")
           .permitAll()
+          // Exports start streaming once the handler has returned, too late to answer 403 from the use case
+          .requestMatchers(HttpMethod.GET, "/api/users/export")
+          .hasAuthority(JwtUserDetailsService.ROLE_ADMIN)
+          // Would otherwise match the public GET /api/posts/{uuid}
+          .requestMatchers(HttpMethod.GET, "/api/posts/export")
+          .hasAuthority(JwtUserDetailsService.ROLE_USER)
           .requestMatchers(HttpMethod.GET, "/api/posts")
           .permitAll()
           .requestMatchers(HttpMethod.GET, "/api/posts/{uuid}")
           .permitAll()
           .requestMatchers(HttpMethod.GET, "/api/posts/search")
           .permitAll()
+          .requestMatchers(HttpMethod.GET, "/api/posts/*/comments")
+          .permitAll()
           .requestMatchers(HttpMethod.GET, "/api/posts/*/comments/*")
           .permitAll()
           .requestMatchers(HttpMethod.GET, "/api/tags/**")
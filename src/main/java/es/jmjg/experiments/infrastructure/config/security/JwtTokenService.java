@@ -1,7 +1,13 @@
 package es.jmjg.experiments.infrastructure.config.security;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -13,6 +19,8 @@ import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 
 import es.jmjg.experiments.infrastructure.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
@@ -22,9 +30,18 @@ public class JwtTokenService {
   private final Algorithm hmac512;
   private final JWTVerifier verifier;
 
-  public JwtTokenService(final AppProperties appProperties) {
+  // Tokens that already passed verification, keyed by their SHA-256 digest and kept until they expire
+  private final Map<String, VerifiedToken> verifiedTokens = new ConcurrentHashMap<>();
+  private final int verifiedTokenCacheMaxSize;
+  private final Counter cacheHits;
+  private final Counter cacheMisses;
+
+  public JwtTokenService(final AppProperties appProperties, final MeterRegistry meterRegistry) {
     this.hmac512 = Algorithm.HMAC512(appProperties.getJwtSecret());
     this.verifier = JWT.require(this.hmac512).build();
+    this.verifiedTokenCacheMaxSize = appProperties.getVerifiedTokenCacheMaxSize();
+    this.cacheHits = Counter.builder("jwt.verified.cache.gets").tag("result", "hit").register(meterRegistry);
+    this.cacheMisses = Counter.builder("jwt.verified.cache.gets").tag("result", "miss").register(meterRegistry);
   }
 
   public String generateToken(final UserDetails userDetails) {
@@ -38,11 +55,56 @@ public class JwtTokenService {
   }
 
   public DecodedJWT validateToken(final String token) {
+    final String digest = digest(token);
+    final Instant now = Instant.now();
+    final VerifiedToken cached = verifiedTokens.get(digest);
+    if (cached != null && cached.isValidAt(now)) {
+      cacheHits.increment();
+      return cached.jwt();
+    }
+    cacheMisses.increment();
+
     try {
-      return verifier.verify(token);
+      final DecodedJWT jwt = verifier.verify(token);
+      remember(digest, jwt, now);
+      return jwt;
     } catch (final JWTVerificationException verificationEx) {
       log.warn("token invalid: {}", verificationEx.getMessage());
+      if (cached != null) {
+        verifiedTokens.remove(digest, cached);
+      }
       return null;
     }
   }
+
+  private void remember(final String digest, final DecodedJWT jwt, final Instant now) {
+    final Instant expiresAt = jwt.getExpiresAtAsInstant();
+    if (expiresAt == null) {
+      return;
+    }
+    if (verifiedTokens.size() >= verifiedTokenCacheMaxSize) {
+      verifiedTokens.values().removeIf(verified -> !verified.isValidAt(now));
+      if (verifiedTokens.size() >= verifiedTokenCacheMaxSize) {
+        return;
+      }
+    }
+    verifiedTokens.put(digest, new VerifiedToken(jwt, expiresAt));
+  }
+
+  private static String digest(final String token) {
+    try {
+      final byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+      return Base64.getEncoder().encodeToString(hash);
+    } catch (final NoSuchAlgorithmException e) {
+      // every Java platform is required to provide SHA-256
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private record VerifiedToken(DecodedJWT jwt, Instant expiresAt) {
+
+    boolean isValidAt(final Instant now) {
+      return expiresAt.isAfter(now);
+    }
+  }
 }
@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -17,7 +18,7 @@ import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
-public class JwtUserDetailsService implements UserDetailsService {
+public class JwtUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
   public static final String ROLE_USER = "ROLE_USER";
   public static final String ROLE_ADMIN = "ROLE_ADMIN";
 
@@ -44,4 +45,19 @@ public class JwtUserDetailsService implements UserDetailsService {
 
     return new JwtUserDetails(user.getUuid(), username, user.getPassword(), roles);
   }
+
+  /**
+   * Stores the hash produced on login when the stored one uses an outdated encoding or cost. The
+   * hash is written on its own, so concurrent logins of the same user do not fail on its version.
+   */
+  @Override
+  public UserDetails updatePassword(final UserDetails userDetails, final String newPassword) {
+    if (!userRepository.updatePassword(userDetails.getUsername(), newPassword)) {
+      throw new UsernameNotFoundException("User " + userDetails.getUsername() + " not found");
+    }
+
+    // Always loaded by loadUserByUsername
+    final JwtUserDetails user = (JwtUserDetails) userDetails;
+    return new JwtUserDetails(user.id, user.getUsername(), newPassword, user.getAuthorities());
+  }
 }
@@ -0,0 +1,30 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import java.util.Map;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+
+@Configuration
+public class PasswordHashingConfig {
+
+  public static final String BCRYPT_ID = "bcrypt";
+
+  @Bean
+  public PasswordEncoder passwordEncoder(final AppProperties appProperties) {
+    final PasswordEncoder bcrypt = new BCryptPasswordEncoder(appProperties.getPasswordBcryptStrength());
+    final DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID, Map.of(BCRYPT_ID, bcrypt));
+    // Hashes stored before the {id} prefix was introduced are plain BCrypt; they are rehashed on the next login
+    delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+    return new BoundedPasswordEncoder(
+        delegating,
+        appProperties.getPasswordHashingMaxConcurrency(),
+        appProperties.getPasswordHashingQueueCapacity());
+  }
+}
@@ -0,0 +1,72 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import es.jmjg.experiments.domain.user.event.UserChanged;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+
+/**
+ * Principals of recently seen token subjects, so an authenticated request does not load its user
+ * again. An entry is reused while it is younger than {@code app.principal-cache-ttl} and was loaded
+ * after the token was issued. Changes to a user evict it once they commit.
+ */
+@Component
+public class PrincipalCache {
+
+  private final UserDetailsService userDetailsService;
+  private final Duration ttl;
+  private final int maxSize;
+  private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+  public PrincipalCache(UserDetailsService userDetailsService, AppProperties appProperties) {
+    this.userDetailsService = userDetailsService;
+    this.ttl = appProperties.getPrincipalCacheTtl();
+    this.maxSize = appProperties.getPrincipalCacheMaxSize();
+  }
+
+  public UserDetails load(String subject, Instant issuedAt) {
+    Instant now = Instant.now();
+    Entry cached = entries.get(subject);
+    if (cached != null && cached.isFresh(now, ttl) && issuedAt != null && !cached.loadedAt().isBefore(issuedAt)) {
+      return cached.userDetails();
+    }
+
+    UserDetails userDetails = userDetailsService.loadUserByUsername(subject);
+    if (issuedAt != null && hasRoom(now)) {
+      entries.put(subject, new Entry(userDetails, now));
+    }
+    return userDetails;
+  }
+
+  public void evict(String subject) {
+    entries.remove(subject);
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChanged event) {
+    evict(event.username());
+  }
+
+  private boolean hasRoom(Instant now) {
+    if (entries.size() < maxSize) {
+      return true;
+    }
+    entries.values().removeIf(entry -> !entry.isFresh(now, ttl));
+    return entries.size() < maxSize;
+  }
+
+  private record Entry(UserDetails userDetails, Instant loadedAt) {
+
+    boolean isFresh(Instant now, Duration ttl) {
+      return loadedAt.plus(ttl).isAfter(now);
+    }
+  }
+}
@@ -0,0 +1,183 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Attributes the SQL statements executed on the current thread to the HTTP route and to the
+ * outermost use case running, and publishes them as:
+ *
+ * <ul>
+ * <li>{@code sql.statements}, a timer of every statement,
+ * <li>{@code sql.rows}, the rows written, and read when {@code app.sql-row-metrics-enabled} is set,
+ * <li>{@code sql.request.statements}, the statements issued per request.
+ * </ul>
+ *
+ * The route is only known once the request has been dispatched, so statements of a request are
+ * tallied and published when it ends. Statements outside a request are published right away with
+ * {@value #NONE} as route. That includes the statements of a response body written on an async
+ * thread, such as the exports, whose request tally lives on the thread that dispatched it.
+ */
+public class SqlMetrics {
+
+  static final String NONE = "NONE";
+
+  private static final Logger log = LoggerFactory.getLogger(SqlMetrics.class);
+
+  private final MeterRegistry meterRegistry;
+  private final long slowQueryThresholdNanos;
+  private final ThreadLocal<String> useCase = new ThreadLocal<>();
+  private final ThreadLocal<RequestTally> request = new ThreadLocal<>();
+
+  public SqlMetrics(MeterRegistry meterRegistry, Duration slowQueryThreshold) {
+    this.meterRegistry = meterRegistry;
+    this.slowQueryThresholdNanos = slowQueryThreshold.isZero() ? Long.MAX_VALUE : slowQueryThreshold.toNanos();
+  }
+
+  /**
+   * Makes {@code name} the use case of the following statements, unless another one is already
+   * running on this thread. Returns whether it did, in which case {@link #exitUseCase()} must
+   * follow.
+   */
+  public boolean enterUseCase(String name) {
+    if (useCase.get() != null) {
+      return false;
+    }
+    useCase.set(name);
+    return true;
+  }
+
+  public void exitUseCase() {
+    useCase.remove();
+  }
+
+  /** Starts tallying the statements of a request, {@code description} only shows in slow query logs. */
+  public void beginRequest(String description) {
+    request.set(new RequestTally(description));
+  }
+
+  public void endRequest(String method, String uri) {
+    RequestTally tally = request.get();
+    if (tally == null) {
+      return;
+    }
+    request.remove();
+
+    tally.byUseCase.forEach((name, useCaseTally) -> {
+      Timer timer = timer(method, uri, name);
+      for (int i = 0; i < useCaseTally.statements; i++) {
+        timer.record(useCaseTally.nanos[i], TimeUnit.NANOSECONDS);
+      }
+      if (useCaseTally.rows > 0) {
+        rows(method, uri, name).increment(useCaseTally.rows);
+      }
+    });
+    DistributionSummary.builder("sql.request.statements")
+        .description("SQL statements issued per HTTP request")
+        .tag("method", method)
+        .tag("uri", uri)
+        .register(meterRegistry)
+        .record(tally.statements());
+  }
+
+  /**
+   * Records one executed statement, or batch. {@code statement} describes its SQL and bind
+   * parameters and is only evaluated when the statement is logged as slow.
+   */
+  public void statementExecuted(long nanos, long rowsWritten, Supplier<String> statement) {
+    String currentUseCase = currentUseCase();
+    RequestTally tally = request.get();
+    if (tally != null) {
+      tally.useCase(currentUseCase).statement(nanos, rowsWritten);
+    } else {
+      timer(NONE, NONE, currentUseCase).record(nanos, TimeUnit.NANOSECONDS);
+      if (rowsWritten > 0) {
+        rows(NONE, NONE, currentUseCase).increment(rowsWritten);
+      }
+    }
+
+    if (nanos >= slowQueryThresholdNanos) {
+      log.warn("Slow query took {} ms in {} ({}): {}",
+          TimeUnit.NANOSECONDS.toMillis(nanos), tally != null ? tally.description : NONE, currentUseCase,
+          statement.get());
+    }
+  }
+
+  public void rowRead() {
+    String currentUseCase = currentUseCase();
+    RequestTally tally = request.get();
+    if (tally != null) {
+      tally.useCase(currentUseCase).rows++;
+    } else {
+      rows(NONE, NONE, currentUseCase).increment();
+    }
+  }
+
+  private String currentUseCase() {
+    String name = useCase.get();
+    return name != null ? name : NONE;
+  }
+
+  private Timer timer(String method, String uri, String useCaseName) {
+    return Timer.builder("sql.statements")
+        .description("SQL statements by HTTP route and use case")
+        .tag("method", method)
+        .tag("uri", uri)
+        .tag("use.case", useCaseName)
+        .register(meterRegistry);
+  }
+
+  private Counter rows(String method, String uri, String useCaseName) {
+    return Counter.builder("sql.rows")
+        .description("Rows read or written by SQL statements by HTTP route and use case")
+        .tag("method", method)
+        .tag("uri", uri)
+        .tag("use.case", useCaseName)
+        .register(meterRegistry);
+  }
+
+  private static final class RequestTally {
+
+    private final String description;
+    private final Map<String, UseCaseTally> byUseCase = new LinkedHashMap<>();
+
+    RequestTally(String description) {
+      this.description = description;
+    }
+
+    UseCaseTally useCase(String name) {
+      return byUseCase.computeIfAbsent(name, key -> new UseCaseTally());
+    }
+
+    int statements() {
+      return byUseCase.values().stream().mapToInt(useCaseTally -> useCaseTally.statements).sum();
+    }
+  }
+
+  private static final class UseCaseTally {
+
+    private long[] nanos = new long[8];
+    private int statements;
+    private long rows;
+
+    void statement(long elapsed, long rowsWritten) {
+      if (statements == nanos.length) {
+        nanos = Arrays.copyOf(nanos, statements * 2);
+      }
+      nanos[statements++] = elapsed;
+      rows += rowsWritten;
+    }
+  }
+}
@@ -0,0 +1,62 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+@Configuration
+@ConditionalOnProperty(prefix = "app", name = "sql-metrics-enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfig {
+
+  @Bean
+  public SqlMetrics sqlMetrics(final MeterRegistry meterRegistry, final AppProperties appProperties) {
+    return new SqlMetrics(meterRegistry, appProperties.getSlowQueryThreshold());
+  }
+
+  @Bean
+  public UseCaseSqlAspect useCaseSqlAspect(final SqlMetrics sqlMetrics) {
+    return new UseCaseSqlAspect(sqlMetrics);
+  }
+
+  // Ahead of the security filters, so loading the authenticated user counts for the request too
+  @Bean
+  public FilterRegistrationBean<SqlMetricsFilter> sqlMetricsFilter(final SqlMetrics sqlMetrics) {
+    final FilterRegistrationBean<SqlMetricsFilter> registration = new FilterRegistrationBean<>(new SqlMetricsFilter(sqlMetrics));
+    registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+    return registration;
+  }
+
+  // Read from the environment, a static post processor runs before the properties beans can be bound
+  @Bean
+  public static BeanPostProcessor sqlMetricsDataSourceProxy(final ObjectProvider<SqlMetrics> sqlMetrics,
+      final Environment environment) {
+    final boolean countRowsRead = environment.getProperty("app.sql-row-metrics-enabled", Boolean.class, false);
+    return new BeanPostProcessor() {
+      @Override
+      public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+          return bean;
+        }
+        final SqlMetricsListener listener = new SqlMetricsListener(sqlMetrics::getObject);
+        final ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(beanName, dataSource).listener(listener);
+        if (countRowsRead) {
+          // Every JDBC call then goes through the method listener and every result set is proxied
+          builder.methodListener(listener).proxyResultSet();
+        }
+        return builder.build();
+      }
+    };
+  }
+}
@@ -0,0 +1,38 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Tallies the SQL statements of each request, including the ones of the security filters, and
+ * publishes them under the route pattern it was dispatched to, e.g. {@code /api/posts/{id}}.
+ */
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+  static final String UNKNOWN = "UNKNOWN";
+
+  private final SqlMetrics sqlMetrics;
+
+  public SqlMetricsFilter(SqlMetrics sqlMetrics) {
+    this.sqlMetrics = sqlMetrics;
+  }
+
+  @Override
+  protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+      throws ServletException, IOException {
+    sqlMetrics.beginRequest(request.getMethod() + " " + request.getRequestURI());
+    try {
+      chain.doFilter(request, response);
+    } finally {
+      Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+      sqlMetrics.endRequest(request.getMethod(), pattern != null ? pattern.toString() : UNKNOWN);
+    }
+  }
+}
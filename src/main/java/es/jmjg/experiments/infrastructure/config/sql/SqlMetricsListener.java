@@ -0,0 +1,116 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import java.sql.ResultSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+/**
+ * Feeds {@link SqlMetrics} from the JDBC proxy: every executed statement with its elapsed time
+ * and update count, and every row read through a result set when row metrics are enabled.
+ */
+public class SqlMetricsListener implements QueryExecutionListener, MethodExecutionListener {
+
+  private static final String STARTED_AT = SqlMetricsListener.class.getName() + ".startedAt";
+
+  private final Supplier<SqlMetrics> sqlMetricsSupplier;
+  private volatile SqlMetrics sqlMetrics;
+
+  // Resolved on first use because the data source is proxied before the meter registry exists
+  public SqlMetricsListener(Supplier<SqlMetrics> sqlMetricsSupplier) {
+    this.sqlMetricsSupplier = sqlMetricsSupplier;
+  }
+
+  @Override
+  public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    execInfo.addCustomValue(STARTED_AT, System.nanoTime());
+  }
+
+  @Override
+  public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    Long startedAt = execInfo.getCustomValue(STARTED_AT, Long.class);
+    long elapsed = startedAt != null ? System.nanoTime() - startedAt : execInfo.getElapsedTime() * 1_000_000;
+    sqlMetrics().statementExecuted(elapsed, rowsWritten(execInfo.getResult()), () -> describe(queryInfoList));
+  }
+
+  @Override
+  public void beforeMethod(MethodExecutionContext executionContext) {
+  }
+
+  @Override
+  public void afterMethod(MethodExecutionContext executionContext) {
+    if (executionContext.getTarget() instanceof ResultSet
+        && "next".equals(executionContext.getMethod().getName())
+        && Boolean.TRUE.equals(executionContext.getResult())) {
+      sqlMetrics().rowRead();
+    }
+  }
+
+  private SqlMetrics sqlMetrics() {
+    SqlMetrics resolved = sqlMetrics;
+    if (resolved == null) {
+      resolved = sqlMetricsSupplier.get();
+      sqlMetrics = resolved;
+    }
+    return resolved;
+  }
+
+  static long rowsWritten(Object result) {
+    if (result instanceof Number count) {
+      return Math.max(count.longValue(), 0);
+    }
+    long rows = 0;
+    if (result instanceof int[] counts) {
+      for (int count : counts) {
+        rows += Math.max(count, 0);
+      }
+    } else if (result instanceof long[] counts) {
+      for (long count : counts) {
+        rows += Math.max(count, 0);
+      }
+    }
+    return rows;
+  }
+
+  static String describe(List<QueryInfo> queryInfoList) {
+    String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    return sql + " with parameters " + parameterShapes(queryInfoList);
+  }
+
+  /**
+   * Types of the bind parameters, never their values, e.g. {@code [UUID, String, null]}. Batches
+   * show the first entry and their size, e.g. {@code 50 x [Integer, Integer]}.
+   */
+  static String parameterShapes(List<QueryInfo> queryInfoList) {
+    return queryInfoList.stream()
+        .map(queryInfo -> {
+          List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+          if (parametersList.isEmpty()) {
+            return "[]";
+          }
+          String shape = parametersList.getFirst().stream()
+              .sorted(Comparator.comparing(operation -> String.valueOf(operation.getArgs()[0]),
+                  Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder())))
+              .map(SqlMetricsListener::parameterShape)
+              .collect(Collectors.joining(", ", "[", "]"));
+          return parametersList.size() > 1 ? parametersList.size() + " x " + shape : shape;
+        })
+        .collect(Collectors.joining("; "));
+  }
+
+  private static String parameterShape(ParameterSetOperation operation) {
+    Object[] args = operation.getArgs();
+    if (ParameterSetOperation.isSetNullParameterOperation(operation) || args.length < 2 || args[1] == null) {
+      return "null";
+    }
+    return args[1].getClass().getSimpleName();
+  }
+}
@@ -0,0 +1,31 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+
+/**
+ * Names the use case, {@code SavePost}, {@code FindAllPosts} and so on, the SQL statements run
+ * for. A use case calling other services keeps the statements to itself.
+ */
+@Aspect
+public class UseCaseSqlAspect {
+
+  private final SqlMetrics sqlMetrics;
+
+  public UseCaseSqlAspect(SqlMetrics sqlMetrics) {
+    this.sqlMetrics = sqlMetrics;
+  }
+
+  @Around("within(es.jmjg.experiments.application..*) && @within(org.springframework.stereotype.Service)")
+  public Object attribute(ProceedingJoinPoint joinPoint) throws Throwable {
+    if (!sqlMetrics.enterUseCase(joinPoint.getSignature().getDeclaringType().getSimpleName())) {
+      return joinPoint.proceed();
+    }
+    try {
+      return joinPoint.proceed();
+    } finally {
+      sqlMetrics.exitUseCase();
+    }
+  }
+}
@@ -0,0 +1,37 @@
+package es.jmjg.experiments.infrastructure.controller;
+
+import java.util.Optional;
+
+import org.springframework.web.context.request.WebRequest;
+
+/**
+ * Conditional GET of the single resource endpoints on the version of the resource row, its
+ * version plus its revision (see V10 and V11).
+ * The version is read on its own, so a request whose If-None-Match still matches is answered with a
+ * 304 before anything else is loaded or rendered.
+ *
+ * <p>The ETag is weak: responses with the same version are equivalent, not necessarily identical
+ * byte for byte, as the previews they render depend on the configuration.
+ */
+public final class ConditionalGet {
+
+  private ConditionalGet() {
+  }
+
+  /**
+   * Whether the client already has the current representation. The ETag of {@code version} is set
+   * on the response either way, and the response status to 304 when this returns true, in which
+   * case the handler returns null. An empty {@code version} is never answered with a 304, the
+   * handler goes on and reports the missing resource as usual.
+   *
+   * <p>The version has to be read before the resource, so that the ETag is never newer than the
+   * body it is sent with.
+   */
+  public static boolean isNotModified(WebRequest request, Optional<Long> version) {
+    return version.isPresent() && request.checkNotModified(etag(version.get()));
+  }
+
+  static String etag(long version) {
+    return "W/\"" + version + "\"";
+  }
+}
@@ -0,0 +1,86 @@
+package es.jmjg.experiments.infrastructure.controller;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+
+/**
+ * Opaque cursor used by the keyset paginated endpoints. Clients get it back as {@code nextCursor}
+ * and must pass it unchanged; an empty cursor starts from the beginning.
+ */
+public final class KeysetCursor {
+
+  private static final String PREFIX = "id:";
+  private static final String CREATED_AT_PREFIX = "at:";
+  private static final char SEPARATOR = ',';
+
+  /** Last row of a page ordered by creation time and id. */
+  public record Position(LocalDateTime createdAt, Integer id) {
+  }
+
+  private KeysetCursor() {
+  }
+
+  public static String encode(Integer lastId) {
+    return toCursor(PREFIX + lastId);
+  }
+
+  public static String encode(LocalDateTime lastCreatedAt, Integer lastId) {
+    // ISO-8601 keeps every fraction digit, so the next page resumes exactly after the last row
+    return toCursor(CREATED_AT_PREFIX + lastCreatedAt + SEPARATOR + lastId);
+  }
+
+  public static Integer decode(String cursor) {
+    String value = fromCursor(cursor);
+    if (value == null) {
+      return null;
+    }
+
+    try {
+      if (!value.startsWith(PREFIX)) {
+        throw new InvalidRequest("Invalid cursor: " + cursor);
+      }
+      return Integer.valueOf(value.substring(PREFIX.length()));
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequest("Invalid cursor: " + cursor);
+    }
+  }
+
+  public static Position decodePosition(String cursor) {
+    String value = fromCursor(cursor);
+    if (value == null) {
+      return null;
+    }
+
+    int separator = value.lastIndexOf(SEPARATOR);
+    if (!value.startsWith(CREATED_AT_PREFIX) || separator < 0) {
+      throw new InvalidRequest("Invalid cursor: " + cursor);
+    }
+    try {
+      return new Position(
+        LocalDateTime.parse(value.substring(CREATED_AT_PREFIX.length(), separator)),
+        Integer.valueOf(value.substring(separator + 1)));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new InvalidRequest("Invalid cursor: " + cursor);
+    }
+  }
+
+  private static String toCursor(String value) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String fromCursor(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return null;
+    }
+
+    try {
+      return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw new InvalidRequest("Invalid cursor: " + cursor);
+    }
+  }
+}
@@ -0,0 +1,97 @@
+package es.jmjg.experiments.infrastructure.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Response of the export endpoints: NDJSON, one JSON document per line, written as the export
+ * produces the lines. Nothing is buffered beyond the generator and response buffers, so the heap
+ * does not grow with the size of the export. The body is gzip compressed when the client accepts
+ * it.
+ *
+ * <p>The body is written after the handler returns, on an async thread. Whatever the export reads
+ * has to be read inside its own transaction there.
+ */
+public final class NdjsonExport {
+
+  static final String GZIP = "gzip";
+  private static final int GZIP_BUFFER_SIZE = 8192;
+
+  private NdjsonExport() {
+  }
+
+  /**
+   * @param export writes the lines, one call of the consumer it is given per line
+   */
+  public static ResponseEntity<StreamingResponseBody> response(ObjectMapper objectMapper, String acceptEncoding,
+      Consumer<Consumer<Object>> export) {
+    boolean gzip = acceptsGzip(acceptEncoding);
+    // Flushing after every line would send one chunk per line
+    ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    StreamingResponseBody body = output -> {
+      GZIPOutputStream compressed = gzip ? new GZIPOutputStream(output, GZIP_BUFFER_SIZE) : null;
+      OutputStream target = compressed != null ? compressed : output;
+      try (JsonGenerator generator = objectMapper.getFactory().createGenerator(target)) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        // Lines end with their own newline instead of the space Jackson puts between root values
+        generator.setRootValueSeparator(null);
+        export.accept(line -> writeLine(writer, generator, line));
+      }
+      if (compressed != null) {
+        compressed.finish();
+      }
+    };
+
+    ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+        .contentType(MediaType.APPLICATION_NDJSON)
+        .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    if (gzip) {
+      response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+    }
+    return response.body(body);
+  }
+
+  /** Whether an Accept-Encoding header lists gzip without refusing it with a zero quality. */
+  static boolean acceptsGzip(String acceptEncoding) {
+    if (acceptEncoding == null) {
+      return false;
+    }
+
+    for (String coding : acceptEncoding.split(",")) {
+      String[] parameters = coding.split(";");
+      if (parameters[0].trim().equalsIgnoreCase(GZIP)) {
+        for (int i = 1; i < parameters.length; i++) {
+          if (parameters[i].replace(" ", "").matches("q=0(\\.0{0,3})?")) {
+            return false;
+          }
+        }
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static void writeLine(ObjectWriter writer, JsonGenerator generator, Object line) {
+    try {
+      writer.writeValue(generator, line);
+      generator.writeRaw('\n');
+    } catch (IOException e) {
+      // The client went away, the export stops and its transaction is rolled back
+      throw new UncheckedIOException(e);
+    }
+  }
+}
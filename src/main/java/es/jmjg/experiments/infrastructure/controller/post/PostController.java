@@ -3,23 +3,41 @@ package es.jmjg.experiments.infrastructure.controller.post;
 import es.jmjg.experiments.application.post.dto.DeletePostCommentDto;
 import es.jmjg.experiments.application.post.dto.SavePostCommentDto;
 import es.jmjg.experiments.domain.post.entity.PostComment;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import es.jmjg.experiments.application.post.*;
 import es.jmjg.experiments.infrastructure.controller.post.dto.*;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import es.jmjg.experiments.application.post.dto.DeletePostDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsDto;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
 import es.jmjg.experiments.infrastructure.config.security.JwtUserDetails;
+import es.jmjg.experiments.infrastructure.controller.ConditionalGet;
+import es.jmjg.experiments.infrastructure.controller.NdjsonExport;
 import es.jmjg.experiments.infrastructure.controller.user.mapper.UserMapper;
 import es.jmjg.experiments.infrastructure.controller.post.mapper.PostMapper;
 import io.swagger.v3.oas.annotations.Operation;
@@ -45,11 +63,22 @@ public class PostController {
   private final SavePost savePost;
   private final FindPostByUuid findPostByUuid;
   private final FindAllPosts findAllPosts;
+  private final FindAllPostsByCursor findAllPostsByCursor;
+  private final FindAllPostsWithoutCount findAllPostsWithoutCount;
   private final DeletePost deletePost;
   private final UpdatePostTags updatePostTags;
   private final SavePostComment savePostComment;
   private final FindPostCommentByUuid findPostCommentByUuid;
   private final DeletePostComment deletePostComment;
+  private final FindPostComments findPostComments;
+  private final ImportPosts importPosts;
+  private final ExportPosts exportPosts;
+  private final ExportPostComments exportPostComments;
+  private final ObjectMapper objectMapper;
+  private final PostResponseCache postResponseCache;
+  private final int commentPreviewSize;
+  private final int importBatchSize;
+  private final int importMaxReportedErrors;
 
   public PostController(
     PostMapper postMapper,
@@ -59,11 +88,20 @@ public class PostController {
     SavePost savePost,
     FindPostByUuid findPostByUuid,
     FindAllPosts findAllPosts,
+    FindAllPostsByCursor findAllPostsByCursor,
+    FindAllPostsWithoutCount findAllPostsWithoutCount,
     DeletePost deletePost,
     UpdatePostTags updatePostTags,
     SavePostComment savePostComment,
     FindPostCommentByUuid findPostCommentByUuid,
-    DeletePostComment deletePostComment) {
+    DeletePostComment deletePostComment,
+    FindPostComments findPostComments,
+    ImportPosts importPosts,
+    ExportPosts exportPosts,
+    ExportPostComments exportPostComments,
+    ObjectMapper objectMapper,
+    PostResponseCache postResponseCache,
+    AppProperties appProperties) {
     this.postMapper = postMapper;
     this.userMapper = userMapper;
     this.findPosts = findPosts;
@@ -71,47 +109,141 @@ public class PostController {
     this.savePost = savePost;
     this.findPostByUuid = findPostByUuid;
     this.findAllPosts = findAllPosts;
+    this.findAllPostsByCursor = findAllPostsByCursor;
+    this.findAllPostsWithoutCount = findAllPostsWithoutCount;
     this.deletePost = deletePost;
     this.updatePostTags = updatePostTags;
     this.savePostComment = savePostComment;
     this.findPostCommentByUuid = findPostCommentByUuid;
     this.deletePostComment = deletePostComment;
+    this.findPostComments = findPostComments;
+    this.importPosts = importPosts;
+    this.exportPosts = exportPosts;
+    this.exportPostComments = exportPostComments;
+    this.objectMapper = objectMapper;
+    this.postResponseCache = postResponseCache;
+    this.commentPreviewSize = appProperties.getPostCommentPreviewSize();
+    this.importBatchSize = appProperties.getPostImportBatchSize();
+    this.importMaxReportedErrors = appProperties.getPostImportMaxReportedErrors();
   }
 
   @GetMapping("")
-  @Transactional(readOnly = true)
-  @Operation(summary = "Get all posts", description = "Retrieves a paginated list of all posts")
+  @Operation(summary = "Get all posts", description = "Retrieves a paginated list of all posts. Passing a cursor switches to keyset pagination, which skips the page offset and the total count")
   @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved posts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid cursor"),
     @ApiResponse(responseCode = "500", description = "Internal server error")
   })
   PagedResponseDto<FindAllPostsResponseDto> findAll(
-    @Parameter(description = "Page number (0-based)") @RequestParam(defaultValue = "0") int page,
-    @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size) {
+    @Parameter(description = "Page number (0-based), ignored in cursor mode") @RequestParam(defaultValue = "0") int page,
+    @Parameter(description = "Page size") @RequestParam(defaultValue = "20") int size,
+    @Parameter(description = "Cursor returned as nextCursor by the previous page, empty for the first page") @RequestParam(required = false) String cursor,
+    @Parameter(description = "How the total is computed in offset mode: EXACT, APPROXIMATE or NONE") @RequestParam(defaultValue = "EXACT") CountMode count,
+    @Parameter(description = "How much of each post body to return: FULL, EXCERPT (its first characters) or NONE") @RequestParam(defaultValue = "FULL") PostBodyMode body) {
+
+    if (cursor != null) {
+      var findAllPostsByCursorDto = postMapper.toFindAllPostsByCursorDto(cursor, size, body);
+      var postsSlice = findAllPostsByCursor.findAll(findAllPostsByCursorDto);
+      return postMapper.toCursorPagedResponseDto(postsSlice, findAllPostsByCursorDto);
+    }
 
     Pageable pageable = PageRequest.of(page, size);
-    var postsPage = findAllPosts.findAll(postMapper.toFindAllPostsDto(pageable));
+    if (count == CountMode.NONE) {
+      var postsSlice = findAllPostsWithoutCount.findAll(postMapper.toFindAllPostsDto(pageable, count, body));
+      return postMapper.toSlicedResponseDto(postsSlice);
+    }
+
+    var postsPage = findAllPosts.findAll(postMapper.toFindAllPostsDto(pageable, count, body));
+    return postMapper.toPagedResponseDto(postsPage, count);
+  }
+
+  // The body is written on an async thread once this returns, the export reads in a transaction of its own
+  @GetMapping("/export")
+  @Operation(summary = "Export posts", description = "Streams the posts as NDJSON, one post per line in id order, in the format of the import plus the creation time. Compressed with gzip when the request accepts it")
+  @ApiResponses(value = {
+    @ApiResponse(responseCode = "200", description = "Posts streamed", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ExportPostResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid since parameter"),
+    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  ResponseEntity<StreamingResponseBody> exportPosts(
+    @Parameter(description = "Only posts created at or after this ISO-8601 date and time, all of them when omitted") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
 
-    return postMapper.toPagedResponseDto(postsPage);
+    return NdjsonExport.response(objectMapper, acceptEncoding,
+      lines -> exportPosts.export(since, post -> lines.accept(postMapper.toExportPostResponseDto(post))));
   }
 
+  @GetMapping("/comments/export")
+  @Operation(summary = "Export post comments", description = "Streams the comments of every post as NDJSON, one comment per line in id order. Compressed with gzip when the request accepts it")
+  @ApiResponses(value = {
+    @ApiResponse(responseCode = "200", description = "Comments streamed", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ExportPostCommentResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid since parameter"),
+    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  ResponseEntity<StreamingResponseBody> exportComments(
+    @Parameter(description = "Only comments created at or after this ISO-8601 date and time, all of them when omitted") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+    return NdjsonExport.response(objectMapper, acceptEncoding,
+      lines -> exportPostComments.export(since, comment -> lines.accept(postMapper.toExportPostCommentResponseDto(comment))));
+  }
+
+  // Not transactional, a response served from the cache must not take a connection
   @GetMapping("/{id}")
-  @Transactional(readOnly = true)
-  @Operation(summary = "Get post by id", description = "Retrieves a specific post by its id")
+  @Operation(summary = "Get post by id", description = "Retrieves a specific post by its id with a preview of its first comments, the rest are paged by /api/posts/{id}/comments")
   @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved post", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindPostByUuidResponseDto.class))),
+    @ApiResponse(responseCode = "304", description = "Post not modified since the ETag given in If-None-Match"),
     @ApiResponse(responseCode = "404", description = "Post not found"),
     @ApiResponse(responseCode = "500", description = "Internal server error")
   })
-  FindPostByUuidResponseDto findByUuid(
-    @Parameter(description = "UUID of the post to retrieve") @PathVariable UUID id) {
+  ResponseEntity<byte[]> findByUuid(
+    @Parameter(description = "UUID of the post to retrieve") @PathVariable UUID id,
+    WebRequest request) throws JsonProcessingException {
+
+    PostResponseCache.Entry cached = postResponseCache.get(id);
+    if (cached != null) {
+      return ConditionalGet.isNotModified(request, Optional.of(cached.version())) ? null : json(cached.body());
+    }
+
+    long ticket = postResponseCache.ticket(id);
+    Optional<Long> version = findPostByUuid.findVersion(id);
+    if (ConditionalGet.isNotModified(request, version)) {
+      return null;
+    }
 
     Post post = findPostByUuid.findByUuid(id);
-    return postMapper.toFindByUuidResponseDto(post);
+    var commentPreview = findPostComments.findPreview(post, commentPreviewSize);
+    byte[] body = objectMapper.writeValueAsBytes(postMapper.toFindByUuidResponseDto(post, commentPreview));
+    version.ifPresent(rendered -> postResponseCache.put(id, post.getUser().getUuid(), ticket, rendered, body));
+    return json(body);
+  }
+
+  private static ResponseEntity<byte[]> json(byte[] body) {
+    return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+  }
+
+  @GetMapping("/{id}/comments")
+  @Operation(summary = "Get comments of a post", description = "Retrieves the comments of a post, oldest first, with keyset pagination on their creation time")
+  @ApiResponses(value = {
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved post comments", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+    @ApiResponse(responseCode = "404", description = "Post not found"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  PagedResponseDto<FindPostCommentsResponseDto> findComments(
+    @Parameter(description = "UUID of the post") @PathVariable UUID id,
+    @Parameter(description = "Page size, at least 1, larger sizes are cut to 100") @RequestParam(defaultValue = "20") int size,
+    @Parameter(description = "Cursor returned as nextCursor by the previous page, or as post-comments-next-cursor by the post, empty for the first page") @RequestParam(required = false) String cursor) {
+
+    var findPostCommentsDto = postMapper.toFindPostCommentsDto(id, cursor, size);
+    var comments = findPostComments.findByPost(findPostCommentsDto);
+    return postMapper.toFindPostCommentsResponseDto(comments, findPostCommentsDto);
   }
 
   @GetMapping("/search")
-  @Transactional(readOnly = true)
   @Operation(summary = "Search posts by content", description = "Finds posts containing specified words")
   @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved matching posts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = SearchPostsResponseDto.class))),
@@ -119,9 +251,10 @@ public class PostController {
   })
   List<SearchPostsResponseDto> searchPosts(
     @Parameter(description = "Search terms to find in post content") @RequestParam String q,
-    @Parameter(description = "Maximum number of results to return") @RequestParam(defaultValue = "20") int limit) {
+    @Parameter(description = "Maximum number of results to return") @RequestParam(defaultValue = "20") int limit,
+    @Parameter(description = "How much of each post body to return: FULL, EXCERPT (its first characters) or NONE") @RequestParam(defaultValue = "FULL") PostBodyMode body) {
 
-    List<Post> posts = findPosts.find(q, limit);
+    List<PostSummary> posts = findPosts.find(q, limit, body);
     return postMapper.toSearchPostsResponseDto(posts);
   }
 
@@ -151,6 +284,25 @@ public class PostController {
       .body(responseDto);
   }
 
+  // Not @Transactional: each batch of the import commits on its own
+  @PostMapping(value = "/import", consumes = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+  @Operation(summary = "Import posts", description = "Creates posts with their tags and comments from an NDJSON body, one post per line, or a JSON array of posts. The body is read as it arrives and stored in batches; rejected records are reported without stopping the import")
+  @ApiResponses(value = {
+    @ApiResponse(responseCode = "200", description = "Import finished, rejected records are listed in the report", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ImportPostsResponseDto.class))),
+    @ApiResponse(responseCode = "401", description = "Unauthorized - Authentication required"),
+    @ApiResponse(responseCode = "500", description = "Internal server error")
+  })
+  ImportPostsResponseDto importPosts(
+    @Parameter(description = "Posts to import", required = true) InputStream body,
+    @AuthenticationPrincipal JwtUserDetails userDetails) throws IOException {
+
+    try (PostImportReader reader = new PostImportReader(objectMapper, postMapper, body)) {
+      var importPostsDto = new ImportPostsDto(reader, userMapper.toAuthenticatedUserDto(userDetails), importBatchSize,
+        importMaxReportedErrors);
+      return postMapper.toImportPostsResponseDto(importPosts.importPosts(importPostsDto));
+    }
+  }
+
   @PutMapping("/{id}")
   @Transactional
   @Operation(summary = "Update a post", description = "Updates an existing post with the provided data")
@@ -0,0 +1,114 @@
+package es.jmjg.experiments.infrastructure.controller.post;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import es.jmjg.experiments.application.post.dto.ImportPostDto;
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+import es.jmjg.experiments.infrastructure.controller.post.dto.ImportPostRequestDto;
+import es.jmjg.experiments.infrastructure.controller.post.mapper.PostMapper;
+
+/**
+ * Reads the posts of an import body one at a time with the streaming parser, so only the record
+ * being read is ever held in memory. The body is either a JSON array of posts or NDJSON, one post
+ * per line.
+ *
+ * <p>A record that is valid JSON but not a post fails on its own and reading goes on with the
+ * next one. Malformed JSON fails once and ends the input, nothing after it can be trusted.
+ */
+class PostImportReader implements Iterator<ImportPostDto>, AutoCloseable {
+
+  private final ObjectMapper objectMapper;
+  private final PostMapper postMapper;
+  private final JsonParser parser;
+  private boolean started;
+  private boolean inArray;
+  private boolean finished;
+  private boolean positioned;
+  private JsonProcessingException malformed;
+
+  PostImportReader(ObjectMapper objectMapper, PostMapper postMapper, InputStream input) throws IOException {
+    this.objectMapper = objectMapper;
+    this.postMapper = postMapper;
+    this.parser = objectMapper.createParser(input);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (finished) {
+      return false;
+    }
+    if (positioned || malformed != null) {
+      return true;
+    }
+
+    try {
+      JsonToken token = parser.nextToken();
+      if (!started) {
+        started = true;
+        if (token == JsonToken.START_ARRAY) {
+          inArray = true;
+          token = parser.nextToken();
+        }
+      }
+      if (token == null || (inArray && token == JsonToken.END_ARRAY)) {
+        finished = true;
+        return false;
+      }
+      positioned = true;
+    } catch (JsonProcessingException e) {
+      malformed = e;
+    } catch (IOException e) {
+      throw new InvalidRequest("Could not read the import: " + e.getMessage());
+    }
+    return true;
+  }
+
+  @Override
+  public ImportPostDto next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    if (malformed != null) {
+      throw malformedJson(malformed);
+    }
+    positioned = false;
+
+    JsonNode node;
+    try {
+      node = parser.readValueAsTree();
+    } catch (JsonProcessingException e) {
+      throw malformedJson(e);
+    } catch (IOException e) {
+      finished = true;
+      throw new InvalidRequest("Could not read the import: " + e.getMessage());
+    }
+
+    if (!node.isObject()) {
+      throw new InvalidRequest("Record must be a JSON object");
+    }
+    try {
+      return postMapper.toImportPostDto(objectMapper.treeToValue(node, ImportPostRequestDto.class));
+    } catch (JsonProcessingException e) {
+      throw new InvalidRequest("Invalid post: " + e.getOriginalMessage());
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    parser.close();
+  }
+
+  private InvalidRequest malformedJson(JsonProcessingException e) {
+    finished = true;
+    return new InvalidRequest("Malformed JSON at line " + e.getLocation().getLineNr() + ": " + e.getOriginalMessage());
+  }
+}
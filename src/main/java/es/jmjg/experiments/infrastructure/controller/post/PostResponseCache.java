@@ -0,0 +1,195 @@
+package es.jmjg.experiments.infrastructure.controller.post;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import es.jmjg.experiments.domain.post.event.PostChanged;
+import es.jmjg.experiments.domain.tag.event.TagRenamed;
+import es.jmjg.experiments.domain.user.event.UserChanged;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Rendered responses of GET /api/posts/{id}: the JSON of a post with the version it was rendered
+ * at, so a hot post is answered without a query or serialisation. At most
+ * {@code app.post-response-cache-max-size} bytes are kept, the least recently read posts are
+ * dropped first.
+ *
+ * <p>Reads take no lock: a hit is a map lookup and a flag set on the entry. Puts and invalidations
+ * are serialised and keep the entries in an access-ordered map. A put over the size drops from its
+ * head, where an entry read since it was last passed over gets a second chance at the tail instead.
+ *
+ * <p>Entries are dropped once the change that makes them stale commits: a post by its own
+ * {@link PostChanged}, the posts of a user by a {@link UserChanged}, every post by a
+ * {@link TagRenamed}, which is rare and does not tell which posts it touches. Like the tag cache it
+ * is process-local, other instances only learn about the changes they make themselves.
+ */
+@Component
+public class PostResponseCache {
+
+  private static final int INVALIDATION_STRIPES = 1024;
+
+  private final long maxBytes;
+  private final Map<UUID, Node> entries = new ConcurrentHashMap<>();
+  // The same entries, least recently read first. Guarded by the lock of this cache.
+  private final LinkedHashMap<UUID, Node> order = new LinkedHashMap<>(16, 0.75f, true);
+  // Written under the lock of this cache, read by the size gauge
+  private volatile long bytes;
+  // A response rendered across an invalidation of its post may be stale and is not stored. Posts
+  // are invalidated on the stripe of their uuid, so writes to other posts rarely refuse a put, and
+  // the invalidations of many posts at once move all stripes.
+  private final AtomicLongArray postInvalidations = new AtomicLongArray(INVALIDATION_STRIPES);
+  private final AtomicLong allInvalidations = new AtomicLong();
+  private final Counter hits;
+  private final Counter misses;
+
+  public PostResponseCache(AppProperties appProperties, MeterRegistry meterRegistry) {
+    this.maxBytes = appProperties.getPostResponseCacheMaxSize().toBytes();
+    this.hits = Counter.builder("post.response.cache.gets").tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder("post.response.cache.gets").tag("result", "miss").register(meterRegistry);
+    Gauge.builder("post.response.cache.bytes", this, PostResponseCache::size).register(meterRegistry);
+  }
+
+  /** The cached response of the post, null when there is none. */
+  public Entry get(UUID uuid) {
+    Node node = entries.get(uuid);
+    if (node == null) {
+      misses.increment();
+      return null;
+    }
+
+    if (!node.read) {
+      node.read = true;
+    }
+    hits.increment();
+    return node.entry;
+  }
+
+  /**
+   * Taken before reading anything the response of the post renders, and handed back to
+   * {@link #put}. Both counters only grow, so their sum stays the same until either moves.
+   */
+  public long ticket(UUID uuid) {
+    return allInvalidations.get() + postInvalidations.get(stripe(uuid));
+  }
+
+  /**
+   * Caches the response of a post by {@code author} unless the post was invalidated since
+   * {@code ticket} was taken, in which case the response may render a change whose invalidation has
+   * already run.
+   */
+  public synchronized void put(UUID uuid, UUID author, long ticket, long version, byte[] body) {
+    if (body.length > maxBytes || ticket(uuid) != ticket) {
+      return;
+    }
+
+    Node node = new Node(new Entry(version, body), author);
+    entries.put(uuid, node);
+    Node previous = order.put(uuid, node);
+    long size = bytes + body.length - (previous != null ? previous.size() : 0);
+
+    // Each entry is passed over at most once per put, a read racing the loop cannot keep it going
+    int chances = order.size();
+    Iterator<Map.Entry<UUID, Node>> leastRecentlyRead = order.entrySet().iterator();
+    while (size > maxBytes) {
+      Map.Entry<UUID, Node> eldest = leastRecentlyRead.next();
+      Node candidate = eldest.getValue();
+      if (candidate.read && chances-- > 0) {
+        candidate.read = false;
+        order.get(eldest.getKey());
+        leastRecentlyRead = order.entrySet().iterator();
+        continue;
+      }
+      leastRecentlyRead.remove();
+      entries.remove(eldest.getKey());
+      size -= candidate.size();
+    }
+    bytes = size;
+  }
+
+  public synchronized void evict(UUID uuid) {
+    postInvalidations.incrementAndGet(stripe(uuid));
+    entries.remove(uuid);
+    Node previous = order.remove(uuid);
+    if (previous != null) {
+      bytes -= previous.size();
+    }
+  }
+
+  /** Drops the posts written by the user. */
+  public synchronized void evictAuthor(UUID author) {
+    allInvalidations.incrementAndGet();
+    order.entrySet().removeIf(entry -> {
+      Node node = entry.getValue();
+      if (!node.author.equals(author)) {
+        return false;
+      }
+      entries.remove(entry.getKey());
+      bytes -= node.size();
+      return true;
+    });
+  }
+
+  public synchronized void clear() {
+    allInvalidations.incrementAndGet();
+    entries.clear();
+    order.clear();
+    bytes = 0;
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onPostChanged(PostChanged event) {
+    evict(event.uuid());
+  }
+
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onTagRenamed(TagRenamed event) {
+    clear();
+  }
+
+  // Posts render their author by uuid only, a deleted user takes their posts along. The posts of
+  // others they commented on are changed by DeleteUser.
+  @TransactionalEventListener(fallbackExecution = true)
+  public void onUserChanged(UserChanged event) {
+    evictAuthor(event.uuid());
+  }
+
+  private long size() {
+    return bytes;
+  }
+
+  private static int stripe(UUID uuid) {
+    return uuid.hashCode() & (INVALIDATION_STRIPES - 1);
+  }
+
+  /** Response body of a post and the version of the post it renders, the ETag of the response. */
+  public record Entry(long version, byte[] body) {
+  }
+
+  private static final class Node {
+
+    private final Entry entry;
+    private final UUID author;
+    // Read since the last put passed over it, only written by a read when still clear
+    private volatile boolean read;
+
+    private Node(Entry entry, UUID author) {
+      this.entry = entry;
+      this.author = author;
+    }
+
+    private long size() {
+      return entry.body().length;
+    }
+  }
+}
@@ -1,5 +1,6 @@
 package es.jmjg.experiments.infrastructure.controller.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
@@ -19,23 +20,29 @@ abstract public class AbstractPostResponseDto {
   @Schema(description = "Title of the post", example = "My First Post")
   private final String title;
 
-  @Schema(description = "Content body of the post", example = "This is the content of my first post.")
+  @Schema(description = "Content body of the post, cut short or omitted when the listing asked for it", example = "This is the content of my first post.")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private final String body;
 
   @Schema(description = "List of tags associated with the post")
   private final List<PostTagResponseDto> tags;
 
-  @Schema(description = "List of identifiers of comments associated with the post")
+  @Schema(description = "Identifiers of the first comments of the post, at most app.post-comment-preview-size; the rest are paged by /api/posts/{id}/comments")
   @JsonProperty("post-comments")
   private final List<PostCommentResponseDto> postComments;
 
+  @Schema(description = "Number of comments of the post, including the ones not listed", example = "12")
+  @JsonProperty("post-comments-count")
+  private final int postCommentsCount;
+
   public AbstractPostResponseDto(UUID id, UUID userId, String title, String body,
-      List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments) {
+      List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments, int postCommentsCount) {
     this.id = id;
     this.userId = userId;
     this.title = title;
     this.body = body;
     this.tags = tags != null ? tags : List.of();
     this.postComments = postComments != null ? postComments : List.of();
+    this.postCommentsCount = postCommentsCount;
   }
 }
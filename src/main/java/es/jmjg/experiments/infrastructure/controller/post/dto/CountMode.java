@@ -0,0 +1,13 @@
+package es.jmjg.experiments.infrastructure.controller.post.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "How the total of a paginated response was obtained")
+public enum CountMode {
+  @Schema(description = "Exact COUNT over the table")
+  EXACT,
+  @Schema(description = "Planner estimate, may lag behind recent writes")
+  APPROXIMATE,
+  @Schema(description = "Not computed, totalElements and totalPages are omitted")
+  NONE
+}
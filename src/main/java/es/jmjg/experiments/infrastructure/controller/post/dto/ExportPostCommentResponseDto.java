@@ -0,0 +1,28 @@
+package es.jmjg.experiments.infrastructure.controller.post.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "One line of the comment export")
+public class ExportPostCommentResponseDto {
+  @Schema(description = "Identifier for the comment", example = "123e4567-e89b-12d3-a456-426614174002")
+  private UUID id;
+
+  @Schema(description = "Identifier of the commented post", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID postId;
+
+  @Schema(description = "Identifier of the author", example = "123e4567-e89b-12d3-a456-426614174001")
+  private UUID userId;
+
+  @Schema(description = "Text of the comment", example = "My First Comment")
+  private String comment;
+
+  @Schema(description = "Creation date and time, usable as the since parameter of the next export", example = "2025-01-01T00:00:00.123456")
+  private LocalDateTime createdAt;
+}
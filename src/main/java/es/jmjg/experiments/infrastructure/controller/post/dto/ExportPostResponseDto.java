@@ -0,0 +1,32 @@
+package es.jmjg.experiments.infrastructure.controller.post.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "One line of the post export. Same fields as a post of the import, plus its creation time")
+public class ExportPostResponseDto {
+  @Schema(description = "Identifier for the post", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID id;
+
+  @Schema(description = "Identifier of the author", example = "123e4567-e89b-12d3-a456-426614174001")
+  private UUID userId;
+
+  @Schema(description = "Title of the post", example = "My First Post")
+  private String title;
+
+  @Schema(description = "Content body of the post", example = "This is the content of my first post.")
+  private String body;
+
+  @Schema(description = "Names of the tags of the post", example = "[\"java\", \"spring-boot\"]")
+  private List<String> tagNames;
+
+  @Schema(description = "Creation date and time, usable as the since parameter of the next export", example = "2025-01-01T00:00:00.123456")
+  private LocalDateTime createdAt;
+}
@@ -7,7 +7,7 @@ import java.util.UUID;
 @Schema(description = "Response DTO for post in paginated list")
 public class FindAllPostsResponseDto extends AbstractPostResponseDto {
   public FindAllPostsResponseDto(UUID id, UUID userId, String title, String body,
-    List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments) {
-    super(id, userId, title, body, tags, postComments);
+    List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments, int postCommentsCount) {
+    super(id, userId, title, body, tags, postComments, postCommentsCount);
   }
 }
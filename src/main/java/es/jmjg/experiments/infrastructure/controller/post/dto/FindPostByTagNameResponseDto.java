@@ -7,7 +7,7 @@ import java.util.UUID;
 @Schema(description = "Response DTO")
 public class FindPostByTagNameResponseDto extends AbstractPostResponseDto {
   public FindPostByTagNameResponseDto(UUID uuid, UUID userId, String title, String body,
-    List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments) {
-    super(uuid, userId, title, body, tags, postComments);
+    List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments, int postCommentsCount) {
+    super(uuid, userId, title, body, tags, postComments, postCommentsCount);
   }
 }
@@ -1,13 +1,23 @@
 package es.jmjg.experiments.infrastructure.controller.post.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import java.util.UUID;
+import lombok.Getter;
 
+@Getter
 @Schema(description = "Response DTO")
 public class FindPostByUuidResponseDto extends AbstractPostResponseDto {
+  @Schema(description = "Cursor of the comments following the ones listed, for /api/posts/{id}/comments; omitted when all of them are listed", example = "YXQ6MjAyNS0wMS0wMVQwMDowMCwxMg")
+  @JsonProperty("post-comments-next-cursor")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String postCommentsNextCursor;
+
   public FindPostByUuidResponseDto(UUID id, UUID userId, String title, String body,
-    List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments) {
-    super(id, userId, title, body, tags, postComments);
+    List<PostTagResponseDto> tags, List<PostCommentResponseDto> postComments, int postCommentsCount, String postCommentsNextCursor) {
+    super(id, userId, title, body, tags, postComments, postCommentsCount);
+    this.postCommentsNextCursor = postCommentsNextCursor;
   }
 }
@@ -0,0 +1,12 @@
+package es.jmjg.experiments.infrastructure.controller.post.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Schema(description = "Response DTO for a comment in the paged comments of a post")
+public class FindPostCommentsResponseDto extends AbstractPostCommentResponseDto {
+  public FindPostCommentsResponseDto(UUID id, UUID userId, UUID postId, String comment, LocalDateTime createdAt) {
+    super(id, userId, postId, comment, createdAt);
+  }
+}
@@ -0,0 +1,21 @@
+package es.jmjg.experiments.infrastructure.controller.post.dto;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Comment of an imported post")
+public class ImportPostCommentRequestDto {
+  @Schema(description = "Identifier for the comment", example = "123e4567-e89b-12d3-a456-426614174002")
+  private UUID id;
+
+  @Schema(description = "Identifier of the author, the importer when omitted", example = "123e4567-e89b-12d3-a456-426614174001")
+  private UUID userId;
+
+  @Schema(description = "Text of the comment", example = "My First Comment")
+  private String comment;
+}
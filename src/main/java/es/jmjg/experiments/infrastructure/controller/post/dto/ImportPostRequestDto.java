@@ -0,0 +1,31 @@
+package es.jmjg.experiments.infrastructure.controller.post.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "One post of a bulk import, given as one NDJSON line or one JSON array element")
+public class ImportPostRequestDto {
+  @Schema(description = "Identifier for the post", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID id;
+
+  @Schema(description = "Identifier of the author, the importer when omitted. Only admins may import posts of other users", example = "123e4567-e89b-12d3-a456-426614174001")
+  private UUID userId;
+
+  @Schema(description = "Title of the post", example = "My First Post")
+  private String title;
+
+  @Schema(description = "Content body of the post", example = "This is the content of my first post.")
+  private String body;
+
+  @Schema(description = "List of existing tag names to associate with the post", example = "[\"java\", \"spring-boot\"]")
+  private List<String> tagNames;
+
+  @Schema(description = "Comments of the post")
+  private List<ImportPostCommentRequestDto> comments;
+}
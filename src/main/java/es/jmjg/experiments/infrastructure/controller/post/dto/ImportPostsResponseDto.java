@@ -0,0 +1,36 @@
+package es.jmjg.experiments.infrastructure.controller.post.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Outcome of a bulk post import")
+public class ImportPostsResponseDto {
+  @Schema(description = "Number of posts stored", example = "998")
+  private long imported;
+
+  @Schema(description = "Number of records rejected", example = "2")
+  private long failed;
+
+  @Schema(description = "Rejected records, only the first ones when there are many")
+  private List<RecordErrorDto> errors;
+
+  @Getter
+  @AllArgsConstructor
+  @Schema(description = "Rejected record of a bulk post import")
+  public static class RecordErrorDto {
+    @Schema(description = "Position of the record in the input, starting at 1", example = "42")
+    private long record;
+
+    @Schema(description = "Identifier of the post, when it could be read", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID id;
+
+    @Schema(description = "Why the record was rejected", example = "Tag not found: spring-boot")
+    private String message;
+  }
+}
@@ -2,6 +2,8 @@ package es.jmjg.experiments.infrastructure.controller.post.dto;
 
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -13,21 +15,31 @@ public class PagedResponseDto<T> {
   @Schema(description = "List of items in the current page")
   private List<T> content;
 
-  @Schema(description = "Current page number (0-based)", example = "0")
-  private int pageNumber;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Schema(description = "Current page number (0-based), omitted in cursor mode", example = "0")
+  private Integer pageNumber;
 
   @Schema(description = "Number of items per page", example = "20")
   private int pageSize;
 
-  @Schema(description = "Total number of items across all pages", example = "100")
-  private long totalElements;
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Schema(description = "Total number of items across all pages, omitted in cursor mode", example = "100")
+  private Long totalElements;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Schema(description = "Total number of pages, omitted in cursor mode", example = "5")
+  private Integer totalPages;
 
-  @Schema(description = "Total number of pages", example = "5")
-  private int totalPages;
+  @Schema(description = "Whether totalElements and totalPages are exact, approximate or omitted", example = "EXACT")
+  private CountMode countMode;
 
   @Schema(description = "Whether there is a next page", example = "true")
   private boolean hasNext;
 
   @Schema(description = "Whether there is a previous page", example = "false")
   private boolean hasPrevious;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Schema(description = "Opaque cursor of the next page, only present in cursor mode when there is a next page", example = "aWQ6MjA")
+  private String nextCursor;
 }
@@ -3,6 +3,8 @@ package es.jmjg.experiments.infrastructure.controller.post.dto;
 import java.util.List;
 import java.util.UUID;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -19,7 +21,8 @@ public class SearchPostsResponseDto {
   @Schema(description = "Title of the post", example = "My First Post")
   private final String title;
 
-  @Schema(description = "Content body of the post", example = "This is the content of my first post.")
+  @Schema(description = "Content body of the post, cut short or omitted when the listing asked for it", example = "This is the content of my first post.")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private final String body;
 
   @Schema(description = "List of tags associated with the post")
@@ -1,8 +1,19 @@
 package es.jmjg.experiments.infrastructure.controller.post.mapper;
 
+import es.jmjg.experiments.application.post.dto.FindAllPostsByCursorDto;
 import es.jmjg.experiments.application.post.dto.FindAllPostsDto;
+import es.jmjg.experiments.application.post.dto.FindPostCommentsDto;
+import es.jmjg.experiments.application.post.dto.ImportPostCommentDto;
+import es.jmjg.experiments.application.post.dto.ImportPostDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsReport;
+import es.jmjg.experiments.application.tag.dto.FindPostsByTagDto;
 import es.jmjg.experiments.domain.post.entity.PostComment;
 import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostCommentByUuidResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.ExportPostCommentResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.ExportPostResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostCommentsResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.ImportPostRequestDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.ImportPostsResponseDto;
 import es.jmjg.experiments.infrastructure.controller.post.dto.PostCommentResponseDto;
 import es.jmjg.experiments.infrastructure.controller.post.dto.SavePostCommentResponseDto;
 import es.jmjg.experiments.infrastructure.controller.post.dto.TagDto;
@@ -15,14 +26,23 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import es.jmjg.experiments.application.post.dto.SavePostDto;
 import es.jmjg.experiments.application.post.dto.UpdatePostDto;
 import es.jmjg.experiments.application.post.dto.UpdatePostTagsDto;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostCommentExport;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import es.jmjg.experiments.domain.post.projection.PostExport;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagSummary;
 import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
+import es.jmjg.experiments.infrastructure.controller.post.dto.CountMode;
 import es.jmjg.experiments.infrastructure.controller.post.dto.FindAllPostsResponseDto;
 import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByTagNameResponseDto;
 import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByTagResponseDto;
@@ -41,8 +61,8 @@ import es.jmjg.experiments.infrastructure.controller.post.dto.UpdatePostTagsResp
 @Slf4j
 public class PostMapper {
 
-  // Generic method for creating response DTOs from Post
-  private <T> T createResponseDto(Post post, Function<Post, T> dtoCreator) {
+  // Generic method for creating response DTOs from Post or PostSummary
+  private <S, T> T createResponseDto(S post, Function<S, T> dtoCreator) {
     if (post == null) {
       return null;
     }
@@ -50,7 +70,7 @@ public class PostMapper {
   }
 
   // Generic method for converting lists
-  private <T> List<T> convertList(List<Post> posts, Function<Post, T> converter) {
+  private <S, T> List<T> convertList(List<S> posts, Function<S, T> converter) {
     if (posts == null) {
       return List.of();
     }
@@ -60,9 +80,9 @@ public class PostMapper {
   }
 
   // Generic method for creating paged responses
-  private <T> PagedResponseDto<T> createPagedResponse(Page<Post> page, Function<Post, T> converter) {
+  private <T> PagedResponseDto<T> createPagedResponse(Page<PostSummary> page, CountMode countMode, Function<PostSummary, T> converter) {
     if (page == null) {
-      return new PagedResponseDto<>(List.of(), 0, 0, 0, 0, false, false);
+      return new PagedResponseDto<>(List.of(), 0, 0, 0L, 0, countMode, false, false, null);
     }
 
     List<T> content = page.getContent().stream()
@@ -75,8 +95,32 @@ public class PostMapper {
       page.getSize(),
       page.getTotalElements(),
       page.getTotalPages(),
+      countMode,
       page.hasNext(),
-      page.hasPrevious());
+      page.hasPrevious(),
+      null);
+  }
+
+  // Generic method for creating sliced responses, totals are not computed for them
+  private <T> PagedResponseDto<T> createSlicedResponse(Slice<PostSummary> slice, Function<PostSummary, T> converter) {
+    List<T> content = slice.getContent().stream()
+      .map(converter)
+      .collect(Collectors.toList());
+
+    return new PagedResponseDto<>(
+      content, slice.getNumber(), slice.getSize(), null, null, CountMode.NONE, slice.hasNext(), slice.hasPrevious(), null);
+  }
+
+  // Generic method for creating keyset paged responses, the page number is meaningless in this mode
+  private <T> PagedResponseDto<T> createCursorPagedResponse(Slice<PostSummary> slice, boolean hasPrevious, Function<PostSummary, T> converter) {
+    List<T> content = slice.getContent().stream()
+      .map(converter)
+      .collect(Collectors.toList());
+
+    String nextCursor = slice.hasNext() ? KeysetCursor.encode(slice.getContent().getLast().id()) : null;
+
+    return new PagedResponseDto<>(
+      content, null, slice.getSize(), null, null, CountMode.NONE, slice.hasNext(), hasPrevious, nextCursor);
   }
 
   // Response DTO creation methods using the generic approach
@@ -88,41 +132,53 @@ public class PostMapper {
     return createResponseDto(post, this::createSavePostResponseDto);
   }
 
-  public FindPostByUuidResponseDto toFindByUuidResponseDto(Post post) {
-    return createResponseDto(post, this::createFindPostByUuidResponseDto);
+  public FindPostByUuidResponseDto toFindByUuidResponseDto(Post post, Slice<PostCommentSummary> commentPreview) {
+    return createResponseDto(post, p -> createFindPostByUuidResponseDto(p, commentPreview));
   }
 
-  public FindAllPostsResponseDto toFindAllPostsResponseDto(Post post) {
+  public FindAllPostsResponseDto toFindAllPostsResponseDto(PostSummary post) {
     return createResponseDto(post, this::createFindAllPostsResponseDto);
   }
 
-  public FindPostByTagResponseDto toFindPostsByTagResponseDto(Post post) {
+  public FindPostByTagResponseDto toFindPostsByTagResponseDto(PostSummary post) {
     return createResponseDto(post, this::createFindPostByTagResponseDto);
   }
 
-  public FindPostByTagNameResponseDto toFindPostsByTagNameResponseDto(Post post) {
+  public FindPostByTagNameResponseDto toFindPostsByTagNameResponseDto(PostSummary post) {
     return createResponseDto(post, this::createFindPostByTagNameResponseDto);
   }
 
-  public SearchPostsResponseDto toSearchPostsResponseDto(Post post) {
+  public SearchPostsResponseDto toSearchPostsResponseDto(PostSummary post) {
     return createResponseDto(post, this::createSearchPostsResponseDto);
   }
 
-  public List<FindPostByTagResponseDto> toFindPostsByTagResponseDto(List<Post> posts) {
-    return convertList(posts, this::toFindPostsByTagResponseDto);
+  public PagedResponseDto<FindPostByTagResponseDto> toFindPostsByTagResponseDto(Slice<PostSummary> slice, FindPostsByTagDto dto) {
+    return createCursorPagedResponse(slice, dto.afterId() != null, this::toFindPostsByTagResponseDto);
   }
 
-  public List<FindPostByTagNameResponseDto> toFindPostsByTagNameResponseDto(List<Post> posts) {
-    return convertList(posts, this::toFindPostsByTagNameResponseDto);
+  public PagedResponseDto<FindPostByTagNameResponseDto> toFindPostsByTagNameResponseDto(Slice<PostSummary> slice, FindPostsByTagDto dto) {
+    return createCursorPagedResponse(slice, dto.afterId() != null, this::toFindPostsByTagNameResponseDto);
   }
 
-  public List<SearchPostsResponseDto> toSearchPostsResponseDto(List<Post> posts) {
+  public List<SearchPostsResponseDto> toSearchPostsResponseDto(List<PostSummary> posts) {
     return convertList(posts, this::toSearchPostsResponseDto);
   }
 
   // Paged response method using the generic approach
-  public PagedResponseDto<FindAllPostsResponseDto> toPagedResponseDto(Page<Post> page) {
-    return createPagedResponse(page, this::toFindAllPostsResponseDto);
+  public PagedResponseDto<FindAllPostsResponseDto> toPagedResponseDto(Page<PostSummary> page) {
+    return toPagedResponseDto(page, CountMode.EXACT);
+  }
+
+  public PagedResponseDto<FindAllPostsResponseDto> toPagedResponseDto(Page<PostSummary> page, CountMode countMode) {
+    return createPagedResponse(page, countMode, this::toFindAllPostsResponseDto);
+  }
+
+  public PagedResponseDto<FindAllPostsResponseDto> toSlicedResponseDto(Slice<PostSummary> slice) {
+    return createSlicedResponse(slice, this::toFindAllPostsResponseDto);
+  }
+
+  public PagedResponseDto<FindAllPostsResponseDto> toCursorPagedResponseDto(Slice<PostSummary> slice, FindAllPostsByCursorDto dto) {
+    return createCursorPagedResponse(slice, dto.afterId() != null, this::toFindAllPostsResponseDto);
   }
 
   public SavePostDto toSavePostDto(SavePostRequestDto postRequestDto, AuthenticatedUserDto authenticatedUser) {
@@ -134,6 +190,36 @@ public class PostMapper {
       Optional.ofNullable(postRequestDto.getTagNames()).orElse(List.of()));
   }
 
+  public ImportPostDto toImportPostDto(ImportPostRequestDto postRequestDto) {
+    List<ImportPostCommentDto> comments = Optional.ofNullable(postRequestDto.getComments()).orElse(List.of()).stream()
+      .map(comment -> comment == null ? null : new ImportPostCommentDto(comment.getId(), comment.getUserId(), comment.getComment()))
+      .toList();
+    return new ImportPostDto(
+      postRequestDto.getId(),
+      postRequestDto.getTitle(),
+      postRequestDto.getBody(),
+      postRequestDto.getUserId(),
+      Optional.ofNullable(postRequestDto.getTagNames()).orElse(List.of()),
+      comments);
+  }
+
+  public ImportPostsResponseDto toImportPostsResponseDto(ImportPostsReport report) {
+    List<ImportPostsResponseDto.RecordErrorDto> errors = report.errors().stream()
+      .map(error -> new ImportPostsResponseDto.RecordErrorDto(error.record(), error.uuid(), error.message()))
+      .toList();
+    return new ImportPostsResponseDto(report.imported(), report.failed(), errors);
+  }
+
+  public ExportPostResponseDto toExportPostResponseDto(PostExport post) {
+    return new ExportPostResponseDto(post.uuid(), post.userUuid(), post.title(), post.body(), post.tagNames(),
+      post.createdAt());
+  }
+
+  public ExportPostCommentResponseDto toExportPostCommentResponseDto(PostCommentExport comment) {
+    return new ExportPostCommentResponseDto(comment.uuid(), comment.postUuid(), comment.userUuid(), comment.comment(),
+      comment.createdAt());
+  }
+
   public UpdatePostDto toUpdatePostDto(UpdatePostRequestDto postRequestDto, UUID PostUuid, AuthenticatedUserDto authenticatedUser) {
     return new UpdatePostDto(
       PostUuid,
@@ -206,12 +292,14 @@ public class PostMapper {
     }
   }
 
-  private FindPostByUuidResponseDto createFindPostByUuidResponseDto(Post post) {
+  private FindPostByUuidResponseDto createFindPostByUuidResponseDto(Post post, Slice<PostCommentSummary> commentPreview) {
     try {
       UUID userUuid = post.getUser().getUuid();
 
       List<PostTagResponseDto> tags = convertTagsToPostTagResponseDto(post.getTags());
-      List<PostCommentResponseDto> comments = convertCommentsToPostCommentResponseDto(post.getComments());
+      List<PostCommentResponseDto> comments = commentPreview.getContent().stream()
+        .map(comment -> new PostCommentResponseDto(comment.uuid()))
+        .collect(Collectors.toList());
 
       return new FindPostByUuidResponseDto(
         post.getUuid(),
@@ -219,7 +307,9 @@ public class PostMapper {
         post.getTitle(),
         post.getBody(),
         tags,
-        comments);
+        comments,
+        post.getCommentCount(),
+        nextCommentsCursor(commentPreview));
     } catch (org.hibernate.LazyInitializationException e) {
       log.error("LazyInitializationException in createFindPostByUuidResponseDto for post UUID: {}. Error: {}",
         post.getUuid(), e.getMessage(), e);
@@ -227,87 +317,47 @@ public class PostMapper {
     }
   }
 
-  //TODO: check this
-  private FindAllPostsResponseDto createFindAllPostsResponseDto(Post post) {
-    try {
-      UUID userUuid = post.getUser().getUuid();
-
-      List<PostTagResponseDto> tags = convertTagsToPostTagResponseDto(post.getTags());
-      List<PostCommentResponseDto> comments = convertCommentsToPostCommentResponseDto(post.getComments());
-
-      return new FindAllPostsResponseDto(
-        post.getUuid(),
-        userUuid,
-        post.getTitle(),
-        post.getBody(),
-        tags,
-        comments);
-    } catch (org.hibernate.LazyInitializationException e) {
-      log.error("LazyInitializationException in createFindAllPostsResponseDto for post UUID: {}. Error: {}",
-        post.getUuid(), e.getMessage(), e);
-      throw e;
-    }
+  // Summaries are plain projections, unlike the entity based DTOs above nothing here can hit a lazy load
+  private FindAllPostsResponseDto createFindAllPostsResponseDto(PostSummary post) {
+    return new FindAllPostsResponseDto(
+      post.uuid(),
+      post.userUuid(),
+      post.title(),
+      post.body(),
+      convertTagSummaries(post.tags()),
+      convertCommentUuids(post.commentUuids()),
+      post.commentCount());
   }
 
-  private FindPostByTagResponseDto createFindPostByTagResponseDto(Post post) {
-    try {
-      UUID userUuid = post.getUser().getUuid();
-
-      List<PostTagResponseDto> tags = convertTagsToPostTagResponseDto(post.getTags());
-      List<PostCommentResponseDto> comments = convertCommentsToPostCommentResponseDto(post.getComments());
-
-      return new FindPostByTagResponseDto(
-        post.getUuid(),
-        userUuid,
-        post.getTitle(),
-        post.getBody(),
-        tags,
-        comments);
-    } catch (org.hibernate.LazyInitializationException e) {
-      log.error("LazyInitializationException in createFindPostByTagResponseDto for post UUID: {}. Error: {}",
-        post.getUuid(), e.getMessage(), e);
-      throw e;
-    }
+  private FindPostByTagResponseDto createFindPostByTagResponseDto(PostSummary post) {
+    return new FindPostByTagResponseDto(
+      post.uuid(),
+      post.userUuid(),
+      post.title(),
+      post.body(),
+      convertTagSummaries(post.tags()),
+      convertCommentUuids(post.commentUuids()),
+      post.commentCount());
   }
 
-  private FindPostByTagNameResponseDto createFindPostByTagNameResponseDto(Post post) {
-    try {
-      UUID userUuid = post.getUser().getUuid();
-
-      List<PostTagResponseDto> tags = convertTagsToPostTagResponseDto(post.getTags());
-      List<PostCommentResponseDto> comments = convertCommentsToPostCommentResponseDto(post.getComments());
-
-      return new FindPostByTagNameResponseDto(
-        post.getUuid(),
-        userUuid,
-        post.getTitle(),
-        post.getBody(),
-        tags,
-        comments);
-    } catch (org.hibernate.LazyInitializationException e) {
-      log.error("LazyInitializationException in createFindPostByTagNameResponseDto for post UUID: {}. Error: {}",
-        post.getUuid(), e.getMessage(), e);
-      throw e;
-    }
+  private FindPostByTagNameResponseDto createFindPostByTagNameResponseDto(PostSummary post) {
+    return new FindPostByTagNameResponseDto(
+      post.uuid(),
+      post.userUuid(),
+      post.title(),
+      post.body(),
+      convertTagSummaries(post.tags()),
+      convertCommentUuids(post.commentUuids()),
+      post.commentCount());
   }
 
-  private SearchPostsResponseDto createSearchPostsResponseDto(Post post) {
-    try {
-      UUID userUuid = post.getUser().getUuid();
-
-      List<PostTagResponseDto> tags = convertTagsToPostTagResponseDto(post.getTags());
-
-      return new SearchPostsResponseDto(
-        post.getUuid(),
-        userUuid,
-        post.getTitle(),
-        post.getBody(),
-        tags);
-    } catch (org.hibernate.LazyInitializationException e) {
-      log.error("LazyInitializationException in createSearchPostsResponseDto for post UUID: {}. Error: {}",
-        post.getUuid(), e.getMessage(), e);
-      throw e;
-    }
+  private SearchPostsResponseDto createSearchPostsResponseDto(PostSummary post) {
+    return new SearchPostsResponseDto(
+      post.uuid(),
+      post.userUuid(),
+      post.title(),
+      post.body(),
+      convertTagSummaries(post.tags()));
   }
 
   public FindPostCommentByUuidResponseDto toFindPostCommentByUuidResponseDto(
@@ -321,10 +371,61 @@ public class PostMapper {
     );
   }
 
+  public PagedResponseDto<FindPostCommentsResponseDto> toFindPostCommentsResponseDto(
+    Slice<PostCommentSummary> slice, FindPostCommentsDto dto) {
+    List<FindPostCommentsResponseDto> content = slice.getContent().stream()
+      .map(comment -> new FindPostCommentsResponseDto(
+        comment.uuid(),
+        comment.userUuid(),
+        dto.postUuid(),
+        comment.comment(),
+        comment.createdAt()))
+      .collect(Collectors.toList());
+
+    return new PagedResponseDto<>(
+      content, null, slice.getSize(), null, null, CountMode.NONE, slice.hasNext(), dto.afterId() != null,
+      nextCommentsCursor(slice));
+  }
+
+  public FindPostCommentsDto toFindPostCommentsDto(UUID postUuid, String cursor, int size) {
+    KeysetCursor.Position after = KeysetCursor.decodePosition(cursor);
+    return after == null
+      ? new FindPostCommentsDto(postUuid, size)
+      : new FindPostCommentsDto(postUuid, after.createdAt(), after.id(), size);
+  }
+
+  private String nextCommentsCursor(Slice<PostCommentSummary> comments) {
+    if (!comments.hasNext()) {
+      return null;
+    }
+    PostCommentSummary last = comments.getContent().getLast();
+    return KeysetCursor.encode(last.createdAt(), last.id());
+  }
+
   public FindAllPostsDto toFindAllPostsDto(Pageable pageable) {
     return new FindAllPostsDto(pageable);
   }
 
+  public FindAllPostsDto toFindAllPostsDto(Pageable pageable, CountMode countMode) {
+    return toFindAllPostsDto(pageable, countMode, PostBodyMode.FULL);
+  }
+
+  public FindAllPostsDto toFindAllPostsDto(Pageable pageable, CountMode countMode, PostBodyMode bodyMode) {
+    return new FindAllPostsDto(pageable, countMode == CountMode.APPROXIMATE, bodyMode);
+  }
+
+  public FindAllPostsByCursorDto toFindAllPostsByCursorDto(String cursor, int size) {
+    return toFindAllPostsByCursorDto(cursor, size, PostBodyMode.FULL);
+  }
+
+  public FindAllPostsByCursorDto toFindAllPostsByCursorDto(String cursor, int size, PostBodyMode bodyMode) {
+    return new FindAllPostsByCursorDto(KeysetCursor.decode(cursor), size, bodyMode);
+  }
+
+  public FindPostsByTagDto toFindPostsByTagDto(String cursor, int size, PostBodyMode bodyMode) {
+    return new FindPostsByTagDto(KeysetCursor.decode(cursor), size, bodyMode);
+  }
+
   private List<PostTagResponseDto> convertTagsToPostTagResponseDto(List<Tag> tags) {
     if (tags == null || tags.isEmpty()) {
       return List.of();
@@ -340,18 +441,15 @@ public class PostMapper {
     }
   }
 
-  private List<PostCommentResponseDto> convertCommentsToPostCommentResponseDto(List<PostComment> comments) {
-    if (comments == null || comments.isEmpty()) {
-      return List.of();
-    }
-    try {
-      return comments.stream()
-        .filter(comment -> comment != null && comment.getUuid() != null)
-        .map(comment -> new PostCommentResponseDto(comment.getUuid()))
-        .collect(Collectors.toList());
-    } catch (org.hibernate.LazyInitializationException e) {
-      log.error("LazyInitializationException in convertTagsToPostTagResponseDto. Error: {}", e.getMessage(), e);
-      throw e;
-    }
+  private List<PostTagResponseDto> convertTagSummaries(List<TagSummary> tags) {
+    return tags.stream()
+      .map(tag -> new PostTagResponseDto(tag.uuid(), tag.name()))
+      .collect(Collectors.toList());
+  }
+
+  private List<PostCommentResponseDto> convertCommentUuids(List<UUID> commentUuids) {
+    return commentUuids.stream()
+      .map(PostCommentResponseDto::new)
+      .collect(Collectors.toList());
   }
 }
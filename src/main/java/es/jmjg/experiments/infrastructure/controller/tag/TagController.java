@@ -5,6 +5,7 @@ import es.jmjg.experiments.infrastructure.config.security.JwtUserDetails;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -19,20 +20,28 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import es.jmjg.experiments.application.tag.AutocompleteTags;
 import es.jmjg.experiments.application.tag.FindPostsByTag;
 import es.jmjg.experiments.application.tag.FindTagByPattern;
 import es.jmjg.experiments.application.tag.FindTagByUuid;
 import es.jmjg.experiments.application.tag.FindUsersByTag;
 import es.jmjg.experiments.application.tag.SaveTag;
 import es.jmjg.experiments.application.tag.UpdateTag;
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.application.tag.dto.TagDetail;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.tag.entity.Tag;
-import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.infrastructure.controller.ConditionalGet;
 import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByTagNameResponseDto;
 import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByTagResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.PagedResponseDto;
 import es.jmjg.experiments.infrastructure.controller.post.mapper.PostMapper;
+import es.jmjg.experiments.infrastructure.controller.tag.dto.AutocompleteTagResponseDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.FindTagByPatternResponseDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.FindTagByUuidResponseDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.SaveTagRequestDto;
@@ -67,6 +76,8 @@ public class TagController {
   private final FindUsersByTag findUsersByTag;
   private final FindPostsByTag findPostsByTag;
   private final FindTagByUuid findTagByUuid;
+  private final AutocompleteTags autocompleteTags;
+  private final int previewSize;
 
   public TagController(
     TagMapper tagMapper,
@@ -78,7 +89,9 @@ public class TagController {
     FindTagByPattern findTagByPattern,
     FindUsersByTag findUsersByTag,
     FindPostsByTag findPostsByTag,
-    FindTagByUuid findTagByUuid) {
+    FindTagByUuid findTagByUuid,
+    AutocompleteTags autocompleteTags,
+    AppProperties appProperties) {
     this.tagMapper = tagMapper;
     this.userMapper = userMapper;
     this.postMapper = postMapper;
@@ -89,91 +102,123 @@ public class TagController {
     this.findUsersByTag = findUsersByTag;
     this.findPostsByTag = findPostsByTag;
     this.findTagByUuid = findTagByUuid;
+    this.autocompleteTags = autocompleteTags;
+    this.previewSize = appProperties.getTagPreviewSize();
   }
 
   @GetMapping("/search")
-  @Transactional(readOnly = true)
-  @Operation(summary = "Find tags by pattern", description = "Finds tags by name pattern")
+  @Operation(summary = "Find tags by pattern", description = "Finds tags by name pattern, each with its first posts and users and their totals")
   @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved tags", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindTagByPatternResponseDto.class)))
   })
   List<FindTagByPatternResponseDto> findByPattern(
     @Parameter(description = "Pattern to search for in tag names") @RequestParam String pattern) {
 
-    List<Tag> tags = findTagByPattern.findByPattern(pattern);
-    return tags.stream()
-      .map(tag -> tagMapper.toFindByPatternResponseDto(tag, tag.getPosts(), tag.getUsers()))
-      .toList();
+    List<TagDetail> tags = findTagByPattern.findDetailsByPattern(pattern, previewSize);
+    return tagMapper.toFindByPatternResponseDto(tags);
   }
 
-  @GetMapping("/{uuid}")
+  @GetMapping("/autocomplete")
   @Transactional(readOnly = true)
-  @Operation(summary = "Get tag by UUID", description = "Retrieves a specific tag by its UUID")
+  @Operation(summary = "Autocomplete tag names", description = "Suggests tags whose name starts with the query, followed by similar names")
+  @ApiResponses(value = {
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved suggestions", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AutocompleteTagResponseDto.class, type = "array")))
+  })
+  List<AutocompleteTagResponseDto> autocomplete(
+    @Parameter(description = "Text typed so far") @RequestParam String q,
+    @Parameter(description = "Maximum number of suggestions, capped at " + AutocompleteTags.MAX_SUGGESTIONS) @RequestParam(defaultValue = "10") int limit) {
+
+    List<Tag> tags = autocompleteTags.autocomplete(q, limit);
+    return tagMapper.toAutocompleteResponseDto(tags);
+  }
+
+  @GetMapping("/{uuid}")
+  @Operation(summary = "Get tag by UUID", description = "Retrieves a specific tag by its UUID, with its first posts and users and their totals")
   @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved tag", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindTagByUuidResponseDto.class))),
+    @ApiResponse(responseCode = "304", description = "Tag not modified since the ETag given in If-None-Match"),
     @ApiResponse(responseCode = "404", description = "Tag not found")
   })
   FindTagByUuidResponseDto findByUuid(
-    @Parameter(description = "UUID of the tag to retrieve") @PathVariable UUID uuid) {
+    @Parameter(description = "UUID of the tag to retrieve") @PathVariable UUID uuid,
+    WebRequest request) {
+
+    if (ConditionalGet.isNotModified(request, findTagByUuid.findVersion(uuid))) {
+      return null;
+    }
 
-    Tag tag = findTagByUuid.findByUuid(uuid);
-    return tagMapper.toFindByUuidResponseDto(tag, tag.getPosts(), tag.getUsers());
+    TagDetail tag = findTagByUuid.findDetailByUuid(uuid, previewSize);
+    return tagMapper.toFindByUuidResponseDto(tag);
   }
 
   @GetMapping("/{uuid}/users")
-  @Transactional(readOnly = true)
-  @Operation(summary = "Find users by tag", description = "Finds all users associated with a specific tag")
+  @Operation(summary = "Find users by tag", description = "Finds the users associated with a specific tag, with keyset pagination on their id")
   @ApiResponses(value = {
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved users", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindAllUsersResponseDto.class, type = "array"))),
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved users", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
     @ApiResponse(responseCode = "404", description = "Tag not found")
   })
-  List<FindAllUsersResponseDto> findUsersByTag(
-    @Parameter(description = "UUID of the tag") @PathVariable UUID uuid) {
+  PagedResponseDto<FindAllUsersResponseDto> findUsersByTag(
+    @Parameter(description = "UUID of the tag") @PathVariable UUID uuid,
+    @Parameter(description = "Page size, at least 1, larger sizes are cut to 100") @RequestParam(defaultValue = "20") int size,
+    @Parameter(description = "Cursor returned as nextCursor by the previous page, or as usersNextCursor by the tag, empty for the first page") @RequestParam(required = false) String cursor) {
 
-    List<User> users = findUsersByTag.findByTagUuid(uuid);
-    return userMapper.toFindAllUsersResponseDto(users);
+    var findUsersByTagDto = userMapper.toFindUsersByTagDto(cursor, size);
+    Slice<UserSummary> users = findUsersByTag.findByTagUuid(uuid, findUsersByTagDto);
+    return userMapper.toFindUsersByTagResponseDto(users, findUsersByTagDto);
   }
 
   @GetMapping("/{uuid}/posts")
-  @Transactional(readOnly = true)
-  @Operation(summary = "Find posts by tag", description = "Finds all posts associated with a specific tag")
+  @Operation(summary = "Find posts by tag", description = "Finds the posts associated with a specific tag, with keyset pagination on their id")
   @ApiResponses(value = {
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved posts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindPostByTagResponseDto.class, type = "array"))),
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved posts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
     @ApiResponse(responseCode = "404", description = "Tag not found")
   })
-  List<FindPostByTagResponseDto> findPostsByTag(
-    @Parameter(description = "UUID of the tag") @PathVariable UUID uuid) {
+  PagedResponseDto<FindPostByTagResponseDto> findPostsByTag(
+    @Parameter(description = "UUID of the tag") @PathVariable UUID uuid,
+    @Parameter(description = "Page size, at least 1, larger sizes are cut to 100") @RequestParam(defaultValue = "20") int size,
+    @Parameter(description = "Cursor returned as nextCursor by the previous page, or as postsNextCursor by the tag, empty for the first page") @RequestParam(required = false) String cursor,
+    @Parameter(description = "How much of each post body to return: FULL, EXCERPT (its first characters) or NONE") @RequestParam(defaultValue = "FULL") PostBodyMode body) {
 
-    List<Post> posts = findPostsByTag.findByTagUuid(uuid);
-    return postMapper.toFindPostsByTagResponseDto(posts);
+    var findPostsByTagDto = postMapper.toFindPostsByTagDto(cursor, size, body);
+    Slice<PostSummary> posts = findPostsByTag.findByTagUuid(uuid, findPostsByTagDto);
+    return postMapper.toFindPostsByTagResponseDto(posts, findPostsByTagDto);
   }
 
   @GetMapping("/search/users")
-  @Transactional(readOnly = true)
-  @Operation(summary = "Find users by tag name", description = "Finds all users associated with a tag by name")
+  @Operation(summary = "Find users by tag name", description = "Finds the users associated with a tag by name, with keyset pagination on their id")
   @ApiResponses(value = {
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved users", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindAllUsersResponseDto.class, type = "array"))),
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved users", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
     @ApiResponse(responseCode = "404", description = "Tag not found")
   })
-  List<FindAllUsersResponseDto> findUsersByTagName(
-    @Parameter(description = "Name of the tag") @RequestParam String name) {
+  PagedResponseDto<FindAllUsersResponseDto> findUsersByTagName(
+    @Parameter(description = "Name of the tag") @RequestParam String name,
+    @Parameter(description = "Page size, at least 1, larger sizes are cut to 100") @RequestParam(defaultValue = "20") int size,
+    @Parameter(description = "Cursor returned as nextCursor by the previous page, empty for the first page") @RequestParam(required = false) String cursor) {
 
-    List<User> users = findUsersByTag.findByTagName(name);
-    return userMapper.toFindAllUsersResponseDto(users);
+    var findUsersByTagDto = userMapper.toFindUsersByTagDto(cursor, size);
+    Slice<UserSummary> users = findUsersByTag.findByTagName(name, findUsersByTagDto);
+    return userMapper.toFindUsersByTagResponseDto(users, findUsersByTagDto);
   }
 
   @GetMapping("/search/posts")
-  @Transactional(readOnly = true)
-  @Operation(summary = "Find posts by tag name", description = "Finds all posts associated with a tag by name")
+  @Operation(summary = "Find posts by tag name", description = "Finds the posts associated with a tag by name, with keyset pagination on their id")
   @ApiResponses(value = {
-    @ApiResponse(responseCode = "200", description = "Successfully retrieved posts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindPostByTagNameResponseDto.class, type = "array"))),
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved posts", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
     @ApiResponse(responseCode = "404", description = "Tag not found")
   })
-  List<FindPostByTagNameResponseDto> findPostsByTagName(
-    @Parameter(description = "Name of the tag") @RequestParam String name) {
+  PagedResponseDto<FindPostByTagNameResponseDto> findPostsByTagName(
+    @Parameter(description = "Name of the tag") @RequestParam String name,
+    @Parameter(description = "Page size, at least 1, larger sizes are cut to 100") @RequestParam(defaultValue = "20") int size,
+    @Parameter(description = "Cursor returned as nextCursor by the previous page, empty for the first page") @RequestParam(required = false) String cursor,
+    @Parameter(description = "How much of each post body to return: FULL, EXCERPT (its first characters) or NONE") @RequestParam(defaultValue = "FULL") PostBodyMode body) {
 
-    List<Post> posts = findPostsByTag.findByTagName(name);
-    return postMapper.toFindPostsByTagNameResponseDto(posts);
+    var findPostsByTagDto = postMapper.toFindPostsByTagDto(cursor, size, body);
+    Slice<PostSummary> posts = findPostsByTag.findByTagName(name, findPostsByTagDto);
+    return postMapper.toFindPostsByTagNameResponseDto(posts, findPostsByTagDto);
   }
 
   @PostMapping("")
@@ -1,5 +1,6 @@
 package es.jmjg.experiments.infrastructure.controller.tag.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.List;
 import java.util.UUID;
@@ -16,9 +17,23 @@ abstract public class AbstractTagResponseDto {
   @Schema(description = "Updated name of the tag", example = "spring-boot")
   private String name;
 
-  @Schema(description = "List of post UUIDs associated with this tag")
+  @Schema(description = "UUIDs of the first posts associated with this tag, the rest are paged by /api/tags/{uuid}/posts")
   private List<UUID> posts;
 
-  @Schema(description = "List of user UUIDs associated with this tag")
+  @Schema(description = "UUIDs of the first users associated with this tag, the rest are paged by /api/tags/{uuid}/users")
   private List<UUID> users;
+
+  @Schema(description = "Number of posts associated with this tag", example = "42")
+  private int postsCount;
+
+  @Schema(description = "Number of users associated with this tag", example = "7")
+  private int usersCount;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Schema(description = "Cursor of the posts following the ones listed, for /api/tags/{uuid}/posts; omitted when all of them are listed", example = "aWQ6MjA")
+  private String postsNextCursor;
+
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  @Schema(description = "Cursor of the users following the ones listed, for /api/tags/{uuid}/users; omitted when all of them are listed", example = "aWQ6MjA")
+  private String usersNextCursor;
 }
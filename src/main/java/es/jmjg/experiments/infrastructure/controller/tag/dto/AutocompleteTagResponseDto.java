@@ -0,0 +1,18 @@
+package es.jmjg.experiments.infrastructure.controller.tag.dto;
+
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Response DTO for tag autocomplete suggestions")
+public class AutocompleteTagResponseDto {
+  @Schema(description = "Unique identifier for the tag", example = "123e4567-e89b-12d3-a456-426614174000")
+  private UUID uuid;
+
+  @Schema(description = "Name of the tag", example = "spring-boot")
+  private String name;
+}
@@ -7,7 +7,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Response DTO for tag found by pattern")
 public class FindTagByPatternResponseDto extends AbstractTagResponseDto {
-  public FindTagByPatternResponseDto(UUID uuid, String name, List<UUID> posts, List<UUID> users) {
-    super(uuid, name, posts, users);
+  public FindTagByPatternResponseDto(UUID uuid, String name, List<UUID> posts, List<UUID> users,
+      int postsCount, int usersCount, String postsNextCursor, String usersNextCursor) {
+    super(uuid, name, posts, users, postsCount, usersCount, postsNextCursor, usersNextCursor);
   }
 }
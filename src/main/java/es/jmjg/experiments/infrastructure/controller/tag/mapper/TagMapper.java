@@ -9,11 +9,14 @@ import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.application.tag.dto.TagDetail;
 import es.jmjg.experiments.domain.tag.entity.Tag;
-import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
+import es.jmjg.experiments.infrastructure.controller.tag.dto.AutocompleteTagResponseDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.FindTagByPatternResponseDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.FindTagByUuidResponseDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.SaveTagRequestDto;
@@ -24,23 +27,33 @@ import es.jmjg.experiments.infrastructure.controller.tag.dto.UpdateTagResponseDt
 public class TagMapper {
 
   public SaveTagResponseDto toSaveTagResponseDto(Tag tag) {
-    return mapToResponseDto(tag, List.of(), List.of(),
+    return mapToResponseDto(tag, List.of(), List.of(), null, null,
       SaveTagResponseDto::new);
   }
 
   public UpdateTagResponseDto toUpdateTagResponseDto(Tag updatedTag) {
-    return mapToResponseDto(updatedTag, List.of(), List.of(),
+    return mapToResponseDto(updatedTag, List.of(), List.of(), null, null,
       UpdateTagResponseDto::new);
   }
 
-  public FindTagByPatternResponseDto toFindByPatternResponseDto(Tag tag, List<Post> posts, List<User> users) {
-    return mapToResponseDto(tag, posts, users,
-      FindTagByPatternResponseDto::new);
+  public FindTagByPatternResponseDto toFindByPatternResponseDto(TagDetail detail) {
+    return mapToResponseDto(detail, FindTagByPatternResponseDto::new);
   }
 
-  public FindTagByUuidResponseDto toFindByUuidResponseDto(Tag tag, List<Post> posts, List<User> users) {
-    return mapToResponseDto(tag, posts, users,
-      FindTagByUuidResponseDto::new);
+  public List<FindTagByPatternResponseDto> toFindByPatternResponseDto(List<TagDetail> details) {
+    return details.stream()
+      .map(this::toFindByPatternResponseDto)
+      .toList();
+  }
+
+  public FindTagByUuidResponseDto toFindByUuidResponseDto(TagDetail detail) {
+    return mapToResponseDto(detail, FindTagByUuidResponseDto::new);
+  }
+
+  public List<AutocompleteTagResponseDto> toAutocompleteResponseDto(List<Tag> tags) {
+    return tags.stream()
+      .map(tag -> new AutocompleteTagResponseDto(tag.getUuid(), tag.getName()))
+      .toList();
   }
 
   public DeleteTagDto toDeleteTagDto(UUID uuid, AuthenticatedUserDto authenticatedUser) {
@@ -65,22 +78,37 @@ public class TagMapper {
 
   @FunctionalInterface
   private interface TagDtoConstructor<T> {
-    T create(UUID uuid, String name, List<UUID> posts, List<UUID> users);
+    T create(UUID uuid, String name, List<UUID> posts, List<UUID> users, int postsCount, int usersCount,
+        String postsNextCursor, String usersNextCursor);
+  }
+
+  private <T> T mapToResponseDto(TagDetail detail, TagDtoConstructor<T> dtoConstructor) {
+    if (detail == null) {
+      return null;
+    }
+    return mapToResponseDto(detail.tag(), detail.posts().getContent(), detail.users().getContent(),
+        nextCursor(detail.posts()), nextCursor(detail.users()), dtoConstructor);
   }
 
-  private <T> T mapToResponseDto(Tag tag, List<Post> posts, List<User> users, TagDtoConstructor<T> dtoConstructor) {
+  private <T> T mapToResponseDto(Tag tag, List<TagMember> posts, List<TagMember> users, String postsNextCursor,
+      String usersNextCursor, TagDtoConstructor<T> dtoConstructor) {
     if (tag == null) {
       return null;
     }
 
     List<UUID> postUuids = posts.stream()
-        .map(Post::getUuid)
+        .map(TagMember::uuid)
         .collect(Collectors.toList());
 
     List<UUID> userUuids = users.stream()
-        .map(User::getUuid)
+        .map(TagMember::uuid)
         .collect(Collectors.toList());
 
-    return dtoConstructor.create(tag.getUuid(), tag.getName(), postUuids, userUuids);
+    return dtoConstructor.create(tag.getUuid(), tag.getName(), postUuids, userUuids, tag.getPostCount(),
+        tag.getUserCount(), postsNextCursor, usersNextCursor);
+  }
+
+  private static String nextCursor(Slice<TagMember> members) {
+    return members.hasNext() ? KeysetCursor.encode(members.getContent().getLast().id()) : null;
   }
 }
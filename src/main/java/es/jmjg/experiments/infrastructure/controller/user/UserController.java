@@ -6,10 +6,14 @@ import es.jmjg.experiments.application.user.dto.GeneratePasswordResetDto;
 import es.jmjg.experiments.application.user.dto.ResetPasswordDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.PasswordResetResponseDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.ResetPasswordRequestDto;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -21,20 +25,29 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import es.jmjg.experiments.application.user.DeleteUser;
+import es.jmjg.experiments.application.user.ExportUsers;
 import es.jmjg.experiments.application.user.FindAllUsers;
+import es.jmjg.experiments.application.user.FindAllUsersByCursor;
 import es.jmjg.experiments.application.user.FindUserByEmail;
 import es.jmjg.experiments.application.user.FindUserByUsername;
 import es.jmjg.experiments.application.user.FindUserByUuid;
 import es.jmjg.experiments.application.user.SaveUser;
 import es.jmjg.experiments.application.user.UpdateUser;
 import es.jmjg.experiments.application.user.dto.DeleteUserDto;
+import es.jmjg.experiments.application.user.dto.ExportUsersDto;
+import es.jmjg.experiments.application.user.dto.FindAllUsersByCursorDto;
 import es.jmjg.experiments.application.user.dto.FindAllUsersDto;
 import es.jmjg.experiments.application.user.dto.FindUserByEmailDto;
 import es.jmjg.experiments.application.user.dto.FindUserByUsernameDto;
@@ -43,6 +56,10 @@ import es.jmjg.experiments.application.user.dto.SaveUserDto;
 import es.jmjg.experiments.application.user.dto.UpdateUserDto;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.infrastructure.config.security.JwtUserDetails;
+import es.jmjg.experiments.infrastructure.controller.ConditionalGet;
+import es.jmjg.experiments.infrastructure.controller.NdjsonExport;
+import es.jmjg.experiments.infrastructure.controller.post.dto.PagedResponseDto;
+import es.jmjg.experiments.infrastructure.controller.user.dto.ExportUserResponseDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.FindAllUsersResponseDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.FindUserByEmailResponseDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.FindUserByUsernameResponseDto;
@@ -77,9 +94,12 @@ public class UserController {
   private final FindUserByEmail findUserByEmail;
   private final FindUserByUsername findUserByUsername;
   private final FindAllUsers findAllUsers;
+  private final FindAllUsersByCursor findAllUsersByCursor;
   private final DeleteUser deleteUser;
   private final GeneratePasswordReset generatePasswordReset;
   private final ResetPassword resetPassword;
+  private final ExportUsers exportUsers;
+  private final ObjectMapper objectMapper;
 
   public UserController(
     UserMapper userMapper,
@@ -89,9 +109,12 @@ public class UserController {
     FindUserByEmail findUserByEmail,
     FindUserByUsername findUserByUsername,
     FindAllUsers findAllUsers,
+    FindAllUsersByCursor findAllUsersByCursor,
     DeleteUser deleteUser,
     GeneratePasswordReset generatePasswordReset,
-    ResetPassword resetPassword
+    ResetPassword resetPassword,
+    ExportUsers exportUsers,
+    ObjectMapper objectMapper
   ) {
     this.userMapper = userMapper;
     this.saveUser = saveUser;
@@ -100,9 +123,12 @@ public class UserController {
     this.findUserByEmail = findUserByEmail;
     this.findUserByUsername = findUserByUsername;
     this.findAllUsers = findAllUsers;
+    this.findAllUsersByCursor = findAllUsersByCursor;
     this.deleteUser = deleteUser;
     this.generatePasswordReset = generatePasswordReset;
     this.resetPassword = resetPassword;
+    this.exportUsers = exportUsers;
+    this.objectMapper = objectMapper;
   }
 
   @GetMapping("")
@@ -121,19 +147,62 @@ public class UserController {
     return users.map(userMapper::toFindAllUsersResponseDto);
   }
 
+  @GetMapping(value = "", params = "cursor")
+  @Transactional(readOnly = true)
+  @Operation(summary = "Get all users by cursor", description = "Retrieves the users with keyset pagination, which skips the page offset and the total count")
+  @ApiResponses(value = {
+    @ApiResponse(responseCode = "200", description = "Successfully retrieved users", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PagedResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+  })
+  PagedResponseDto<FindAllUsersResponseDto> findAllByCursor(
+    @AuthenticationPrincipal JwtUserDetails userDetails,
+    @Parameter(description = "Cursor returned as nextCursor by the previous page, empty for the first page") @RequestParam String cursor,
+    Pageable pageable) {
+    FindAllUsersByCursorDto findAllUsersByCursorDto = userMapper.toFindAllUsersByCursorDto(
+      cursor, pageable.getPageSize(), userDetails);
+    Slice<User> users = findAllUsersByCursor.findAll(findAllUsersByCursorDto);
+    return userMapper.toFindAllUsersByCursorResponseDto(users, findAllUsersByCursorDto);
+  }
+
+  @GetMapping("/export")
+  @Operation(summary = "Export users", description = "Streams the users as NDJSON, one user per line in id order. Compressed with gzip when the request accepts it. Only admin users can export users")
+  @ApiResponses(value = {
+    @ApiResponse(responseCode = "200", description = "Users streamed", content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ExportUserResponseDto.class))),
+    @ApiResponse(responseCode = "400", description = "Invalid since parameter"),
+    @ApiResponse(responseCode = "401", description = "Unauthorized"),
+    @ApiResponse(responseCode = "403", description = "Forbidden")
+  })
+  ResponseEntity<StreamingResponseBody> export(
+    @AuthenticationPrincipal JwtUserDetails userDetails,
+    @Parameter(description = "Only users created at or after this ISO-8601 date and time, all of them when omitted") @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+    @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+    ExportUsersDto exportUsersDto = new ExportUsersDto(since, userMapper.toAuthenticatedUserDto(userDetails));
+
+    return NdjsonExport.response(objectMapper, acceptEncoding,
+      lines -> exportUsers.export(exportUsersDto, user -> lines.accept(userMapper.toExportUserResponseDto(user))));
+  }
+
   @GetMapping("/{uuid}")
   @Transactional(readOnly = true)
   @Operation(summary = "Get user by UUID", description = "Retrieves a specific user by its UUID")
   @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "Successfully retrieved user", content = @Content(mediaType = "application/json", schema = @Schema(implementation = FindUserByUuidResponseDto.class))),
+    @ApiResponse(responseCode = "304", description = "User not modified since the ETag given in If-None-Match"),
     @ApiResponse(responseCode = "401", description = "Unauthorized"),
     @ApiResponse(responseCode = "403", description = "Forbidden"),
     @ApiResponse(responseCode = "404", description = "User not found")
   })
   FindUserByUuidResponseDto findByUuid(
     @AuthenticationPrincipal JwtUserDetails userDetails,
-    @Parameter(description = "UUID of the user to retrieve") @PathVariable UUID uuid) {
+    @Parameter(description = "UUID of the user to retrieve") @PathVariable UUID uuid,
+    WebRequest request) {
     FindUserByUuidDto findUserByUuidDto = new FindUserByUuidDto(uuid, userMapper.toAuthenticatedUserDto(userDetails));
+    if (ConditionalGet.isNotModified(request, findUserByUuid.findVersion(findUserByUuidDto))) {
+      return null;
+    }
+
     User user = findUserByUuid.findByUuid(findUserByUuidDto);
     return userMapper.toFindUserByUuidResponseDto(user);
   }
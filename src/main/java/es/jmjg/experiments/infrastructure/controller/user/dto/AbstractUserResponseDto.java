@@ -21,10 +21,13 @@ abstract public class AbstractUserResponseDto {
   @Schema(description = "Username of the user", example = "johndoe")
   private String username;
 
-  @Schema(description = "List of post identifiers associated with the user")
+  @Schema(description = "List of post identifiers associated with the user; the tag user pages list only the first app.user-post-preview-size of them")
   private List<UUID> posts;
 
   @Schema(description = "List of tag names associated with the user")
   private List<String> tags;
+
+  @Schema(description = "Number of posts of the user", example = "10")
+  private int postsCount;
   //TODO: add comments
 }
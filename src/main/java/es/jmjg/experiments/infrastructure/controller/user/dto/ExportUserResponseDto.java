@@ -0,0 +1,28 @@
+package es.jmjg.experiments.infrastructure.controller.user.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "One line of the user export")
+public class ExportUserResponseDto {
+  @Schema(description = "Identifier for the user", example = "123e4567-e89b-12d3-a456-426614174001")
+  private UUID id;
+
+  @Schema(description = "Full name of the user", example = "Leanne Graham")
+  private String name;
+
+  @Schema(description = "Email address of the user", example = "leanne@example.com")
+  private String email;
+
+  @Schema(description = "Username of the user", example = "leanne_graham")
+  private String username;
+
+  @Schema(description = "Creation date and time, usable as the since parameter of the next export", example = "2025-01-01T00:00:00.123456")
+  private LocalDateTime createdAt;
+}
@@ -7,7 +7,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 
 @Schema(description = "Response DTO for user found by email")
 public class FindUserByEmailResponseDto extends AbstractUserResponseDto {
-  public FindUserByEmailResponseDto(UUID id, String name, String email, String username, List<UUID> posts, List<String> tags) {
-    super(id, name, email, username, posts, tags);
+  public FindUserByEmailResponseDto(UUID id, String name, String email, String username, List<UUID> posts, List<String> tags,
+      int postsCount) {
+    super(id, name, email, username, posts, tags, postsCount);
   }
 }
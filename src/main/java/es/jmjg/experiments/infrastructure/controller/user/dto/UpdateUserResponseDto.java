@@ -28,4 +28,7 @@ public class UpdateUserResponseDto {
 
   @Schema(description = "List of tag names associated with the user")
   private List<String> tags;
+
+  @Schema(description = "Number of posts of the user", example = "10")
+  private int postsCount;
 }
@@ -8,11 +8,20 @@ import java.util.UUID;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
+import es.jmjg.experiments.application.tag.dto.FindUsersByTagDto;
 import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
+import es.jmjg.experiments.application.user.dto.FindAllUsersByCursorDto;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserExport;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
 import es.jmjg.experiments.infrastructure.config.security.JwtUserDetails;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
+import es.jmjg.experiments.infrastructure.controller.post.dto.CountMode;
+import es.jmjg.experiments.infrastructure.controller.post.dto.PagedResponseDto;
+import es.jmjg.experiments.infrastructure.controller.user.dto.ExportUserResponseDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.FindAllUsersResponseDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.FindUserByEmailResponseDto;
 import es.jmjg.experiments.infrastructure.controller.user.dto.FindUserByUsernameResponseDto;
@@ -31,6 +40,38 @@ public class UserMapper {
     return mapToResponseDtoList(users, this::toFindAllUsersResponseDto);
   }
 
+  public FindAllUsersResponseDto toFindAllUsersResponseDto(UserSummary user) {
+    if (user == null) {
+      return null;
+    }
+    return new FindAllUsersResponseDto(user.uuid(), user.name(), user.email(), user.username(), user.postUuids(),
+        user.tagNames(), user.postCount());
+  }
+
+  public PagedResponseDto<FindAllUsersResponseDto> toFindUsersByTagResponseDto(Slice<UserSummary> slice,
+      FindUsersByTagDto dto) {
+    List<FindAllUsersResponseDto> content = mapToResponseDtoList(slice.getContent(), this::toFindAllUsersResponseDto);
+    String nextCursor = slice.hasNext() ? KeysetCursor.encode(slice.getContent().getLast().id()) : null;
+    return new PagedResponseDto<>(
+        content, null, slice.getSize(), null, null, CountMode.NONE, slice.hasNext(), dto.afterId() != null, nextCursor);
+  }
+
+  public PagedResponseDto<FindAllUsersResponseDto> toFindAllUsersByCursorResponseDto(Slice<User> slice,
+      FindAllUsersByCursorDto dto) {
+    List<FindAllUsersResponseDto> content = mapToResponseDtoList(slice.getContent(), this::toFindAllUsersResponseDto);
+    String nextCursor = slice.hasNext() ? KeysetCursor.encode(slice.getContent().getLast().getId()) : null;
+    return new PagedResponseDto<>(
+        content, null, slice.getSize(), null, null, CountMode.NONE, slice.hasNext(), dto.afterId() != null, nextCursor);
+  }
+
+  public FindAllUsersByCursorDto toFindAllUsersByCursorDto(String cursor, int size, JwtUserDetails userDetails) {
+    return new FindAllUsersByCursorDto(KeysetCursor.decode(cursor), size, toAuthenticatedUserDto(userDetails));
+  }
+
+  public FindUsersByTagDto toFindUsersByTagDto(String cursor, int size) {
+    return new FindUsersByTagDto(KeysetCursor.decode(cursor), size);
+  }
+
   public FindUserByUuidResponseDto toFindUserByUuidResponseDto(User user) {
     return mapToResponseDto(user, FindUserByUuidResponseDto::new);
   }
@@ -44,7 +85,7 @@ public class UserMapper {
   }
 
   public SaveUserResponseDto toSaveUserResponseDto(User savedUser) {
-    return mapToResponseDto(savedUser, (uuid, name, email, username, posts, tags) -> new SaveUserResponseDto(uuid, name,
+    return mapToResponseDto(savedUser, (uuid, name, email, username, posts, tags, postsCount) -> new SaveUserResponseDto(uuid, name,
         email, username));
   }
 
@@ -52,13 +93,18 @@ public class UserMapper {
     return mapToResponseDto(updatedUser, UpdateUserResponseDto::new);
   }
 
+  public ExportUserResponseDto toExportUserResponseDto(UserExport user) {
+    return new ExportUserResponseDto(user.uuid(), user.name(), user.email(), user.username(), user.createdAt());
+  }
+
   public PasswordResetResponseDto toPasswordResetResponseDto(String resetKey) {
     return new PasswordResetResponseDto(resetKey);
   }
 
   @FunctionalInterface
   private interface DtoConstructor<T> {
-    T create(UUID uuid, String name, String email, String username, List<UUID> posts, List<String> tags);
+    T create(UUID uuid, String name, String email, String username, List<UUID> posts, List<String> tags,
+        int postsCount);
   }
 
   private <T> T mapToResponseDto(User user, DtoConstructor<T> dtoConstructor) {
@@ -76,10 +122,10 @@ public class UserMapper {
 
     return dtoConstructor.create(
         user.getUuid(), user.getName(), user.getEmail(), user.getUsername(),
-        postUuids, tagNames);
+        postUuids, tagNames, user.getPostCount());
   }
 
-  private <T> List<T> mapToResponseDtoList(List<User> users, Function<User, T> mapper) {
+  private <S, T> List<T> mapToResponseDtoList(List<S> users, Function<S, T> mapper) {
     if (users == null) {
       return List.of();
     }
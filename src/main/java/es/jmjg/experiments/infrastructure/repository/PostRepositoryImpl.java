@@ -1,26 +1,66 @@
 package es.jmjg.experiments.infrastructure.repository;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostExport;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.tag.projection.TagSummary;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.infrastructure.config.AppProperties.PostSearchEngine;
 import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository.PostCommentRow;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository.PostExportRow;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository.PostRow;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository.PostTagRow;
+import jakarta.persistence.EntityManager;
 
 @Repository
 @Transactional(readOnly = true)
 public class PostRepositoryImpl implements PostRepository {
 
+  private static final String POST_TABLE = "post";
+  private static final int FULL_BODY = -1;
+  private static final int NO_BODY = 0;
+  private static final int EXPORT_CHUNK_SIZE = Integer.parseInt(JpaPostRepository.EXPORT_FETCH_SIZE);
+
   private final JpaPostRepository jpaPostRepository;
+  private final RowCountEstimator rowCountEstimator;
+  private final EntityManager entityManager;
+  private final PostSearchEngine postSearchEngine;
+  private final int postExcerptLength;
+  private final int commentPreviewSize;
 
-  public PostRepositoryImpl(JpaPostRepository jpaPostRepository) {
+  public PostRepositoryImpl(JpaPostRepository jpaPostRepository, RowCountEstimator rowCountEstimator,
+      EntityManager entityManager, AppProperties appProperties) {
     this.jpaPostRepository = jpaPostRepository;
+    this.rowCountEstimator = rowCountEstimator;
+    this.entityManager = entityManager;
+    this.postSearchEngine = appProperties.getPostSearchEngine();
+    this.postExcerptLength = appProperties.getPostExcerptLength();
+    this.commentPreviewSize = appProperties.getPostCommentPreviewSize();
   }
 
   @Override
@@ -30,8 +70,32 @@ public class PostRepositoryImpl implements PostRepository {
   }
 
   @Override
-  public Page<Post> findAll(Pageable pageable) {
-    return jpaPostRepository.findAll(pageable);
+  public Page<PostSummary> findAll(Pageable pageable, PostBodyMode bodyMode) {
+    Page<PostRow> rows = jpaPostRepository.findPageRows(bodyLength(bodyMode), pageable);
+    return new PageImpl<>(toSummaries(rows.getContent(), true), pageable, rows.getTotalElements());
+  }
+
+  @Override
+  public Slice<PostSummary> findAllWithoutCount(Pageable pageable, PostBodyMode bodyMode) {
+    Slice<PostRow> rows = jpaPostRepository.findSliceRows(bodyLength(bodyMode), pageable);
+    return new SliceImpl<>(toSummaries(rows.getContent(), true), pageable, rows.hasNext());
+  }
+
+  @Override
+  public long estimateCount() {
+    return rowCountEstimator.estimate(POST_TABLE);
+  }
+
+  @Override
+  public Slice<PostSummary> findAllAfter(Integer afterId, int limit, PostBodyMode bodyMode) {
+    // One extra row tells whether another slice follows without running a COUNT
+    List<PostRow> rows = jpaPostRepository.findRowsAfter(afterId == null ? 0 : afterId, bodyLength(bodyMode),
+        PageRequest.of(0, limit + 1));
+    boolean hasNext = rows.size() > limit;
+    if (hasNext) {
+      rows = rows.subList(0, limit);
+    }
+    return new SliceImpl<>(toSummaries(rows, true), PageRequest.of(0, limit), hasNext);
   }
 
   @Override
@@ -45,8 +109,30 @@ public class PostRepositoryImpl implements PostRepository {
   }
 
   @Override
-  public List<Post> searchByContent(String trim, Pageable pageable) {
-    return jpaPostRepository.searchByContent(trim, pageable);
+  public Optional<Long> findVersionByUuid(UUID uuid) {
+    return jpaPostRepository.findVersionByUuid(uuid);
+  }
+
+  @Override
+  public Optional<Post> findByUuidWithUserAndTags(UUID uuid) {
+    return jpaPostRepository.findWithUserAndTagsByUuid(uuid);
+  }
+
+  @Override
+  public List<PostSummary> searchByContent(String trim, Pageable pageable, PostBodyMode bodyMode) {
+    List<Integer> ids = switch (postSearchEngine) {
+      case FULL_TEXT -> searchIdsByText(trim, pageable);
+      case LIKE -> jpaPostRepository.searchIdsByContent(trim, pageable);
+    };
+    if (ids.isEmpty()) {
+      return List.of();
+    }
+
+    // Rows come back in any order, the ranking is the order of the identifiers. A post deleted
+    // between both queries has no row and is skipped
+    Map<Integer, PostSummary> summariesById = toSummaries(jpaPostRepository.findRowsByIdIn(ids, bodyLength(bodyMode)), false).stream()
+        .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+    return ids.stream().map(summariesById::get).filter(Objects::nonNull).toList();
   }
 
   @Override
@@ -55,18 +141,142 @@ public class PostRepositoryImpl implements PostRepository {
     return jpaPostRepository.save(post);
   }
 
+  @Override
+  @Transactional
+  public void importAll(List<Post> posts) {
+    if (posts.isEmpty()) {
+      return;
+    }
+
+    // Imported posts arrive with their comments, authors and tags are counted set-based once inserted
+    posts.forEach(post -> post.setCommentCount(post.getComments().size()));
+    jpaPostRepository.saveAll(posts);
+    // The persistence context may be the one kept open for the whole request, clearing it is what
+    // lets the posts of a finished batch be collected
+    entityManager.flush();
+    List<Integer> ids = posts.stream().map(Post::getId).toList();
+    jpaPostRepository.countInTags(ids);
+    jpaPostRepository.countInUsers(ids);
+    entityManager.clear();
+  }
+
+  @Override
+  @Transactional
+  public void incrementCommentCount(Integer postId, int delta) {
+    jpaPostRepository.incrementCommentCount(postId, delta);
+  }
+
+  @Override
+  @Transactional
+  public List<UUID> reconcileCommentCounts() {
+    return jpaPostRepository.reconcileCommentCounts();
+  }
+
+  @Override
+  public List<UUID> findExistingUuids(Collection<UUID> uuids) {
+    return uuids.isEmpty() ? List.of() : jpaPostRepository.findUuidsByUuidIn(uuids);
+  }
+
+  @Override
+  public List<String> findExistingTitles(Collection<String> titles) {
+    return titles.isEmpty() ? List.of() : jpaPostRepository.findTitlesByTitleIn(titles);
+  }
+
   @Override
   public Optional<Post> findById(Integer id) {
     return jpaPostRepository.findById(id);
   }
 
   @Override
-  public List<Post> findByTagId(Integer id) {
-    return jpaPostRepository.findByTagId(id);
+  public Slice<PostSummary> findByTagIdAfter(Integer tagId, Integer afterId, int limit, PostBodyMode bodyMode) {
+    // The page is found on post_tag alone, only the posts in it are read
+    List<Integer> ids = jpaPostRepository.findIdsByTagIdAfter(tagId, afterId == null ? 0 : afterId, limit + 1);
+    boolean hasNext = ids.size() > limit;
+    if (hasNext) {
+      ids = ids.subList(0, limit);
+    }
+    if (ids.isEmpty()) {
+      return new SliceImpl<>(List.of(), PageRequest.of(0, limit), false);
+    }
+
+    Map<Integer, PostSummary> summariesById = toSummaries(jpaPostRepository.findRowsByIdIn(ids, bodyLength(bodyMode)), true).stream()
+        .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+    // A post deleted between both reads is left out of the page
+    List<PostSummary> summaries = ids.stream().map(summariesById::get).filter(Objects::nonNull).toList();
+    return new SliceImpl<>(summaries, PageRequest.of(0, limit), hasNext);
   }
 
   @Override
   public List<Post> findByUserId(Integer userId) {
     return jpaPostRepository.findByUserId(userId);
   }
+
+  @Override
+  public void exportCreatedSince(LocalDateTime since, Consumer<PostExport> consumer) {
+    try (Stream<PostExportRow> rows = since == null
+        ? jpaPostRepository.streamExportRows()
+        : jpaPostRepository.streamExportRowsCreatedSince(since)) {
+      // Tags are read for each fetch worth of posts, one query per chunk instead of one per post
+      List<PostExportRow> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+      rows.forEach(row -> {
+        chunk.add(row);
+        if (chunk.size() == EXPORT_CHUNK_SIZE) {
+          exportChunk(chunk, consumer);
+          chunk.clear();
+        }
+      });
+      exportChunk(chunk, consumer);
+    }
+  }
+
+  private void exportChunk(List<PostExportRow> chunk, Consumer<PostExport> consumer) {
+    if (chunk.isEmpty()) {
+      return;
+    }
+
+    List<Integer> ids = chunk.stream().map(PostExportRow::getId).toList();
+    Map<Integer, List<String>> tagNamesByPostId = jpaPostRepository.findTagRowsByPostIdIn(ids).stream()
+        .collect(Collectors.groupingBy(PostTagRow::getPostId,
+            Collectors.mapping(PostTagRow::getName, Collectors.toList())));
+    chunk.forEach(row -> consumer.accept(new PostExport(row.getUuid(), row.getUserUuid(), row.getTitle(),
+        row.getBody(), tagNamesByPostId.getOrDefault(row.getId(), List.of()), row.getCreatedAt())));
+  }
+
+  private List<Integer> searchIdsByText(String text, Pageable pageable) {
+    String tsQuery = PostSearchQuery.toTsQuery(text);
+    return tsQuery == null ? List.of() : jpaPostRepository.searchIdsByText(tsQuery, pageable);
+  }
+
+  private int bodyLength(PostBodyMode bodyMode) {
+    return switch (bodyMode) {
+      case FULL -> FULL_BODY;
+      case EXCERPT -> postExcerptLength;
+      case NONE -> NO_BODY;
+    };
+  }
+
+  // Only the first comments of each post are listed, like in the single post preview. Listing all of
+  // them would read every comment of every post on the page.
+  private List<PostSummary> toSummaries(List<PostRow> rows, boolean withComments) {
+    if (rows.isEmpty()) {
+      return List.of();
+    }
+
+    List<Integer> ids = rows.stream().map(PostRow::getId).toList();
+    Map<Integer, List<TagSummary>> tagsByPostId = jpaPostRepository.findTagRowsByPostIdIn(ids).stream()
+        .collect(Collectors.groupingBy(PostTagRow::getPostId,
+            Collectors.mapping(tag -> new TagSummary(tag.getUuid(), tag.getName()), Collectors.toList())));
+    Map<Integer, List<UUID>> commentUuidsByPostId = withComments
+        ? jpaPostRepository.findCommentPreviewRows(ids, commentPreviewSize).stream()
+            .collect(Collectors.groupingBy(PostCommentRow::getPostId,
+                Collectors.mapping(PostCommentRow::getUuid, Collectors.toList())))
+        : Map.of();
+
+    return rows.stream()
+        .map(row -> new PostSummary(row.getId(), row.getUuid(), row.getUserUuid(), row.getTitle(), row.getBody(),
+            tagsByPostId.getOrDefault(row.getId(), List.of()),
+            commentUuidsByPostId.getOrDefault(row.getId(), List.of()),
+            row.getCommentCount()))
+        .toList();
+  }
 }
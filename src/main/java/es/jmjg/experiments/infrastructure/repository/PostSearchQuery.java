@@ -0,0 +1,46 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates user search input into a PostgreSQL {@code tsquery}. Every term must match; a quoted
+ * phrase matches its words in order, any other word also matches as a prefix ({@code sun} finds
+ * {@code sunt}). Only letters and digits reach the query, so the result is always valid syntax.
+ */
+final class PostSearchQuery {
+
+  private static final Pattern TERM = Pattern.compile("\"([^\"]*)\"?|(\\S+)");
+  private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+
+  private PostSearchQuery() {
+  }
+
+  /** Returns the tsquery text, or {@code null} when the input has nothing to search for. */
+  static String toTsQuery(String input) {
+    List<String> terms = new ArrayList<>();
+    Matcher term = TERM.matcher(input);
+    while (term.find()) {
+      boolean phrase = term.group(1) != null;
+      List<String> words = words(phrase ? term.group(1) : term.group(2));
+      if (words.isEmpty()) {
+        continue;
+      }
+      String joined = String.join(" <-> ", words);
+      terms.add(phrase ? "(" + joined + ")" : joined + ":*");
+    }
+    return terms.isEmpty() ? null : String.join(" & ", terms);
+  }
+
+  private static List<String> words(String text) {
+    List<String> words = new ArrayList<>();
+    Matcher word = WORD.matcher(text);
+    while (word.find()) {
+      words.add(word.group().toLowerCase(Locale.ROOT));
+    }
+    return words;
+  }
+}
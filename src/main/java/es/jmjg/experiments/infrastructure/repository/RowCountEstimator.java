@@ -0,0 +1,59 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import jakarta.persistence.EntityManager;
+
+/**
+ * Approximate row counts taken from the planner statistics in {@code pg_class}, so large listings
+ * do not pay for a full {@code COUNT(*)}. Estimates are reused until they are older than
+ * {@code app.approximate-count-max-staleness}.
+ */
+@Component
+@Transactional(readOnly = true)
+public class RowCountEstimator {
+
+  private final EntityManager entityManager;
+  private final Duration maxStaleness;
+  private final Map<String, Estimate> estimates = new ConcurrentHashMap<>();
+
+  public RowCountEstimator(EntityManager entityManager, AppProperties appProperties) {
+    this.entityManager = entityManager;
+    this.maxStaleness = appProperties.getApproximateCountMaxStaleness();
+  }
+
+  public long estimate(String table) {
+    Estimate cached = estimates.get(table);
+    if (cached != null && cached.takenAt().plus(maxStaleness).isAfter(Instant.now())) {
+      return cached.rows();
+    }
+
+    long rows = queryEstimate(table);
+    estimates.put(table, new Estimate(rows, Instant.now()));
+    return rows;
+  }
+
+  private long queryEstimate(String table) {
+    Number reltuples = (Number) entityManager
+        .createNativeQuery("SELECT reltuples FROM pg_class WHERE oid = CAST(:table AS regclass)")
+        .setParameter("table", table)
+        .getSingleResult();
+    if (reltuples.longValue() >= 0) {
+      return reltuples.longValue();
+    }
+
+    // reltuples stays at -1 until the table has been vacuumed or analyzed once
+    Number rows = (Number) entityManager.createNativeQuery("SELECT COUNT(*) FROM " + table).getSingleResult();
+    return rows.longValue();
+  }
+
+  private record Estimate(long rows, Instant takenAt) {
+  }
+}
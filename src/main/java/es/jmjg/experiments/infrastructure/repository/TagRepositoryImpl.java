@@ -1,20 +1,38 @@
 package es.jmjg.experiments.infrastructure.repository;
 
+import es.jmjg.experiments.domain.tag.exception.TagInUseException;
+import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
 import es.jmjg.experiments.infrastructure.repository.jpa.JpaTagRepository;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaTagRepository.TagDeletion;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaTagRepository.TagMemberRow;
 
 @Repository
 @Transactional(readOnly = true)
 public class TagRepositoryImpl implements TagRepository {
 
+  /** The tag_id references of V6 that keep an assigned tag from being deleted. */
+  static final String POST_TAG_FKEY = "post_tag_tag_id_fkey";
+  static final String USER_TAG_FKEY = "user_tag_tag_id_fkey";
+
   private final JpaTagRepository jpaTagRepository;
 
   public TagRepositoryImpl(JpaTagRepository jpaTagRepository) {
@@ -26,10 +44,47 @@ public class TagRepositoryImpl implements TagRepository {
     return jpaTagRepository.findByUuid(uuid);
   }
 
+  @Override
+  public Optional<Long> findVersionByUuid(UUID uuid) {
+    return jpaTagRepository.findVersionByUuid(uuid);
+  }
+
+  @Override
+  public List<Tag> findAll() {
+    return jpaTagRepository.findAll();
+  }
+
   @Override
   @Transactional
-  public void deleteByUuid(UUID uuid) {
-    jpaTagRepository.deleteByUuid(uuid);
+  public void delete(Tag tag) {
+    TagDeletion deletion;
+    try {
+      deletion = jpaTagRepository.deleteUnusedByUuid(tag.getUuid()).orElseThrow(() -> new TagNotFound(tag.getUuid()));
+    } catch (DataIntegrityViolationException e) {
+      // Assigned after the statement took its snapshot, the ON DELETE RESTRICT references refused it
+      String constraint = e.getCause() instanceof ConstraintViolationException violation
+          ? violation.getConstraintName()
+          : null;
+      if (POST_TAG_FKEY.equals(constraint)) {
+        throw assignedTo(tag, "posts");
+      }
+      if (USER_TAG_FKEY.equals(constraint)) {
+        throw assignedTo(tag, "users");
+      }
+      throw e;
+    }
+
+    if (deletion.getUsedInPosts()) {
+      throw assignedTo(tag, "posts");
+    }
+
+    if (deletion.getUsedInUsers()) {
+      throw assignedTo(tag, "users");
+    }
+  }
+
+  private static TagInUseException assignedTo(Tag tag, String rows) {
+    return new TagInUseException("Cannot delete tag '" + tag.getName() + "' because it is assigned to " + rows);
   }
 
   @Override
@@ -37,9 +92,22 @@ public class TagRepositoryImpl implements TagRepository {
     return jpaTagRepository.findByName(trim);
   }
 
+  @Override
+  public List<Tag> findAllByNameIn(Collection<String> names) {
+    if (names.isEmpty()) {
+      return List.of();
+    }
+    return jpaTagRepository.findAllByNameIn(names);
+  }
+
   @Override
   public List<Tag> findByNameContainingPattern(String trim) {
-    return jpaTagRepository.findByNameContainingPattern(trim);
+    return jpaTagRepository.findByNameMatching("%" + trim + "%");
+  }
+
+  @Override
+  public List<Tag> findForAutocomplete(String query, int limit) {
+    return jpaTagRepository.findForAutocomplete(query, escapeLike(query) + "%", limit);
   }
 
   @Override
@@ -48,7 +116,66 @@ public class TagRepositoryImpl implements TagRepository {
     return jpaTagRepository.save(tag);
   }
 
+  @Override
+  @Transactional
+  public void incrementPostCounts(Collection<Integer> tagIds, int delta) {
+    if (tagIds.isEmpty() || delta == 0) {
+      return;
+    }
+    jpaTagRepository.incrementPostCounts(tagIds, delta);
+  }
+
+  @Override
+  @Transactional
+  public void incrementMemberRevisions(Integer tagId) {
+    jpaTagRepository.incrementPostRevisions(tagId);
+    jpaTagRepository.incrementUserRevisions(tagId);
+  }
+
+  @Override
+  @Transactional
+  public int reconcileCounts() {
+    return jpaTagRepository.reconcileCounts();
+  }
+
+  @Override
+  public Map<Integer, Slice<TagMember>> findPostPreviews(Collection<Integer> tagIds, int size) {
+    if (tagIds.isEmpty()) {
+      return Map.of();
+    }
+    return toPreviews(tagIds, size, jpaTagRepository.findPostPreviewRows(tagIds, size + 1));
+  }
+
+  @Override
+  public Map<Integer, Slice<TagMember>> findUserPreviews(Collection<Integer> tagIds, int size) {
+    if (tagIds.isEmpty()) {
+      return Map.of();
+    }
+    return toPreviews(tagIds, size, jpaTagRepository.findUserPreviewRows(tagIds, size + 1));
+  }
+
   public Optional<Tag> findById(Integer id) {
     return jpaTagRepository.findById(id);
   }
+
+  // One more row than the preview size per tag was read, it only tells whether there are more
+  private static Map<Integer, Slice<TagMember>> toPreviews(Collection<Integer> tagIds, int size,
+      List<TagMemberRow> rows) {
+    Map<Integer, List<TagMember>> membersByTagId = rows.stream()
+        .collect(Collectors.groupingBy(TagMemberRow::getTagId,
+            Collectors.mapping(row -> new TagMember(row.getId(), row.getUuid()), Collectors.toList())));
+
+    Map<Integer, Slice<TagMember>> previews = new HashMap<>();
+    for (Integer tagId : tagIds) {
+      List<TagMember> members = membersByTagId.getOrDefault(tagId, List.of());
+      boolean hasNext = members.size() > size;
+      previews.put(tagId, new SliceImpl<>(hasNext ? members.subList(0, size) : members, PageRequest.of(0, size), hasNext));
+    }
+    return previews;
+  }
+
+  // Autocomplete input is matched literally, LIKE wildcards in it are not honoured
+  private static String escapeLike(String value) {
+    return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+  }
 }
@@ -1,31 +1,54 @@
 package es.jmjg.experiments.infrastructure.repository;
 
 import es.jmjg.experiments.domain.user.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserExport;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
 import es.jmjg.experiments.infrastructure.repository.jpa.JpaUserRepository;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaUserRepository.UserExportRow;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaUserRepository.UserPostRow;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaUserRepository.UserRow;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaUserRepository.UserTagRow;
 
 @Repository
 @Transactional(readOnly = true)
 public class UserRepositoryImpl implements UserRepository {
 
   private final JpaUserRepository jpaUserRepository;
+  private final int postPreviewSize;
 
-  public UserRepositoryImpl(JpaUserRepository jpaUserRepository) {
+  public UserRepositoryImpl(JpaUserRepository jpaUserRepository, AppProperties appProperties) {
     this.jpaUserRepository = jpaUserRepository;
+    this.postPreviewSize = appProperties.getUserPostPreviewSize();
   }
 
   @Override
   @Transactional
   public void deleteByUuid(UUID uuid) {
+    // The deleted posts take their own comments with them, only the remaining rows need uncounting
+    jpaUserRepository.uncountFromTags(uuid);
+    jpaUserRepository.uncountFromPosts(uuid);
     jpaUserRepository.deleteByUuid(uuid);
   }
 
@@ -34,6 +57,14 @@ public class UserRepositoryImpl implements UserRepository {
     return jpaUserRepository.findAll(pageable);
   }
 
+  @Override
+  public Slice<User> findAllAfter(Integer afterId, int limit) {
+    // One extra row tells whether another slice follows without running a COUNT
+    List<User> users = jpaUserRepository.findAfter(afterId == null ? 0 : afterId, PageRequest.of(0, limit + 1));
+    boolean hasNext = users.size() > limit;
+    return new SliceImpl<>(hasNext ? users.subList(0, limit) : users, PageRequest.of(0, limit), hasNext);
+  }
+
   @Override
   public Optional<User> findByEmail(String email) {
     return jpaUserRepository.findByEmail(email);
@@ -49,11 +80,27 @@ public class UserRepositoryImpl implements UserRepository {
     return jpaUserRepository.findByUsername(username);
   }
 
+  @Override
+  @Transactional
+  public boolean updatePassword(String username, String password) {
+    return jpaUserRepository.updatePasswordByUsername(username, password) > 0;
+  }
+
   @Override
   public Optional<User> findByUuid(UUID uuid) {
     return jpaUserRepository.findByUuid(uuid);
   }
 
+  @Override
+  public Optional<Long> findVersionByUuid(UUID uuid) {
+    return jpaUserRepository.findVersionByUuid(uuid);
+  }
+
+  @Override
+  public List<User> findAllByUuidIn(Collection<UUID> uuids) {
+    return uuids.isEmpty() ? List.of() : jpaUserRepository.findAllByUuidIn(uuids);
+  }
+
   @Override
   @Transactional
   public User save(User existingUser) {
@@ -61,8 +108,58 @@ public class UserRepositoryImpl implements UserRepository {
   }
 
   @Override
-  public List<User> findByTagId(Integer id) {
-    return jpaUserRepository.findByTagId(id);
+  public Slice<UserSummary> findByTagIdAfter(Integer tagId, Integer afterId, int limit) {
+    // The page is found on user_tag alone, only the users in it are read
+    List<Integer> ids = jpaUserRepository.findIdsByTagIdAfter(tagId, afterId == null ? 0 : afterId, limit + 1);
+    boolean hasNext = ids.size() > limit;
+    if (hasNext) {
+      ids = ids.subList(0, limit);
+    }
+    if (ids.isEmpty()) {
+      return new SliceImpl<>(List.of(), PageRequest.of(0, limit), false);
+    }
+
+    Map<Integer, UserRow> rowsById = jpaUserRepository.findRowsByIdIn(ids).stream()
+        .collect(Collectors.toMap(UserRow::getId, Function.identity()));
+    // Only the first posts of each user are listed, the users of a popular tag may have many
+    Map<Integer, List<UUID>> postUuidsByUserId = jpaUserRepository.findPostPreviewRows(ids, postPreviewSize).stream()
+        .collect(Collectors.groupingBy(UserPostRow::getUserId,
+            Collectors.mapping(UserPostRow::getUuid, Collectors.toList())));
+    Map<Integer, List<String>> tagNamesByUserId = jpaUserRepository.findTagRowsByUserIdIn(ids).stream()
+        .collect(Collectors.groupingBy(UserTagRow::getUserId,
+            Collectors.mapping(UserTagRow::getName, Collectors.toList())));
+
+    List<UserSummary> content = ids.stream()
+        .map(rowsById::get)
+        .filter(Objects::nonNull)
+        .map(row -> new UserSummary(row.getId(), row.getUuid(), row.getName(), row.getEmail(), row.getUsername(),
+            postUuidsByUserId.getOrDefault(row.getId(), List.of()),
+            tagNamesByUserId.getOrDefault(row.getId(), List.of()),
+            row.getPostCount()))
+        .toList();
+    return new SliceImpl<>(content, PageRequest.of(0, limit), hasNext);
+  }
+
+  @Override
+  public void exportCreatedSince(LocalDateTime since, Consumer<UserExport> consumer) {
+    try (Stream<UserExportRow> rows = since == null
+        ? jpaUserRepository.streamExportRows()
+        : jpaUserRepository.streamExportRowsCreatedSince(since)) {
+      rows.forEach(row -> consumer.accept(new UserExport(row.getUuid(), row.getName(), row.getEmail(),
+          row.getUsername(), row.getCreatedAt())));
+    }
+  }
+
+  @Override
+  @Transactional
+  public void incrementPostCount(Integer userId, int delta) {
+    jpaUserRepository.incrementPostCount(userId, delta);
+  }
+
+  @Override
+  @Transactional
+  public int reconcilePostCounts() {
+    return jpaUserRepository.reconcilePostCounts();
   }
 
   @Transactional
@@ -1,13 +1,86 @@
 package es.jmjg.experiments.infrastructure.repository.jpa;
 
 import es.jmjg.experiments.domain.post.entity.PostComment;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 public interface JpaPostCommentRepository extends JpaRepository<PostComment, Integer> {
 
   @Transactional(readOnly = true)
   Optional<PostComment> findByUuid(UUID uuid);
+
+  // Keyset pages of the comments of a post, ordered like idx_post_comment_post_created_at so the
+  // index is read in order and only up to the page size. The redundant c.createdAt >= :afterCreatedAt
+  // gives the planner a range to start the index scan from.
+  String COMMENT_ROWS = "SELECT c.id AS id, c.uuid AS uuid, u.uuid AS userUuid, c.comment AS comment, c.createdAt AS createdAt "
+      + "FROM PostComment c JOIN c.post p JOIN c.user u WHERE p.uuid = :postUuid";
+
+  interface CommentRow {
+    Integer getId();
+
+    UUID getUuid();
+
+    UUID getUserUuid();
+
+    String getComment();
+
+    LocalDateTime getCreatedAt();
+  }
+
+  @Transactional(readOnly = true)
+  @Query(COMMENT_ROWS + " ORDER BY c.createdAt, c.id")
+  List<CommentRow> findRowsByPostUuid(@Param("postUuid") UUID postUuid, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query(COMMENT_ROWS + " AND c.createdAt >= :afterCreatedAt"
+      + " AND (c.createdAt > :afterCreatedAt OR c.id > :afterId) ORDER BY c.createdAt, c.id")
+  List<CommentRow> findRowsByPostUuidAfter(@Param("postUuid") UUID postUuid,
+      @Param("afterCreatedAt") LocalDateTime afterCreatedAt, @Param("afterId") Integer afterId, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query("SELECT c.uuid FROM PostComment c WHERE c.uuid IN :uuids")
+  List<UUID> findUuidsByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+  // Found on idx_post_comment_user_id (V5)
+  @Transactional(readOnly = true)
+  @Query("SELECT DISTINCT p.uuid FROM PostComment c JOIN c.post p JOIN c.user u WHERE u.uuid = :userUuid")
+  List<UUID> findPostUuidsByUserUuid(@Param("userUuid") UUID userUuid);
+
+  // Export streams, see JpaPostRepository
+  String COMMENT_EXPORT_ROWS = "SELECT c.uuid AS uuid, p.uuid AS postUuid, u.uuid AS userUuid, c.comment AS comment, "
+      + "c.createdAt AS createdAt FROM PostComment c JOIN c.post p JOIN c.user u";
+
+  interface CommentExportRow {
+    UUID getUuid();
+
+    UUID getPostUuid();
+
+    UUID getUserUuid();
+
+    String getComment();
+
+    LocalDateTime getCreatedAt();
+  }
+
+  @Transactional(readOnly = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JpaPostRepository.EXPORT_FETCH_SIZE))
+  @Query(COMMENT_EXPORT_ROWS + " ORDER BY c.id")
+  Stream<CommentExportRow> streamExportRows();
+
+  @Transactional(readOnly = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JpaPostRepository.EXPORT_FETCH_SIZE))
+  @Query(COMMENT_EXPORT_ROWS + " WHERE c.createdAt >= :since ORDER BY c.id")
+  Stream<CommentExportRow> streamExportRowsCreatedSince(@Param("since") LocalDateTime since);
 }
@@ -1,34 +1,215 @@
 package es.jmjg.experiments.infrastructure.repository.jpa;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.post.entity.Post;
+import jakarta.persistence.QueryHint;
 
 public interface JpaPostRepository extends JpaRepository<Post, Integer> {
 
   @Transactional(readOnly = true)
   Optional<Post> findByUuid(UUID uuid);
 
+  @Transactional(readOnly = true)
+  @Query("SELECT p.version + p.revision FROM Post p WHERE p.uuid = :uuid")
+  Optional<Long> findVersionByUuid(@Param("uuid") UUID uuid);
+
   @Transactional(readOnly = true)
   @Query("SELECT p FROM Post p LEFT JOIN FETCH p.user WHERE p.title = :title")
   Optional<Post> findByTitle(@Param("title") String title);
 
   @Transactional(readOnly = true)
-  @Query("SELECT p FROM Post p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(p.body) LIKE LOWER(CONCAT('%', :query, '%'))")
-  List<Post> searchByContent(@Param("query") String query, Pageable pageable);
+  List<Post> findByUserId(Integer userId);
+
+  // Fetch plan for the single post endpoint. Its comments are not part of it, the endpoint shows
+  // a preview page of them read through JpaPostCommentRepository.
 
   @Transactional(readOnly = true)
-  @Query(value = "SELECT DISTINCT p.* FROM post p JOIN post_tag pt ON p.id = pt.post_id WHERE pt.tag_id = :tagId", nativeQuery = true)
-  List<Post> findByTagId(@Param("tagId") Integer tagId);
+  @EntityGraph(Post.USER_AND_TAGS_GRAPH)
+  Optional<Post> findWithUserAndTagsByUuid(UUID uuid);
+
+  // Projections for the listing endpoints. They select only the columns the responses render and
+  // are never managed, so there is nothing to dirty check or keep in the first-level cache. Tags and
+  // the first comment uuids are read per page of posts and stitched together by PostRepositoryImpl.
+
+  // A negative :bodyLength reads the whole body, zero skips the column and a positive value reads
+  // only that many leading characters
+  String POST_ROWS = "SELECT p.id AS id, p.uuid AS uuid, u.uuid AS userUuid, p.title AS title, "
+      + "CASE WHEN :bodyLength < 0 THEN p.body WHEN :bodyLength = 0 THEN NULL ELSE SUBSTRING(p.body, 1, :bodyLength) END AS body, "
+      + "p.commentCount AS commentCount FROM Post p LEFT JOIN p.user u";
+
+  interface PostRow {
+    Integer getId();
+
+    UUID getUuid();
+
+    UUID getUserUuid();
+
+    String getTitle();
+
+    String getBody();
+
+    Integer getCommentCount();
+  }
+
+  interface PostTagRow {
+    Integer getPostId();
+
+    UUID getUuid();
+
+    String getName();
+  }
+
+  interface PostCommentRow {
+    Integer getPostId();
+
+    UUID getUuid();
+  }
 
   @Transactional(readOnly = true)
-  List<Post> findByUserId(Integer userId);
+  @Query(value = POST_ROWS,
+      countQuery = "SELECT COUNT(p) FROM Post p")
+  Page<PostRow> findPageRows(@Param("bodyLength") int bodyLength, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query(POST_ROWS)
+  Slice<PostRow> findSliceRows(@Param("bodyLength") int bodyLength, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query(POST_ROWS + " WHERE p.id > :afterId ORDER BY p.id")
+  List<PostRow> findRowsAfter(@Param("afterId") Integer afterId, @Param("bodyLength") int bodyLength, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query(POST_ROWS + " WHERE p.id IN :ids")
+  List<PostRow> findRowsByIdIn(@Param("ids") Collection<Integer> ids, @Param("bodyLength") int bodyLength);
+
+  // Keyset page of the posts of a tag, read on the (tag_id, post_id) index alone (see V5)
+  @Transactional(readOnly = true)
+  @Query(value = "SELECT pt.post_id FROM post_tag pt WHERE pt.tag_id = :tagId AND pt.post_id > :afterId ORDER BY pt.post_id LIMIT :limit", nativeQuery = true)
+  List<Integer> findIdsByTagIdAfter(@Param("tagId") Integer tagId, @Param("afterId") Integer afterId, @Param("limit") int limit);
+
+  @Transactional(readOnly = true)
+  @Query("SELECT p.id AS postId, t.uuid AS uuid, t.name AS name FROM Post p JOIN p.tags t WHERE p.id IN :postIds")
+  List<PostTagRow> findTagRowsByPostIdIn(@Param("postIds") Collection<Integer> postIds);
+
+  /**
+   * The first comments of each post, at most {@code limit} per post, in the order the comments of a
+   * post are paged. Every post walks its own range of the (post_id, created_at, id) index and stops
+   * after the limit, however many comments it has (see V4).
+   */
+  @Transactional(readOnly = true)
+  @Query(value = """
+      SELECT p.id AS "postId", page.uuid AS "uuid"
+      FROM post p
+      CROSS JOIN LATERAL (
+        SELECT c.uuid, c.created_at, c.id FROM post_comment c WHERE c.post_id = p.id ORDER BY c.created_at, c.id LIMIT :limit) page
+      WHERE p.id IN :postIds
+      ORDER BY p.id, page.created_at, page.id""",
+      nativeQuery = true)
+  List<PostCommentRow> findCommentPreviewRows(@Param("postIds") Collection<Integer> postIds, @Param("limit") int limit);
+
+  // Search only ranks identifiers, the rows are read afterwards with findRowsByIdIn
+
+  @Transactional(readOnly = true)
+  @Query("SELECT p.id FROM Post p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(p.body) LIKE LOWER(CONCAT('%', :query, '%'))")
+  List<Integer> searchIdsByContent(@Param("query") String query, Pageable pageable);
+
+  @Transactional(readOnly = true)
+  @Query(value = "SELECT p.id FROM post p WHERE p.search_vector @@ to_tsquery('simple', :query) ORDER BY ts_rank(p.search_vector, to_tsquery('simple', :query)) DESC, p.id", nativeQuery = true)
+  List<Integer> searchIdsByText(@Param("query") String query, Pageable pageable);
+
+
+  @Transactional(readOnly = true)
+  @Query("SELECT p.uuid FROM Post p WHERE p.uuid IN :uuids")
+  List<UUID> findUuidsByUuidIn(@Param("uuids") Collection<UUID> uuids);
+
+  @Transactional(readOnly = true)
+  @Query("SELECT p.title FROM Post p WHERE p.title IN :titles")
+  List<String> findTitlesByTitleIn(@Param("titles") Collection<String> titles);
+
+  // Counters, see V9 and JpaUserRepository
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE Post p SET p.commentCount = p.commentCount + :delta, p.revision = p.revision + 1 WHERE p.id = :id")
+  void incrementCommentCount(@Param("id") Integer id, @Param("delta") int delta);
+
+  /** Adds inserted posts to the post counts of their tags, one statement for the whole batch. */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE tag t SET post_count = t.post_count + added.posts, revision = t.revision + 1
+      FROM (SELECT pt.tag_id, COUNT(*) AS posts FROM post_tag pt WHERE pt.post_id IN :postIds GROUP BY pt.tag_id) added
+      WHERE t.id = added.tag_id""",
+      nativeQuery = true)
+  void countInTags(@Param("postIds") Collection<Integer> postIds);
+
+  /** Adds inserted posts to the post counts of their authors, one statement for the whole batch. */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE users u SET post_count = u.post_count + added.posts, revision = u.revision + 1
+      FROM (SELECT p.user_id, COUNT(*) AS posts FROM post p WHERE p.id IN :postIds GROUP BY p.user_id) added
+      WHERE u.id = added.user_id""",
+      nativeQuery = true)
+  void countInUsers(@Param("postIds") Collection<Integer> postIds);
+
+  /** Only the posts whose stored count differs are written, their uuids are returned. */
+  @Transactional
+  @Query(value = """
+      UPDATE post p SET comment_count = actual.comments, revision = p.revision + 1
+      FROM (SELECT p2.id, (SELECT COUNT(*) FROM post_comment c WHERE c.post_id = p2.id) AS comments FROM post p2) actual
+      WHERE p.id = actual.id AND p.comment_count <> actual.comments
+      RETURNING p.uuid""",
+      nativeQuery = true)
+  List<UUID> reconcileCommentCounts();
+
+  // Export streams. The driver fetches EXPORT_FETCH_SIZE rows at a time through a cursor instead of
+  // the whole result, which PostgreSQL only does inside a transaction. Rows are projections, so
+  // none of them stays in the persistence context once handed over.
+  String EXPORT_FETCH_SIZE = "500";
+
+  String POST_EXPORT_ROWS = "SELECT p.id AS id, p.uuid AS uuid, u.uuid AS userUuid, p.title AS title, p.body AS body, "
+      + "p.createdAt AS createdAt FROM Post p JOIN p.user u";
+
+  interface PostExportRow {
+    Integer getId();
+
+    UUID getUuid();
+
+    UUID getUserUuid();
+
+    String getTitle();
+
+    String getBody();
+
+    LocalDateTime getCreatedAt();
+  }
+
+  @Transactional(readOnly = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+  @Query(POST_EXPORT_ROWS + " ORDER BY p.id")
+  Stream<PostExportRow> streamExportRows();
+
+  @Transactional(readOnly = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE))
+  @Query(POST_EXPORT_ROWS + " WHERE p.createdAt >= :since ORDER BY p.id")
+  Stream<PostExportRow> streamExportRowsCreatedSince(@Param("since") LocalDateTime since);
 }
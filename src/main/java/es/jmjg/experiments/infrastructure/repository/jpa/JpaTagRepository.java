@@ -1,16 +1,16 @@
 package es.jmjg.experiments.infrastructure.repository.jpa;
 
-import es.jmjg.experiments.domain.tag.exception.TagInUseException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
-import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 
 public interface JpaTagRepository extends JpaRepository<Tag, Integer> {
@@ -18,36 +18,115 @@ public interface JpaTagRepository extends JpaRepository<Tag, Integer> {
   @Transactional(readOnly = true)
   Optional<Tag> findByUuid(UUID uuid);
 
+  @Transactional(readOnly = true)
+  @Query("SELECT t.version + t.revision FROM Tag t WHERE t.uuid = :uuid")
+  Optional<Long> findVersionByUuid(@Param("uuid") UUID uuid);
+
   @Transactional(readOnly = true)
   Optional<Tag> findByName(String name);
 
+  @Transactional(readOnly = true)
+  List<Tag> findAllByNameIn(Collection<String> names);
+
+  interface TagDeletion {
+    Boolean getUsedInPosts();
+
+    Boolean getUsedInUsers();
+  }
+
+  /**
+   * Deletes the tag unless a post or a user has it, in a single statement. Returns nothing when the
+   * tag does not exist, otherwise where it is used; it was deleted when it is used nowhere.
+   */
   @Transactional
-  default void deleteByUuid(UUID uuid) {
-    Tag tag = findByUuid(uuid)
-        .orElseThrow(() -> new TagNotFound(uuid));
+  @Query(value = """
+      WITH target AS (
+        SELECT t.id,
+          EXISTS (SELECT 1 FROM post_tag pt WHERE pt.tag_id = t.id) AS used_in_posts,
+          EXISTS (SELECT 1 FROM user_tag ut WHERE ut.tag_id = t.id) AS used_in_users
+        FROM tag t WHERE t.uuid = :uuid),
+      deleted AS (
+        DELETE FROM tag t USING target
+        WHERE t.id = target.id AND NOT target.used_in_posts AND NOT target.used_in_users)
+      SELECT used_in_posts AS "usedInPosts", used_in_users AS "usedInUsers" FROM target""",
+      nativeQuery = true)
+  Optional<TagDeletion> deleteUnusedByUuid(@Param("uuid") UUID uuid);
+
+  // Both queries compare the raw column so the idx_tag_name_trgm trigram index can serve them
 
-    if (isTagUsedInPosts(tag.getId())) {
-      throw new TagInUseException(
-          "Cannot delete tag '" + tag.getName() + "' because it is assigned to posts");
-    }
+  @Transactional(readOnly = true)
+  @Query(value = "SELECT t.* FROM tag t WHERE t.tag ILIKE :likePattern", nativeQuery = true)
+  List<Tag> findByNameMatching(@Param("likePattern") String likePattern);
+
+  @Transactional(readOnly = true)
+  @Query(value = "SELECT t.* FROM tag t WHERE t.tag ILIKE :prefixPattern OR t.tag % :query ORDER BY t.tag ILIKE :prefixPattern DESC, similarity(t.tag, :query) DESC, t.tag LIMIT :limit", nativeQuery = true)
+  List<Tag> findForAutocomplete(@Param("query") String query, @Param("prefixPattern") String prefixPattern, @Param("limit") int limit);
 
-    if (isTagUsedInUsers(tag.getId())) {
-      throw new TagInUseException(
-          "Cannot delete tag '" + tag.getName() + "' because it is assigned to users");
-    }
+  interface TagMemberRow {
+    Integer getTagId();
 
-    delete(tag);
+    Integer getId();
+
+    UUID getUuid();
   }
 
+  /**
+   * The first posts of each tag, at most {@code limit} per tag. Every tag walks its own range of the
+   * (tag_id, post_id) index and stops after the limit, however many posts it has (see V5).
+   */
   @Transactional(readOnly = true)
-  @Query("SELECT t FROM Tag t WHERE LOWER(t.name) LIKE LOWER(CONCAT('%', :pattern, '%'))")
-  List<Tag> findByNameContainingPattern(@Param("pattern") String pattern);
+  @Query(value = """
+      SELECT t.id AS "tagId", p.id AS "id", p.uuid AS "uuid"
+      FROM tag t
+      CROSS JOIN LATERAL (
+        SELECT pt.post_id FROM post_tag pt WHERE pt.tag_id = t.id ORDER BY pt.post_id LIMIT :limit) page
+      JOIN post p ON p.id = page.post_id
+      WHERE t.id IN :tagIds
+      ORDER BY t.id, p.id""",
+      nativeQuery = true)
+  List<TagMemberRow> findPostPreviewRows(@Param("tagIds") Collection<Integer> tagIds, @Param("limit") int limit);
 
+  /** The first users of each tag, at most {@code limit} per tag, read like the post previews. */
   @Transactional(readOnly = true)
-  @Query(value = "SELECT COUNT(pt) > 0 FROM post_tag pt WHERE pt.tag_id = :tagId", nativeQuery = true)
-  boolean isTagUsedInPosts(@Param("tagId") Integer tagId);
+  @Query(value = """
+      SELECT t.id AS "tagId", u.id AS "id", u.uuid AS "uuid"
+      FROM tag t
+      CROSS JOIN LATERAL (
+        SELECT ut.user_id FROM user_tag ut WHERE ut.tag_id = t.id ORDER BY ut.user_id LIMIT :limit) page
+      JOIN users u ON u.id = page.user_id
+      WHERE t.id IN :tagIds
+      ORDER BY t.id, u.id""",
+      nativeQuery = true)
+  List<TagMemberRow> findUserPreviewRows(@Param("tagIds") Collection<Integer> tagIds, @Param("limit") int limit);
 
-  @Transactional(readOnly = true)
-  @Query(value = "SELECT COUNT(ut) > 0 FROM user_tag ut WHERE ut.tag_id = :tagId", nativeQuery = true)
-  boolean isTagUsedInUsers(@Param("tagId") Integer tagId);
+  @Transactional
+  @Modifying
+  @Query("UPDATE Tag t SET t.postCount = t.postCount + :delta, t.revision = t.revision + 1 WHERE t.id IN :ids")
+  void incrementPostCounts(@Param("ids") Collection<Integer> ids, @Param("delta") int delta);
+
+  // Posts and users render the names of their tags, renaming one changes them without writing their
+  // rows. Their revisions are incremented instead, see V11.
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE post p SET revision = p.revision + 1 FROM post_tag pt WHERE pt.post_id = p.id AND pt.tag_id = :tagId", nativeQuery = true)
+  void incrementPostRevisions(@Param("tagId") Integer tagId);
+
+  @Transactional
+  @Modifying
+  @Query(value = "UPDATE users u SET revision = u.revision + 1 FROM user_tag ut WHERE ut.user_id = u.id AND ut.tag_id = :tagId", nativeQuery = true)
+  void incrementUserRevisions(@Param("tagId") Integer tagId);
+
+  /** Only the tags whose stored counts differ are written. */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE tag t SET post_count = actual.posts, user_count = actual.users, revision = t.revision + 1
+      FROM (SELECT t2.id,
+          (SELECT COUNT(*) FROM post_tag pt WHERE pt.tag_id = t2.id) AS posts,
+          (SELECT COUNT(*) FROM user_tag ut WHERE ut.tag_id = t2.id) AS users
+        FROM tag t2) actual
+      WHERE t.id = actual.id AND (t.post_count <> actual.posts OR t.user_count <> actual.users)""",
+      nativeQuery = true)
+  int reconcileCounts();
 }
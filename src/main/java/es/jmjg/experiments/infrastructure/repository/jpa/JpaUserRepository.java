@@ -1,15 +1,23 @@
 package es.jmjg.experiments.infrastructure.repository.jpa;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.user.entity.User;
+import jakarta.persistence.QueryHint;
 
 public interface JpaUserRepository extends JpaRepository<User, Integer> {
 
@@ -22,10 +30,151 @@ public interface JpaUserRepository extends JpaRepository<User, Integer> {
   @Transactional(readOnly = true)
   Optional<User> findByUuid(UUID uuid);
 
+  @Transactional(readOnly = true)
+  @Query("SELECT u.version + u.revision FROM User u WHERE u.uuid = :uuid")
+  Optional<Long> findVersionByUuid(@Param("uuid") UUID uuid);
+
+  @Transactional(readOnly = true)
+  List<User> findAllByUuidIn(Collection<UUID> uuids);
+
   @Transactional
   void deleteByUuid(UUID uuid);
 
+  // The hash is never rendered, so neither the version nor the revision change with it
+  @Transactional
+  @Modifying
+  @Query("UPDATE User u SET u.password = :password WHERE u.username = :username")
+  int updatePasswordByUsername(@Param("username") String username, @Param("password") String password);
+
+  // Counters, see V9. Relative updates, so transactions counting the same rows add up instead of
+  // overwriting each other. They increment the revisions of the rows they change, not their
+  // versions: the ETag changes with the counts, but an edit of the row does not fail on them
+  // (see V11).
+
+  @Transactional
+  @Modifying
+  @Query("UPDATE User u SET u.postCount = u.postCount + :delta, u.revision = u.revision + 1 WHERE u.id = :id")
+  void incrementPostCount(@Param("id") Integer id, @Param("delta") int delta);
+
+  /** Takes the posts and tag assignments of the user off the counts of the tags, before deleting the user. */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE tag t SET post_count = t.post_count - removed.posts, user_count = t.user_count - removed.users, revision = t.revision + 1
+      FROM (SELECT assigned.tag_id, SUM(assigned.posts) AS posts, SUM(assigned.users) AS users FROM (
+          SELECT pt.tag_id, 1 AS posts, 0 AS users
+          FROM post_tag pt JOIN post p ON p.id = pt.post_id JOIN users u ON u.id = p.user_id WHERE u.uuid = :uuid
+          UNION ALL
+          SELECT ut.tag_id, 0, 1 FROM user_tag ut JOIN users u ON u.id = ut.user_id WHERE u.uuid = :uuid) assigned
+        GROUP BY assigned.tag_id) removed
+      WHERE t.id = removed.tag_id""",
+      nativeQuery = true)
+  void uncountFromTags(@Param("uuid") UUID uuid);
+
+  /** Takes the comments of the user off the comment counts of the posts, before deleting the user. */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE post p SET comment_count = p.comment_count - own.comments, revision = p.revision + 1
+      FROM (SELECT c.post_id, COUNT(*) AS comments FROM post_comment c JOIN users u ON u.id = c.user_id
+        WHERE u.uuid = :uuid GROUP BY c.post_id) own
+      WHERE p.id = own.post_id""",
+      nativeQuery = true)
+  void uncountFromPosts(@Param("uuid") UUID uuid);
+
+  /** Only the users whose stored count differs are written. */
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE users u SET post_count = actual.posts, revision = u.revision + 1
+      FROM (SELECT u2.id, (SELECT COUNT(*) FROM post p WHERE p.user_id = u2.id) AS posts FROM users u2) actual
+      WHERE u.id = actual.id AND u.post_count <> actual.posts""",
+      nativeQuery = true)
+  int reconcilePostCounts();
+
+  // Projections for the listing endpoints, see JpaPostRepository. The password hash is never selected.
+
+  interface UserRow {
+    Integer getId();
+
+    UUID getUuid();
+
+    String getName();
+
+    String getEmail();
+
+    String getUsername();
+
+    Integer getPostCount();
+  }
+
+  interface UserPostRow {
+    Integer getUserId();
+
+    UUID getUuid();
+  }
+
+  interface UserTagRow {
+    Integer getUserId();
+
+    String getName();
+  }
+
+  @Transactional(readOnly = true)
+  @Query("SELECT u.id AS id, u.uuid AS uuid, u.name AS name, u.email AS email, u.username AS username, u.postCount AS postCount FROM User u WHERE u.id IN :ids")
+  List<UserRow> findRowsByIdIn(@Param("ids") Collection<Integer> ids);
+
+  // Keyset page of the users of a tag, read on the (tag_id, user_id) index alone (see V5)
+  @Transactional(readOnly = true)
+  @Query(value = "SELECT ut.user_id FROM user_tag ut WHERE ut.tag_id = :tagId AND ut.user_id > :afterId ORDER BY ut.user_id LIMIT :limit", nativeQuery = true)
+  List<Integer> findIdsByTagIdAfter(@Param("tagId") Integer tagId, @Param("afterId") Integer afterId, @Param("limit") int limit);
+
+  /**
+   * The first posts of each user, at most {@code limit} per user, in id order. Every user reads its
+   * own range of idx_post_user_id (see V5), however many posts it has only {@code limit} are returned.
+   */
+  @Transactional(readOnly = true)
+  @Query(value = """
+      SELECT u.id AS "userId", page.uuid AS "uuid"
+      FROM users u
+      CROSS JOIN LATERAL (
+        SELECT p.id, p.uuid FROM post p WHERE p.user_id = u.id ORDER BY p.id LIMIT :limit) page
+      WHERE u.id IN :userIds
+      ORDER BY u.id, page.id""",
+      nativeQuery = true)
+  List<UserPostRow> findPostPreviewRows(@Param("userIds") Collection<Integer> userIds, @Param("limit") int limit);
+
+  @Transactional(readOnly = true)
+  @Query("SELECT u.id AS userId, t.name AS name FROM User u JOIN u.tags t WHERE u.id IN :userIds")
+  List<UserTagRow> findTagRowsByUserIdIn(@Param("userIds") Collection<Integer> userIds);
+
+  @Transactional(readOnly = true)
+  @Query("SELECT u FROM User u WHERE u.id > :afterId ORDER BY u.id")
+  List<User> findAfter(@Param("afterId") Integer afterId, Pageable pageable);
+
+  // Export streams, see JpaPostRepository
+  String USER_EXPORT_ROWS = "SELECT u.uuid AS uuid, u.name AS name, u.email AS email, u.username AS username, "
+      + "u.createdAt AS createdAt FROM User u";
+
+  interface UserExportRow {
+    UUID getUuid();
+
+    String getName();
+
+    String getEmail();
+
+    String getUsername();
+
+    LocalDateTime getCreatedAt();
+  }
+
+  @Transactional(readOnly = true)
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JpaPostRepository.EXPORT_FETCH_SIZE))
+  @Query(USER_EXPORT_ROWS + " ORDER BY u.id")
+  Stream<UserExportRow> streamExportRows();
+
   @Transactional(readOnly = true)
-  @Query(value = "SELECT DISTINCT u.* FROM Users u JOIN user_tag ut ON u.id = ut.user_id WHERE ut.tag_id = :tagId", nativeQuery = true)
-  List<User> findByTagId(@Param("tagId") Integer tagId);
+  @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = JpaPostRepository.EXPORT_FETCH_SIZE))
+  @Query(USER_EXPORT_ROWS + " WHERE u.createdAt >= :since ORDER BY u.id")
+  Stream<UserExportRow> streamExportRowsCreatedSince(@Param("since") LocalDateTime since);
 }
@@ -1,9 +1,21 @@
 package es.jmjg.experiments.infrastructure.repository.jpa;
 
 import es.jmjg.experiments.domain.post.entity.PostComment;
+import es.jmjg.experiments.domain.post.projection.PostCommentExport;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
 import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostCommentRepository.CommentExportRow;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostCommentRepository.CommentRow;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,7 +32,9 @@ public class PostCommentRepositoryImpl implements PostCommentRepository {
   @Override
   @Transactional
   public PostComment save(PostComment postComment) {
-    return jpaPostCommentRepository.save(postComment);
+    // Inserted right away: ids come from a sequence, so the insert would otherwise wait for the
+    // flush, and a duplicate uuid would fail outside the caller's handling of a rejected comment
+    return jpaPostCommentRepository.saveAndFlush(postComment);
   }
 
   @Override
@@ -32,4 +46,43 @@ public class PostCommentRepositoryImpl implements PostCommentRepository {
   public void deleteById(Integer id) {
     jpaPostCommentRepository.deleteById(id);
   }
+
+  @Override
+  public List<UUID> findExistingUuids(Collection<UUID> uuids) {
+    return uuids.isEmpty() ? List.of() : jpaPostCommentRepository.findUuidsByUuidIn(uuids);
+  }
+
+  @Override
+  public List<UUID> findPostUuidsCommentedBy(UUID userUuid) {
+    return jpaPostCommentRepository.findPostUuidsByUserUuid(userUuid);
+  }
+
+  @Override
+  public Slice<PostCommentSummary> findByPostUuid(UUID postUuid, LocalDateTime afterCreatedAt, Integer afterId,
+      int limit) {
+    // One extra row tells whether another slice follows without running a COUNT
+    PageRequest rowsPage = PageRequest.of(0, limit + 1);
+    List<CommentRow> rows = afterCreatedAt == null || afterId == null
+        ? jpaPostCommentRepository.findRowsByPostUuid(postUuid, rowsPage)
+        : jpaPostCommentRepository.findRowsByPostUuidAfter(postUuid, afterCreatedAt, afterId, rowsPage);
+    boolean hasNext = rows.size() > limit;
+    if (hasNext) {
+      rows = rows.subList(0, limit);
+    }
+    List<PostCommentSummary> comments = rows.stream()
+        .map(row -> new PostCommentSummary(row.getId(), row.getUuid(), row.getUserUuid(), row.getComment(),
+            row.getCreatedAt()))
+        .toList();
+    return new SliceImpl<>(comments, PageRequest.of(0, limit), hasNext);
+  }
+
+  @Override
+  public void exportCreatedSince(LocalDateTime since, Consumer<PostCommentExport> consumer) {
+    try (Stream<CommentExportRow> rows = since == null
+        ? jpaPostCommentRepository.streamExportRows()
+        : jpaPostCommentRepository.streamExportRowsCreatedSince(since)) {
+      rows.forEach(row -> consumer.accept(new PostCommentExport(row.getUuid(), row.getPostUuid(), row.getUserUuid(),
+          row.getComment(), row.getCreatedAt())));
+    }
+  }
 }
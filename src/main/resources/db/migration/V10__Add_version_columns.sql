@@ -0,0 +1,7 @@
+-- Versions of the rows rendered by the single post, tag and user endpoints. JPA increments them
+-- on every update it writes from an entity, the bulk updates of the counters and tag renames
+-- increment them themselves. The endpoints answer If-None-Match by reading this column alone.
+ALTER TABLE post ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tag ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE post_comment ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,7 @@
+-- The bulk updates of the counters and tag renames change what a row renders without being an edit
+-- of it. They increment revision instead of the version of V10, which stays the optimistic lock
+-- that only JPA increments, on the updates it writes from an entity. The endpoints answer
+-- If-None-Match by reading version + revision alone, which grows with every change of either.
+ALTER TABLE post ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE tag ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS revision BIGINT NOT NULL DEFAULT 0;
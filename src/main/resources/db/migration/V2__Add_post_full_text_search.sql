@@ -0,0 +1,12 @@
+-- Full-text search over post title and body. The 'simple' configuration is used because post
+-- content is not guaranteed to be English: no stemming and no stop words, only lowercasing.
+-- Imported post content carries line breaks as the two characters '\n', which would make the
+-- word after a break unsearchable ('neque\nfugiat' indexed as 'neque', 'nfugiat'), so they are
+-- replaced with a space first.
+ALTER TABLE post
+    ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', replace(title, E'\\n', ' ')), 'A') ||
+        setweight(to_tsvector('simple', replace(body, E'\\n', ' ')), 'B')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_post_search_vector ON post USING GIN (search_vector);
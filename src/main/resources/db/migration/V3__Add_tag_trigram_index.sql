@@ -0,0 +1,4 @@
+-- Trigram index so substring and similarity searches on tag names do not scan the whole table.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_tag_name_trgm ON tag USING GIN (tag gin_trgm_ops);
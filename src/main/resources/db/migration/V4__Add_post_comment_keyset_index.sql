@@ -0,0 +1,5 @@
+-- flyway:executeInTransaction=false
+-- Comments of a post are paged by (created_at, id), so the index serves both the post filter and
+-- the keyset order, and the first page stops after reading a page worth of entries. The id column
+-- breaks ties between comments created in the same microsecond.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_comment_post_created_at ON post_comment (post_id, created_at, id);
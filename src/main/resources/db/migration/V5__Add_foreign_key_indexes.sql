@@ -0,0 +1,11 @@
+-- flyway:executeInTransaction=false
+-- PostgreSQL does not index the referencing side of a foreign key. Without these, lookups by
+-- author or tag, the tag in use checks and every ON DELETE CASCADE scan the whole referencing
+-- table. post_comment.post_id needs none: it leads idx_post_comment_post_created_at (V4), and
+-- post_tag.post_id and user_tag.user_id lead their primary keys.
+-- The tag side is indexed on (tag_id, post_id) and (tag_id, user_id), so the posts or users of a
+-- tag are read in id order from the index alone and a limited read stops at its limit.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_user_id ON post (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_comment_user_id ON post_comment (user_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_tag_tag_id_post_id ON post_tag (tag_id, post_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_user_tag_tag_id_user_id ON user_tag (tag_id, user_id);
@@ -0,0 +1,15 @@
+-- flyway:executeInTransaction=false
+-- Tags still assigned to posts or users are not deletable. The guarded delete checks it with the
+-- snapshot its statement started with; RESTRICT makes an assignment committed after that fail the
+-- delete instead of being cascaded away with the tag.
+-- The references are swapped in NOT VALID, which skips the scan of the existing rows, and then
+-- validated in their own statement, which lets writes to the table go on while it reads them.
+ALTER TABLE post_tag
+    DROP CONSTRAINT IF EXISTS post_tag_tag_id_fkey,
+    ADD CONSTRAINT post_tag_tag_id_fkey FOREIGN KEY (tag_id) REFERENCES tag (id) ON DELETE RESTRICT NOT VALID;
+ALTER TABLE post_tag VALIDATE CONSTRAINT post_tag_tag_id_fkey;
+
+ALTER TABLE user_tag
+    DROP CONSTRAINT IF EXISTS user_tag_tag_id_fkey,
+    ADD CONSTRAINT user_tag_tag_id_fkey FOREIGN KEY (tag_id) REFERENCES tag (id) ON DELETE RESTRICT NOT VALID;
+ALTER TABLE user_tag VALIDATE CONSTRAINT user_tag_tag_id_fkey;
@@ -0,0 +1,7 @@
+-- Hibernate reserves ids in blocks of 50 with one nextval (pooled-lo optimizer: the value returned
+-- is the first id of the block), so inserts no longer need RETURNING and can be batched. Inserts
+-- relying on the column default still draw from the same sequences and cannot collide with a block.
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_id_seq INCREMENT BY 50;
+ALTER SEQUENCE tag_id_seq INCREMENT BY 50;
+ALTER SEQUENCE post_comment_id_seq INCREMENT BY 50;
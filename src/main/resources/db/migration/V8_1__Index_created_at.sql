@@ -0,0 +1,7 @@
+-- flyway:executeInTransaction=false
+-- Indexes for the created_at filters of the exports (V8). Comments already have a creation time;
+-- post_comment's own index leads with post_id, so it needs a second one for a filter on created_at
+-- alone.
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_created_at ON post (created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_users_created_at ON users (created_at);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_post_comment_created_at ON post_comment (created_at);
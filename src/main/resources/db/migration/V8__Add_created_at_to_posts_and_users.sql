@@ -0,0 +1,4 @@
+-- Exports can be limited to the rows created since a given time. Posts and users had no creation
+-- time, existing rows get the time of this migration. Their indexes are built by V8_1.
+ALTER TABLE post ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
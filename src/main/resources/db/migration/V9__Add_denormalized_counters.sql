@@ -0,0 +1,13 @@
+-- Counts rendered with posts, tags and users. The use cases that add or remove what is counted
+-- keep them with relative updates in the same transaction, so reads no longer count the rows of
+-- whole collections. ReconcileCounters repairs whatever drifts.
+ALTER TABLE post ADD COLUMN IF NOT EXISTS comment_count INT NOT NULL DEFAULT 0;
+ALTER TABLE tag ADD COLUMN IF NOT EXISTS post_count INT NOT NULL DEFAULT 0;
+ALTER TABLE tag ADD COLUMN IF NOT EXISTS user_count INT NOT NULL DEFAULT 0;
+ALTER TABLE users ADD COLUMN IF NOT EXISTS post_count INT NOT NULL DEFAULT 0;
+
+UPDATE post p SET comment_count = (SELECT COUNT(*) FROM post_comment c WHERE c.post_id = p.id);
+UPDATE tag t SET
+    post_count = (SELECT COUNT(*) FROM post_tag pt WHERE pt.tag_id = t.id),
+    user_count = (SELECT COUNT(*) FROM user_tag ut WHERE ut.tag_id = t.id);
+UPDATE users u SET post_count = (SELECT COUNT(*) FROM post p WHERE p.user_id = u.id);
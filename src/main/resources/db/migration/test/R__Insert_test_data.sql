@@ -13,12 +13,14 @@ TRUNCATE TABLE post CASCADE;
 
 TRUNCATE TABLE users CASCADE;
 
--- Reset the sequence to start from 1
-ALTER SEQUENCE users_id_seq RESTART WITH 1;
+-- Reset the sequence to start from 1, one id at a time so the ids below are 1, 2, 3...
+ALTER SEQUENCE users_id_seq RESTART WITH 1 INCREMENT BY 1;
 
-ALTER SEQUENCE post_id_seq RESTART WITH 1;
+ALTER SEQUENCE post_id_seq RESTART WITH 1 INCREMENT BY 1;
 
-ALTER SEQUENCE tag_id_seq RESTART WITH 1;
+ALTER SEQUENCE tag_id_seq RESTART WITH 1 INCREMENT BY 1;
+
+ALTER SEQUENCE post_comment_id_seq INCREMENT BY 1;
 
 -- Insert users
 INSERT INTO
@@ -718,3 +720,21 @@ INSERT INTO post_comment (uuid, post_id, user_id, comment, created_at) VALUES
     ('550e8400-e29b-41d4-a716-446655442002', 1, 3, 'Thanks for sharing this.', '2025-09-13 10:05:00'),
     ('550e8400-e29b-41d4-a716-446655442003', 2, 4, 'I have a question about this topic.', '2025-09-13 10:10:00'),
     ('550e8400-e29b-41d4-a716-446655442004', 2, 5, 'Excellent explanation, helped me a lot.', '2025-09-13 10:15:00');
+
+-- Counters of the rows inserted above (see V9)
+UPDATE post p SET comment_count = (SELECT COUNT(*) FROM post_comment c WHERE c.post_id = p.id);
+
+UPDATE tag t SET
+    post_count = (SELECT COUNT(*) FROM post_tag pt WHERE pt.tag_id = t.id),
+    user_count = (SELECT COUNT(*) FROM user_tag ut WHERE ut.tag_id = t.id);
+
+UPDATE users u SET post_count = (SELECT COUNT(*) FROM post p WHERE p.user_id = u.id);
+
+-- Back to the blocks of ids Hibernate allocates (see V7)
+ALTER SEQUENCE users_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE post_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE tag_id_seq INCREMENT BY 50;
+
+ALTER SEQUENCE post_comment_id_seq INCREMENT BY 50;
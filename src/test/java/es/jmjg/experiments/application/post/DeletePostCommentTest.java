@@ -9,10 +9,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import es.jmjg.experiments.application.post.dto.DeletePostCommentDto;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.post.entity.PostComment;
 import es.jmjg.experiments.domain.post.exception.PostCommentNotFound;
 import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.shared.PostFactory;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class DeletePostCommentTest {
@@ -31,6 +34,12 @@ class DeletePostCommentTest {
   @Mock
   private PostCommentRepository postCommentRepository;
 
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private DeletePostComment deletePostComment;
 
@@ -56,6 +65,8 @@ class DeletePostCommentTest {
     // Then
     verify(postCommentRepository, times(1)).findByUuid(postComment.getUuid());
     verify(postCommentRepository, times(1)).deleteById(postComment.getId());
+    verify(postRepository, times(1)).incrementCommentCount(postComment.getPost().getId(), -1);
+    verify(eventPublisher).publishEvent(new PostChanged(postComment.getPost().getUuid()));
   }
 
   @Test
@@ -71,6 +82,7 @@ class DeletePostCommentTest {
 
     verify(postCommentRepository, times(1)).findByUuid(postComment.getUuid());
     verify(postCommentRepository, never()).deleteById(any());
+    verify(eventPublisher, never()).publishEvent(any(PostChanged.class));
   }
 
   @Test
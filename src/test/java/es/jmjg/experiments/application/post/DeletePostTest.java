@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -12,14 +13,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import es.jmjg.experiments.application.post.dto.DeletePostDto;
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
 import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.UserFactory;
 
 @ExtendWith(MockitoExtension.class)
@@ -28,6 +34,15 @@ class DeletePostTest {
   @Mock
   private PostRepository postRepository;
 
+  @Mock
+  private TagRepository tagRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private DeletePost deletePost;
 
@@ -42,6 +57,7 @@ class DeletePostTest {
 
   @Test
   void deleteByUuid_WhenPostExistsAndUserIsOwner_ShouldDeletePost() {
+    post.setTags(List.of(TagFactory.createTag("java", 7)));
     when(postRepository.findByUuid(post.getUuid())).thenReturn(Optional.of(post));
     doNothing().when(postRepository).deleteById(post.getId());
 
@@ -52,6 +68,9 @@ class DeletePostTest {
     // Then
     verify(postRepository, times(1)).findByUuid(post.getUuid());
     verify(postRepository, times(1)).deleteById(post.getId());
+    verify(tagRepository, times(1)).incrementPostCounts(List.of(7), -1);
+    verify(userRepository, times(1)).incrementPostCount(postOwner.getId(), -1);
+    verify(eventPublisher).publishEvent(new PostChanged(post.getUuid()));
   }
 
   @Test
@@ -81,6 +100,7 @@ class DeletePostTest {
 
     verify(postRepository, times(1)).findByUuid(post.getUuid());
     verify(postRepository, never()).deleteById(any());
+    verify(eventPublisher, never()).publishEvent(any(PostChanged.class));
   }
 
   @Test
@@ -0,0 +1,73 @@
+package es.jmjg.experiments.application.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import es.jmjg.experiments.application.post.dto.FindAllPostsByCursorDto;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+@ExtendWith(MockitoExtension.class)
+class FindAllPostsByCursorTest {
+
+  @Mock
+  private PostRepository postRepository;
+
+  @InjectMocks
+  private FindAllPostsByCursor findAllPostsByCursor;
+
+  private List<PostSummary> testPosts;
+
+  @BeforeEach
+  void setUp() {
+    var postOwner = UserFactory.createBasicUser();
+    testPosts = PostFactory.toSummaries(List.of(PostFactory.createBasicPost(postOwner), PostFactory.createBasicPost(postOwner)));
+  }
+
+  @Test
+  void findAll_WithoutCursor_ShouldReturnFirstSlice() {
+    // Given
+    Slice<PostSummary> expectedSlice = new SliceImpl<>(testPosts, PageRequest.of(0, 2), true);
+    when(postRepository.findAllAfter(null, 2, PostBodyMode.FULL)).thenReturn(expectedSlice);
+
+    // When
+    Slice<PostSummary> result = findAllPostsByCursor.findAll(new FindAllPostsByCursorDto(null, 2));
+
+    // Then
+    assertThat(result.getContent()).containsExactlyElementsOf(testPosts);
+    assertThat(result.hasNext()).isTrue();
+    verify(postRepository, times(1)).findAllAfter(null, 2, PostBodyMode.FULL);
+  }
+
+  @Test
+  void findAll_WithCursor_ShouldReturnPostsAfterIt() {
+    // Given
+    Slice<PostSummary> expectedSlice = new SliceImpl<>(testPosts, PageRequest.of(0, 10), false);
+    when(postRepository.findAllAfter(20, 10, PostBodyMode.FULL)).thenReturn(expectedSlice);
+
+    // When
+    Slice<PostSummary> result = findAllPostsByCursor.findAll(new FindAllPostsByCursorDto(20, 10));
+
+    // Then
+    assertThat(result.getContent()).hasSize(2);
+    assertThat(result.hasNext()).isFalse();
+    verify(postRepository, times(1)).findAllAfter(20, 10, PostBodyMode.FULL);
+  }
+}
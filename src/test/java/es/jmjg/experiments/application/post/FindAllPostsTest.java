@@ -1,6 +1,8 @@
 package es.jmjg.experiments.application.post;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -19,8 +21,10 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
 import es.jmjg.experiments.shared.PostFactory;
 import es.jmjg.experiments.shared.UserFactory;
@@ -34,14 +38,14 @@ class FindAllPostsTest {
   @InjectMocks
   private FindAllPosts findAllPosts;
 
-  private Post testPost2;
-  private List<Post> testPosts;
+  private PostSummary testPost2;
+  private List<PostSummary> testPosts;
 
   @BeforeEach
   void setUp() {
     var postOwner = UserFactory.createBasicUser();
-    var testPost1 = PostFactory.createBasicPost(postOwner);
-    testPost2 = PostFactory.createBasicPost(postOwner);
+    var testPost1 = PostFactory.toSummary(PostFactory.createBasicPost(postOwner));
+    testPost2 = PostFactory.toSummary(PostFactory.createBasicPost(postOwner));
     testPosts = Arrays.asList(testPost1, testPost2);
   }
 
@@ -49,11 +53,11 @@ class FindAllPostsTest {
   void findAll_ShouldReturnAllPosts() {
     // Given
     Pageable pageable = PageRequest.of(0, 10);
-    Page<Post> expectedPage = new PageImpl<>(testPosts, pageable, testPosts.size());
-    when(postRepository.findAll(pageable)).thenReturn(expectedPage);
+    Page<PostSummary> expectedPage = new PageImpl<>(testPosts, pageable, testPosts.size());
+    when(postRepository.findAll(pageable, PostBodyMode.FULL)).thenReturn(expectedPage);
 
     // When
-    Page<Post> result = findAllPosts.findAll(new FindAllPostsDto(pageable));
+    Page<PostSummary> result = findAllPosts.findAll(new FindAllPostsDto(pageable));
 
     // Then
     assertThat(result).isNotNull();
@@ -61,36 +65,36 @@ class FindAllPostsTest {
     assertThat(result.getContent()).containsExactlyElementsOf(testPosts);
     assertThat(result.getTotalElements()).isEqualTo(2);
     assertThat(result.getTotalPages()).isEqualTo(1);
-    verify(postRepository, times(1)).findAll(pageable);
+    verify(postRepository, times(1)).findAll(pageable, PostBodyMode.FULL);
   }
 
   @Test
   void findAll_WhenNoPosts_ShouldReturnEmptyPage() {
     // Given
     Pageable pageable = PageRequest.of(0, 10);
-    Page<Post> expectedPage = new PageImpl<>(List.of(), pageable, 0);
-    when(postRepository.findAll(pageable)).thenReturn(expectedPage);
+    Page<PostSummary> expectedPage = new PageImpl<>(List.of(), pageable, 0);
+    when(postRepository.findAll(pageable, PostBodyMode.FULL)).thenReturn(expectedPage);
 
     // When
-    Page<Post> result = findAllPosts.findAll(new FindAllPostsDto(pageable));
+    Page<PostSummary> result = findAllPosts.findAll(new FindAllPostsDto(pageable));
 
     // Then
     assertThat(result).isNotNull();
     assertThat(result.getContent()).isEmpty();
     assertThat(result.getTotalElements()).isEqualTo(0);
     assertThat(result.getTotalPages()).isEqualTo(0);
-    verify(postRepository, times(1)).findAll(pageable);
+    verify(postRepository, times(1)).findAll(pageable, PostBodyMode.FULL);
   }
 
   @Test
   void findAll_WithPagination_ShouldReturnCorrectPage() {
     // Given
     Pageable secondPage = PageRequest.of(1, 1);
-    Page<Post> expectedPage = new PageImpl<>(List.of(testPost2), secondPage, 2);
-    when(postRepository.findAll(secondPage)).thenReturn(expectedPage);
+    Page<PostSummary> expectedPage = new PageImpl<>(List.of(testPost2), secondPage, 2);
+    when(postRepository.findAll(secondPage, PostBodyMode.FULL)).thenReturn(expectedPage);
 
     // When
-    Page<Post> result = findAllPosts.findAll(new FindAllPostsDto(secondPage));
+    Page<PostSummary> result = findAllPosts.findAll(new FindAllPostsDto(secondPage));
 
     // Then
     assertThat(result).isNotNull();
@@ -99,6 +103,67 @@ class FindAllPostsTest {
     assertThat(result.getTotalElements()).isEqualTo(2);
     assertThat(result.getTotalPages()).isEqualTo(2);
     assertThat(result.getNumber()).isEqualTo(1);
-    verify(postRepository, times(1)).findAll(secondPage);
+    verify(postRepository, times(1)).findAll(secondPage, PostBodyMode.FULL);
+  }
+
+  @Test
+  void findAll_WithApproximateCount_ShouldUseEstimateInsteadOfCounting() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 2);
+    when(postRepository.findAllWithoutCount(pageable, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(testPosts, pageable, true));
+    when(postRepository.estimateCount()).thenReturn(1000L);
+
+    // When
+    Page<PostSummary> result = findAllPosts.findAll(new FindAllPostsDto(pageable, true));
+
+    // Then
+    assertThat(result.getContent()).containsExactlyElementsOf(testPosts);
+    assertThat(result.getTotalElements()).isEqualTo(1000);
+    assertThat(result.hasNext()).isTrue();
+    verify(postRepository, never()).findAll(any(Pageable.class), any(PostBodyMode.class));
+  }
+
+  @Test
+  void findAll_WithApproximateCount_ShouldNotReportFewerPostsThanRead() {
+    // Given
+    Pageable pageable = PageRequest.of(3, 2);
+    when(postRepository.findAllWithoutCount(pageable, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(testPosts, pageable, true));
+    when(postRepository.estimateCount()).thenReturn(0L);
+
+    // When
+    Page<PostSummary> result = findAllPosts.findAll(new FindAllPostsDto(pageable, true));
+
+    // Then
+    assertThat(result.getTotalElements()).isEqualTo(9);
+    assertThat(result.hasNext()).isTrue();
+  }
+
+  @Test
+  void findAll_WithApproximateCountOnLastPage_ShouldReturnExactTotal() {
+    // Given
+    Pageable pageable = PageRequest.of(1, 2);
+    when(postRepository.findAllWithoutCount(pageable, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(List.of(testPost2), pageable, false));
+
+    // When
+    Page<PostSummary> result = findAllPosts.findAll(new FindAllPostsDto(pageable, true));
+
+    // Then
+    assertThat(result.getTotalElements()).isEqualTo(3);
+    verify(postRepository, never()).estimateCount();
+  }
+
+  @Test
+  void findAll_WithApproximateCountPastLastPage_ShouldNotReportMorePostsThanOffset() {
+    // Given
+    Pageable pageable = PageRequest.of(5, 2);
+    when(postRepository.findAllWithoutCount(pageable, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(List.of(), pageable, false));
+    when(postRepository.estimateCount()).thenReturn(1000L);
+
+    // When
+    Page<PostSummary> result = findAllPosts.findAll(new FindAllPostsDto(pageable, true));
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    assertThat(result.getTotalElements()).isEqualTo(10);
   }
 }
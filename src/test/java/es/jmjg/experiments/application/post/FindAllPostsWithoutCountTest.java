@@ -0,0 +1,52 @@
+package es.jmjg.experiments.application.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import es.jmjg.experiments.application.post.dto.FindAllPostsDto;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+@ExtendWith(MockitoExtension.class)
+class FindAllPostsWithoutCountTest {
+
+  @Mock
+  private PostRepository postRepository;
+
+  @InjectMocks
+  private FindAllPostsWithoutCount findAllPostsWithoutCount;
+
+  @Test
+  void findAll_ShouldReturnSliceWithoutCounting() {
+    // Given
+    var post = PostFactory.toSummary(PostFactory.createBasicPost(UserFactory.createBasicUser()));
+    Pageable pageable = PageRequest.of(1, 1);
+    when(postRepository.findAllWithoutCount(pageable, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(List.of(post), pageable, true));
+
+    // When
+    Slice<PostSummary> result = findAllPostsWithoutCount.findAll(new FindAllPostsDto(pageable));
+
+    // Then
+    assertThat(result.getContent()).containsExactly(post);
+    assertThat(result.hasNext()).isTrue();
+    assertThat(result.hasPrevious()).isTrue();
+    verify(postRepository, times(1)).findAllWithoutCount(pageable, PostBodyMode.FULL);
+  }
+}
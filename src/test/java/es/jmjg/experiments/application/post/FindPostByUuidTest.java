@@ -39,21 +39,21 @@ class FindPostByUuidTest {
   @Test
   void findByUuid_WhenPostExists_ShouldReturnPost() {
     // Given
-    when(postRepository.findByUuid(testPost.getUuid())).thenReturn(Optional.of(testPost));
+    when(postRepository.findByUuidWithUserAndTags(testPost.getUuid())).thenReturn(Optional.of(testPost));
 
     // When
     Post result = findPostByUuid.findByUuid(testPost.getUuid());
 
     // Then
     assertThat(result).isEqualTo(testPost);
-    verify(postRepository, times(1)).findByUuid(testPost.getUuid());
+    verify(postRepository, times(1)).findByUuidWithUserAndTags(testPost.getUuid());
   }
 
   @Test
   void findByUuid_WhenPostDoesNotExist_ShouldThrowPostNotFoundException() {
     // Given
     var nonExistentUuid = UUID.randomUUID();
-    when(postRepository.findByUuid(nonExistentUuid)).thenReturn(Optional.empty());
+    when(postRepository.findByUuidWithUserAndTags(nonExistentUuid)).thenReturn(Optional.empty());
 
     // When
     assertThatThrownBy(() -> findPostByUuid.findByUuid(nonExistentUuid))
@@ -61,7 +61,7 @@ class FindPostByUuidTest {
         .hasMessage("Post with UUID " + nonExistentUuid + " not found");
 
     // Then
-    verify(postRepository, times(1)).findByUuid(nonExistentUuid);
+    verify(postRepository, times(1)).findByUuidWithUserAndTags(nonExistentUuid);
   }
 
   @Test
@@ -72,6 +72,6 @@ class FindPostByUuidTest {
         .hasMessage("UUID cannot be null");
 
     // Then
-    verify(postRepository, never()).findByUuid(null);
+    verify(postRepository, never()).findByUuidWithUserAndTags(null);
   }
 }
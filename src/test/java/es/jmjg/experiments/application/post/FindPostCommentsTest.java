@@ -0,0 +1,137 @@
+package es.jmjg.experiments.application.post;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import es.jmjg.experiments.application.post.dto.FindPostCommentsDto;
+import es.jmjg.experiments.application.shared.PageSize;
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.exception.PostNotFound;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.shared.UserFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+@ExtendWith(MockitoExtension.class)
+class FindPostCommentsTest {
+
+  @Mock
+  private PostCommentRepository postCommentRepository;
+
+  @Mock
+  private PostRepository postRepository;
+
+  @InjectMocks
+  private FindPostComments findPostComments;
+
+  private Post testPost;
+
+  @BeforeEach
+  void setUp() {
+    testPost = PostFactory.createBasicPost(UserFactory.createBasicUser());
+  }
+
+  @Test
+  void findByPost_WhenPostHasComments_ShouldReturnThemWithoutLookingUpPost() {
+    // Given
+    LocalDateTime after = LocalDateTime.of(2025, 9, 13, 10, 0);
+    Slice<PostCommentSummary> comments = new SliceImpl<>(
+        List.of(new PostCommentSummary(2, UUID.randomUUID(), UUID.randomUUID(), "Second", after)),
+        PageRequest.of(0, 1), true);
+    when(postCommentRepository.findByPostUuid(testPost.getUuid(), after, 1, 1)).thenReturn(comments);
+
+    // When
+    Slice<PostCommentSummary> result = findPostComments.findByPost(new FindPostCommentsDto(testPost.getUuid(), after, 1, 1));
+
+    // Then
+    assertThat(result).isSameAs(comments);
+    verify(postRepository, never()).findByUuid(testPost.getUuid());
+  }
+
+  @Test
+  void findByPost_WhenPostHasNoComments_ShouldReturnEmptySlice() {
+    // Given
+    when(postCommentRepository.findByPostUuid(testPost.getUuid(), null, null, 10))
+        .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+    when(postRepository.findByUuid(testPost.getUuid())).thenReturn(Optional.of(testPost));
+
+    // When
+    Slice<PostCommentSummary> result = findPostComments.findByPost(new FindPostCommentsDto(testPost.getUuid(), 10));
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+  }
+
+  @Test
+  void findPreview_ShouldReadFirstCommentsOfPost() {
+    // Given
+    Slice<PostCommentSummary> comments = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+    when(postCommentRepository.findByPostUuid(testPost.getUuid(), null, null, 10)).thenReturn(comments);
+
+    // When
+    Slice<PostCommentSummary> result = findPostComments.findPreview(testPost, 10);
+
+    // Then
+    assertThat(result).isSameAs(comments);
+    verify(postRepository, never()).findByUuid(testPost.getUuid());
+  }
+
+  @Test
+  void findByPost_WhenPostDoesNotExist_ShouldThrowPostNotFound() {
+    // Given
+    UUID nonExistentUuid = UUID.randomUUID();
+    when(postCommentRepository.findByPostUuid(nonExistentUuid, null, null, 10))
+        .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 10), false));
+    when(postRepository.findByUuid(nonExistentUuid)).thenReturn(Optional.empty());
+
+    // When & Then
+    assertThatThrownBy(() -> findPostComments.findByPost(new FindPostCommentsDto(nonExistentUuid, 10)))
+        .isInstanceOf(PostNotFound.class)
+        .hasMessage("Post with UUID " + nonExistentUuid + " not found");
+  }
+
+  @Test
+  void findByPost_WhenSizeIsBelowOne_ShouldThrowInvalidRequest() {
+    // When & Then
+    assertThatThrownBy(() -> findPostComments.findByPost(new FindPostCommentsDto(testPost.getUuid(), 0)))
+        .isInstanceOf(InvalidRequest.class)
+        .hasMessage("Page size must be at least 1, was 0");
+    assertThatThrownBy(() -> findPostComments.findByPost(new FindPostCommentsDto(testPost.getUuid(), -5)))
+        .isInstanceOf(InvalidRequest.class);
+    verifyNoInteractions(postCommentRepository);
+  }
+
+  @Test
+  void findByPost_WhenSizeIsAboveMax_ShouldReadMaxComments() {
+    // Given
+    Slice<PostCommentSummary> comments = new SliceImpl<>(
+        List.of(new PostCommentSummary(1, UUID.randomUUID(), UUID.randomUUID(), "First", LocalDateTime.now())),
+        PageRequest.of(0, PageSize.MAX), false);
+    when(postCommentRepository.findByPostUuid(testPost.getUuid(), null, null, PageSize.MAX)).thenReturn(comments);
+
+    // When
+    Slice<PostCommentSummary> result = findPostComments.findByPost(new FindPostCommentsDto(testPost.getUuid(), 1_000_000));
+
+    // Then
+    assertThat(result).isSameAs(comments);
+  }
+}
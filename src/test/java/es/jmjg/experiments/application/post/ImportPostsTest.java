@@ -0,0 +1,236 @@
+package es.jmjg.experiments.application.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import es.jmjg.experiments.application.post.dto.ImportPostCommentDto;
+import es.jmjg.experiments.application.post.dto.ImportPostDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsReport;
+import es.jmjg.experiments.application.post.dto.ImportPostsReport.RecordError;
+import es.jmjg.experiments.application.tag.shared.TagCache;
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+import es.jmjg.experiments.shared.AuthenticatedUserFactory;
+import es.jmjg.experiments.shared.TagFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+@ExtendWith(MockitoExtension.class)
+class ImportPostsTest {
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private PostCommentRepository postCommentRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private TagCache tagCache;
+
+  @InjectMocks
+  private ImportPosts importPosts;
+
+  private User testUser;
+
+  @BeforeEach
+  void setUp() {
+    testUser = UserFactory.createBasicUser();
+  }
+
+  @Test
+  void importPosts_ShouldStoreRecordsInBatches() {
+    // Given
+    when(userRepository.findAllByUuidIn(anyCollection())).thenReturn(List.of(testUser));
+    when(tagCache.findAllByName(anyCollection())).thenReturn(List.of(TagFactory.createTag("java", 1)));
+    List<List<Post>> batches = captureImportedBatches();
+
+    // When
+    ImportPostsReport report = importPosts.importPosts(importOf(testUser, 2,
+        post("First", List.of("java"), List.of(comment("Nice"))), post("Second"), post("Third")));
+
+    // Then
+    assertThat(report.imported()).isEqualTo(3);
+    assertThat(report.failed()).isZero();
+    assertThat(batches).extracting(List::size).containsExactly(2, 1);
+    Post first = batches.get(0).get(0);
+    assertThat(first.getUser()).isSameAs(testUser);
+    assertThat(first.getTags()).extracting("name").containsExactly("java");
+    assertThat(first.getComments()).singleElement().satisfies(comment -> {
+      assertThat(comment.getPost()).isSameAs(first);
+      assertThat(comment.getUser()).isSameAs(testUser);
+    });
+    verify(userRepository, times(2)).findAllByUuidIn(anyCollection());
+  }
+
+  @Test
+  void importPosts_ShouldReportRejectedRecordsAndGoOn() {
+    // Given
+    ImportPostDto taken = post("Taken");
+    when(userRepository.findAllByUuidIn(anyCollection())).thenReturn(List.of(testUser));
+    when(postRepository.findExistingUuids(anyCollection())).thenReturn(List.of(taken.uuid()));
+    List<List<Post>> batches = captureImportedBatches();
+
+    // When
+    ImportPostsReport report = importPosts.importPosts(importOf(testUser, 10,
+        new ImportPostDto(UUID.randomUUID(), null, "Body", null, List.of(), List.of()),
+        post("Tagged", List.of("unknown"), List.of()),
+        taken,
+        post("Kept"),
+        post("Kept")));
+
+    // Then
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.failed()).isEqualTo(4);
+    assertThat(report.errors()).extracting(RecordError::record).containsExactly(1L, 2L, 3L, 5L);
+    assertThat(report.errors()).extracting(RecordError::message).containsExactly(
+        "Title is required",
+        "Tag not found: unknown",
+        "A post with identifier " + taken.uuid() + " already exists",
+        "A post with title 'Kept' already exists");
+    assertThat(batches).singleElement().satisfies(batch -> assertThat(batch).extracting("title").containsExactly("Kept"));
+  }
+
+  @Test
+  void importPosts_WhenImporterIsNotAdmin_ShouldRejectPostsOfOtherUsers() {
+    // Given
+    User other = UserFactory.createUser("Other", "other@example.com", "other");
+    ImportPostDto othersPost = new ImportPostDto(UUID.randomUUID(), "Other", "Body", other.getUuid(), List.of(), List.of());
+
+    // When
+    ImportPostsReport report = importPosts.importPosts(importOf(testUser, 10, othersPost));
+
+    // Then
+    assertThat(report.failed()).isEqualTo(1);
+    assertThat(report.errors()).extracting(RecordError::message)
+        .containsExactly("You can only import posts and comments of your own");
+    verify(postRepository, never()).importAll(anyList());
+  }
+
+  @Test
+  void importPosts_WhenImporterIsAdmin_ShouldStorePostsOfOtherUsers() {
+    // Given
+    User admin = UserFactory.createAdminUser();
+    when(userRepository.findAllByUuidIn(anyCollection())).thenReturn(List.of(testUser));
+    List<List<Post>> batches = captureImportedBatches();
+
+    // When
+    ImportPostsReport report = importPosts.importPosts(importOf(admin, 10,
+        new ImportPostDto(UUID.randomUUID(), "Title", "Body", testUser.getUuid(), List.of(), List.of())));
+
+    // Then
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(batches.get(0).get(0).getUser()).isSameAs(testUser);
+  }
+
+  @Test
+  void importPosts_WhenReadingRecordFails_ShouldReportItAndGoOn() {
+    // Given
+    when(userRepository.findAllByUuidIn(anyCollection())).thenReturn(List.of(testUser));
+    Iterator<ImportPostDto> records = new Iterator<>() {
+      private int read;
+
+      @Override
+      public boolean hasNext() {
+        return read < 2;
+      }
+
+      @Override
+      public ImportPostDto next() {
+        if (read++ == 0) {
+          throw new InvalidRequest("Invalid post");
+        }
+        return post("Readable");
+      }
+    };
+
+    // When
+    ImportPostsReport report = importPosts.importPosts(new ImportPostsDto(records,
+        AuthenticatedUserFactory.createAuthenticatedUserDto(testUser), 10, 10));
+
+    // Then
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.errors()).containsExactly(new RecordError(1, null, "Invalid post"));
+  }
+
+  @Test
+  void importPosts_WhenBatchFails_ShouldStoreItsRecordsOneByOne() {
+    // Given
+    ImportPostDto good = post("Good");
+    ImportPostDto bad = post("Bad");
+    when(userRepository.findAllByUuidIn(anyCollection())).thenReturn(List.of(testUser));
+    doAnswer(invocation -> {
+      List<Post> posts = invocation.getArgument(0);
+      if (posts.stream().anyMatch(post -> post.getTitle().equals("Bad"))) {
+        throw new DataIntegrityViolationException("batch failed",
+            new IllegalStateException("duplicate key value violates unique constraint \"post_title_key\""));
+      }
+      return null;
+    }).when(postRepository).importAll(anyList());
+
+    // When
+    ImportPostsReport report = importPosts.importPosts(importOf(testUser, 10, good, bad));
+
+    // Then
+    assertThat(report.imported()).isEqualTo(1);
+    assertThat(report.errors()).containsExactly(
+        new RecordError(2, bad.uuid(), "duplicate key value violates unique constraint \"post_title_key\""));
+    verify(postRepository, times(3)).importAll(anyList());
+  }
+
+  @Test
+  void importPosts_ShouldCountEveryFailureButReportOnlyTheFirstOnes() {
+    // When
+    ImportPostsReport report = importPosts.importPosts(new ImportPostsDto(
+        List.of(post(""), post(""), post("")).iterator(),
+        AuthenticatedUserFactory.createAuthenticatedUserDto(testUser), 10, 2));
+
+    // Then
+    assertThat(report.failed()).isEqualTo(3);
+    assertThat(report.errors()).extracting(RecordError::record).containsExactly(1L, 2L);
+  }
+
+  private List<List<Post>> captureImportedBatches() {
+    List<List<Post>> batches = new ArrayList<>();
+    doAnswer(invocation -> batches.add(List.copyOf(invocation.<List<Post>>getArgument(0))))
+        .when(postRepository).importAll(anyList());
+    return batches;
+  }
+
+  private static ImportPostsDto importOf(User importer, int batchSize, ImportPostDto... posts) {
+    return new ImportPostsDto(List.of(posts).iterator(), AuthenticatedUserFactory.createAuthenticatedUserDto(importer),
+        batchSize, 100);
+  }
+
+  private static ImportPostDto post(String title) {
+    return post(title, List.of(), List.of());
+  }
+
+  private static ImportPostDto post(String title, List<String> tagNames, List<ImportPostCommentDto> comments) {
+    return new ImportPostDto(UUID.randomUUID(), title, "Body of " + title, null, tagNames, comments);
+  }
+
+  private static ImportPostCommentDto comment(String text) {
+    return new ImportPostCommentDto(UUID.randomUUID(), null, text);
+  }
+}
@@ -3,11 +3,13 @@ package es.jmjg.experiments.application.post;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import es.jmjg.experiments.application.post.dto.SavePostCommentDto;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.post.entity.PostComment;
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
@@ -26,6 +28,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 @ExtendWith(MockitoExtension.class)
 class SavePostCommentTest {
@@ -39,6 +42,9 @@ class SavePostCommentTest {
   @Mock
   private PostCommentRepository postCommentRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private SavePostComment savePostComment;
 
@@ -76,6 +82,8 @@ class SavePostCommentTest {
     verify(userRepository, times(1)).findByUuid(testUser.getUuid());
     verify(postRepository, times(1)).findByUuid(testPost.getUuid());
     verify(postCommentRepository, times(1)).save(any(PostComment.class));
+    verify(postRepository, times(1)).incrementCommentCount(testPost.getId(), 1);
+    verify(eventPublisher).publishEvent(new PostChanged(testPost.getUuid()));
   }
 
   @Test
@@ -107,6 +115,8 @@ class SavePostCommentTest {
     assertThatThrownBy(() -> savePostComment.save(dto)).isInstanceOf(PostNotFound.class);
 
     verify(postCommentRepository, times(0)).save(any(PostComment.class));
+    verify(postRepository, times(0)).incrementCommentCount(any(), anyInt());
+    verify(eventPublisher, times(0)).publishEvent(any(PostChanged.class));
   }
 
   @Test
@@ -64,6 +64,7 @@ class SavePostTest {
     assertThat(result.getBody()).isEqualTo(newPost.getBody());
     verify(userRepository, times(1)).findByUuid(testUser.getUuid());
     verify(postRepository, times(1)).save(any(Post.class));
+    verify(userRepository, times(1)).incrementPostCount(testUser.getId(), 1);
   }
 
   @Test
@@ -6,6 +6,7 @@ import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
@@ -18,6 +19,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.util.List;
 import java.util.Optional;
@@ -32,6 +34,8 @@ class UpdatePostTagsTest {
   private PostRepository postRepository;
   @Mock
   private ProcessPostTags processPostTags;
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
   @InjectMocks
   private UpdatePostTags updatePostTags;
 
@@ -67,6 +71,7 @@ class UpdatePostTagsTest {
     assertEquals(post, result);
     verify(processPostTags).processTagsForPost(post, dto.tagNames());
     verify(postRepository).save(post);
+    verify(eventPublisher).publishEvent(new PostChanged(postUuid));
   }
 
   @Test
@@ -97,6 +102,7 @@ class UpdatePostTagsTest {
     assertThrows(TagNotFound.class, () -> updatePostTags.update(dto));
     verify(processPostTags).processTagsForPost(post, dto.tagNames());
     verify(postRepository, never()).save(any());
+    verify(eventPublisher, never()).publishEvent(any(PostChanged.class));
   }
 
   @Test
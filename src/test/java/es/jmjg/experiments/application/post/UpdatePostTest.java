@@ -14,9 +14,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
@@ -32,6 +34,9 @@ class UpdatePostTest {
   @Mock
   private ProcessPostTags processPostTags;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private UpdatePost updatePost;
 
@@ -69,6 +74,7 @@ class UpdatePostTest {
 
     verify(postRepository, times(1)).findByUuid(testPost.getUuid());
     verify(postRepository, times(1)).save(any(Post.class));
+    verify(eventPublisher).publishEvent(new PostChanged(testPost.getUuid()));
   }
 
   @Test
@@ -108,6 +114,7 @@ class UpdatePostTest {
     // Then
     verify(postRepository, times(1)).findByUuid(testPost.getUuid());
     verify(postRepository, never()).save(any());
+    verify(eventPublisher, never()).publishEvent(any(PostChanged.class));
   }
 
   @Test
@@ -11,7 +11,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import es.jmjg.experiments.application.post.FindAllPosts;
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.shared.BaseIntegration;
 
 class FindAllPostsIntegrationTest extends BaseIntegration {
@@ -31,7 +31,7 @@ class FindAllPostsIntegrationTest extends BaseIntegration {
   @Test
   void findAll_ShouldReturnAllPosts() {
     // When
-    Page<Post> result = findAllPosts.findAll(postMapper.toFindAllPostsDto(pageable));
+    Page<PostSummary> result = findAllPosts.findAll(postMapper.toFindAllPostsDto(pageable));
 
     // Then
     assertThat(result).isNotNull();
@@ -46,7 +46,7 @@ class FindAllPostsIntegrationTest extends BaseIntegration {
     Pageable emptyPage = PageRequest.of(999, 10);
 
     // When
-    Page<Post> result = findAllPosts.findAll(postMapper.toFindAllPostsDto(emptyPage));
+    Page<PostSummary> result = findAllPosts.findAll(postMapper.toFindAllPostsDto(emptyPage));
 
     // Then
     assertThat(result).isNotNull();
@@ -60,7 +60,7 @@ class FindAllPostsIntegrationTest extends BaseIntegration {
     Pageable firstPage = PageRequest.of(0, 5);
 
     // When
-    Page<Post> result = findAllPosts.findAll(postMapper.toFindAllPostsDto(firstPage));
+    Page<PostSummary> result = findAllPosts.findAll(postMapper.toFindAllPostsDto(firstPage));
 
     // Then
     assertThat(result).isNotNull();
@@ -23,8 +23,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // The test data has posts with "sunt" in the title
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("sunt") ||
-        post.getBody().toLowerCase().contains("sunt"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("sunt") ||
+        post.body().toLowerCase().contains("sunt"));
   }
 
   @Test
@@ -37,8 +37,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // The test data has posts with "quia" in the body
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("quia") ||
-        post.getBody().toLowerCase().contains("quia"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("quia") ||
+        post.body().toLowerCase().contains("quia"));
   }
 
   @Test
@@ -51,8 +51,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // The test data has multiple posts with "et" in their content
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("et") ||
-        post.getBody().toLowerCase().contains("et"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("et") ||
+        post.body().toLowerCase().contains("et"));
   }
 
   @Test
@@ -65,8 +65,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // Case insensitive search should work
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("sunt") ||
-        post.getBody().toLowerCase().contains("sunt"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("sunt") ||
+        post.body().toLowerCase().contains("sunt"));
   }
 
   @Test
@@ -79,8 +79,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // Partial word search should work
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("aut") ||
-        post.getBody().toLowerCase().contains("aut"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("aut") ||
+        post.body().toLowerCase().contains("aut"));
   }
 
   @Test
@@ -148,8 +148,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // The test data has posts with "est" in both title and body
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("est") ||
-        post.getBody().toLowerCase().contains("est"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("est") ||
+        post.body().toLowerCase().contains("est"));
   }
 
   @Test
@@ -162,8 +162,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // Trimmed query should work correctly
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("sunt") ||
-        post.getBody().toLowerCase().contains("sunt"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("sunt") ||
+        post.body().toLowerCase().contains("sunt"));
   }
 
   @Test
@@ -176,8 +176,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // Multiple posts should match "qui" in the test data
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("qui") ||
-        post.getBody().toLowerCase().contains("qui"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("qui") ||
+        post.body().toLowerCase().contains("qui"));
   }
 
   @Test
@@ -190,8 +190,8 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // Common words like "in" should match multiple posts
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("in") ||
-        post.getBody().toLowerCase().contains("in"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("in") ||
+        post.body().toLowerCase().contains("in"));
   }
 
   @Test
@@ -204,7 +204,7 @@ class FindPostsIntegrationTest extends BaseIntegration {
     assertThat(result).isNotNull();
     assertThat(result).isNotEmpty();
     // Should find posts with "repellat" in the content
-    assertThat(result).allMatch(post -> post.getTitle().toLowerCase().contains("repellat") ||
-        post.getBody().toLowerCase().contains("repellat"));
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("repellat") ||
+        post.body().toLowerCase().contains("repellat"));
   }
 }
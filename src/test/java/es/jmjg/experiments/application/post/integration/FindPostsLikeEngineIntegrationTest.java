@@ -0,0 +1,30 @@
+package es.jmjg.experiments.application.post.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import es.jmjg.experiments.application.post.FindPosts;
+import es.jmjg.experiments.shared.BaseIntegration;
+
+@TestPropertySource(properties = "app.post-search-engine=like")
+class FindPostsLikeEngineIntegrationTest extends BaseIntegration {
+
+  @Autowired
+  private FindPosts findPosts;
+
+  @Test
+  void find_WhenQueryIsInsideWord_ShouldReturnMatchingPosts() {
+    // Given - Using existing Flyway test data
+    // When
+    var result = findPosts.find("ugia", 10);
+
+    // Then
+    // Substring matching finds "fugiat", which the full-text engine only matches by prefix
+    assertThat(result).isNotEmpty();
+    assertThat(result).allMatch(post -> post.title().toLowerCase().contains("ugia") ||
+        post.body().toLowerCase().contains("ugia"));
+  }
+}
@@ -1,24 +1,26 @@
 package es.jmjg.experiments.application.post.shared;
 
-import static java.util.Optional.empty;
-import static java.util.Optional.of;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
 import es.jmjg.experiments.shared.TagFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.util.Arrays;
 import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -28,16 +30,20 @@ class ProcessPostTagsTest {
   @Mock
   private TagRepository tagRepository;
 
-  @InjectMocks
   private ProcessPostTags processPostTags;
 
+  @BeforeEach
+  void setUp() {
+    processPostTags = new ProcessPostTags(new TagCache(tagRepository, new SimpleMeterRegistry()), tagRepository);
+  }
+
   @Test
   void WhenTagsAreCorrect_ShouldAssigneTagsTothePost() {
     Post post = mock(Post.class);
     List<String> tags = Arrays.asList("tag1", "tag2");
 
-    when(tagRepository.findByName("tag1")).thenReturn(of(TagFactory.createTag("tag1")));
-    when(tagRepository.findByName("tag2")).thenReturn(of(TagFactory.createTag( "tag2")));
+    when(tagRepository.findAllByNameIn(List.of("tag1", "tag2")))
+      .thenReturn(List.of(TagFactory.createTag("tag1"), TagFactory.createTag("tag2")));
 
     processPostTags.processTagsForPost(post, tags);
 
@@ -45,6 +51,39 @@ class ProcessPostTagsTest {
     verify(post, times(1)).setTags(argThat(list -> list.size() == 2
       && list.stream().anyMatch(tag -> tag.getName().equals("tag1"))
       && list.stream().anyMatch(tag -> tag.getName().equals("tag2"))));
+    verify(tagRepository, times(1)).findAllByNameIn(any());
+    verify(tagRepository, never()).findByName(any());
+  }
+
+  @Test
+  void WhenTagsAreRepeatedOrPadded_ShouldAssignEachTagOnceInOrder() {
+    Post post = mock(Post.class);
+    List<String> tags = Arrays.asList(" tag2 ", "tag1", "tag2", "", null);
+
+    when(tagRepository.findAllByNameIn(List.of("tag2", "tag1")))
+      .thenReturn(List.of(TagFactory.createTag("tag1"), TagFactory.createTag("tag2")));
+
+    processPostTags.processTagsForPost(post, tags);
+
+    // Then
+    verify(post, times(1)).setTags(argThat(list -> list.size() == 2
+      && list.get(0).getName().equals("tag2")
+      && list.get(1).getName().equals("tag1")));
+  }
+
+  @Test
+  void WhenTagsChange_ShouldMovePostCountsOfAddedAndRemovedTagsOnly() {
+    Post post = new Post();
+    post.setTags(List.of(TagFactory.createTag("kept", 1), TagFactory.createTag("removed", 2)));
+
+    when(tagRepository.findAllByNameIn(List.of("kept", "added")))
+      .thenReturn(List.of(TagFactory.createTag("kept", 1), TagFactory.createTag("added", 3)));
+
+    processPostTags.processTagsForPost(post, List.of("kept", "added"));
+
+    // Then
+    verify(tagRepository).incrementPostCounts(List.of(3), 1);
+    verify(tagRepository).incrementPostCounts(List.of(2), -1);
   }
 
   @Test
@@ -52,8 +91,8 @@ class ProcessPostTagsTest {
     Post post = mock(Post.class);
     List<String> tags = Arrays.asList("tag1", "tag2");
 
-    when(tagRepository.findByName("tag1")).thenReturn(of(TagFactory.createTag("tag1")));
-    when(tagRepository.findByName("tag2")).thenReturn(empty());
+    when(tagRepository.findAllByNameIn(List.of("tag1", "tag2")))
+      .thenReturn(List.of(TagFactory.createTag("tag1")));
 
     assertThatThrownBy(() -> processPostTags.processTagsForPost(post, tags))
       .isInstanceOf(TagNotFound.class)
@@ -61,5 +100,22 @@ class ProcessPostTagsTest {
 
     // Then
     verify(post, times(0)).setTags(any());
+    verify(tagRepository, never()).incrementPostCounts(any(), anyInt());
+  }
+
+  @Test
+  void WhenSeveralTagsAreNotFound_ShouldReportThemTogether() {
+    Post post = mock(Post.class);
+    List<String> tags = Arrays.asList("tag1", "tag2", "tag3");
+
+    when(tagRepository.findAllByNameIn(List.of("tag1", "tag2", "tag3")))
+      .thenReturn(List.of(TagFactory.createTag("tag2")));
+
+    assertThatThrownBy(() -> processPostTags.processTagsForPost(post, tags))
+      .isInstanceOf(TagNotFound.class)
+      .hasMessage("Tag not found: tag1, tag3");
+
+    // Then
+    verify(post, times(0)).setTags(any());
   }
 }
@@ -0,0 +1,69 @@
+package es.jmjg.experiments.application.shared;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import es.jmjg.experiments.application.shared.dto.ReconciledCounters;
+import es.jmjg.experiments.domain.post.event.PostChanged;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class ReconcileCountersTest {
+
+  @Mock
+  private PostRepository postRepository;
+
+  @Mock
+  private TagRepository tagRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @InjectMocks
+  private ReconcileCounters reconcileCounters;
+
+  @Test
+  void reconcile_ShouldReportRepairedRowsPerCounter() {
+    // Given
+    List<UUID> posts = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+    when(postRepository.reconcileCommentCounts()).thenReturn(posts);
+    when(tagRepository.reconcileCounts()).thenReturn(1);
+    when(userRepository.reconcilePostCounts()).thenReturn(0);
+
+    // When
+    ReconciledCounters reconciled = reconcileCounters.reconcile();
+
+    // Then
+    assertThat(reconciled).isEqualTo(new ReconciledCounters(3, 1, 0));
+    assertThat(reconciled.total()).isEqualTo(4);
+  }
+
+  @Test
+  void reconcile_ShouldPublishPostChangedForEveryRepairedPost() {
+    // Given
+    UUID post = UUID.randomUUID();
+    when(postRepository.reconcileCommentCounts()).thenReturn(List.of(post));
+
+    // When
+    reconcileCounters.reconcile();
+
+    // Then
+    verify(eventPublisher).publishEvent(new PostChanged(post));
+  }
+}
@@ -0,0 +1,201 @@
+package es.jmjg.experiments.application.shared.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import es.jmjg.experiments.application.post.DeletePost;
+import es.jmjg.experiments.application.post.DeletePostComment;
+import es.jmjg.experiments.application.post.ImportPosts;
+import es.jmjg.experiments.application.post.SavePost;
+import es.jmjg.experiments.application.post.SavePostComment;
+import es.jmjg.experiments.application.post.UpdatePostTags;
+import es.jmjg.experiments.application.post.dto.DeletePostCommentDto;
+import es.jmjg.experiments.application.post.dto.DeletePostDto;
+import es.jmjg.experiments.application.post.dto.ImportPostCommentDto;
+import es.jmjg.experiments.application.post.dto.ImportPostDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsDto;
+import es.jmjg.experiments.application.post.dto.SavePostCommentDto;
+import es.jmjg.experiments.application.post.dto.SavePostDto;
+import es.jmjg.experiments.application.post.dto.UpdatePostTagsDto;
+import es.jmjg.experiments.application.shared.ReconcileCounters;
+import es.jmjg.experiments.application.shared.dto.ReconciledCounters;
+import es.jmjg.experiments.application.user.DeleteUser;
+import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
+import es.jmjg.experiments.application.user.dto.DeleteUserDto;
+import es.jmjg.experiments.infrastructure.repository.UserRepositoryImpl;
+import es.jmjg.experiments.shared.AuthenticatedUserFactory;
+import es.jmjg.experiments.shared.BaseIntegration;
+import es.jmjg.experiments.shared.TestDataSamples;
+import es.jmjg.experiments.shared.UserFactory;
+
+// Each use case that adds or removes counted rows must leave nothing for the reconciliation to repair
+class ReconcileCountersIntegrationTest extends BaseIntegration {
+
+  private static final ReconciledCounters NOTHING = new ReconciledCounters(0, 0, 0);
+
+  @Autowired
+  private ReconcileCounters reconcileCounters;
+
+  @Autowired
+  private SavePost savePost;
+
+  @Autowired
+  private DeletePost deletePost;
+
+  @Autowired
+  private SavePostComment savePostComment;
+
+  @Autowired
+  private DeletePostComment deletePostComment;
+
+  @Autowired
+  private UpdatePostTags updatePostTags;
+
+  @Autowired
+  private ImportPosts importPosts;
+
+  @Autowired
+  private DeleteUser deleteUser;
+
+  @Autowired
+  private UserRepositoryImpl userRepository;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Test
+  @Transactional
+  void reconcile_WhenSeedDataIsCounted_ShouldRepairNothing() {
+    assertThat(reconcileCounters.reconcile()).isEqualTo(NOTHING);
+  }
+
+  @Test
+  @Transactional
+  void reconcile_WhenCountersDrifted_ShouldRepairThem() {
+    // Given
+    int comments = commentCount(TestDataSamples.POST_1_UUID);
+    jdbcTemplate.update("UPDATE post SET comment_count = comment_count + 5 WHERE uuid = ?", TestDataSamples.POST_1_UUID);
+    jdbcTemplate.update("UPDATE tag SET user_count = 99 WHERE uuid = ?", TestDataSamples.TAG_JAVA_UUID);
+    jdbcTemplate.update("UPDATE users SET post_count = -1 WHERE uuid = ?", TestDataSamples.LEANNE_UUID);
+
+    // When
+    ReconciledCounters reconciled = reconcileCounters.reconcile();
+
+    // Then
+    assertThat(reconciled).isEqualTo(new ReconciledCounters(1, 1, 1));
+    assertThat(commentCount(TestDataSamples.POST_1_UUID)).isEqualTo(comments);
+    assertThat(reconcileCounters.reconcile()).isEqualTo(NOTHING);
+  }
+
+  @Test
+  @Transactional
+  void savingAndDeletingComments_ShouldKeepCommentCount() {
+    // Given
+    AuthenticatedUserDto leanne = authenticated(TestDataSamples.LEANNE_UUID);
+    int comments = commentCount(TestDataSamples.POST_1_UUID);
+    UUID commentUuid = UUID.randomUUID();
+
+    // When
+    savePostComment.save(new SavePostCommentDto(commentUuid, TestDataSamples.POST_1_UUID, "Counted", leanne));
+
+    // Then
+    assertThat(commentCount(TestDataSamples.POST_1_UUID)).isEqualTo(comments + 1);
+
+    // When
+    deletePostComment.delete(new DeletePostCommentDto(commentUuid, TestDataSamples.POST_1_UUID, admin()));
+
+    // Then
+    assertThat(commentCount(TestDataSamples.POST_1_UUID)).isEqualTo(comments);
+    assertThat(reconcileCounters.reconcile()).isEqualTo(NOTHING);
+  }
+
+  @Test
+  @Transactional
+  void savingRetaggingAndDeletingPosts_ShouldKeepPostCounts() {
+    // Given
+    AuthenticatedUserDto leanne = authenticated(TestDataSamples.LEANNE_UUID);
+    int posts = postCount(TestDataSamples.LEANNE_UUID);
+    int javaPosts = tagPostCount(TestDataSamples.TAG_JAVA_UUID);
+    int jpaPosts = tagPostCount(TestDataSamples.TAG_JPA_UUID);
+    UUID postUuid = UUID.randomUUID();
+
+    // When
+    savePost.save(new SavePostDto(postUuid, "Counted post", "Body", leanne, List.of(TestDataSamples.TAG_JAVA)));
+
+    // Then
+    assertThat(postCount(TestDataSamples.LEANNE_UUID)).isEqualTo(posts + 1);
+    assertThat(tagPostCount(TestDataSamples.TAG_JAVA_UUID)).isEqualTo(javaPosts + 1);
+
+    // When
+    updatePostTags.update(new UpdatePostTagsDto(postUuid, List.of(TestDataSamples.TAG_JPA), leanne));
+
+    // Then
+    assertThat(tagPostCount(TestDataSamples.TAG_JAVA_UUID)).isEqualTo(javaPosts);
+    assertThat(tagPostCount(TestDataSamples.TAG_JPA_UUID)).isEqualTo(jpaPosts + 1);
+
+    // When
+    deletePost.delete(new DeletePostDto(postUuid, leanne));
+
+    // Then
+    assertThat(postCount(TestDataSamples.LEANNE_UUID)).isEqualTo(posts);
+    assertThat(tagPostCount(TestDataSamples.TAG_JPA_UUID)).isEqualTo(jpaPosts);
+    assertThat(reconcileCounters.reconcile()).isEqualTo(NOTHING);
+  }
+
+  @Test
+  @Transactional
+  void importingPosts_ShouldCountThemAndTheirComments() {
+    // Given
+    UUID postUuid = UUID.randomUUID();
+    ImportPostDto post = new ImportPostDto(postUuid, "Imported " + postUuid, "Body", null,
+        List.of(TestDataSamples.TAG_JAVA, TestDataSamples.TAG_JPA),
+        List.of(new ImportPostCommentDto(UUID.randomUUID(), null, "First"),
+            new ImportPostCommentDto(UUID.randomUUID(), null, "Second")));
+    int posts = postCount(TestDataSamples.LEANNE_UUID);
+
+    // When
+    importPosts.importPosts(new ImportPostsDto(List.of(post).iterator(), authenticated(TestDataSamples.LEANNE_UUID), 10, 10));
+
+    // Then
+    assertThat(commentCount(postUuid)).isEqualTo(2);
+    assertThat(postCount(TestDataSamples.LEANNE_UUID)).isEqualTo(posts + 1);
+    assertThat(reconcileCounters.reconcile()).isEqualTo(NOTHING);
+  }
+
+  @Test
+  @Transactional
+  void deletingUser_ShouldUncountTheirPostsCommentsAndTags() {
+    // When
+    deleteUser.delete(new DeleteUserDto(TestDataSamples.ERVIN_UUID, admin()));
+
+    // Then
+    assertThat(reconcileCounters.reconcile()).isEqualTo(NOTHING);
+  }
+
+  private AuthenticatedUserDto authenticated(UUID userUuid) {
+    return AuthenticatedUserFactory.createAuthenticatedUserDto(userRepository.findByUuid(userUuid).orElseThrow());
+  }
+
+  private AuthenticatedUserDto admin() {
+    return AuthenticatedUserFactory.createAuthenticatedUserDto(UserFactory.createAdminUser());
+  }
+
+  private int commentCount(UUID postUuid) {
+    return jdbcTemplate.queryForObject("SELECT comment_count FROM post WHERE uuid = ?", Integer.class, postUuid);
+  }
+
+  private int postCount(UUID userUuid) {
+    return jdbcTemplate.queryForObject("SELECT post_count FROM users WHERE uuid = ?", Integer.class, userUuid);
+  }
+
+  private int tagPostCount(UUID tagUuid) {
+    return jdbcTemplate.queryForObject("SELECT post_count FROM tag WHERE uuid = ?", Integer.class, tagUuid);
+  }
+}
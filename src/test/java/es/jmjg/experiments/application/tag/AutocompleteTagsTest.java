@@ -0,0 +1,64 @@
+package es.jmjg.experiments.application.tag;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.shared.TagFactory;
+
+@ExtendWith(MockitoExtension.class)
+class AutocompleteTagsTest {
+
+  @Mock
+  private TagRepository tagRepository;
+
+  private AutocompleteTags autocompleteTags;
+
+  @BeforeEach
+  void setUp() {
+    autocompleteTags = new AutocompleteTags(tagRepository);
+  }
+
+  @Test
+  void autocomplete_ShouldReturnSuggestionsForTrimmedQuery() {
+    // Given
+    List<Tag> expectedTags = List.of(TagFactory.createTag("java"), TagFactory.createTag("javascript"));
+    when(tagRepository.findForAutocomplete("jav", 10)).thenReturn(expectedTags);
+
+    // When
+    List<Tag> result = autocompleteTags.autocomplete("  jav ", 10);
+
+    // Then
+    assertThat(result).containsExactlyElementsOf(expectedTags);
+  }
+
+  @Test
+  void autocomplete_ShouldCapLimit() {
+    // When
+    autocompleteTags.autocomplete("jav", 1000);
+    autocompleteTags.autocomplete("jav", 0);
+
+    // Then
+    verify(tagRepository).findForAutocomplete("jav", AutocompleteTags.MAX_SUGGESTIONS);
+    verify(tagRepository).findForAutocomplete("jav", 1);
+  }
+
+  @Test
+  void autocomplete_WhenQueryIsBlank_ShouldReturnEmptyList() {
+    // When
+    List<Tag> result = autocompleteTags.autocomplete("   ", 10);
+
+    // Then
+    assertThat(result).isEmpty();
+    verifyNoInteractions(tagRepository);
+  }
+}
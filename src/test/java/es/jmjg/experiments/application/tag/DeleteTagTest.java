@@ -5,6 +5,7 @@ import static org.mockito.Mockito.*;
 
 import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.UserFactory;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,9 +14,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.tag.exception.TagInUseException;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 class DeleteTagTest {
@@ -27,7 +31,7 @@ class DeleteTagTest {
 
   @BeforeEach
   void setUp() {
-    deleteTag = new DeleteTag(tagRepository);
+    deleteTag = new DeleteTag(tagRepository, new TagCache(tagRepository, new SimpleMeterRegistry()));
   }
 
   @Test
@@ -35,13 +39,14 @@ class DeleteTagTest {
     // Given
     var adminUser = UserFactory.createAdminUser();
     UUID uuid = UUID.randomUUID();
-    doNothing().when(tagRepository).deleteByUuid(uuid);
+    Tag tag = TagFactory.createTag(uuid, "test-tag");
+    when(tagRepository.findByUuid(uuid)).thenReturn(Optional.of(tag));
 
     // When
     deleteTag.delete(TagFactory.createDeleteTagDto(uuid, adminUser));
 
     // Then
-    verify(tagRepository).deleteByUuid(uuid);
+    verify(tagRepository).delete(tag);
   }
 
   @Test
@@ -49,12 +54,13 @@ class DeleteTagTest {
     // Given
     var adminUser = UserFactory.createAdminUser();
     UUID uuid = UUID.randomUUID();
-    doThrow(new TagNotFound(uuid)).when(tagRepository).deleteByUuid(uuid);
+    when(tagRepository.findByUuid(uuid)).thenReturn(Optional.empty());
 
     // When & Then
     assertThatThrownBy(() -> deleteTag.delete(TagFactory.createDeleteTagDto(uuid, adminUser)))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with id: " + uuid);
+    verify(tagRepository, never()).delete(any());
   }
 
   @Test
@@ -62,8 +68,10 @@ class DeleteTagTest {
     // Given
     var adminUser = UserFactory.createAdminUser();
     UUID uuid = UUID.randomUUID();
+    Tag tag = TagFactory.createTag(uuid, "test-tag");
+    when(tagRepository.findByUuid(uuid)).thenReturn(Optional.of(tag));
     doThrow(new TagInUseException("Cannot delete tag 'test-tag' because it is assigned to posts"))
-        .when(tagRepository).deleteByUuid(uuid);
+        .when(tagRepository).delete(tag);
 
     // When & Then
     assertThatThrownBy(() -> deleteTag.delete(TagFactory.createDeleteTagDto(uuid, adminUser)))
@@ -76,8 +84,10 @@ class DeleteTagTest {
     // Given
     var adminUser = UserFactory.createAdminUser();
     UUID uuid = UUID.randomUUID();
+    Tag tag = TagFactory.createTag(uuid, "test-tag");
+    when(tagRepository.findByUuid(uuid)).thenReturn(Optional.of(tag));
     doThrow(new TagInUseException("Cannot delete tag 'test-tag' because it is assigned to users"))
-        .when(tagRepository).deleteByUuid(uuid);
+        .when(tagRepository).delete(tag);
 
     // When & Then
     assertThatThrownBy(() -> deleteTag.delete(TagFactory.createDeleteTagDto(uuid, adminUser)))
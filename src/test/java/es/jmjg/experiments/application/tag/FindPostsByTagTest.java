@@ -13,13 +13,22 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import es.jmjg.experiments.application.shared.PageSize;
+import es.jmjg.experiments.application.tag.dto.FindPostsByTagDto;
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import es.jmjg.experiments.shared.PostFactory;
 import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.UserFactory;
@@ -27,6 +36,8 @@ import es.jmjg.experiments.shared.UserFactory;
 @ExtendWith(MockitoExtension.class)
 class FindPostsByTagTest {
 
+  private static final FindPostsByTagDto FIRST_PAGE = new FindPostsByTagDto(null, 20);
+
   @Mock
   private PostRepository postRepository;
 
@@ -37,7 +48,7 @@ class FindPostsByTagTest {
 
   @BeforeEach
   void setUp() {
-    findPostsByTag = new FindPostsByTag(postRepository, tagRepository);
+    findPostsByTag = new FindPostsByTag(postRepository, new TagCache(tagRepository, new SimpleMeterRegistry()));
   }
 
   @Test
@@ -46,20 +57,39 @@ class FindPostsByTagTest {
     Tag tag = TagFactory.createBasicTag();
     tag.setId(1);
     User user = UserFactory.createBasicUser();
-    Post post1 = PostFactory.createBasicPost(user);
-    Post post2 = PostFactory.createPost(user, "Another Post", "Another Body");
-    List<Post> expectedPosts = Arrays.asList(post1, post2);
+    PostSummary post1 = PostFactory.toSummary(PostFactory.createBasicPost(user));
+    PostSummary post2 = PostFactory.toSummary(PostFactory.createPost(user, "Another Post", "Another Body"));
+    List<PostSummary> expectedPosts = Arrays.asList(post1, post2);
+
+    when(tagRepository.findByUuid(tag.getUuid())).thenReturn(Optional.of(tag));
+    when(postRepository.findByTagIdAfter(1, null, 20, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(expectedPosts));
+
+    // When
+    Slice<PostSummary> result = findPostsByTag.findByTagUuid(tag.getUuid(), FIRST_PAGE);
+
+    // Then
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).hasSize(2);
+    assertThat(result.getContent()).containsExactlyInAnyOrder(post1, post2);
+  }
+
+  @Test
+  void findByTagUuid_WhenCursorIsGiven_ShouldReadThePageAfterIt() {
+    // Given
+    Tag tag = TagFactory.createBasicTag(1);
+    PostSummary post = PostFactory.toSummary(PostFactory.createBasicPost(UserFactory.createBasicUser()));
+    FindPostsByTagDto nextPage = new FindPostsByTagDto(42, 1, PostBodyMode.NONE);
 
     when(tagRepository.findByUuid(tag.getUuid())).thenReturn(Optional.of(tag));
-    when(postRepository.findByTagId(1)).thenReturn(expectedPosts);
+    when(postRepository.findByTagIdAfter(1, 42, 1, PostBodyMode.NONE))
+        .thenReturn(new SliceImpl<>(List.of(post), PageRequest.of(0, 1), true));
 
     // When
-    List<Post> result = findPostsByTag.findByTagUuid(tag.getUuid());
+    Slice<PostSummary> result = findPostsByTag.findByTagUuid(tag.getUuid(), nextPage);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).hasSize(2);
-    assertThat(result).containsExactlyInAnyOrder(post1, post2);
+    assertThat(result.getContent()).containsExactly(post);
+    assertThat(result.hasNext()).isTrue();
   }
 
   @Test
@@ -69,7 +99,7 @@ class FindPostsByTagTest {
     when(tagRepository.findByUuid(tagUuid)).thenReturn(Optional.empty());
 
     // When & Then
-    assertThatThrownBy(() -> findPostsByTag.findByTagUuid(tagUuid))
+    assertThatThrownBy(() -> findPostsByTag.findByTagUuid(tagUuid, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with id: " + tagUuid);
   }
@@ -80,19 +110,19 @@ class FindPostsByTagTest {
     int tagId = 1;
     Tag tag = TagFactory.createBasicTag(tagId);
     User user = UserFactory.createBasicUser();
-    Post post1 = PostFactory.createBasicPost(user);
-    List<Post> expectedPosts = List.of(post1);
+    PostSummary post1 = PostFactory.toSummary(PostFactory.createBasicPost(user));
+    List<PostSummary> expectedPosts = List.of(post1);
 
     when(tagRepository.findByName(tag.getName())).thenReturn(Optional.of(tag));
-    when(postRepository.findByTagId(tagId)).thenReturn(expectedPosts);
+    when(postRepository.findByTagIdAfter(tagId, null, 20, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(expectedPosts));
 
     // When
-    List<Post> result = findPostsByTag.findByTagName(tag.getName());
+    Slice<PostSummary> result = findPostsByTag.findByTagName(tag.getName(), FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).hasSize(tagId);
-    assertThat(result).contains(post1);
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).hasSize(tagId);
+    assertThat(result.getContent()).contains(post1);
   }
 
   @Test
@@ -102,7 +132,7 @@ class FindPostsByTagTest {
     when(tagRepository.findByName(tagName)).thenReturn(Optional.empty());
 
     // When & Then
-    assertThatThrownBy(() -> findPostsByTag.findByTagName(tagName))
+    assertThatThrownBy(() -> findPostsByTag.findByTagName(tagName, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with name: " + tagName);
   }
@@ -110,31 +140,31 @@ class FindPostsByTagTest {
   @Test
   void findByTagName_WhenTagNameIsNull_ShouldReturnEmptyList() {
     // When
-    List<Post> result = findPostsByTag.findByTagName(null);
+    Slice<PostSummary> result = findPostsByTag.findByTagName(null, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsEmpty_ShouldReturnEmptyList() {
     // When
-    List<Post> result = findPostsByTag.findByTagName("");
+    Slice<PostSummary> result = findPostsByTag.findByTagName("", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsWhitespace_ShouldReturnEmptyList() {
     // When
-    List<Post> result = findPostsByTag.findByTagName("   ");
+    Slice<PostSummary> result = findPostsByTag.findByTagName("   ", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
@@ -144,18 +174,45 @@ class FindPostsByTagTest {
     String expectedTagName = "java";
     Tag tag = TagFactory.createTag(expectedTagName);
     User user = UserFactory.createBasicUser();
-    Post post1 = PostFactory.createBasicPost(user);
-    List<Post> expectedPosts = List.of(post1);
+    PostSummary post1 = PostFactory.toSummary(PostFactory.createBasicPost(user));
+    List<PostSummary> expectedPosts = List.of(post1);
 
     when(tagRepository.findByName(expectedTagName)).thenReturn(Optional.of(tag));
-    when(postRepository.findByTagId(tag.getId())).thenReturn(expectedPosts);
+    when(postRepository.findByTagIdAfter(tag.getId(), null, 20, PostBodyMode.FULL)).thenReturn(new SliceImpl<>(expectedPosts));
+
+    // When
+    Slice<PostSummary> result = findPostsByTag.findByTagName(tagName, FIRST_PAGE);
+
+    // Then
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.getContent()).contains(post1);
+  }
+
+  @Test
+  void findByTagUuid_WhenSizeIsBelowOne_ShouldThrowInvalidRequest() {
+    // When & Then
+    assertThatThrownBy(() -> findPostsByTag.findByTagUuid(UUID.randomUUID(), new FindPostsByTagDto(null, 0)))
+        .isInstanceOf(InvalidRequest.class)
+        .hasMessage("Page size must be at least 1, was 0");
+    assertThatThrownBy(() -> findPostsByTag.findByTagName("java", new FindPostsByTagDto(null, -1)))
+        .isInstanceOf(InvalidRequest.class);
+    verifyNoInteractions(tagRepository, postRepository);
+  }
+
+  @Test
+  void findByTagUuid_WhenSizeIsAboveMax_ShouldReadMaxPosts() {
+    // Given
+    Tag tag = TagFactory.createBasicTag(1);
+    Slice<PostSummary> posts = new SliceImpl<>(
+        List.of(PostFactory.toSummary(PostFactory.createBasicPost(UserFactory.createBasicUser()))));
+    when(tagRepository.findByUuid(tag.getUuid())).thenReturn(Optional.of(tag));
+    when(postRepository.findByTagIdAfter(1, null, PageSize.MAX, PostBodyMode.FULL)).thenReturn(posts);
 
     // When
-    List<Post> result = findPostsByTag.findByTagName(tagName);
+    Slice<PostSummary> result = findPostsByTag.findByTagUuid(tag.getUuid(), new FindPostsByTagDto(null, 1_000_000));
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).hasSize(1);
-    assertThat(result).contains(post1);
+    assertThat(result).isSameAs(posts);
   }
 }
@@ -5,14 +5,22 @@ import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import es.jmjg.experiments.application.tag.dto.TagDetail;
+import es.jmjg.experiments.application.tag.shared.TagPreviews;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
 import es.jmjg.experiments.shared.TagFactory;
 import jakarta.transaction.Transactional;
@@ -27,7 +35,7 @@ class FindTagByPatternTest {
 
   @BeforeEach
   void setUp() {
-    findTagByPattern = new FindTagByPattern(tagRepository);
+    findTagByPattern = new FindTagByPattern(tagRepository, new TagPreviews(tagRepository));
   }
 
   @Test
@@ -50,6 +58,37 @@ class FindTagByPatternTest {
     assertThat(result).containsExactlyInAnyOrder(javaTag, springBootTag);
   }
 
+  @Test
+  void findDetailsByPattern_WhenPatternMatches_ShouldLoadPreviewsOfAllTagsTogether() {
+    // Given
+    Tag javaTag = TagFactory.createBasicTag(1);
+    Tag springBootTag = TagFactory.createBasicTag(2);
+    Slice<TagMember> none = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
+    Slice<TagMember> posts = new SliceImpl<>(List.of(new TagMember(5, UUID.randomUUID())), PageRequest.of(0, 10), false);
+
+    when(tagRepository.findByNameContainingPattern("java")).thenReturn(List.of(javaTag, springBootTag));
+    when(tagRepository.findPostPreviews(List.of(1, 2), 10)).thenReturn(Map.of(1, posts, 2, none));
+    when(tagRepository.findUserPreviews(List.of(1, 2), 10)).thenReturn(Map.of(1, none, 2, none));
+
+    // When
+    List<TagDetail> result = findTagByPattern.findDetailsByPattern("java", 10);
+
+    // Then
+    assertThat(result).extracting(TagDetail::tag).containsExactly(javaTag, springBootTag);
+    assertThat(result.get(0).posts()).isSameAs(posts);
+    assertThat(result.get(1).posts()).isSameAs(none);
+  }
+
+  @Test
+  void findDetailsByPattern_WhenPatternIsBlank_ShouldNotLoadPreviews() {
+    // When
+    List<TagDetail> result = findTagByPattern.findDetailsByPattern("   ", 10);
+
+    // Then
+    assertThat(result).isEmpty();
+    verifyNoInteractions(tagRepository);
+  }
+
   @Test
   void findByPattern_WhenPatternIsNull_ShouldReturnEmptyList() {
     // When
@@ -3,6 +3,8 @@ package es.jmjg.experiments.application.tag;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -11,9 +13,15 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import es.jmjg.experiments.application.tag.dto.TagDetail;
+import es.jmjg.experiments.application.tag.shared.TagPreviews;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
 import es.jmjg.experiments.shared.TagFactory;
 
@@ -27,7 +35,7 @@ class FindTagByUuidTest {
 
   @BeforeEach
   void setUp() {
-    findTagByUuid = new FindTagByUuid(tagRepository);
+    findTagByUuid = new FindTagByUuid(tagRepository, new TagPreviews(tagRepository));
   }
 
   @Test
@@ -49,6 +57,30 @@ class FindTagByUuidTest {
     assertThat(result.getUuid()).isEqualTo(uuid);
   }
 
+  @Test
+  void findDetailByUuid_WhenTagExists_ShouldReturnTagWithPreviews() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    Tag tag = TagFactory.createTag(uuid, "test-tag");
+    tag.setId(1);
+    TagMember post = new TagMember(7, UUID.randomUUID());
+    Slice<TagMember> posts = new SliceImpl<>(List.of(post), PageRequest.of(0, 1), true);
+    Slice<TagMember> users = new SliceImpl<>(List.of(), PageRequest.of(0, 1), false);
+
+    when(tagRepository.findByUuid(uuid)).thenReturn(Optional.of(tag));
+    when(tagRepository.findPostPreviews(List.of(1), 1)).thenReturn(Map.of(1, posts));
+    when(tagRepository.findUserPreviews(List.of(1), 1)).thenReturn(Map.of(1, users));
+
+    // When
+    TagDetail result = findTagByUuid.findDetailByUuid(uuid, 1);
+
+    // Then
+    assertThat(result.tag()).isSameAs(tag);
+    assertThat(result.posts().getContent()).containsExactly(post);
+    assertThat(result.posts().hasNext()).isTrue();
+    assertThat(result.users().getContent()).isEmpty();
+  }
+
   @Test
   void findByUuid_WhenTagDoesNotExist_ShouldThrowTagNotFound() {
     // Given
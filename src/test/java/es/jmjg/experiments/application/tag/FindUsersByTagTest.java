@@ -13,11 +13,18 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import es.jmjg.experiments.application.shared.PageSize;
+import es.jmjg.experiments.application.tag.dto.FindUsersByTagDto;
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
-import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.UserFactory;
@@ -25,6 +32,8 @@ import es.jmjg.experiments.shared.UserFactory;
 @ExtendWith(MockitoExtension.class)
 class FindUsersByTagTest {
 
+  private static final FindUsersByTagDto FIRST_PAGE = new FindUsersByTagDto(null, 20);
+
   @Mock
   private UserRepository userRepository;
 
@@ -35,27 +44,27 @@ class FindUsersByTagTest {
 
   @BeforeEach
   void setUp() {
-    findUsersByTag = new FindUsersByTag(userRepository, tagRepository);
+    findUsersByTag = new FindUsersByTag(userRepository, new TagCache(tagRepository, new SimpleMeterRegistry()));
   }
 
   @Test
   void findByTagUuid_WhenTagExists_ShouldReturnUsers() {
     // Given
     Tag tag = TagFactory.createBasicTag();
-    User user1 = UserFactory.createBasicUser();
-    User user2 = UserFactory.createUser("Another User", "another@example.com", "another_user");
-    List<User> expectedUsers = Arrays.asList(user1, user2);
+    UserSummary user1 = UserFactory.toSummary(UserFactory.createBasicUser());
+    UserSummary user2 = UserFactory.toSummary(UserFactory.createUser("Another User", "another@example.com", "another_user"));
+    List<UserSummary> expectedUsers = Arrays.asList(user1, user2);
 
     when(tagRepository.findByUuid(tag.getUuid())).thenReturn(Optional.of(tag));
-    when(userRepository.findByTagId(tag.getId())).thenReturn(expectedUsers);
+    when(userRepository.findByTagIdAfter(tag.getId(), null, 20)).thenReturn(new SliceImpl<>(expectedUsers));
 
     // When
-    List<User> result = findUsersByTag.findByTagUuid(tag.getUuid());
+    Slice<UserSummary> result = findUsersByTag.findByTagUuid(tag.getUuid(), FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).hasSize(2);
-    assertThat(result).containsExactlyInAnyOrder(user1, user2);
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).hasSize(2);
+    assertThat(result.getContent()).containsExactlyInAnyOrder(user1, user2);
   }
 
   @Test
@@ -65,7 +74,7 @@ class FindUsersByTagTest {
     when(tagRepository.findByUuid(tagUuid)).thenReturn(Optional.empty());
 
     // When & Then
-    assertThatThrownBy(() -> findUsersByTag.findByTagUuid(tagUuid))
+    assertThatThrownBy(() -> findUsersByTag.findByTagUuid(tagUuid, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with id: " + tagUuid);
   }
@@ -74,19 +83,19 @@ class FindUsersByTagTest {
   void findByTagName_WhenTagExists_ShouldReturnUsers() {
     // Given
     Tag tag = TagFactory.createBasicTag();
-    User user1 = UserFactory.createBasicUser();
-    List<User> expectedUsers = List.of(user1);
+    UserSummary user1 = UserFactory.toSummary(UserFactory.createBasicUser());
+    List<UserSummary> expectedUsers = List.of(user1);
 
     when(tagRepository.findByName(tag.getName())).thenReturn(Optional.of(tag));
-    when(userRepository.findByTagId(tag.getId())).thenReturn(expectedUsers);
+    when(userRepository.findByTagIdAfter(tag.getId(), null, 20)).thenReturn(new SliceImpl<>(expectedUsers));
 
     // When
-    List<User> result = findUsersByTag.findByTagName(tag.getName());
+    Slice<UserSummary> result = findUsersByTag.findByTagName(tag.getName(), FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).hasSize(1);
-    assertThat(result).contains(user1);
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.getContent()).contains(user1);
   }
 
   @Test
@@ -96,7 +105,7 @@ class FindUsersByTagTest {
     when(tagRepository.findByName(tagName)).thenReturn(Optional.empty());
 
     // When & Then
-    assertThatThrownBy(() -> findUsersByTag.findByTagName(tagName))
+    assertThatThrownBy(() -> findUsersByTag.findByTagName(tagName, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with name: " + tagName);
   }
@@ -104,31 +113,31 @@ class FindUsersByTagTest {
   @Test
   void findByTagName_WhenTagNameIsNull_ShouldReturnEmptyList() {
     // When
-    List<User> result = findUsersByTag.findByTagName(null);
+    Slice<UserSummary> result = findUsersByTag.findByTagName(null, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsEmpty_ShouldReturnEmptyList() {
     // When
-    List<User> result = findUsersByTag.findByTagName("");
+    Slice<UserSummary> result = findUsersByTag.findByTagName("", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsWhitespace_ShouldReturnEmptyList() {
     // When
-    List<User> result = findUsersByTag.findByTagName("   ");
+    Slice<UserSummary> result = findUsersByTag.findByTagName("   ", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
@@ -136,18 +145,44 @@ class FindUsersByTagTest {
     // Given
     int tagId = 1;
     Tag tag = TagFactory.createBasicTag(tagId);
-    User user1 = UserFactory.createBasicUser();
-    List<User> expectedUsers = List.of(user1);
+    UserSummary user1 = UserFactory.toSummary(UserFactory.createBasicUser());
+    List<UserSummary> expectedUsers = List.of(user1);
 
     when(tagRepository.findByName(tag.getName())).thenReturn(Optional.of(tag));
-    when(userRepository.findByTagId(tag.getId())).thenReturn(expectedUsers);
+    when(userRepository.findByTagIdAfter(tag.getId(), null, 20)).thenReturn(new SliceImpl<>(expectedUsers));
+
+    // When
+    Slice<UserSummary> result = findUsersByTag.findByTagName(tag.getName(), FIRST_PAGE);
+
+    // Then
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).hasSize(1);
+    assertThat(result.getContent()).contains(user1);
+  }
+
+  @Test
+  void findByTagUuid_WhenSizeIsBelowOne_ShouldThrowInvalidRequest() {
+    // When & Then
+    assertThatThrownBy(() -> findUsersByTag.findByTagUuid(UUID.randomUUID(), new FindUsersByTagDto(null, 0)))
+        .isInstanceOf(InvalidRequest.class)
+        .hasMessage("Page size must be at least 1, was 0");
+    assertThatThrownBy(() -> findUsersByTag.findByTagName("java", new FindUsersByTagDto(null, -1)))
+        .isInstanceOf(InvalidRequest.class);
+    verifyNoInteractions(tagRepository, userRepository);
+  }
+
+  @Test
+  void findByTagUuid_WhenSizeIsAboveMax_ShouldReadMaxUsers() {
+    // Given
+    Tag tag = TagFactory.createBasicTag(1);
+    Slice<UserSummary> users = new SliceImpl<>(List.of(UserFactory.toSummary(UserFactory.createBasicUser())));
+    when(tagRepository.findByUuid(tag.getUuid())).thenReturn(Optional.of(tag));
+    when(userRepository.findByTagIdAfter(1, null, PageSize.MAX)).thenReturn(users);
 
     // When
-    List<User> result = findUsersByTag.findByTagName(tag.getName());
+    Slice<UserSummary> result = findUsersByTag.findByTagUuid(tag.getUuid(), new FindUsersByTagDto(null, 1_000_000));
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).hasSize(1);
-    assertThat(result).contains(user1);
+    assertThat(result).isSameAs(users);
   }
 }
@@ -13,7 +13,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import es.jmjg.experiments.domain.tag.exception.TagAlreadyExistsException;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import es.jmjg.experiments.shared.TagFactory;
 
 @ExtendWith(MockitoExtension.class)
@@ -26,7 +28,7 @@ class SaveTagTest {
 
   @BeforeEach
   void setUp() {
-    saveTag = new SaveTag(tagRepository);
+    saveTag = new SaveTag(tagRepository, new TagCache(tagRepository, new SimpleMeterRegistry()));
   }
 
   @Test
@@ -13,10 +13,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.event.TagRenamed;
+import es.jmjg.experiments.application.tag.shared.TagCache;
 import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import es.jmjg.experiments.shared.TagFactory;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,11 +29,14 @@ class UpdateTagTest {
   @Mock
   private TagRepository tagRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   private UpdateTag updateTag;
 
   @BeforeEach
   void setUp() {
-    updateTag = new UpdateTag(tagRepository);
+    updateTag = new UpdateTag(tagRepository, new TagCache(tagRepository, new SimpleMeterRegistry()), eventPublisher);
   }
 
   @Test
@@ -48,6 +55,24 @@ class UpdateTagTest {
     assertThat(result).isNotNull();
     assertThat(result.getUuid()).isEqualTo(tag.getUuid());
     assertThat(result.getName()).isEqualTo(updatedName);
+    verify(tagRepository).incrementMemberRevisions(tag.getId());
+    verify(eventPublisher).publishEvent(new TagRenamed(tag.getUuid()));
+  }
+
+  @Test
+  void updateName_WhenNameIsUnchanged_ShouldNotIncrementMemberVersions() {
+    // Given
+    Tag tag = TagFactory.createBasicTag();
+
+    when(tagRepository.findByUuid(tag.getUuid())).thenReturn(Optional.of(tag));
+    when(tagRepository.save(any(Tag.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+    // When
+    updateTag.update(TagFactory.createUpdateTagDto(tag.getUuid(), " " + tag.getName() + " ", UserFactory.createAdminUser()));
+
+    // Then
+    verify(tagRepository, never()).incrementMemberRevisions(any());
+    verify(eventPublisher, never()).publishEvent(any(TagRenamed.class));
   }
 
   @Test
@@ -2,19 +2,21 @@ package es.jmjg.experiments.application.tag.integration;
 
 import static org.assertj.core.api.Assertions.*;
 
-import java.util.List;
-
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 
 import es.jmjg.experiments.application.tag.FindPostsByTag;
+import es.jmjg.experiments.application.tag.dto.FindPostsByTagDto;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.infrastructure.repository.TagRepositoryImpl;
 import es.jmjg.experiments.shared.BaseIntegration;
 
 class FindPostsByTagIntegrationTest extends BaseIntegration {
 
+  private static final FindPostsByTagDto FIRST_PAGE = new FindPostsByTagDto(null, 20);
+
   @Autowired
   private FindPostsByTag findPostsByTag;
 
@@ -28,21 +30,38 @@ class FindPostsByTagIntegrationTest extends BaseIntegration {
     assertThat(technologyTag).isPresent();
 
     // When
-    List<Post> result = findPostsByTag.findByTagUuid(technologyTag.get().getUuid());
+    Slice<PostSummary> result = findPostsByTag.findByTagUuid(technologyTag.get().getUuid(), FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has multiple posts with the technology tag
   }
 
+  @Test
+  void findByTagUuid_WhenPaged_ShouldReturnEachPostOnce() {
+    // Given
+    var technologyTag = tagRepository.findByName("technology").orElseThrow();
+
+    // When
+    Slice<PostSummary> first = findPostsByTag.findByTagUuid(technologyTag.getUuid(), new FindPostsByTagDto(null, 1));
+    Slice<PostSummary> second = findPostsByTag.findByTagUuid(technologyTag.getUuid(),
+        new FindPostsByTagDto(first.getContent().getLast().id(), 1));
+
+    // Then
+    assertThat(first.getContent()).hasSize(1);
+    assertThat(first.hasNext()).isTrue();
+    assertThat(second.getContent()).hasSize(1);
+    assertThat(second.getContent().getFirst().id()).isGreaterThan(first.getContent().getFirst().id());
+  }
+
   @Test
   void findByTagUuid_WhenTagDoesNotExist_ShouldThrowTagNotFound() {
     // Given
     var nonExistentUuid = java.util.UUID.randomUUID();
 
     // When & Then
-    assertThatThrownBy(() -> findPostsByTag.findByTagUuid(nonExistentUuid))
+    assertThatThrownBy(() -> findPostsByTag.findByTagUuid(nonExistentUuid, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with id: " + nonExistentUuid);
   }
@@ -53,11 +72,11 @@ class FindPostsByTagIntegrationTest extends BaseIntegration {
     String tagName = "technology";
 
     // When
-    List<Post> result = findPostsByTag.findByTagName(tagName);
+    Slice<PostSummary> result = findPostsByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has multiple posts with the technology tag
   }
 
@@ -67,7 +86,7 @@ class FindPostsByTagIntegrationTest extends BaseIntegration {
     String tagName = "nonexistent-tag";
 
     // When & Then
-    assertThatThrownBy(() -> findPostsByTag.findByTagName(tagName))
+    assertThatThrownBy(() -> findPostsByTag.findByTagName(tagName, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with name: " + tagName);
   }
@@ -75,31 +94,31 @@ class FindPostsByTagIntegrationTest extends BaseIntegration {
   @Test
   void findByTagName_WhenTagNameIsNull_ShouldReturnEmptyList() {
     // When
-    List<Post> result = findPostsByTag.findByTagName(null);
+    Slice<PostSummary> result = findPostsByTag.findByTagName(null, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsEmpty_ShouldReturnEmptyList() {
     // When
-    List<Post> result = findPostsByTag.findByTagName("");
+    Slice<PostSummary> result = findPostsByTag.findByTagName("", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsWhitespace_ShouldReturnEmptyList() {
     // When
-    List<Post> result = findPostsByTag.findByTagName("   ");
+    Slice<PostSummary> result = findPostsByTag.findByTagName("   ", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
@@ -108,11 +127,11 @@ class FindPostsByTagIntegrationTest extends BaseIntegration {
     String tagName = "  technology  ";
 
     // When
-    List<Post> result = findPostsByTag.findByTagName(tagName);
+    Slice<PostSummary> result = findPostsByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has multiple posts with the technology tag
   }
 
@@ -122,11 +141,11 @@ class FindPostsByTagIntegrationTest extends BaseIntegration {
     String tagName = "java";
 
     // When
-    List<Post> result = findPostsByTag.findByTagName(tagName);
+    Slice<PostSummary> result = findPostsByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has posts with the java tag
   }
 
@@ -136,11 +155,11 @@ class FindPostsByTagIntegrationTest extends BaseIntegration {
     String tagName = "spring-boot";
 
     // When
-    List<Post> result = findPostsByTag.findByTagName(tagName);
+    Slice<PostSummary> result = findPostsByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has posts with the spring-boot tag
   }
 }
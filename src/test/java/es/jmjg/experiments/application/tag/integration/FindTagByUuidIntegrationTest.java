@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import es.jmjg.experiments.application.tag.FindTagByUuid;
+import es.jmjg.experiments.application.tag.dto.TagDetail;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.shared.BaseIntegration;
@@ -33,6 +34,22 @@ class FindTagByUuidIntegrationTest extends BaseIntegration {
     assertThat(result.getUuid()).isEqualTo(existingTagUuid);
   }
 
+  @Test
+  void findDetailByUuid_WhenTagExists_ShouldReturnBoundedPreviews() {
+    // Given
+    UUID existingTagUuid = TestDataSamples.TAG_TECHNOLOGY_UUID;
+
+    // When
+    TagDetail result = findTagByUuid.findDetailByUuid(existingTagUuid, 1);
+
+    // Then
+    assertThat(result.tag().getName()).isEqualTo(TestDataSamples.TAG_TECHNOLOGY);
+    assertThat(result.posts().getContent()).hasSize(1);
+    assertThat(result.posts().hasNext()).isEqualTo(result.tag().getPostCount() > 1);
+    assertThat(result.users().getContent()).hasSizeLessThanOrEqualTo(1);
+    assertThat(result.users().hasNext()).isEqualTo(result.tag().getUserCount() > 1);
+  }
+
   @Test
   void findByUuid_WhenTagDoesNotExist_ShouldThrowTagNotFound() {
     // Given
@@ -2,19 +2,21 @@ package es.jmjg.experiments.application.tag.integration;
 
 import static org.assertj.core.api.Assertions.*;
 
-import java.util.List;
-
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 
 import es.jmjg.experiments.application.tag.FindUsersByTag;
+import es.jmjg.experiments.application.tag.dto.FindUsersByTagDto;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
-import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
 import es.jmjg.experiments.infrastructure.repository.TagRepositoryImpl;
 import es.jmjg.experiments.shared.BaseIntegration;
 
 class FindUsersByTagIntegrationTest extends BaseIntegration {
 
+  private static final FindUsersByTagDto FIRST_PAGE = new FindUsersByTagDto(null, 20);
+
   @Autowired
   private FindUsersByTag findUsersByTag;
 
@@ -28,11 +30,11 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     assertThat(technologyTag).isPresent();
 
     // When
-    List<User> result = findUsersByTag.findByTagUuid(technologyTag.get().getUuid());
+    Slice<UserSummary> result = findUsersByTag.findByTagUuid(technologyTag.get().getUuid(), FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has multiple users with the technology tag
   }
 
@@ -42,7 +44,7 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     var nonExistentUuid = java.util.UUID.randomUUID();
 
     // When & Then
-    assertThatThrownBy(() -> findUsersByTag.findByTagUuid(nonExistentUuid))
+    assertThatThrownBy(() -> findUsersByTag.findByTagUuid(nonExistentUuid, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with id: " + nonExistentUuid);
   }
@@ -53,11 +55,11 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     String tagName = "technology";
 
     // When
-    List<User> result = findUsersByTag.findByTagName(tagName);
+    Slice<UserSummary> result = findUsersByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has multiple users with the technology tag
   }
 
@@ -67,7 +69,7 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     String tagName = "nonexistent-tag";
 
     // When & Then
-    assertThatThrownBy(() -> findUsersByTag.findByTagName(tagName))
+    assertThatThrownBy(() -> findUsersByTag.findByTagName(tagName, FIRST_PAGE))
         .isInstanceOf(TagNotFound.class)
         .hasMessage("Tag not found with name: " + tagName);
   }
@@ -75,31 +77,31 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
   @Test
   void findByTagName_WhenTagNameIsNull_ShouldReturnEmptyList() {
     // When
-    List<User> result = findUsersByTag.findByTagName(null);
+    Slice<UserSummary> result = findUsersByTag.findByTagName(null, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsEmpty_ShouldReturnEmptyList() {
     // When
-    List<User> result = findUsersByTag.findByTagName("");
+    Slice<UserSummary> result = findUsersByTag.findByTagName("", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
   void findByTagName_WhenTagNameIsWhitespace_ShouldReturnEmptyList() {
     // When
-    List<User> result = findUsersByTag.findByTagName("   ");
+    Slice<UserSummary> result = findUsersByTag.findByTagName("   ", FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isEmpty();
   }
 
   @Test
@@ -108,11 +110,11 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     String tagName = "  technology  ";
 
     // When
-    List<User> result = findUsersByTag.findByTagName(tagName);
+    Slice<UserSummary> result = findUsersByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has multiple users with the technology tag
   }
 
@@ -122,11 +124,11 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     String tagName = "java";
 
     // When
-    List<User> result = findUsersByTag.findByTagName(tagName);
+    Slice<UserSummary> result = findUsersByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has users with the java tag
   }
 
@@ -136,11 +138,11 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     String tagName = "programming";
 
     // When
-    List<User> result = findUsersByTag.findByTagName(tagName);
+    Slice<UserSummary> result = findUsersByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has users with the programming tag
   }
 
@@ -150,11 +152,11 @@ class FindUsersByTagIntegrationTest extends BaseIntegration {
     String tagName = "database";
 
     // When
-    List<User> result = findUsersByTag.findByTagName(tagName);
+    Slice<UserSummary> result = findUsersByTag.findByTagName(tagName, FIRST_PAGE);
 
     // Then
-    assertThat(result).isNotNull();
-    assertThat(result).isNotEmpty();
+    assertThat(result.getContent()).isNotNull();
+    assertThat(result.getContent()).isNotEmpty();
     // The test data has users with the database tag
   }
 }
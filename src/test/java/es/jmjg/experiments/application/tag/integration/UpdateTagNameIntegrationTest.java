@@ -13,6 +13,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import es.jmjg.experiments.application.tag.UpdateTag;
 import es.jmjg.experiments.domain.tag.exception.TagNotFound;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.post.repository.PostRepository;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
 import es.jmjg.experiments.infrastructure.repository.TagRepositoryImpl;
 import es.jmjg.experiments.shared.BaseIntegration;
 import es.jmjg.experiments.shared.TagFactory;
@@ -25,6 +27,12 @@ class UpdateTagNameIntegrationTest extends BaseIntegration {
   @Autowired
   private TagRepositoryImpl tagRepository;
 
+  @Autowired
+  private PostRepository postRepository;
+
+  @Autowired
+  private UserRepository userRepository;
+
   @Test
   void updateName_WhenTagExists_ShouldUpdateAndReturnTag() {
     // Given
@@ -45,6 +53,22 @@ class UpdateTagNameIntegrationTest extends BaseIntegration {
     assertThat(foundTag.get().getName()).isEqualTo(newName);
   }
 
+  @Test
+  void updateName_ShouldIncrementVersionsOfPostsAndUsersOfTheTag() {
+    // Given
+    long postVersion = postRepository.findVersionByUuid(TestDataSamples.LEANNE_POST_UUID).orElseThrow();
+    long taggedUserVersion = userRepository.findVersionByUuid(TestDataSamples.LEANNE_UUID).orElseThrow();
+    long otherUserVersion = userRepository.findVersionByUuid(TestDataSamples.ERVIN_UUID).orElseThrow();
+
+    // When
+    updateTag.update(TagFactory.createUpdateTagDto(TestDataSamples.TAG_JAVA_UUID, "updated-java", UserFactory.createAdminUser()));
+
+    // Then
+    assertThat(postRepository.findVersionByUuid(TestDataSamples.LEANNE_POST_UUID)).contains(postVersion + 1);
+    assertThat(userRepository.findVersionByUuid(TestDataSamples.LEANNE_UUID)).contains(taggedUserVersion + 1);
+    assertThat(userRepository.findVersionByUuid(TestDataSamples.ERVIN_UUID)).contains(otherUserVersion);
+  }
+
   @Test
   void updateName_WhenTagDoesNotExist_ShouldThrowTagNotFound() {
     // Given
@@ -0,0 +1,176 @@
+package es.jmjg.experiments.application.tag.shared;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.shared.TagFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class TagCacheTest {
+
+  @Mock
+  private TagRepository tagRepository;
+
+  private SimpleMeterRegistry meterRegistry;
+  private TagCache tagCache;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    tagCache = new TagCache(tagRepository, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+      TransactionSynchronizationManager.clearSynchronization();
+    }
+  }
+
+  @Test
+  void findByName_WhenLoaded_ShouldNotQueryRepository() {
+    // Given
+    Tag tag = TagFactory.createTag("java", 1);
+    when(tagRepository.findAll()).thenReturn(List.of(tag));
+    tagCache.load();
+
+    // When
+    Optional<Tag> byName = tagCache.findByName("java");
+    Optional<Tag> byUuid = tagCache.findByUuid(tag.getUuid());
+
+    // Then
+    assertThat(byName).get().satisfies(found -> {
+      assertThat(found.getId()).isEqualTo(1);
+      assertThat(found.getUuid()).isEqualTo(tag.getUuid());
+      assertThat(found.getName()).isEqualTo("java");
+    });
+    assertThat(byUuid).get().extracting(Tag::getName).isEqualTo("java");
+    verify(tagRepository, never()).findByName(any());
+    verify(tagRepository, never()).findByUuid(any());
+    assertThat(gets("hit")).isEqualTo(2);
+    assertThat(gets("miss")).isZero();
+    assertThat(meterRegistry.get("tag.cache.size").gauge().value()).isEqualTo(1);
+  }
+
+  @Test
+  void findByName_WhenMissing_ShouldFallBackToRepositoryAndRemember() {
+    // Given
+    Tag tag = TagFactory.createTag("java", 1);
+    when(tagRepository.findByName("java")).thenReturn(Optional.of(tag));
+
+    // When
+    Optional<Tag> first = tagCache.findByName("java");
+    Optional<Tag> second = tagCache.findByName("java");
+
+    // Then
+    assertThat(first).containsSame(tag);
+    assertThat(second).get().extracting(Tag::getUuid).isEqualTo(tag.getUuid());
+    verify(tagRepository, times(1)).findByName("java");
+    assertThat(gets("hit")).isEqualTo(1);
+    assertThat(gets("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void findByName_WhenUnknown_ShouldReturnEmpty() {
+    // Given
+    when(tagRepository.findByName("unknown")).thenReturn(Optional.empty());
+
+    // When
+    Optional<Tag> result = tagCache.findByName("unknown");
+
+    // Then
+    assertThat(result).isEmpty();
+    assertThat(gets("miss")).isEqualTo(1);
+  }
+
+  @Test
+  void findAllByName_ShouldLoadOnlyMissingNamesInOneQuery() {
+    // Given
+    Tag java = TagFactory.createTag("java", 1);
+    Tag spring = TagFactory.createTag("spring", 2);
+    when(tagRepository.findAll()).thenReturn(List.of(java));
+    tagCache.load();
+    when(tagRepository.findAllByNameIn(List.of("spring", "unknown"))).thenReturn(List.of(spring));
+
+    // When
+    List<Tag> tags = tagCache.findAllByName(List.of("java", "spring", "unknown"));
+
+    // Then
+    assertThat(tags).extracting(Tag::getName).containsExactlyInAnyOrder("java", "spring");
+    assertThat(gets("hit")).isEqualTo(1);
+    assertThat(gets("miss")).isEqualTo(2);
+    assertThat(tagCache.findByName("spring")).get().extracting(Tag::getId).isEqualTo(2);
+  }
+
+  @Test
+  void put_WhenTagIsRenamed_ShouldForgetPreviousName() {
+    // Given
+    Tag tag = TagFactory.createTag("java", 1);
+    when(tagRepository.findAll()).thenReturn(List.of(tag));
+    tagCache.load();
+    Tag renamed = TagFactory.createTag(tag.getUuid(), "kotlin");
+    renamed.setId(1);
+    when(tagRepository.findByName("java")).thenReturn(Optional.empty());
+
+    // When
+    tagCache.put(renamed);
+
+    // Then
+    assertThat(tagCache.findByName("kotlin")).get().extracting(Tag::getUuid).isEqualTo(tag.getUuid());
+    assertThat(tagCache.findByUuid(tag.getUuid())).get().extracting(Tag::getName).isEqualTo("kotlin");
+    assertThat(tagCache.findByName("java")).isEmpty();
+  }
+
+  @Test
+  void evict_ShouldForgetTagByNameAndUuid() {
+    // Given
+    Tag tag = TagFactory.createTag("java", 1);
+    when(tagRepository.findAll()).thenReturn(List.of(tag));
+    tagCache.load();
+    when(tagRepository.findByName("java")).thenReturn(Optional.empty());
+    when(tagRepository.findByUuid(tag.getUuid())).thenReturn(Optional.empty());
+
+    // When
+    tagCache.evict(tag.getUuid());
+
+    // Then
+    assertThat(tagCache.findByName("java")).isEmpty();
+    assertThat(tagCache.findByUuid(tag.getUuid())).isEmpty();
+  }
+
+  @Test
+  void put_WhenTransactionIsActive_ShouldApplyOnlyAfterCommit() {
+    // Given
+    Tag tag = TagFactory.createTag("java", 1);
+    TransactionSynchronizationManager.initSynchronization();
+
+    // When
+    tagCache.put(tag);
+
+    // Then
+    when(tagRepository.findByName("java")).thenReturn(Optional.empty());
+    assertThat(tagCache.findByName("java")).isEmpty();
+
+    TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    assertThat(tagCache.findByName("java")).get().extracting(Tag::getUuid).isEqualTo(tag.getUuid());
+  }
+
+  private double gets(String result) {
+    return meterRegistry.get("tag.cache.gets").tag("result", result).counter().count();
+  }
+}
@@ -10,6 +10,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,11 +20,15 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
 import es.jmjg.experiments.application.user.dto.DeleteUserDto;
+import es.jmjg.experiments.domain.post.event.PostChanged;
+import es.jmjg.experiments.domain.post.repository.PostCommentRepository;
 import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.event.UserChanged;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 import es.jmjg.experiments.shared.AuthenticatedUserFactory;
 import es.jmjg.experiments.shared.UserFactory;
@@ -34,6 +39,12 @@ class DeleteUserTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private PostCommentRepository postCommentRepository;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private DeleteUser deleteUser;
 
@@ -62,6 +73,23 @@ class DeleteUserTest {
     // Then
     verify(userRepository, times(1)).findByUuid(testUser.getUuid());
     verify(userRepository, times(1)).deleteByUuid(testUser.getUuid());
+    verify(eventPublisher).publishEvent(new UserChanged(testUser.getUsername(), testUser.getUuid()));
+  }
+
+  @Test
+  void delete_WhenUserCommentedOnPosts_ShouldReportThosePostsAsChanged() {
+    // Given
+    UUID commentedPost = UUID.randomUUID();
+    when(userRepository.findByUuid(testUser.getUuid())).thenReturn(Optional.of(testUser));
+    when(postCommentRepository.findPostUuidsCommentedBy(testUser.getUuid())).thenReturn(List.of(commentedPost));
+
+    // When
+    deleteUser.delete(new DeleteUserDto(testUser.getUuid(), authenticatedAdminUser));
+
+    // Then
+    verify(userRepository).deleteByUuid(testUser.getUuid());
+    verify(eventPublisher).publishEvent(new UserChanged(testUser.getUsername(), testUser.getUuid()));
+    verify(eventPublisher).publishEvent(new PostChanged(commentedPost));
   }
 
   @Test
@@ -75,6 +103,7 @@ class DeleteUserTest {
         .isInstanceOf(UserNotFound.class)
         .hasMessage("User not found with id: " + nonExistentUuid);
     verify(userRepository, never()).deleteByUuid(nonExistentUuid);
+    verify(eventPublisher, never()).publishEvent(any(UserChanged.class));
   }
 
   @Test
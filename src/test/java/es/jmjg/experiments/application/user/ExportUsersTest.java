@@ -0,0 +1,70 @@
+package es.jmjg.experiments.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import es.jmjg.experiments.application.user.dto.ExportUsersDto;
+import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import es.jmjg.experiments.domain.user.projection.UserExport;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+import es.jmjg.experiments.shared.AuthenticatedUserFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+@ExtendWith(MockitoExtension.class)
+class ExportUsersTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @InjectMocks
+  private ExportUsers exportUsers;
+
+  @Test
+  void export_WhenUserIsAdmin_ShouldHandOverExportedUsers() {
+    // Given
+    LocalDateTime since = LocalDateTime.of(2025, 1, 1, 0, 0);
+    UserExport exported = new UserExport(UUID.randomUUID(), "Test User", "test@example.com", "testuser", since);
+    doAnswer(invocation -> {
+      invocation.<Consumer<UserExport>>getArgument(1).accept(exported);
+      return null;
+    }).when(userRepository).exportCreatedSince(eq(since), any());
+    List<UserExport> users = new ArrayList<>();
+
+    // When
+    exportUsers.export(new ExportUsersDto(since,
+        AuthenticatedUserFactory.createAuthenticatedUserDto(UserFactory.createAdminUser())), users::add);
+
+    // Then
+    assertThat(users).containsExactly(exported);
+  }
+
+  @Test
+  void export_WhenUserIsNotAdmin_ShouldThrowForbidden() {
+    // Given
+    ExportUsersDto exportUsersDto = new ExportUsersDto(null,
+        AuthenticatedUserFactory.createAuthenticatedUserDto(UserFactory.createBasicUser()));
+
+    // When & Then
+    assertThatThrownBy(() -> exportUsers.export(exportUsersDto, user -> {
+    }))
+        .isInstanceOf(Forbidden.class)
+        .hasMessage("Only admin users can export users");
+    verifyNoInteractions(userRepository);
+  }
+}
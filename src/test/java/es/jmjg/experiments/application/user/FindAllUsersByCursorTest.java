@@ -0,0 +1,83 @@
+package es.jmjg.experiments.application.user;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
+import es.jmjg.experiments.application.user.dto.FindAllUsersByCursorDto;
+import es.jmjg.experiments.domain.shared.exception.Forbidden;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.repository.UserRepository;
+import es.jmjg.experiments.shared.AuthenticatedUserFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+@ExtendWith(MockitoExtension.class)
+class FindAllUsersByCursorTest {
+
+  @Mock
+  private UserRepository userRepository;
+
+  @InjectMocks
+  private FindAllUsersByCursor findAllUsersByCursor;
+
+  private User foundUser1;
+  private User foundUser2;
+
+  private AuthenticatedUserDto authenticatedTestUser;
+  private AuthenticatedUserDto authenticatedAdminUser;
+
+  @BeforeEach
+  void setUp() {
+    foundUser1 = UserFactory.createUser("Test User 1", "test1@example.com", "testuser1");
+    foundUser2 = UserFactory.createUser("Test User 2", "test2@example.com", "testuser2");
+
+    var testUser = UserFactory.createUser("Test User", "test@example.com", "testuser");
+    authenticatedTestUser = AuthenticatedUserFactory.createAuthenticatedUserDto(testUser);
+    var adminUser = UserFactory.createUser("Admin User", "admin@example.com", "admin");
+    authenticatedAdminUser = AuthenticatedUserFactory.createAuthenticatedUserDto(adminUser);
+  }
+
+  @Test
+  void findAll_WhenUsersExist_ShouldReturnSliceAfterCursor() {
+    // Given
+    Slice<User> expectedSlice = new SliceImpl<>(List.of(foundUser1, foundUser2), PageRequest.of(0, 2), true);
+    when(userRepository.findAllAfter(5, 2)).thenReturn(expectedSlice);
+
+    // When
+    var findAllUsersByCursorDto = new FindAllUsersByCursorDto(5, 2, authenticatedAdminUser);
+    Slice<User> result = findAllUsersByCursor.findAll(findAllUsersByCursorDto);
+
+    // Then
+    assertThat(result.getContent()).containsExactly(foundUser1, foundUser2);
+    assertThat(result.hasNext()).isTrue();
+    verify(userRepository, times(1)).findAllAfter(5, 2);
+  }
+
+  @Test
+  void findAll_WhenAuthenticatedUserIsTestUser_ShouldThrowForbiddenException() {
+    // When & Then
+    var findAllUsersByCursorDto = new FindAllUsersByCursorDto(null, 10, authenticatedTestUser);
+    assertThatThrownBy(() -> findAllUsersByCursor.findAll(findAllUsersByCursorDto))
+        .isInstanceOf(Forbidden.class)
+        .hasMessage("Only admin users can view all users");
+    verify(userRepository, never()).findAllAfter(any(), anyInt());
+  }
+}
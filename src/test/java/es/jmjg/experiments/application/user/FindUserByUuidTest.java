@@ -108,4 +108,15 @@ class FindUserByUuidTest {
     // Verify that repository is never called
     verify(userRepository, never()).findByUuid(any());
   }
+
+  @Test
+  void findVersion_WhenUserIsNeitherAdminNorSameUuid_ShouldThrowForbiddenException() {
+    // Given
+    FindUserByUuidDto findUserByUuidDto = new FindUserByUuidDto(UUID.randomUUID(), authenticatedTestUser);
+
+    // When & Then
+    assertThatThrownBy(() -> findUserByUuid.findVersion(findUserByUuidDto))
+        .isInstanceOf(Forbidden.class);
+    verify(userRepository, never()).findVersionByUuid(any());
+  }
 }
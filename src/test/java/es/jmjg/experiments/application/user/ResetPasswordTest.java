@@ -11,6 +11,7 @@ import es.jmjg.experiments.application.user.dto.ResetPasswordDto;
 import es.jmjg.experiments.application.user.shared.ResetPasswordKeyService;
 import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.event.UserChanged;
 import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 import es.jmjg.experiments.shared.UserFactory;
@@ -22,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @ExtendWith(MockitoExtension.class)
@@ -36,6 +38,9 @@ class ResetPasswordTest {
   @Mock
   private ResetPasswordKeyService resetPasswordKeyService;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private ResetPassword resetPassword;
 
@@ -65,6 +70,7 @@ class ResetPasswordTest {
 
     // Then
     assertThat(testUser.getPassword()).isEqualTo(encodedNewPassword);
+    verify(eventPublisher).publishEvent(new UserChanged(testUser.getUsername(), testUser.getUuid()));
   }
 
   @Test
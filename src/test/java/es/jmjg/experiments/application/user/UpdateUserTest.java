@@ -17,10 +17,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import es.jmjg.experiments.application.user.dto.AuthenticatedUserDto;
 import es.jmjg.experiments.application.user.dto.UpdateUserDto;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.event.UserChanged;
 import es.jmjg.experiments.domain.user.repository.UserRepository;
 import es.jmjg.experiments.shared.AuthenticatedUserFactory;
 import es.jmjg.experiments.shared.UserFactory;
@@ -31,6 +33,9 @@ class UpdateUserTest {
   @Mock
   private UserRepository userRepository;
 
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
   @InjectMocks
   private UpdateUser updateUser;
 
@@ -60,6 +65,7 @@ class UpdateUserTest {
     assertThat(result.getEmail()).isEqualTo("new@example.com");
     assertThat(result.getUuid()).isEqualTo(testUser.getUuid());
     verify(userRepository, times(1)).save(existingUser);
+    verify(eventPublisher).publishEvent(new UserChanged(existingUser.getUsername(), existingUser.getUuid()));
   }
 
   @Test
@@ -80,6 +86,7 @@ class UpdateUserTest {
     assertThat(result.getEmail()).isEqualTo("new@example.com");
     assertThat(result.getUuid()).isEqualTo(testUser.getUuid());
     verify(userRepository, times(1)).save(existingUser);
+    verify(eventPublisher).publishEvent(new UserChanged(existingUser.getUsername(), existingUser.getUuid()));
   }
 
   @Test
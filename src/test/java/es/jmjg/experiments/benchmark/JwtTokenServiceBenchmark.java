@@ -0,0 +1,110 @@
+package es.jmjg.experiments.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.infrastructure.config.security.JwtTokenService;
+import es.jmjg.experiments.infrastructure.config.security.JwtUserDetails;
+import es.jmjg.experiments.infrastructure.config.security.JwtUserDetailsService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of issuing a token and of {@link JwtTokenService#validateToken} per request, with and
+ * without the verified-token cache. Requests come from {@code clients} active sessions whose activity follows a Zipf
+ * distribution, so a few clients send most of the traffic, as behind a real API gateway.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenServiceBenchmark {
+
+  private static final int REQUESTS = 1 << 16;
+
+  @Param({ "0", "10000" })
+  public int cacheMaxSize;
+
+  @Param({ "1000" })
+  public int clients;
+
+  private JwtTokenService jwtTokenService;
+  private JwtUserDetails userDetails;
+  private String[] requests;
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    AppProperties appProperties = new AppProperties();
+    appProperties.setJwtSecret("benchmark-secret-that-is-long-enough-for-hmac512-signatures-to-be-realistic");
+    appProperties.setVerifiedTokenCacheMaxSize(cacheMaxSize);
+    jwtTokenService = new JwtTokenService(appProperties, new SimpleMeterRegistry());
+
+    userDetails = new JwtUserDetails(UUID.randomUUID(), "leanne", "password",
+        List.of(new SimpleGrantedAuthority(JwtUserDetailsService.ROLE_USER)));
+
+    String[] tokens = new String[clients];
+    for (int i = 0; i < clients; i++) {
+      tokens[i] = jwtTokenService.generateToken(new JwtUserDetails(UUID.randomUUID(), "user" + i, "password",
+          List.of(new SimpleGrantedAuthority(JwtUserDetailsService.ROLE_USER))));
+    }
+
+    double[] cumulative = zipf(clients);
+    SplittableRandom random = new SplittableRandom(42);
+    requests = new String[REQUESTS];
+    for (int i = 0; i < REQUESTS; i++) {
+      requests[i] = tokens[rank(cumulative, random.nextDouble())];
+    }
+  }
+
+  @Benchmark
+  public String generateToken() {
+    return jwtTokenService.generateToken(userDetails);
+  }
+
+  @Benchmark
+  public DecodedJWT validateToken() {
+    String token = requests[next];
+    next = (next + 1) & (REQUESTS - 1);
+    return jwtTokenService.validateToken(token);
+  }
+
+  private static double[] zipf(int size) {
+    double[] cumulative = new double[size];
+    double total = 0;
+    for (int i = 0; i < size; i++) {
+      total += 1.0 / (i + 1);
+      cumulative[i] = total;
+    }
+    for (int i = 0; i < size; i++) {
+      cumulative[i] /= total;
+    }
+    return cumulative;
+  }
+
+  private static int rank(double[] cumulative, double value) {
+    int index = Arrays.binarySearch(cumulative, value);
+    return Math.min(index >= 0 ? index : -index - 1, cumulative.length - 1);
+  }
+}
@@ -0,0 +1,143 @@
+package es.jmjg.experiments.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import es.jmjg.experiments.application.tag.dto.TagDetail;
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.infrastructure.controller.post.dto.FindAllPostsResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByUuidResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.PagedResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.SavePostResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.mapper.PostMapper;
+import es.jmjg.experiments.infrastructure.controller.tag.dto.FindTagByUuidResponseDto;
+import es.jmjg.experiments.infrastructure.controller.tag.mapper.TagMapper;
+import es.jmjg.experiments.infrastructure.controller.user.dto.FindAllUsersResponseDto;
+import es.jmjg.experiments.infrastructure.controller.user.dto.FindUserByUuidResponseDto;
+import es.jmjg.experiments.infrastructure.controller.user.mapper.UserMapper;
+import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.shared.TagFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+/** Entity to response DTO conversions done by the controllers on every read and write. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+  private static final int PAGE_SIZE = 20;
+
+  @Param({ "1", "15" })
+  public int tagsPerPost;
+
+  @Param({ "0", "10" })
+  public int commentsPerPost;
+
+  private final PostMapper postMapper = new PostMapper();
+  private final UserMapper userMapper = new UserMapper();
+  private final TagMapper tagMapper = new TagMapper();
+
+  private Post post;
+  private Slice<PostCommentSummary> commentPreview;
+  private Page<PostSummary> page;
+  private User user;
+  private List<User> users;
+  private TagDetail tag;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    List<Tag> tags = new ArrayList<>();
+    for (int i = 0; i < tagsPerPost; i++) {
+      tags.add(TagFactory.createTag("tag-" + i, i + 1));
+    }
+
+    user = UserFactory.createUser(1, UUID.randomUUID(), "Leanne Graham", "leanne@example.com", "leanne");
+    user.setTags(tags);
+
+    List<Post> posts = new ArrayList<>();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      Post current = PostFactory.createPost(user, "Post title " + i, "Post body " + i);
+      current.setId(i + 1);
+      current.setTags(tags);
+      for (int c = 0; c < commentsPerPost; c++) {
+        current.getComments().add(
+            PostFactory.createPostComment(user, current, "Comment " + c, LocalDateTime.now()));
+      }
+      posts.add(current);
+    }
+    user.setPosts(posts);
+
+    post = posts.getFirst();
+    commentPreview = PostFactory.toCommentSlice(post);
+    page = new PageImpl<>(PostFactory.toSummaries(posts), PageRequest.of(0, PAGE_SIZE), 1000);
+    users = new ArrayList<>();
+    for (int i = 0; i < PAGE_SIZE; i++) {
+      users.add(user);
+    }
+
+    List<TagMember> postMembers = posts.stream().map(p -> new TagMember(p.getId(), p.getUuid())).toList();
+    List<TagMember> userMembers = users.stream().map(u -> new TagMember(u.getId(), u.getUuid())).toList();
+    tag = new TagDetail(tags.getFirst(),
+        new SliceImpl<>(postMembers, PageRequest.of(0, PAGE_SIZE), true),
+        new SliceImpl<>(userMembers, PageRequest.of(0, PAGE_SIZE), true));
+  }
+
+  @Benchmark
+  public SavePostResponseDto postToSaveResponse() {
+    return postMapper.toSavePostResponseDto(post);
+  }
+
+  @Benchmark
+  public FindPostByUuidResponseDto postToFindByUuidResponse() {
+    return postMapper.toFindByUuidResponseDto(post, commentPreview);
+  }
+
+  @Benchmark
+  public PagedResponseDto<FindAllPostsResponseDto> postPageToPagedResponse() {
+    return postMapper.toPagedResponseDto(page);
+  }
+
+  @Benchmark
+  public FindUserByUuidResponseDto userToFindByUuidResponse() {
+    return userMapper.toFindUserByUuidResponseDto(user);
+  }
+
+  @Benchmark
+  public List<FindAllUsersResponseDto> usersToFindAllResponse() {
+    return userMapper.toFindAllUsersResponseDto(users);
+  }
+
+  @Benchmark
+  public FindTagByUuidResponseDto tagToFindByUuidResponse() {
+    return tagMapper.toFindByUuidResponseDto(tag);
+  }
+}
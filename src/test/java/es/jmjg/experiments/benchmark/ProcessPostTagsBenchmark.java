@@ -0,0 +1,166 @@
+package es.jmjg.experiments.benchmark;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Slice;
+
+import es.jmjg.experiments.application.post.shared.ProcessPostTags;
+import es.jmjg.experiments.application.tag.shared.TagCache;
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
+import es.jmjg.experiments.domain.tag.repository.TagRepository;
+import es.jmjg.experiments.shared.TagFactory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Tag resolution for a post write against a loaded {@link TagCache}. The repository behind it is
+ * an in-memory stand-in, so no database is needed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProcessPostTagsBenchmark {
+
+  private static final int DICTIONARY_SIZE = 10_000;
+
+  @Param({ "1", "5", "15" })
+  public int tagsPerPost;
+
+  private ProcessPostTags processPostTags;
+  private List<String> tagNames;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    InMemoryTagRepository tagRepository = new InMemoryTagRepository();
+    for (int i = 0; i < DICTIONARY_SIZE; i++) {
+      tagRepository.save(TagFactory.createTag("tag-" + i, i + 1));
+    }
+
+    TagCache tagCache = new TagCache(tagRepository, new SimpleMeterRegistry());
+    tagCache.load();
+    processPostTags = new ProcessPostTags(tagCache, tagRepository);
+
+    tagNames = new ArrayList<>();
+    for (int i = 0; i < tagsPerPost; i++) {
+      tagNames.add(" tag-" + (i * 37 % DICTIONARY_SIZE) + " ");
+    }
+  }
+
+  @Benchmark
+  public Post processTagsForPost() {
+    Post post = new Post();
+    processPostTags.processTagsForPost(post, tagNames);
+    return post;
+  }
+
+  private static class InMemoryTagRepository implements TagRepository {
+
+    private final Map<String, Tag> byName = new ConcurrentHashMap<>();
+    private final Map<UUID, Tag> byUuid = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<Tag> findByUuid(UUID uuid) {
+      return Optional.ofNullable(byUuid.get(uuid));
+    }
+
+    @Override
+    public List<Tag> findAll() {
+      return List.copyOf(byUuid.values());
+    }
+
+    @Override
+    public void delete(Tag tag) {
+      Tag removed = byUuid.remove(tag.getUuid());
+      if (removed != null) {
+        byName.remove(removed.getName());
+      }
+    }
+
+    @Override
+    public Optional<Tag> findByName(String name) {
+      return Optional.ofNullable(byName.get(name));
+    }
+
+    @Override
+    public List<Tag> findAllByNameIn(Collection<String> names) {
+      List<Tag> tags = new ArrayList<>(names.size());
+      for (String name : names) {
+        Tag tag = byName.get(name);
+        if (tag != null) {
+          tags.add(tag);
+        }
+      }
+      return tags;
+    }
+
+    @Override
+    public List<Tag> findByNameContainingPattern(String pattern) {
+      return byName.values().stream().filter(tag -> tag.getName().contains(pattern)).toList();
+    }
+
+    @Override
+    public List<Tag> findForAutocomplete(String query, int limit) {
+      return byName.values().stream().filter(tag -> tag.getName().startsWith(query)).limit(limit).toList();
+    }
+
+    @Override
+    public Tag save(Tag tag) {
+      byName.put(tag.getName(), tag);
+      byUuid.put(tag.getUuid(), tag);
+      return tag;
+    }
+
+    @Override
+    public Optional<Long> findVersionByUuid(UUID uuid) {
+      return findByUuid(uuid).map(Tag::getVersion);
+    }
+
+    // The counter update is one statement in the database, not what this benchmark measures
+    @Override
+    public void incrementPostCounts(Collection<Integer> tagIds, int delta) {
+    }
+
+    @Override
+    public void incrementMemberRevisions(Integer tagId) {
+    }
+
+    @Override
+    public int reconcileCounts() {
+      return 0;
+    }
+
+    // Previews are never read while processing the tags of a post
+    @Override
+    public Map<Integer, Slice<TagMember>> findPostPreviews(Collection<Integer> tagIds, int size) {
+      return Map.of();
+    }
+
+    @Override
+    public Map<Integer, Slice<TagMember>> findUserPreviews(Collection<Integer> tagIds, int size) {
+      return Map.of();
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package es.jmjg.experiments.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import es.jmjg.experiments.application.user.dto.PasswordResetDto;
+import es.jmjg.experiments.application.user.shared.ResetPasswordKeyService;
+
+/** Generation and parsing of the password reset keys sent to users. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResetPasswordKeyServiceBenchmark {
+
+  private final ResetPasswordKeyService resetPasswordKeyService = new ResetPasswordKeyService();
+
+  private String resetKey;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    resetKey = resetPasswordKeyService.generateResetkey("leanne", "leanne@example.com");
+  }
+
+  @Benchmark
+  public String generateResetKey() {
+    return resetPasswordKeyService.generateResetkey("leanne", "leanne@example.com");
+  }
+
+  @Benchmark
+  public PasswordResetDto parseResetKey() {
+    return resetPasswordKeyService.parseResetKey(resetKey);
+  }
+
+  @Benchmark
+  public PasswordResetDto roundTrip() {
+    return resetPasswordKeyService.parseResetKey(
+        resetPasswordKeyService.generateResetkey("leanne", "leanne@example.com"));
+  }
+}
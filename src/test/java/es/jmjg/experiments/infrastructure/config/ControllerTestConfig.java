@@ -5,9 +5,11 @@ import static org.mockito.Mockito.*;
 
 import es.jmjg.experiments.application.post.DeletePostComment;
 import es.jmjg.experiments.application.post.FindPostCommentByUuid;
+import es.jmjg.experiments.application.post.FindPostComments;
 import es.jmjg.experiments.application.post.SavePostComment;
 import es.jmjg.experiments.application.post.UpdatePostTags;
 import es.jmjg.experiments.application.user.GeneratePasswordReset;
+import es.jmjg.experiments.application.user.ExportUsers;
 import es.jmjg.experiments.application.user.ResetPassword;
 import java.util.UUID;
 
@@ -17,15 +19,22 @@ import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Primary;
 
 import com.auth0.jwt.interfaces.DecodedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 import es.jmjg.experiments.application.post.DeletePost;
 import es.jmjg.experiments.application.post.FindAllPosts;
+import es.jmjg.experiments.application.post.FindAllPostsByCursor;
+import es.jmjg.experiments.application.post.FindAllPostsWithoutCount;
 import es.jmjg.experiments.application.post.FindPostByUuid;
 import es.jmjg.experiments.application.post.FindPosts;
+import es.jmjg.experiments.application.post.ExportPostComments;
+import es.jmjg.experiments.application.post.ExportPosts;
+import es.jmjg.experiments.application.post.ImportPosts;
 import es.jmjg.experiments.application.post.SavePost;
 import es.jmjg.experiments.application.post.UpdatePost;
 import es.jmjg.experiments.application.tag.DeleteTag;
 import es.jmjg.experiments.application.tag.FindPostsByTag;
+import es.jmjg.experiments.application.tag.AutocompleteTags;
 import es.jmjg.experiments.application.tag.FindTagByPattern;
 import es.jmjg.experiments.application.tag.FindTagByUuid;
 import es.jmjg.experiments.application.tag.FindUsersByTag;
@@ -33,6 +42,7 @@ import es.jmjg.experiments.application.tag.SaveTag;
 import es.jmjg.experiments.application.tag.UpdateTag;
 import es.jmjg.experiments.application.user.DeleteUser;
 import es.jmjg.experiments.application.user.FindAllUsers;
+import es.jmjg.experiments.application.user.FindAllUsersByCursor;
 import es.jmjg.experiments.application.user.FindUserByEmail;
 import es.jmjg.experiments.application.user.FindUserByUsername;
 import es.jmjg.experiments.application.user.FindUserByUuid;
@@ -42,6 +52,8 @@ import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.infrastructure.config.security.JwtSecurityConfig;
 import es.jmjg.experiments.infrastructure.config.security.JwtTokenService;
 import es.jmjg.experiments.infrastructure.config.security.JwtUserDetailsService;
+import es.jmjg.experiments.infrastructure.config.security.PrincipalCache;
+import es.jmjg.experiments.infrastructure.controller.post.PostResponseCache;
 import es.jmjg.experiments.infrastructure.controller.post.mapper.PostMapper;
 import es.jmjg.experiments.infrastructure.controller.tag.mapper.TagMapper;
 import es.jmjg.experiments.infrastructure.controller.user.mapper.UserMapper;
@@ -77,6 +89,12 @@ public class ControllerTestConfig {
     return mock(FindPostCommentByUuid.class);
   }
 
+  @Bean
+  @Primary
+  public FindPostComments findPostComments() {
+    return mock(FindPostComments.class);
+  }
+
   @Bean
   @Primary
   public FindPosts findPosts() {
@@ -101,6 +119,24 @@ public class ControllerTestConfig {
     return mock(SavePost.class);
   }
 
+  @Bean
+  @Primary
+  public ImportPosts importPosts() {
+    return mock(ImportPosts.class);
+  }
+
+  @Bean
+  @Primary
+  public ExportPosts exportPosts() {
+    return mock(ExportPosts.class);
+  }
+
+  @Bean
+  @Primary
+  public ExportPostComments exportPostComments() {
+    return mock(ExportPostComments.class);
+  }
+
   @Bean
   @Primary
   public FindPostByUuid findPostByUuid() {
@@ -113,6 +149,23 @@ public class ControllerTestConfig {
     return mock(FindAllPosts.class);
   }
 
+  @Bean
+  @Primary
+  public FindAllPostsByCursor findAllPostsByCursor() {
+    return mock(FindAllPostsByCursor.class);
+  }
+
+  @Bean
+  @Primary
+  public FindAllPostsWithoutCount findAllPostsWithoutCount() {
+    return mock(FindAllPostsWithoutCount.class);
+  }
+
+  @Bean
+  public AppProperties appProperties() {
+    return new AppProperties();
+  }
+
   @Bean
   public PostMapper postMapper() {
     return new PostMapper();
@@ -159,6 +212,12 @@ public class ControllerTestConfig {
     return mock(FindAllUsers.class);
   }
 
+  @Bean
+  @Primary
+  public FindAllUsersByCursor findAllUsersByCursor() {
+    return mock(FindAllUsersByCursor.class);
+  }
+
   @Bean
   @Primary
   public DeleteUser deleteUser() {
@@ -177,6 +236,12 @@ public class ControllerTestConfig {
     return mock(ResetPassword.class);
   }
 
+  @Bean
+  @Primary
+  public ExportUsers exportUsers() {
+    return mock(ExportUsers.class);
+  }
+
   @Bean
   @Primary
   public SaveTag saveTag() {
@@ -201,6 +266,12 @@ public class ControllerTestConfig {
     return mock(FindTagByPattern.class);
   }
 
+  @Bean
+  @Primary
+  public AutocompleteTags autocompleteTags() {
+    return mock(AutocompleteTags.class);
+  }
+
   @Bean
   @Primary
   public FindUsersByTag findUsersByTag() {
@@ -257,6 +328,16 @@ public class ControllerTestConfig {
     return mockService;
   }
 
+  @Bean
+  public PrincipalCache principalCache(JwtUserDetailsService jwtUserDetailsService) {
+    return new PrincipalCache(jwtUserDetailsService, new AppProperties());
+  }
+
+  @Bean
+  public PostResponseCache postResponseCache() {
+    return new PostResponseCache(new AppProperties(), new SimpleMeterRegistry());
+  }
+
   @Bean
   @Primary
   public JwtTokenService jwtTokenService() {
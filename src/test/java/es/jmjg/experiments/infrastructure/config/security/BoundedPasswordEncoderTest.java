@@ -0,0 +1,94 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.web.server.ResponseStatusException;
+
+class BoundedPasswordEncoderTest {
+
+  @Test
+  void encodeAndMatches_ShouldDelegateOnHashingThreads() {
+    // Given
+    try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(new ThreadNamePasswordEncoder(), 1, 1)) {
+
+      // When
+      String encoded = encoder.encode("secret");
+
+      // Then
+      assertThat(encoded).startsWith("secret@password-hashing-");
+      assertThat(encoder.matches("secret", encoded)).isTrue();
+      assertThat(encoder.matches("other", encoded)).isFalse();
+    }
+  }
+
+  @Test
+  void encode_WhenPoolAndQueueAreFull_ShouldRejectWithServiceUnavailable() throws Exception {
+    // Given
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    PasswordEncoder blocking = new ThreadNamePasswordEncoder() {
+      @Override
+      public String encode(CharSequence rawPassword) {
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return super.encode(rawPassword);
+      }
+    };
+
+    try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, 1, 0)) {
+      CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+      assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+      // When & Then
+      assertThatThrownBy(() -> encoder.encode("second"))
+          .isInstanceOf(ResponseStatusException.class)
+          .satisfies(ex -> assertThat(((ResponseStatusException) ex).getStatusCode())
+              .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE));
+
+      release.countDown();
+      assertThat(running.get(5, TimeUnit.SECONDS)).startsWith("first@");
+    }
+  }
+
+  @Test
+  void matches_WhenDelegateFails_ShouldRethrowItsException() {
+    // Given
+    PasswordEncoder failing = new ThreadNamePasswordEncoder() {
+      @Override
+      public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        throw new IllegalArgumentException("unknown id");
+      }
+    };
+
+    try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(failing, 1, 1)) {
+      // When & Then
+      assertThatThrownBy(() -> encoder.matches("secret", "{unknown}secret"))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("unknown id");
+    }
+  }
+
+  private static class ThreadNamePasswordEncoder implements PasswordEncoder {
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+      return rawPassword + "@" + Thread.currentThread().getName();
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+      return encodedPassword.startsWith(rawPassword + "@");
+    }
+  }
+}
@@ -0,0 +1,137 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtTokenServiceTest {
+
+  private static final String SECRET = "test-secret-that-is-long-enough-for-hmac512-signatures-in-unit-tests";
+
+  private AppProperties appProperties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    appProperties = new AppProperties();
+    appProperties.setJwtSecret(SECRET);
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void validateToken_WhenTokenIsValid_ShouldReturnSubject() {
+    // Given
+    JwtTokenService jwtTokenService = new JwtTokenService(appProperties, meterRegistry);
+    String token = jwtTokenService.generateToken(userDetails("leanne"));
+
+    // When
+    DecodedJWT jwt = jwtTokenService.validateToken(token);
+
+    // Then
+    assertThat(jwt).isNotNull();
+    assertThat(jwt.getSubject()).isEqualTo("leanne");
+  }
+
+  @Test
+  void validateToken_WhenTokenIsRepeated_ShouldServeItFromCache() {
+    // Given
+    JwtTokenService jwtTokenService = new JwtTokenService(appProperties, meterRegistry);
+    String token = jwtTokenService.generateToken(userDetails("leanne"));
+
+    // When
+    DecodedJWT first = jwtTokenService.validateToken(token);
+    DecodedJWT second = jwtTokenService.validateToken(token);
+
+    // Then
+    assertThat(second).isSameAs(first);
+    assertThat(gets("miss")).isEqualTo(1);
+    assertThat(gets("hit")).isEqualTo(1);
+  }
+
+  @Test
+  void validateToken_WhenCacheIsDisabled_ShouldVerifyEveryTime() {
+    // Given
+    appProperties.setVerifiedTokenCacheMaxSize(0);
+    JwtTokenService jwtTokenService = new JwtTokenService(appProperties, meterRegistry);
+    String token = jwtTokenService.generateToken(userDetails("leanne"));
+
+    // When
+    DecodedJWT first = jwtTokenService.validateToken(token);
+    DecodedJWT second = jwtTokenService.validateToken(token);
+
+    // Then
+    assertThat(second).isNotSameAs(first);
+    assertThat(second.getSubject()).isEqualTo("leanne");
+    assertThat(gets("miss")).isEqualTo(2);
+    assertThat(gets("hit")).isZero();
+  }
+
+  @Test
+  void validateToken_WhenSignatureIsWrong_ShouldReturnNull() {
+    // Given
+    JwtTokenService jwtTokenService = new JwtTokenService(appProperties, meterRegistry);
+    String forged = JWT.create()
+        .withSubject("admin")
+        .withExpiresAt(Instant.now().plusSeconds(60))
+        .sign(Algorithm.HMAC512("another-secret"));
+
+    // When & Then
+    assertThat(jwtTokenService.validateToken(forged)).isNull();
+    assertThat(jwtTokenService.validateToken(forged)).isNull();
+    assertThat(gets("hit")).isZero();
+  }
+
+  @Test
+  void validateToken_WhenTokenIsExpired_ShouldReturnNull() {
+    // Given
+    JwtTokenService jwtTokenService = new JwtTokenService(appProperties, meterRegistry);
+    String expired = JWT.create()
+        .withSubject("leanne")
+        .withExpiresAt(Instant.now().minusSeconds(60))
+        .sign(Algorithm.HMAC512(SECRET));
+
+    // When & Then
+    assertThat(jwtTokenService.validateToken(expired)).isNull();
+  }
+
+  @Test
+  void validateToken_WhenCacheIsFull_ShouldStillVerifyNewTokens() {
+    // Given
+    appProperties.setVerifiedTokenCacheMaxSize(1);
+    JwtTokenService jwtTokenService = new JwtTokenService(appProperties, meterRegistry);
+    String leanneToken = jwtTokenService.generateToken(userDetails("leanne"));
+    String adminToken = jwtTokenService.generateToken(userDetails("admin"));
+
+    // When
+    jwtTokenService.validateToken(leanneToken);
+    DecodedJWT admin = jwtTokenService.validateToken(adminToken);
+    jwtTokenService.validateToken(leanneToken);
+
+    // Then
+    assertThat(admin.getSubject()).isEqualTo("admin");
+    assertThat(gets("hit")).isEqualTo(1);
+    assertThat(gets("miss")).isEqualTo(2);
+  }
+
+  private double gets(String result) {
+    return meterRegistry.get("jwt.verified.cache.gets").tag("result", result).counter().count();
+  }
+
+  private static JwtUserDetails userDetails(String username) {
+    return new JwtUserDetails(UUID.randomUUID(), username, "password",
+        List.of(new SimpleGrantedAuthority(JwtUserDetailsService.ROLE_USER)));
+  }
+}
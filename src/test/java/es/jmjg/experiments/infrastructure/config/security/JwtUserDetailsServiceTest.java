@@ -0,0 +1,63 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.infrastructure.repository.UserRepositoryImpl;
+
+@ExtendWith(MockitoExtension.class)
+class JwtUserDetailsServiceTest {
+
+  @Mock
+  private UserRepositoryImpl userRepository;
+
+  @Mock
+  private AppProperties appProperties;
+
+  @InjectMocks
+  private JwtUserDetailsService jwtUserDetailsService;
+
+  @Test
+  void updatePassword_ShouldWriteTheHashWithoutSavingTheUser() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    JwtUserDetails loaded = new JwtUserDetails(uuid, "leanne", "{bcrypt}old",
+        List.of(new SimpleGrantedAuthority(JwtUserDetailsService.ROLE_USER)));
+    when(userRepository.updatePassword("leanne", "{bcrypt}new")).thenReturn(true);
+
+    // When
+    UserDetails updated = jwtUserDetailsService.updatePassword(loaded, "{bcrypt}new");
+
+    // Then
+    assertThat(updated).isInstanceOf(JwtUserDetails.class);
+    assertThat(((JwtUserDetails) updated).id).isEqualTo(uuid);
+    assertThat(updated.getPassword()).isEqualTo("{bcrypt}new");
+    assertThat(updated.getAuthorities()).isEqualTo(loaded.getAuthorities());
+    verify(userRepository, never()).save(any());
+  }
+
+  @Test
+  void updatePassword_WhenUserNoLongerExists_ShouldThrowUsernameNotFound() {
+    // Given
+    JwtUserDetails loaded = new JwtUserDetails(UUID.randomUUID(), "gone", "{bcrypt}old", List.of());
+    when(userRepository.updatePassword("gone", "{bcrypt}new")).thenReturn(false);
+
+    // When & Then
+    assertThatThrownBy(() -> jwtUserDetailsService.updatePassword(loaded, "{bcrypt}new"))
+        .isInstanceOf(UsernameNotFoundException.class)
+        .hasMessage("User gone not found");
+  }
+}
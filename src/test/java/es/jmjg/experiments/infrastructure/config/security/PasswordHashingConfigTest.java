@@ -0,0 +1,56 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+
+class PasswordHashingConfigTest {
+
+  @Test
+  void encode_ShouldUsePrefixedBcryptWithConfiguredStrength() {
+    // Given
+    AppProperties appProperties = new AppProperties();
+    appProperties.setPasswordBcryptStrength(5);
+    PasswordEncoder encoder = new PasswordHashingConfig().passwordEncoder(appProperties);
+
+    // When
+    String encoded = encoder.encode("testpass");
+
+    // Then
+    assertThat(encoded).startsWith("{bcrypt}$2a$05$");
+    assertThat(encoder.matches("testpass", encoded)).isTrue();
+    assertThat(encoder.upgradeEncoding(encoded)).isFalse();
+  }
+
+  @Test
+  void matches_WhenHashHasNoPrefix_ShouldAcceptItAndAskForUpgrade() {
+    // Given
+    AppProperties appProperties = new AppProperties();
+    appProperties.setPasswordBcryptStrength(5);
+    PasswordEncoder encoder = new PasswordHashingConfig().passwordEncoder(appProperties);
+    String legacy = new BCryptPasswordEncoder(4).encode("testpass");
+
+    // When & Then
+    assertThat(encoder.matches("testpass", legacy)).isTrue();
+    assertThat(encoder.matches("wrong", legacy)).isFalse();
+    assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+  }
+
+  @Test
+  void upgradeEncoding_WhenStrengthIsRaised_ShouldAskForUpgrade() {
+    // Given
+    AppProperties appProperties = new AppProperties();
+    appProperties.setPasswordBcryptStrength(4);
+    String weak = new PasswordHashingConfig().passwordEncoder(appProperties).encode("testpass");
+    appProperties.setPasswordBcryptStrength(5);
+    PasswordEncoder stronger = new PasswordHashingConfig().passwordEncoder(appProperties);
+
+    // When & Then
+    assertThat(stronger.matches("testpass", weak)).isTrue();
+    assertThat(stronger.upgradeEncoding(weak)).isTrue();
+  }
+}
@@ -0,0 +1,154 @@
+package es.jmjg.experiments.infrastructure.config.security;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import es.jmjg.experiments.domain.user.event.UserChanged;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.shared.UserDetailsFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalCacheTest {
+
+  private static final String USERNAME = "leanne";
+
+  @Mock
+  private UserDetailsService userDetailsService;
+
+  private AppProperties appProperties;
+  private UserDetails userDetails;
+
+  @BeforeEach
+  void setUp() {
+    appProperties = new AppProperties();
+    userDetails = UserDetailsFactory.createJwtUserDetails(
+        UserFactory.createUser(UUID.randomUUID(), "Leanne", "leanne@example.com", USERNAME));
+  }
+
+  @Test
+  void load_WhenTokenIsIssuedBeforeEntry_ShouldReuseEntry() {
+    // Given
+    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    PrincipalCache principalCache = new PrincipalCache(userDetailsService, appProperties);
+    Instant issuedAt = Instant.now().minusSeconds(5);
+
+    // When
+    UserDetails first = principalCache.load(USERNAME, issuedAt);
+    UserDetails second = principalCache.load(USERNAME, issuedAt);
+
+    // Then
+    assertThat(first).isSameAs(userDetails);
+    assertThat(second).isSameAs(userDetails);
+    verify(userDetailsService, times(1)).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void load_WhenTokenIsIssuedAfterEntry_ShouldReloadUser() {
+    // Given
+    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    PrincipalCache principalCache = new PrincipalCache(userDetailsService, appProperties);
+    principalCache.load(USERNAME, Instant.now().minusSeconds(5));
+
+    // When
+    principalCache.load(USERNAME, Instant.now().plusSeconds(5));
+
+    // Then
+    verify(userDetailsService, times(2)).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void load_WhenEntryIsOlderThanTtl_ShouldReloadUser() {
+    // Given
+    appProperties.setPrincipalCacheTtl(Duration.ZERO);
+    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    PrincipalCache principalCache = new PrincipalCache(userDetailsService, appProperties);
+    Instant issuedAt = Instant.now().minusSeconds(5);
+
+    // When
+    principalCache.load(USERNAME, issuedAt);
+    principalCache.load(USERNAME, issuedAt);
+
+    // Then
+    verify(userDetailsService, times(2)).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void load_WhenTokenHasNoIssuedAt_ShouldNotCache() {
+    // Given
+    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    PrincipalCache principalCache = new PrincipalCache(userDetailsService, appProperties);
+
+    // When
+    principalCache.load(USERNAME, null);
+    principalCache.load(USERNAME, Instant.now().minusSeconds(5));
+
+    // Then
+    verify(userDetailsService, times(2)).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void load_WhenCacheIsFull_ShouldStillResolveUser() {
+    // Given
+    appProperties.setPrincipalCacheMaxSize(1);
+    UserDetails other = UserDetailsFactory.createJwtUserDetails(
+        UserFactory.createUser(UUID.randomUUID(), "Other", "other@example.com", "other"));
+    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    when(userDetailsService.loadUserByUsername("other")).thenReturn(other);
+    PrincipalCache principalCache = new PrincipalCache(userDetailsService, appProperties);
+    Instant issuedAt = Instant.now().minusSeconds(5);
+
+    // When
+    principalCache.load(USERNAME, issuedAt);
+    principalCache.load("other", issuedAt);
+    principalCache.load("other", issuedAt);
+    principalCache.load(USERNAME, issuedAt);
+
+    // Then
+    verify(userDetailsService, times(1)).loadUserByUsername(USERNAME);
+    verify(userDetailsService, times(2)).loadUserByUsername("other");
+  }
+
+  @Test
+  void onUserChanged_ShouldEvictEntry() {
+    // Given
+    when(userDetailsService.loadUserByUsername(USERNAME)).thenReturn(userDetails);
+    PrincipalCache principalCache = new PrincipalCache(userDetailsService, appProperties);
+    Instant issuedAt = Instant.now().minusSeconds(5);
+    principalCache.load(USERNAME, issuedAt);
+
+    // When
+    principalCache.onUserChanged(new UserChanged(USERNAME, UUID.randomUUID()));
+    principalCache.load(USERNAME, issuedAt);
+
+    // Then
+    verify(userDetailsService, times(2)).loadUserByUsername(USERNAME);
+  }
+
+  @Test
+  void load_WhenUserDoesNotExist_ShouldPropagateAndNotCache() {
+    // Given
+    when(userDetailsService.loadUserByUsername(USERNAME)).thenThrow(new UsernameNotFoundException("missing"));
+    PrincipalCache principalCache = new PrincipalCache(userDetailsService, appProperties);
+
+    // When & Then
+    assertThatThrownBy(() -> principalCache.load(USERNAME, Instant.now()))
+        .isInstanceOf(UsernameNotFoundException.class);
+    assertThatThrownBy(() -> principalCache.load(USERNAME, Instant.now()))
+        .isInstanceOf(UsernameNotFoundException.class);
+    verify(userDetailsService, times(2)).loadUserByUsername(USERNAME);
+  }
+}
@@ -0,0 +1,44 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.env.MockEnvironment;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+
+class SqlMetricsConfigTest {
+
+  @Test
+  void dataSourceProxy_ByDefault_ShouldNotProxyResultSetsOrMethodCalls() {
+    // When
+    ProxyDataSource proxy = proxy(new MockEnvironment());
+
+    // Then
+    assertThat(proxy.getProxyConfig().getQueryListener().getListeners()).isNotEmpty();
+    assertThat(proxy.getProxyConfig().isResultSetProxyEnabled()).isFalse();
+    assertThat(proxy.getProxyConfig().getMethodListener().getListeners()).isEmpty();
+  }
+
+  @Test
+  void dataSourceProxy_WhenRowMetricsAreEnabled_ShouldProxyResultSets() {
+    // When
+    ProxyDataSource proxy = proxy(new MockEnvironment().withProperty("app.sql-row-metrics-enabled", "true"));
+
+    // Then
+    assertThat(proxy.getProxyConfig().isResultSetProxyEnabled()).isTrue();
+    assertThat(proxy.getProxyConfig().getMethodListener().getListeners()).hasSize(1);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ProxyDataSource proxy(MockEnvironment environment) {
+    Object bean = SqlMetricsConfig.sqlMetricsDataSourceProxy(mock(ObjectProvider.class), environment)
+        .postProcessAfterInitialization(mock(DataSource.class), "dataSource");
+    assertThat(bean).isInstanceOf(ProxyDataSource.class);
+    return (ProxyDataSource) bean;
+  }
+}
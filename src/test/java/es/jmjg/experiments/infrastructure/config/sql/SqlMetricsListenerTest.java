@@ -0,0 +1,78 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.PreparedStatement;
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+class SqlMetricsListenerTest {
+
+  @Test
+  void describe_ShouldShowParameterTypesInIndexOrderWithoutValues() throws Exception {
+    // Given
+    QueryInfo queryInfo = new QueryInfo("select * from post where uuid = ? and title = ? and user_id = ?");
+    queryInfo.getParametersList().add(List.of(
+        setNull(3),
+        set("setString", String.class, 2, "secret title"),
+        set("setObject", Object.class, 1, UUID.randomUUID())));
+
+    // When
+    String description = SqlMetricsListener.describe(List.of(queryInfo));
+
+    // Then
+    assertThat(description)
+        .isEqualTo("select * from post where uuid = ? and title = ? and user_id = ? with parameters [UUID, String, null]")
+        .doesNotContain("secret");
+  }
+
+  @Test
+  void parameterShapes_WhenBatched_ShouldShowFirstEntryAndSize() throws Exception {
+    // Given
+    QueryInfo queryInfo = new QueryInfo("insert into post_tag (post_id, tag_id) values (?, ?)");
+    for (int i = 0; i < 3; i++) {
+      queryInfo.getParametersList().add(List.of(
+          set("setInt", int.class, 1, i),
+          set("setInt", int.class, 2, i)));
+    }
+
+    // When / Then
+    assertThat(SqlMetricsListener.parameterShapes(List.of(queryInfo))).isEqualTo("3 x [Integer, Integer]");
+  }
+
+  @Test
+  void parameterShapes_ShouldOrderTenthParameterAfterSecond() throws Exception {
+    // Given
+    QueryInfo queryInfo = new QueryInfo("insert");
+    queryInfo.getParametersList().add(List.of(
+        set("setString", String.class, 10, "a"),
+        set("setInt", int.class, 2, 1)));
+
+    // When / Then
+    assertThat(SqlMetricsListener.parameterShapes(List.of(queryInfo))).isEqualTo("[Integer, String]");
+  }
+
+  @Test
+  void rowsWritten_ShouldSumUpdateCountsIgnoringUnknownOnes() {
+    assertThat(SqlMetricsListener.rowsWritten(4)).isEqualTo(4);
+    assertThat(SqlMetricsListener.rowsWritten(new int[] { 1, 2, PreparedStatement.SUCCESS_NO_INFO })).isEqualTo(3);
+    assertThat(SqlMetricsListener.rowsWritten(Boolean.TRUE)).isZero();
+  }
+
+  private static ParameterSetOperation set(String method, Class<?> type, int index, Object value)
+      throws NoSuchMethodException {
+    return new ParameterSetOperation(PreparedStatement.class.getMethod(method, int.class, type),
+        new Object[] { index, value });
+  }
+
+  private static ParameterSetOperation setNull(int index) throws NoSuchMethodException {
+    return new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+        new Object[] { index, Types.INTEGER });
+  }
+}
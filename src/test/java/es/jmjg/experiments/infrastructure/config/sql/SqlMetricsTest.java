@@ -0,0 +1,117 @@
+package es.jmjg.experiments.infrastructure.config.sql;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SqlMetricsTest {
+
+  private SimpleMeterRegistry meterRegistry;
+  private SqlMetrics sqlMetrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    sqlMetrics = new SqlMetrics(meterRegistry, Duration.ofMillis(500));
+  }
+
+  @AfterEach
+  void tearDown() {
+    sqlMetrics.exitUseCase();
+  }
+
+  @Test
+  void endRequest_ShouldPublishStatementsUnderRouteAndUseCase() {
+    // Given
+    sqlMetrics.beginRequest("GET /api/posts/1");
+    sqlMetrics.statementExecuted(millis(2), 0, () -> "select 1");
+    sqlMetrics.enterUseCase("FindPostByUuid");
+    sqlMetrics.statementExecuted(millis(3), 0, () -> "select 2");
+    sqlMetrics.rowRead();
+    sqlMetrics.rowRead();
+    sqlMetrics.exitUseCase();
+
+    // Then nothing is published while the route is unknown
+    assertThat(meterRegistry.find("sql.statements").timers()).isEmpty();
+
+    // When
+    sqlMetrics.endRequest("GET", "/api/posts/{id}");
+
+    // Then
+    Timer useCase = timer("/api/posts/{id}", "FindPostByUuid");
+    assertThat(useCase.count()).isEqualTo(1);
+    assertThat(useCase.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(3);
+    assertThat(timer("/api/posts/{id}", SqlMetrics.NONE).count()).isEqualTo(1);
+    assertThat(rows("/api/posts/{id}", "FindPostByUuid")).isEqualTo(2);
+    assertThat(meterRegistry.get("sql.request.statements").tag("uri", "/api/posts/{id}").summary().totalAmount())
+        .isEqualTo(2);
+  }
+
+  @Test
+  void enterUseCase_WhenAnotherIsRunning_ShouldKeepOutermost() {
+    // Given
+    assertThat(sqlMetrics.enterUseCase("SavePost")).isTrue();
+
+    // When
+    boolean entered = sqlMetrics.enterUseCase("ProcessPostTags");
+    sqlMetrics.statementExecuted(millis(1), 3, () -> "insert");
+
+    // Then
+    assertThat(entered).isFalse();
+    assertThat(timer(SqlMetrics.NONE, "SavePost").count()).isEqualTo(1);
+    assertThat(rows(SqlMetrics.NONE, "SavePost")).isEqualTo(3);
+  }
+
+  @Test
+  void statementExecuted_OutsideRequest_ShouldPublishImmediately() {
+    // When
+    sqlMetrics.statementExecuted(millis(1), 0, () -> "select 1");
+    sqlMetrics.rowRead();
+
+    // Then
+    assertThat(timer(SqlMetrics.NONE, SqlMetrics.NONE).count()).isEqualTo(1);
+    assertThat(rows(SqlMetrics.NONE, SqlMetrics.NONE)).isEqualTo(1);
+  }
+
+  @Test
+  void statementExecuted_ShouldDescribeStatementOnlyWhenSlow() {
+    // Given
+    int[] described = new int[1];
+
+    // When
+    sqlMetrics.statementExecuted(millis(499), 0, () -> "fast" + described[0]++);
+    sqlMetrics.statementExecuted(millis(500), 0, () -> "slow" + described[0]++);
+
+    // Then
+    assertThat(described[0]).isEqualTo(1);
+  }
+
+  @Test
+  void statementExecuted_WhenThresholdIsZero_ShouldNeverDescribeStatement() {
+    // Given
+    SqlMetrics withoutSlowQueryLog = new SqlMetrics(meterRegistry, Duration.ZERO);
+
+    // When / Then
+    withoutSlowQueryLog.statementExecuted(millis(60_000), 0, () -> fail("statement should not be described"));
+  }
+
+  private Timer timer(String uri, String useCase) {
+    return meterRegistry.get("sql.statements").tag("uri", uri).tag("use.case", useCase).timer();
+  }
+
+  private double rows(String uri, String useCase) {
+    return meterRegistry.get("sql.rows").tag("uri", uri).tag("use.case", useCase).counter().count();
+  }
+
+  private static long millis(long millis) {
+    return TimeUnit.MILLISECONDS.toNanos(millis);
+  }
+}
@@ -0,0 +1,56 @@
+package es.jmjg.experiments.infrastructure.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+
+class KeysetCursorTest {
+
+  @Test
+  void shouldDecodeEncodedCursor() {
+    String cursor = KeysetCursor.encode(42);
+
+    assertThat(cursor).doesNotContain("42");
+    assertThat(KeysetCursor.decode(cursor)).isEqualTo(42);
+  }
+
+  @Test
+  void shouldDecodeEmptyCursorAsFirstPage() {
+    assertThat(KeysetCursor.decode(null)).isNull();
+    assertThat(KeysetCursor.decode("")).isNull();
+  }
+
+  @Test
+  void shouldDecodeEncodedPositionKeepingMicroseconds() {
+    LocalDateTime createdAt = LocalDateTime.of(2025, 9, 13, 10, 0, 0, 123_456_000);
+    String cursor = KeysetCursor.encode(createdAt, 7);
+
+    assertThat(KeysetCursor.decodePosition(cursor)).isEqualTo(new KeysetCursor.Position(createdAt, 7));
+    assertThat(KeysetCursor.decodePosition(null)).isNull();
+  }
+
+  @Test
+  void shouldRejectCursorOfAnotherKind() {
+    String idCursor = KeysetCursor.encode(42);
+    String positionCursor = KeysetCursor.encode(LocalDateTime.of(2025, 9, 13, 10, 0), 7);
+
+    assertThatThrownBy(() -> KeysetCursor.decodePosition(idCursor))
+        .isInstanceOf(InvalidRequest.class)
+        .hasMessage("Invalid cursor: " + idCursor);
+    assertThatThrownBy(() -> KeysetCursor.decode(positionCursor))
+        .isInstanceOf(InvalidRequest.class)
+        .hasMessage("Invalid cursor: " + positionCursor);
+  }
+
+  @Test
+  void shouldRejectTamperedCursor() {
+    assertThatThrownBy(() -> KeysetCursor.decode("not-a-cursor"))
+        .isInstanceOf(InvalidRequest.class)
+        .hasMessage("Invalid cursor: not-a-cursor");
+  }
+}
@@ -0,0 +1,67 @@
+package es.jmjg.experiments.infrastructure.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class NdjsonExportTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  @Test
+  void shouldWriteOneLinePerValue() throws Exception {
+    // When
+    ResponseEntity<StreamingResponseBody> response = NdjsonExport.response(objectMapper, null, lines -> {
+      lines.accept(Map.of("id", 1));
+      lines.accept(Map.of("id", 2));
+    });
+
+    // Then
+    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+    assertThat(new String(write(response), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+  }
+
+  @Test
+  void shouldCompressWhenClientAcceptsGzip() throws Exception {
+    // When
+    ResponseEntity<StreamingResponseBody> response = NdjsonExport.response(objectMapper, "gzip, deflate",
+        lines -> lines.accept(Map.of("id", 1)));
+
+    // Then
+    assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    assertThat(response.getHeaders().getFirst(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+    try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(write(response)))) {
+      assertThat(new String(input.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo("{\"id\":1}\n");
+    }
+  }
+
+  @Test
+  void shouldTellWhetherGzipIsAccepted() {
+    assertThat(NdjsonExport.acceptsGzip("gzip")).isTrue();
+    assertThat(NdjsonExport.acceptsGzip("deflate, GZIP;q=0.5")).isTrue();
+    assertThat(NdjsonExport.acceptsGzip(null)).isFalse();
+    assertThat(NdjsonExport.acceptsGzip("identity")).isFalse();
+    assertThat(NdjsonExport.acceptsGzip("gzip;q=0")).isFalse();
+    assertThat(NdjsonExport.acceptsGzip("gzip; q=0.000")).isFalse();
+  }
+
+  private static byte[] write(ResponseEntity<StreamingResponseBody> response) throws Exception {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    response.getBody().writeTo(output);
+    return output.toByteArray();
+  }
+}
@@ -6,6 +6,7 @@ import es.jmjg.experiments.infrastructure.config.exception.ApiErrorResponse;
 import es.jmjg.experiments.infrastructure.config.exception.GlobalExceptionHandler;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
@@ -49,6 +50,25 @@ class GlobalExceptionHandlerTest {
             });
   }
 
+  @Test
+  void handleOptimisticLockingFailure_ShouldReturn409() {
+    // Given
+    OptimisticLockingFailureException exception = new OptimisticLockingFailureException("Row was updated by another transaction");
+
+    // When
+    ResponseEntity<ApiErrorResponse> response = exceptionHandler.handleOptimisticLockingFailure(exception, webRequest);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    assertThat(response.getBody())
+        .isNotNull()
+        .satisfies(
+            body -> {
+              assertThat(body.getStatus()).isEqualTo(409);
+              assertThat(body.getMessage()).isEqualTo("The resource was modified concurrently, retry the request");
+            });
+  }
+
   @Test
   void handleResponseStatusException_ShouldReturnCorrectStatus() {
     // Given
@@ -0,0 +1,109 @@
+package es.jmjg.experiments.infrastructure.controller.post;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import es.jmjg.experiments.application.post.ExportPostComments;
+import es.jmjg.experiments.application.post.ExportPosts;
+import es.jmjg.experiments.domain.post.projection.PostCommentExport;
+import es.jmjg.experiments.domain.post.projection.PostExport;
+import es.jmjg.experiments.infrastructure.config.security.JwtUserDetails;
+import es.jmjg.experiments.shared.UserDetailsFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+class PostControllerExportTest extends BasePostControllerTest {
+
+  private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 9, 13, 10, 0);
+
+  @Autowired
+  private ExportPosts exportPosts;
+
+  @Autowired
+  private ExportPostComments exportPostComments;
+
+  @Test
+  void shouldStreamPostsAsNdjson() throws Exception {
+    // Given
+    JwtUserDetails userDetails = UserDetailsFactory.createJwtUserDetails(UserFactory.createBasicUser());
+    PostExport first = new PostExport(UUID.randomUUID(), UUID.randomUUID(), "First", "Body", List.of("java"), CREATED_AT);
+    PostExport second = new PostExport(UUID.randomUUID(), first.userUuid(), "Second", "Body", List.of(), CREATED_AT);
+    doAnswer(invocation -> {
+      Consumer<PostExport> consumer = invocation.getArgument(1);
+      consumer.accept(first);
+      consumer.accept(second);
+      return null;
+    }).when(exportPosts).export(isNull(), any());
+
+    // When
+    MvcResult result = mockMvc
+        .perform(get("/api/posts/export").with(user(userDetails)))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Then
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "application/x-ndjson"))
+        .andExpect(header().doesNotExist("Content-Encoding"))
+        .andExpect(content().string("""
+            {"id":"%s","userId":"%s","title":"First","body":"Body","tagNames":["java"],"createdAt":"2025-09-13T10:00:00"}
+            {"id":"%s","userId":"%s","title":"Second","body":"Body","tagNames":[],"createdAt":"2025-09-13T10:00:00"}
+            """.formatted(first.uuid(), first.userUuid(), second.uuid(), second.userUuid())));
+  }
+
+  @Test
+  void shouldStreamCommentsCreatedSince() throws Exception {
+    // Given
+    JwtUserDetails userDetails = UserDetailsFactory.createJwtUserDetails(UserFactory.createBasicUser());
+    PostCommentExport comment = new PostCommentExport(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), "Nice",
+        CREATED_AT);
+    doAnswer(invocation -> {
+      invocation.<Consumer<PostCommentExport>>getArgument(1).accept(comment);
+      return null;
+    }).when(exportPostComments).export(eq(CREATED_AT), any());
+
+    // When
+    MvcResult result = mockMvc
+        .perform(get("/api/posts/comments/export")
+            .param("since", "2025-09-13T10:00:00")
+            .with(user(userDetails)))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Then
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().string("""
+            {"id":"%s","postId":"%s","userId":"%s","comment":"Nice","createdAt":"2025-09-13T10:00:00"}
+            """.formatted(comment.uuid(), comment.postUuid(), comment.userUuid())));
+  }
+
+  @Test
+  void shouldRejectInvalidSince() throws Exception {
+    JwtUserDetails userDetails = UserDetailsFactory.createJwtUserDetails(UserFactory.createBasicUser());
+
+    mockMvc
+        .perform(get("/api/posts/export")
+            .param("since", "yesterday")
+            .with(user(userDetails)))
+        .andExpect(status().isBadRequest());
+  }
+}
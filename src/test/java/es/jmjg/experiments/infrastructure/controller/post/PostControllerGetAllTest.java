@@ -1,12 +1,16 @@
 package es.jmjg.experiments.infrastructure.controller.post;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import es.jmjg.experiments.application.post.dto.FindAllPostsByCursorDto;
 import es.jmjg.experiments.application.post.dto.FindAllPostsDto;
 import java.util.Collections;
 import java.util.List;
@@ -17,11 +21,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.web.servlet.ResultActions;
 
 import es.jmjg.experiments.application.post.FindAllPosts;
+import es.jmjg.experiments.application.post.FindAllPostsByCursor;
+import es.jmjg.experiments.application.post.FindAllPostsWithoutCount;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.shared.jsonsample.PostSamples;
 import es.jmjg.experiments.shared.UserFactory;
 import es.jmjg.experiments.shared.PostFactory;
@@ -33,8 +43,14 @@ class PostControllerGetAllTest extends BasePostControllerTest {
   @Autowired
   private FindAllPosts findAllPosts;
 
+  @Autowired
+  private FindAllPostsByCursor findAllPostsByCursor;
+
+  @Autowired
+  private FindAllPostsWithoutCount findAllPostsWithoutCount;
+
   protected List<Post> posts;
-  protected Page<Post> postsPage;
+  protected Page<PostSummary> postsPage;
   protected User testUser;
 
   @BeforeEach
@@ -49,7 +65,7 @@ class PostControllerGetAllTest extends BasePostControllerTest {
 
     posts = List.of(post1, post2);
     Pageable pageable = PageRequest.of(0, 20);
-    postsPage = new PageImpl<>(posts, pageable, posts.size());
+    postsPage = new PageImpl<>(PostFactory.toSummaries(posts), pageable, posts.size());
   }
 
   @Test
@@ -85,7 +101,7 @@ class PostControllerGetAllTest extends BasePostControllerTest {
     String jsonResponse = PostSamples.createFindAllPostsWithPaginationJsonResponse(posts);
 
     Pageable pageable = PageRequest.of(0, 1);
-    Page<Post> singlePostPage = new PageImpl<>(List.of(posts.getFirst()), pageable, 2);
+    Page<PostSummary> singlePostPage = new PageImpl<>(List.of(PostFactory.toSummary(posts.getFirst())), pageable, 2);
     when(findAllPosts.findAll(any(FindAllPostsDto.class))).thenReturn(singlePostPage);
 
     ResultActions resultActions = mockMvc
@@ -101,7 +117,7 @@ class PostControllerGetAllTest extends BasePostControllerTest {
     String jsonResponse = PostSamples.createEmptyPostsJsonResponse();
 
     Pageable pageable = PageRequest.of(0, 20);
-    Page<Post> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
+    Page<PostSummary> emptyPage = new PageImpl<>(Collections.emptyList(), pageable, 0);
     when(findAllPosts.findAll(any(FindAllPostsDto.class))).thenReturn(emptyPage);
 
     ResultActions resultActions = mockMvc
@@ -111,4 +127,72 @@ class PostControllerGetAllTest extends BasePostControllerTest {
 
     verifyJsonResponse(resultActions, jsonResponse);
   }
+
+  @Test
+  void shouldFindAllPostsWithCursor() throws Exception {
+    when(findAllPostsByCursor.findAll(any(FindAllPostsByCursorDto.class)))
+        .thenReturn(new SliceImpl<>(PostFactory.toSummaries(posts), PageRequest.of(0, 2), true));
+
+    mockMvc
+        .perform(get("/api/posts?size=2&cursor=" + KeysetCursor.encode(10)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(2))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.hasPrevious").value(true))
+        .andExpect(jsonPath("$.nextCursor").value(KeysetCursor.encode(2)))
+        .andExpect(jsonPath("$.totalElements").doesNotExist());
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+    mockMvc
+        .perform(get("/api/posts?cursor=not-a-cursor"))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldFindAllPostsWithoutCount() throws Exception {
+    when(findAllPostsWithoutCount.findAll(any(FindAllPostsDto.class)))
+        .thenReturn(new SliceImpl<>(PostFactory.toSummaries(posts), PageRequest.of(0, 2), true));
+
+    mockMvc
+        .perform(get("/api/posts?page=0&size=2&count=NONE"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(2))
+        .andExpect(jsonPath("$.pageNumber").value(0))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.countMode").value("NONE"))
+        .andExpect(jsonPath("$.totalElements").doesNotExist())
+        .andExpect(jsonPath("$.totalPages").doesNotExist());
+  }
+
+  @Test
+  void shouldFindAllPostsWithApproximateCount() throws Exception {
+    when(findAllPosts.findAll(any(FindAllPostsDto.class))).thenReturn(postsPage);
+
+    mockMvc
+        .perform(get("/api/posts?count=APPROXIMATE"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.totalElements").value(2))
+        .andExpect(jsonPath("$.countMode").value("APPROXIMATE"));
+
+    verify(findAllPosts).findAll(argThat(FindAllPostsDto::approximateCount));
+  }
+
+  @Test
+  void shouldFindAllPostsWithoutBody() throws Exception {
+    Post post = posts.getFirst();
+    PostSummary withoutBody = new PostSummary(post.getId(), post.getUuid(), testUser.getUuid(), post.getTitle(), null,
+        List.of(), List.of(), 0);
+    when(findAllPosts.findAll(any(FindAllPostsDto.class)))
+        .thenReturn(new PageImpl<>(List.of(withoutBody), PageRequest.of(0, 20), 1));
+
+    mockMvc
+        .perform(get("/api/posts?body=NONE"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].title").value(post.getTitle()))
+        .andExpect(jsonPath("$.content[0].body").doesNotExist());
+
+    verify(findAllPosts).findAll(argThat(dto -> dto.bodyMode() == PostBodyMode.NONE));
+  }
 }
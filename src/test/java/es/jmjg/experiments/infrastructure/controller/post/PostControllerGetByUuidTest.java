@@ -1,21 +1,29 @@
 package es.jmjg.experiments.infrastructure.controller.post;
 
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.domain.post.entity.PostComment;
+import es.jmjg.experiments.domain.post.event.PostChanged;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.shared.TagFactory;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import es.jmjg.experiments.domain.post.exception.PostNotFound;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 
 import es.jmjg.experiments.application.post.FindPostByUuid;
+import es.jmjg.experiments.application.post.FindPostComments;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.shared.jsonsample.PostSamples;
@@ -27,6 +35,12 @@ class PostControllerGetByUuidTest extends BasePostControllerTest {
   @Autowired
   private FindPostByUuid findPostByUuid;
 
+  @Autowired
+  private FindPostComments findPostComments;
+
+  @Autowired
+  private PostResponseCache postResponseCache;
+
   @Test
   void shouldFindPostWhenGivenValidUuid() throws Exception {
     User user = UserFactory.createBasicUser();
@@ -43,12 +57,75 @@ class PostControllerGetByUuidTest extends BasePostControllerTest {
     post.setComments(List.of(comment1, comment2));
 
     when(findPostByUuid.findByUuid(uuid)).thenReturn(post);
+    when(findPostComments.findPreview(post, 10)).thenReturn(PostFactory.toCommentSlice(post));
+    String json = PostSamples.createFindPostByUuidJsonResponse(post);
+
+    mockMvc
+        .perform(get("/api/posts/" + uuid))
+        .andExpect(status().isOk())
+        .andExpect(content().json(json));
+  }
+
+  @Test
+  void shouldSendVersionAsETag() throws Exception {
+    User user = UserFactory.createBasicUser();
+    UUID uuid = UUID.randomUUID();
+    Post post = PostFactory.createPost(user, uuid, "Test Title", "Test Body");
+    post.setId(1);
+
+    when(findPostByUuid.findVersion(uuid)).thenReturn(Optional.of(3L));
+    when(findPostByUuid.findByUuid(uuid)).thenReturn(post);
+    when(findPostComments.findPreview(post, 10)).thenReturn(PostFactory.toCommentSlice(post));
+
+    mockMvc
+        .perform(get("/api/posts/" + uuid).header(HttpHeaders.IF_NONE_MATCH, "W/\"2\""))
+        .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""));
+  }
+
+  @Test
+  void shouldAnswerNotModifiedWithoutLoadingPostWhenETagMatches() throws Exception {
+    UUID uuid = UUID.randomUUID();
+    when(findPostByUuid.findVersion(uuid)).thenReturn(Optional.of(3L));
+
+    mockMvc
+        .perform(get("/api/posts/" + uuid).header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
+        .andExpect(content().string(""));
+
+    verify(findPostByUuid, never()).findByUuid(uuid);
+  }
+
+  @Test
+  void shouldServeRepeatedReadsFromCacheUntilPostChanges() throws Exception {
+    User user = UserFactory.createBasicUser();
+    UUID uuid = UUID.randomUUID();
+    Post post = PostFactory.createPost(user, uuid, "Test Title", "Test Body");
+    post.setId(1);
+
+    when(findPostByUuid.findVersion(uuid)).thenReturn(Optional.of(3L));
+    when(findPostByUuid.findByUuid(uuid)).thenReturn(post);
+    when(findPostComments.findPreview(post, 10)).thenReturn(PostFactory.toCommentSlice(post));
     String json = PostSamples.createFindPostByUuidJsonResponse(post);
 
+    mockMvc.perform(get("/api/posts/" + uuid)).andExpect(status().isOk()).andExpect(content().json(json));
     mockMvc
         .perform(get("/api/posts/" + uuid))
         .andExpect(status().isOk())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"3\""))
         .andExpect(content().json(json));
+    mockMvc
+        .perform(get("/api/posts/" + uuid).header(HttpHeaders.IF_NONE_MATCH, "W/\"3\""))
+        .andExpect(status().isNotModified());
+
+    verify(findPostByUuid, times(1)).findVersion(uuid);
+    verify(findPostByUuid, times(1)).findByUuid(uuid);
+
+    postResponseCache.onPostChanged(new PostChanged(uuid));
+    mockMvc.perform(get("/api/posts/" + uuid)).andExpect(status().isOk());
+
+    verify(findPostByUuid, times(2)).findByUuid(uuid);
   }
 
   @Test
@@ -0,0 +1,84 @@
+package es.jmjg.experiments.infrastructure.controller.post;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.jmjg.experiments.application.post.FindPostComments;
+import es.jmjg.experiments.application.post.dto.FindPostCommentsDto;
+import es.jmjg.experiments.domain.post.exception.PostNotFound;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+class PostControllerGetCommentsTest extends BasePostControllerTest {
+
+  @Autowired
+  private FindPostComments findPostComments;
+
+  @Test
+  void shouldFindFirstPageOfComments() throws Exception {
+    UUID postUuid = UUID.randomUUID();
+    PostCommentSummary first = new PostCommentSummary(1, UUID.randomUUID(), UUID.randomUUID(), "First",
+        LocalDateTime.of(2025, 9, 13, 10, 0));
+    PostCommentSummary second = new PostCommentSummary(2, UUID.randomUUID(), UUID.randomUUID(), "Second",
+        LocalDateTime.of(2025, 9, 13, 10, 5));
+    when(findPostComments.findByPost(new FindPostCommentsDto(postUuid, 2)))
+        .thenReturn(new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), true));
+
+    mockMvc
+        .perform(get("/api/posts/" + postUuid + "/comments?size=2"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(2))
+        .andExpect(jsonPath("$.content[0].id").value(first.uuid().toString()))
+        .andExpect(jsonPath("$.content[0].user-id").value(first.userUuid().toString()))
+        .andExpect(jsonPath("$.content[0].post-id").value(postUuid.toString()))
+        .andExpect(jsonPath("$.content[0].comment").value("First"))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.hasPrevious").value(false))
+        .andExpect(jsonPath("$.nextCursor").value(KeysetCursor.encode(second.createdAt(), second.id())));
+  }
+
+  @Test
+  void shouldContinueFromCursor() throws Exception {
+    UUID postUuid = UUID.randomUUID();
+    LocalDateTime after = LocalDateTime.of(2025, 9, 13, 10, 5, 0, 1_000);
+    PostCommentSummary third = new PostCommentSummary(3, UUID.randomUUID(), UUID.randomUUID(), "Third",
+        LocalDateTime.of(2025, 9, 13, 10, 10));
+    when(findPostComments.findByPost(new FindPostCommentsDto(postUuid, after, 2, 20)))
+        .thenReturn(new SliceImpl<>(List.of(third), PageRequest.of(0, 20), false));
+
+    mockMvc
+        .perform(get("/api/posts/" + postUuid + "/comments?cursor=" + KeysetCursor.encode(after, 2)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content.length()").value(1))
+        .andExpect(jsonPath("$.hasNext").value(false))
+        .andExpect(jsonPath("$.hasPrevious").value(true))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void shouldReturnBadRequestWhenCursorIsInvalid() throws Exception {
+    mockMvc
+        .perform(get("/api/posts/" + UUID.randomUUID() + "/comments?cursor=" + KeysetCursor.encode(10)))
+        .andExpect(status().isBadRequest());
+  }
+
+  @Test
+  void shouldReturnNotFoundWhenPostDoesNotExist() throws Exception {
+    UUID postUuid = UUID.randomUUID();
+    when(findPostComments.findByPost(new FindPostCommentsDto(postUuid, 20)))
+        .thenThrow(new PostNotFound("Post not found"));
+
+    mockMvc
+        .perform(get("/api/posts/" + postUuid + "/comments"))
+        .andExpect(status().isNotFound());
+  }
+}
@@ -13,6 +13,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 
 import es.jmjg.experiments.application.post.FindPosts;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.shared.jsonsample.PostSamples;
 import es.jmjg.experiments.shared.PostFactory;
@@ -41,7 +42,7 @@ class PostControllerGetSearchTest extends BasePostControllerTest {
 
     List<Post> searchResults = List.of(searchResult1, searchResult2);
 
-    when(findPosts.find("Spring", 10)).thenReturn(searchResults);
+    when(findPosts.find("Spring", 10, PostBodyMode.FULL)).thenReturn(PostFactory.toSummaries(searchResults));
 
     String expectedJson = PostSamples.createSearchPostsJsonResponse(searchResults);
 
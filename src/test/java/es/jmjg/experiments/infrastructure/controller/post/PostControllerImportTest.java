@@ -0,0 +1,95 @@
+package es.jmjg.experiments.infrastructure.controller.post;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import es.jmjg.experiments.application.post.ImportPosts;
+import es.jmjg.experiments.application.post.dto.ImportPostDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsDto;
+import es.jmjg.experiments.application.post.dto.ImportPostsReport;
+import es.jmjg.experiments.application.post.dto.ImportPostsReport.RecordError;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.infrastructure.config.security.JwtUserDetails;
+import es.jmjg.experiments.shared.UserDetailsFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+class PostControllerImportTest extends BasePostControllerTest {
+
+  @Autowired
+  private ImportPosts importPosts;
+
+  @Test
+  void shouldImportNdjsonAndReturnReport() throws Exception {
+    // Given
+    User user = UserFactory.createBasicUser();
+    JwtUserDetails userDetails = UserDetailsFactory.createJwtUserDetails(user);
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    List<ImportPostDto> read = new ArrayList<>();
+    List<ImportPostsDto> jobs = new ArrayList<>();
+    when(importPosts.importPosts(any(ImportPostsDto.class))).thenAnswer(invocation -> {
+      ImportPostsDto job = invocation.getArgument(0);
+      jobs.add(job);
+      job.posts().forEachRemaining(read::add);
+      return new ImportPostsReport(1, 1, List.of(new RecordError(2, second, "Tag not found: unknown")));
+    });
+
+    String body = """
+        {"id":"%s","title":"First","body":"Body"}
+        {"id":"%s","title":"Second","body":"Body","tagNames":["unknown"]}
+        """.formatted(first, second);
+
+    // When / Then
+    mockMvc
+        .perform(post("/api/posts/import")
+            .contentType("application/x-ndjson")
+            .content(body)
+            .with(user(userDetails)))
+        .andExpect(status().isOk())
+        .andExpect(content().json("""
+            {"imported":1,"failed":1,"errors":[{"record":2,"id":"%s","message":"Tag not found: unknown"}]}
+            """.formatted(second)));
+
+    assertThat(read).extracting(ImportPostDto::uuid).containsExactly(first, second);
+    assertThat(jobs).singleElement().satisfies(job -> {
+      assertThat(job.authenticatedUser().id()).isEqualTo(user.getUuid());
+      assertThat(job.batchSize()).isEqualTo(500);
+      assertThat(job.maxReportedErrors()).isEqualTo(1000);
+    });
+  }
+
+  @Test
+  void shouldAcceptJsonArray() throws Exception {
+    // Given
+    User user = UserFactory.createBasicUser();
+    JwtUserDetails userDetails = UserDetailsFactory.createJwtUserDetails(user);
+    List<ImportPostDto> read = new ArrayList<>();
+    when(importPosts.importPosts(any(ImportPostsDto.class))).thenAnswer(invocation -> {
+      invocation.<ImportPostsDto>getArgument(0).posts().forEachRemaining(read::add);
+      return new ImportPostsReport(read.size(), 0, List.of());
+    });
+
+    // When / Then
+    mockMvc
+        .perform(post("/api/posts/import")
+            .contentType("application/json")
+            .content("[{\"id\":\"%s\",\"title\":\"First\",\"body\":\"Body\"}]".formatted(UUID.randomUUID()))
+            .with(user(userDetails)))
+        .andExpect(status().isOk())
+        .andExpect(content().json("{\"imported\":1,\"failed\":0,\"errors\":[]}"));
+
+    assertThat(read).extracting(ImportPostDto::title).containsExactly("First");
+  }
+}
@@ -0,0 +1,124 @@
+package es.jmjg.experiments.infrastructure.controller.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import es.jmjg.experiments.application.post.dto.ImportPostDto;
+import es.jmjg.experiments.domain.shared.exception.InvalidRequest;
+import es.jmjg.experiments.infrastructure.controller.post.mapper.PostMapper;
+
+class PostImportReaderTest {
+
+  private static final UUID FIRST = UUID.fromString("123e4567-e89b-12d3-a456-426614174000");
+  private static final UUID SECOND = UUID.fromString("123e4567-e89b-12d3-a456-426614174001");
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+  @Test
+  void shouldReadNdjsonRecords() throws Exception {
+    // Given
+    String body = """
+        {"id":"%s","title":"First","body":"Body","tagNames":["java"],"comments":[{"id":"%s","comment":"Nice"}]}
+        {"id":"%s","title":"Second","body":"Body"}
+        """.formatted(FIRST, SECOND, SECOND);
+
+    // When
+    List<Object> records = readAll(body);
+
+    // Then
+    assertThat(records).hasSize(2);
+    ImportPostDto first = (ImportPostDto) records.get(0);
+    assertThat(first.uuid()).isEqualTo(FIRST);
+    assertThat(first.tagNames()).containsExactly("java");
+    assertThat(first.comments()).singleElement().satisfies(comment -> {
+      assertThat(comment.uuid()).isEqualTo(SECOND);
+      assertThat(comment.comment()).isEqualTo("Nice");
+    });
+    ImportPostDto second = (ImportPostDto) records.get(1);
+    assertThat(second.title()).isEqualTo("Second");
+    assertThat(second.tagNames()).isEmpty();
+    assertThat(second.comments()).isEmpty();
+  }
+
+  @Test
+  void shouldReadJsonArray() throws Exception {
+    // Given
+    String body = "[{\"id\":\"%s\",\"title\":\"First\",\"body\":\"Body\"},{\"id\":\"%s\",\"title\":\"Second\",\"body\":\"Body\"}]"
+        .formatted(FIRST, SECOND);
+
+    // When
+    List<Object> records = readAll(body);
+
+    // Then
+    assertThat(records).extracting(record -> ((ImportPostDto) record).uuid()).containsExactly(FIRST, SECOND);
+  }
+
+  @Test
+  void shouldFailRecordThatIsNotAPostAndGoOn() throws Exception {
+    // Given
+    String body = """
+        {"id":"not-a-uuid","title":"First","body":"Body"}
+        42
+        {"id":"%s","title":"Second","body":"Body"}
+        """.formatted(SECOND);
+
+    // When
+    List<Object> records = readAll(body);
+
+    // Then
+    assertThat(records).hasSize(3);
+    assertThat(records.get(0)).asString().startsWith("Invalid post: ");
+    assertThat(records.get(1)).isEqualTo("Record must be a JSON object");
+    assertThat(((ImportPostDto) records.get(2)).uuid()).isEqualTo(SECOND);
+  }
+
+  @Test
+  void shouldStopAtMalformedJson() throws Exception {
+    // Given
+    String body = """
+        {"id":"%s","title":"First","body":"Body"}
+        {"id": oops}
+        {"id":"%s","title":"Second","body":"Body"}
+        """.formatted(FIRST, SECOND);
+
+    // When
+    List<Object> records = readAll(body);
+
+    // Then
+    assertThat(records).hasSize(2);
+    assertThat(((ImportPostDto) records.get(0)).uuid()).isEqualTo(FIRST);
+    assertThat(records.get(1)).asString().startsWith("Malformed JSON at line 2: ");
+  }
+
+  @Test
+  void shouldReadNothingFromEmptyBody() throws Exception {
+    assertThat(readAll("")).isEmpty();
+    assertThat(readAll("[]")).isEmpty();
+  }
+
+  // Records read, or the message of the ones that failed
+  private List<Object> readAll(String body) throws Exception {
+    List<Object> records = new ArrayList<>();
+    try (PostImportReader reader = new PostImportReader(objectMapper, new PostMapper(),
+        new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)))) {
+      while (reader.hasNext()) {
+        try {
+          records.add(reader.next());
+        } catch (InvalidRequest e) {
+          records.add(e.getMessage());
+        }
+      }
+    }
+    return records;
+  }
+}
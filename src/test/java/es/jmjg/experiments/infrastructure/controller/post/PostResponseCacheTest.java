@@ -0,0 +1,221 @@
+package es.jmjg.experiments.infrastructure.controller.post;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import es.jmjg.experiments.domain.post.event.PostChanged;
+import es.jmjg.experiments.domain.tag.event.TagRenamed;
+import es.jmjg.experiments.domain.user.event.UserChanged;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PostResponseCacheTest {
+
+  private static final UUID AUTHOR = UUID.randomUUID();
+
+  private AppProperties appProperties;
+  private SimpleMeterRegistry meterRegistry;
+
+  @BeforeEach
+  void setUp() {
+    appProperties = new AppProperties();
+    meterRegistry = new SimpleMeterRegistry();
+  }
+
+  @Test
+  void get_WhenResponseWasPut_ShouldReturnItWithItsVersion() {
+    // Given
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID uuid = UUID.randomUUID();
+    byte[] body = new byte[] { 1, 2, 3 };
+
+    // When
+    postResponseCache.put(uuid, AUTHOR, postResponseCache.ticket(uuid), 4, body);
+
+    // Then
+    PostResponseCache.Entry entry = postResponseCache.get(uuid);
+    assertThat(entry.version()).isEqualTo(4);
+    assertThat(entry.body()).isSameAs(body);
+    assertThat(postResponseCache.get(UUID.randomUUID())).isNull();
+    assertThat(meterRegistry.get("post.response.cache.gets").tag("result", "hit").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("post.response.cache.gets").tag("result", "miss").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("post.response.cache.bytes").gauge().value()).isEqualTo(3);
+  }
+
+  @Test
+  void put_WhenPostWasInvalidatedSinceTicket_ShouldNotCacheResponse() {
+    // Given
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID uuid = UUID.randomUUID();
+    long ticket = postResponseCache.ticket(uuid);
+    postResponseCache.onPostChanged(new PostChanged(uuid));
+
+    // When
+    postResponseCache.put(uuid, AUTHOR, ticket, 1, new byte[] { 1 });
+
+    // Then
+    assertThat(postResponseCache.get(uuid)).isNull();
+  }
+
+  @Test
+  void put_WhenOtherPostWasInvalidatedSinceTicket_ShouldCacheResponse() {
+    // Given
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    // Uuids of different invalidation stripes
+    UUID uuid = new UUID(0, 1);
+    UUID other = new UUID(0, 2);
+    long ticket = postResponseCache.ticket(uuid);
+    postResponseCache.onPostChanged(new PostChanged(other));
+
+    // When
+    postResponseCache.put(uuid, AUTHOR, ticket, 1, new byte[] { 1 });
+
+    // Then
+    assertThat(postResponseCache.get(uuid)).isNotNull();
+  }
+
+  @Test
+  void put_WhenUserWasChangedSinceTicket_ShouldNotCacheResponse() {
+    // Given
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID uuid = UUID.randomUUID();
+    long ticket = postResponseCache.ticket(uuid);
+    postResponseCache.onUserChanged(new UserChanged("leanne", AUTHOR));
+
+    // When
+    postResponseCache.put(uuid, AUTHOR, ticket, 1, new byte[] { 1 });
+
+    // Then
+    assertThat(postResponseCache.get(uuid)).isNull();
+  }
+
+  @Test
+  void put_WhenOverMaxSize_ShouldDropLeastRecentlyReadResponses() {
+    // Given
+    appProperties.setPostResponseCacheMaxSize(DataSize.ofBytes(10));
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID third = UUID.randomUUID();
+    postResponseCache.put(first, AUTHOR, postResponseCache.ticket(first), 1, new byte[4]);
+    postResponseCache.put(second, AUTHOR, postResponseCache.ticket(second), 1, new byte[4]);
+    postResponseCache.get(first);
+
+    // When
+    postResponseCache.put(third, AUTHOR, postResponseCache.ticket(third), 1, new byte[4]);
+
+    // Then
+    assertThat(postResponseCache.get(first)).isNotNull();
+    assertThat(postResponseCache.get(second)).isNull();
+    assertThat(postResponseCache.get(third)).isNotNull();
+    assertThat(meterRegistry.get("post.response.cache.bytes").gauge().value()).isEqualTo(8);
+  }
+
+  @Test
+  void put_WhenResponseIsLargerThanMaxSize_ShouldNotCacheIt() {
+    // Given
+    appProperties.setPostResponseCacheMaxSize(DataSize.ofBytes(10));
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID uuid = UUID.randomUUID();
+
+    // When
+    postResponseCache.put(uuid, AUTHOR, postResponseCache.ticket(uuid), 1, new byte[11]);
+
+    // Then
+    assertThat(postResponseCache.get(uuid)).isNull();
+  }
+
+  @Test
+  void onPostChanged_ShouldDropOnlyThatPost() {
+    // Given
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID changed = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    postResponseCache.put(changed, AUTHOR, postResponseCache.ticket(changed), 1, new byte[] { 1 });
+    postResponseCache.put(other, AUTHOR, postResponseCache.ticket(other), 1, new byte[] { 2 });
+
+    // When
+    postResponseCache.onPostChanged(new PostChanged(changed));
+
+    // Then
+    assertThat(postResponseCache.get(changed)).isNull();
+    assertThat(postResponseCache.get(other)).isNotNull();
+  }
+
+  @Test
+  void onTagRenamed_ShouldDropEveryPost() {
+    // Given
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID uuid = UUID.randomUUID();
+    UUID other = UUID.randomUUID();
+    postResponseCache.put(uuid, AUTHOR, postResponseCache.ticket(uuid), 1, new byte[] { 1 });
+    postResponseCache.put(other, UUID.randomUUID(), postResponseCache.ticket(other), 1, new byte[] { 2 });
+
+    // When
+    postResponseCache.onTagRenamed(new TagRenamed(UUID.randomUUID()));
+
+    // Then
+    assertThat(postResponseCache.get(uuid)).isNull();
+    assertThat(postResponseCache.get(other)).isNull();
+    assertThat(meterRegistry.get("post.response.cache.bytes").gauge().value()).isZero();
+  }
+
+  @Test
+  void onUserChanged_ShouldDropOnlyThePostsOfThatUser() {
+    // Given
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    UUID byOther = UUID.randomUUID();
+    postResponseCache.put(first, AUTHOR, postResponseCache.ticket(first), 1, new byte[] { 1 });
+    postResponseCache.put(second, AUTHOR, postResponseCache.ticket(second), 1, new byte[] { 2, 3 });
+    postResponseCache.put(byOther, UUID.randomUUID(), postResponseCache.ticket(byOther), 1, new byte[] { 4, 5, 6 });
+    long ticket = postResponseCache.ticket(first);
+
+    // When
+    postResponseCache.onUserChanged(new UserChanged("leanne", AUTHOR));
+
+    // Then
+    assertThat(postResponseCache.get(first)).isNull();
+    assertThat(postResponseCache.get(second)).isNull();
+    assertThat(postResponseCache.get(byOther)).isNotNull();
+    assertThat(postResponseCache.ticket(first)).isNotEqualTo(ticket);
+    assertThat(meterRegistry.get("post.response.cache.bytes").gauge().value()).isEqualTo(3);
+  }
+
+  @Test
+  void get_WhenReadConcurrentlyWithPuts_ShouldKeepWithinMaxSize() throws InterruptedException {
+    // Given
+    appProperties.setPostResponseCacheMaxSize(DataSize.ofBytes(64));
+    PostResponseCache postResponseCache = new PostResponseCache(appProperties, meterRegistry);
+    List<UUID> posts = Stream.generate(UUID::randomUUID).limit(32).toList();
+
+    // When
+    try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+      for (int thread = 0; thread < 4; thread++) {
+        executor.submit(() -> {
+          for (int i = 0; i < 1_000; i++) {
+            UUID post = posts.get(ThreadLocalRandom.current().nextInt(posts.size()));
+            if (postResponseCache.get(post) == null) {
+              postResponseCache.put(post, AUTHOR, postResponseCache.ticket(post), 1, new byte[8]);
+            }
+          }
+        });
+      }
+    }
+
+    // Then
+    long cached = posts.stream().filter(post -> postResponseCache.get(post) != null).count();
+    assertThat(meterRegistry.get("post.response.cache.bytes").gauge().value()).isEqualTo(cached * 8).isLessThanOrEqualTo(64);
+  }
+}
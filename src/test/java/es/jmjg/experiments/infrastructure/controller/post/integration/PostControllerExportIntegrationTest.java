@@ -0,0 +1,120 @@
+package es.jmjg.experiments.infrastructure.controller.post.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import es.jmjg.experiments.shared.BaseControllerIntegration;
+import es.jmjg.experiments.shared.TestDataSamples;
+
+class PostControllerExportIntegrationTest extends BaseControllerIntegration {
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void shouldExportPostsWithTheirTags() throws IOException {
+    // When
+    ResponseEntity<byte[]> response = export("/api/posts/export");
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+    List<JsonNode> posts = lines(response.getBody());
+    assertThat(posts).hasSizeGreaterThan(1);
+    JsonNode post = posts.stream()
+        .filter(line -> line.get("id").asText().equals(TestDataSamples.LEANNE_POST_UUID.toString()))
+        .findFirst()
+        .orElseThrow();
+    assertThat(post.get("userId").asText()).isEqualTo(TestDataSamples.LEANNE_UUID.toString());
+    assertThat(post.get("title").asText()).isEqualTo(TestDataSamples.LEANNE_POST_TITLE);
+    assertThat(post.get("tagNames")).isNotEmpty();
+    assertThat(post.get("createdAt").asText()).isNotEmpty();
+  }
+
+  @Test
+  void shouldExportOnlyCommentsCreatedSince() throws IOException {
+    // When
+    List<JsonNode> all = lines(export("/api/posts/comments/export").getBody());
+    List<JsonNode> none = lines(export("/api/posts/comments/export?since=" + LocalDateTime.now().plusDays(1))
+        .getBody());
+
+    // Then
+    assertThat(all).extracting(line -> line.get("id").asText())
+        .contains(TestDataSamples.COMMENT_LEANNE_POST_BY_ERWIN_UUID.toString());
+    assertThat(none).isEmpty();
+  }
+
+  @Test
+  void shouldCompressExportWhenClientAcceptsGzip() throws Exception {
+    // Given
+    String accessToken = createAccessToken(TestDataSamples.LEANNE_USERNAME, TestDataSamples.USER_PASSWORD);
+
+    // When
+    // The test client decompresses on its own, a plain one shows what goes over the wire
+    HttpResponse<byte[]> plain = rawExport(accessToken, "identity");
+    HttpResponse<byte[]> compressed = rawExport(accessToken, "gzip");
+
+    // Then
+    assertThat(plain.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).isEmpty();
+    assertThat(compressed.statusCode()).isEqualTo(HttpStatus.OK.value());
+    assertThat(compressed.headers().firstValue(HttpHeaders.CONTENT_ENCODING)).hasValue("gzip");
+    assertThat(compressed.body().length).isLessThan(plain.body().length);
+    try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(compressed.body()))) {
+      assertThat(input.readAllBytes()).isEqualTo(plain.body());
+    }
+  }
+
+  @Test
+  void shouldNotExportWhenUserIsNotAuthenticated() {
+    ResponseEntity<String> response = restTemplate.getForEntity("/api/posts/export", String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  private ResponseEntity<byte[]> export(String url) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setBearerAuth(createAccessToken(TestDataSamples.LEANNE_USERNAME, TestDataSamples.USER_PASSWORD));
+    return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), byte[].class);
+  }
+
+  private HttpResponse<byte[]> rawExport(String accessToken, String acceptEncoding) throws Exception {
+    HttpRequest request = HttpRequest.newBuilder(URI.create(restTemplate.getRootUri() + "/api/posts/export"))
+        .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+        .header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding)
+        .build();
+    try (HttpClient client = HttpClient.newHttpClient()) {
+      return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+  }
+
+  private List<JsonNode> lines(byte[] body) throws IOException {
+    if (body == null) {
+      return List.of();
+    }
+    return objectMapper.readerFor(JsonNode.class)
+        .<JsonNode>readValues(new String(body, StandardCharsets.UTF_8))
+        .readAll();
+  }
+}
@@ -0,0 +1,63 @@
+package es.jmjg.experiments.infrastructure.controller.post.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.TestPropertySource;
+
+import es.jmjg.experiments.shared.BaseControllerIntegration;
+import es.jmjg.experiments.shared.TestDataSamples;
+import jakarta.persistence.EntityManagerFactory;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class PostControllerFetchPlanIntegrationTest extends BaseControllerIntegration {
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void findAllShouldIssueSameStatementCountForAnyPageSize() {
+    long smallPage = countStatements("/api/posts?page=0&size=2");
+    long largePage = countStatements("/api/posts?page=0&size=40");
+
+    assertThat(largePage).isEqualTo(smallPage);
+  }
+
+  @Test
+  void searchShouldIssueSameStatementCountForAnyLimit() {
+    long fewHits = countStatements("/api/posts/search?q=" + TestDataSamples.SEARCH_TERM_SUNT + "&limit=1");
+    long manyHits = countStatements("/api/posts/search?q=" + TestDataSamples.SEARCH_TERM_SUNT + "&limit=20");
+
+    assertThat(manyHits).isEqualTo(fewHits);
+  }
+
+  @Test
+  void findByUuidShouldIssueSameStatementCountWithOrWithoutComments() {
+    long withComments = countStatements("/api/posts/" + TestDataSamples.POST_1_UUID);
+    long withoutComments = countStatements("/api/posts/" + TestDataSamples.POST_3_UUID);
+
+    assertThat(withComments).isEqualTo(withoutComments);
+  }
+
+  private long countStatements(String url) {
+    statistics.clear();
+
+    ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+    return statistics.getPrepareStatementCount();
+  }
+}
@@ -2,18 +2,33 @@ package es.jmjg.experiments.infrastructure.controller.post.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.UUID;
+
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import es.jmjg.experiments.application.shared.ReconcileCounters;
 
 import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByUuidResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.SavePostCommentRequestDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.SavePostCommentResponseDto;
 import es.jmjg.experiments.shared.BaseControllerIntegration;
 import es.jmjg.experiments.shared.TestDataSamples;
 
 class PostControllerGetByUuidIntegrationTest extends BaseControllerIntegration {
 
+  @Autowired
+  private ReconcileCounters reconcileCounters;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
   @Test
   void authenticatedUserShouldReturnPostByUuid() {
     HttpEntity<String> request = createAuthenticatedRequest(TestDataSamples.LEANNE_USERNAME,
@@ -58,6 +73,77 @@ class PostControllerGetByUuidIntegrationTest extends BaseControllerIntegration {
     });
   }
 
+  @Test
+  void shouldAnswerNotModifiedWhenETagMatches() {
+    ResponseEntity<FindPostByUuidResponseDto> first = restTemplate.exchange(
+        "/api/posts/" + TestDataSamples.LEANNE_POST_UUID,
+        HttpMethod.GET,
+        null,
+        FindPostByUuidResponseDto.class);
+    String etag = first.getHeaders().getETag();
+    assertThat(etag).isNotNull();
+
+    ResponseEntity<String> second = restTemplate.exchange(
+        "/api/posts/" + TestDataSamples.LEANNE_POST_UUID,
+        HttpMethod.GET,
+        ifNoneMatch(etag),
+        String.class);
+    assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(second.getHeaders().getETag()).isEqualTo(etag);
+    assertThat(second.getBody()).isNull();
+  }
+
+  @Test
+  void shouldSendNewETagWhenCommentIsAdded() {
+    String etag = restTemplate.exchange(
+        "/api/posts/" + TestDataSamples.POST_2_UUID,
+        HttpMethod.GET,
+        null,
+        FindPostByUuidResponseDto.class).getHeaders().getETag();
+
+    String accessToken = createAccessToken(TestDataSamples.ERVIN_USERNAME, TestDataSamples.USER_PASSWORD);
+    ResponseEntity<SavePostCommentResponseDto> comment = restTemplate.exchange(
+        "/api/posts/" + TestDataSamples.POST_2_UUID + "/comments",
+        HttpMethod.POST,
+        createAuthenticatedRequestWithAccessToken(accessToken, new SavePostCommentRequestDto(UUID.randomUUID(), "New comment")),
+        SavePostCommentResponseDto.class);
+    assertThat(comment.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+
+    ResponseEntity<FindPostByUuidResponseDto> response = restTemplate.exchange(
+        "/api/posts/" + TestDataSamples.POST_2_UUID,
+        HttpMethod.GET,
+        ifNoneMatch(etag),
+        FindPostByUuidResponseDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isNotNull().isNotEqualTo(etag);
+    assertThat(response.getBody()).isNotNull()
+        .satisfies(p -> assertThat(p.getPostComments()).extracting("id").contains(comment.getBody().getId()));
+  }
+
+  @Test
+  void shouldNotServeCachedResponseOfPostWhoseCommentCountIsReconciled() {
+    ResponseEntity<FindPostByUuidResponseDto> first = restTemplate.exchange(
+        "/api/posts/" + TestDataSamples.POST_3_UUID,
+        HttpMethod.GET,
+        null,
+        FindPostByUuidResponseDto.class);
+    int comments = first.getBody().getPostCommentsCount();
+    String etag = first.getHeaders().getETag();
+
+    // A drift the reconciliation repairs, written behind the back of the application
+    jdbcTemplate.update("UPDATE post SET comment_count = comment_count + 5 WHERE uuid = ?", TestDataSamples.POST_3_UUID);
+    reconcileCounters.reconcile();
+
+    ResponseEntity<FindPostByUuidResponseDto> response = restTemplate.exchange(
+        "/api/posts/" + TestDataSamples.POST_3_UUID,
+        HttpMethod.GET,
+        ifNoneMatch(etag),
+        FindPostByUuidResponseDto.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getHeaders().getETag()).isNotNull().isNotEqualTo(etag);
+    assertThat(response.getBody().getPostCommentsCount()).isEqualTo(comments);
+  }
+
   @Test
   void shouldReturnNotFoundForInvalidUuid() {
     HttpEntity<String> request = createAuthenticatedRequest(TestDataSamples.ADMIN_USERNAME,
@@ -97,4 +183,10 @@ class PostControllerGetByUuidIntegrationTest extends BaseControllerIntegration {
         FindPostByUuidResponseDto.class);
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
   }
+
+  private static HttpEntity<Void> ifNoneMatch(String etag) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(etag);
+    return new HttpEntity<>(headers);
+  }
 }
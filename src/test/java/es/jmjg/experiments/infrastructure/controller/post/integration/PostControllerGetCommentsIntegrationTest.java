@@ -0,0 +1,86 @@
+package es.jmjg.experiments.infrastructure.controller.post.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostCommentsResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.PagedResponseDto;
+import es.jmjg.experiments.shared.BaseControllerIntegration;
+import es.jmjg.experiments.shared.TestDataSamples;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class PostControllerGetCommentsIntegrationTest extends BaseControllerIntegration {
+
+  @Test
+  void authenticatedUserShouldPageCommentsOldestFirst() {
+    HttpEntity<String> request = createAuthenticatedRequest(TestDataSamples.LEANNE_USERNAME,
+        TestDataSamples.USER_PASSWORD);
+
+    ResponseEntity<PagedResponseDto<FindPostCommentsResponseDto>> firstPage = getComments(
+        "/api/posts/" + TestDataSamples.LEANNE_POST_UUID + "/comments?size=1", request);
+    assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(firstPage.getBody()).isNotNull().satisfies(p -> {
+      assertThat(p.getContent()).extracting(FindPostCommentsResponseDto::getId)
+          .containsExactly(TestDataSamples.COMMENT_LEANNE_POST_BY_ERWIN_UUID);
+      assertThat(p.isHasNext()).isTrue();
+      assertThat(p.getNextCursor()).isNotNull();
+    });
+
+    ResponseEntity<PagedResponseDto<FindPostCommentsResponseDto>> secondPage = getComments(
+        "/api/posts/" + TestDataSamples.LEANNE_POST_UUID + "/comments?size=1&cursor=" + firstPage.getBody().getNextCursor(),
+        request);
+    assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(secondPage.getBody()).isNotNull().satisfies(p -> {
+      assertThat(p.getContent()).extracting(FindPostCommentsResponseDto::getId)
+          .containsExactly(TestDataSamples.COMMENT_LEANNE_POST_BY_CLEMENTINE_UUID);
+      assertThat(p.isHasNext()).isFalse();
+      assertThat(p.isHasPrevious()).isTrue();
+      assertThat(p.getNextCursor()).isNull();
+    });
+  }
+
+  @Test
+  void unauthenticatedUserShouldReturnComments() {
+    ResponseEntity<PagedResponseDto<FindPostCommentsResponseDto>> response = getComments(
+        "/api/posts/" + TestDataSamples.LEANNE_POST_UUID + "/comments", null);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull().satisfies(p -> {
+      assertThat(p.getContent()).hasSize(2);
+      assertThat(p.getContent()).allSatisfy(comment -> assertThat(comment.getPostId()).isEqualTo(TestDataSamples.LEANNE_POST_UUID));
+    });
+  }
+
+  @Test
+  void shouldReturnEmptyPageForPostWithoutComments() {
+    ResponseEntity<PagedResponseDto<FindPostCommentsResponseDto>> response = getComments(
+        "/api/posts/" + TestDataSamples.POST_3_UUID + "/comments", null);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull().satisfies(p -> {
+      assertThat(p.getContent()).isEmpty();
+      assertThat(p.isHasNext()).isFalse();
+    });
+  }
+
+  @Test
+  void shouldReturnNotFoundForUnknownPost() {
+    ResponseEntity<String> response = restTemplate.getForEntity("/api/posts/" + UUID.randomUUID() + "/comments", String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+  }
+
+  @Test
+  void shouldReturnBadRequestForInvalidCursor() {
+    ResponseEntity<String> response = restTemplate.getForEntity(
+        "/api/posts/" + TestDataSamples.LEANNE_POST_UUID + "/comments?cursor=not-a-cursor", String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+  }
+
+  private ResponseEntity<PagedResponseDto<FindPostCommentsResponseDto>> getComments(String url, HttpEntity<String> request) {
+    return restTemplate.exchange(url, HttpMethod.GET, request, new ParameterizedTypeReference<>() {
+    });
+  }
+}
@@ -0,0 +1,119 @@
+package es.jmjg.experiments.infrastructure.controller.post.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByUuidResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.ImportPostsResponseDto;
+import es.jmjg.experiments.shared.BaseControllerIntegration;
+import es.jmjg.experiments.shared.TestDataSamples;
+
+class PostControllerImportIntegrationTest extends BaseControllerIntegration {
+
+  @Test
+  void shouldImportPostsAndReportRejectedOnes() {
+    // Given
+    UUID tagged = UUID.randomUUID();
+    UUID commentUuid = UUID.randomUUID();
+    UUID plain = UUID.randomUUID();
+    UUID rejected = UUID.randomUUID();
+    String body = """
+        {"id":"%s","title":"Imported %s","body":"Body","tagNames":["%s"],"comments":[{"id":"%s","userId":"%s","comment":"Imported comment"}]}
+        {"id":"%s","title":"Imported %s","body":"Body"}
+        {"id":"%s","title":"Imported %s","body":"Body","tagNames":["not-a-tag"]}
+        {"id":"%s","title":"Imported %s","body":"Body"}
+        """.formatted(
+        tagged, tagged, TestDataSamples.TAG_JAVA, commentUuid, TestDataSamples.LEANNE_UUID,
+        plain, plain,
+        rejected, rejected,
+        UUID.randomUUID(), tagged);
+
+    String accessToken = createAccessToken(TestDataSamples.LEANNE_USERNAME, TestDataSamples.USER_PASSWORD);
+
+    // When
+    ResponseEntity<ImportPostsResponseDto> response = restTemplate.exchange(
+        "/api/posts/import",
+        HttpMethod.POST,
+        ndjsonRequest(accessToken, body),
+        ImportPostsResponseDto.class);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    ImportPostsResponseDto report = response.getBody();
+    assertThat(report).isNotNull();
+    assertThat(report.getImported()).isEqualTo(2);
+    assertThat(report.getFailed()).isEqualTo(2);
+    assertThat(report.getErrors()).extracting(ImportPostsResponseDto.RecordErrorDto::getRecord).containsExactly(3L, 4L);
+    assertThat(report.getErrors().get(0).getMessage()).isEqualTo("Tag not found: not-a-tag");
+    assertThat(report.getErrors().get(1).getMessage()).isEqualTo("A post with title 'Imported " + tagged + "' already exists");
+
+    ResponseEntity<FindPostByUuidResponseDto> imported = restTemplate.exchange(
+        "/api/posts/" + tagged,
+        HttpMethod.GET,
+        createAuthenticatedRequestWithAccessToken(accessToken),
+        FindPostByUuidResponseDto.class);
+    assertThat(imported.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(imported.getBody()).isNotNull().satisfies(post -> {
+      assertThat(post.getUserId()).isEqualTo(TestDataSamples.LEANNE_UUID);
+      assertThat(post.getTags()).extracting("name").containsExactly(TestDataSamples.TAG_JAVA);
+      assertThat(post.getPostComments()).extracting("id").containsExactly(commentUuid);
+    });
+  }
+
+  @Test
+  void shouldRejectPostsOfOtherUsersWhenImporterIsNotAdmin() {
+    // Given
+    UUID uuid = UUID.randomUUID();
+    String body = "[{\"id\":\"%s\",\"userId\":\"%s\",\"title\":\"Imported %s\",\"body\":\"Body\"}]"
+        .formatted(uuid, TestDataSamples.ERVIN_UUID, uuid);
+    String accessToken = createAccessToken(TestDataSamples.LEANNE_USERNAME, TestDataSamples.USER_PASSWORD);
+    HttpHeaders headers = new HttpHeaders();
+    headers.setBearerAuth(accessToken);
+    headers.setContentType(MediaType.APPLICATION_JSON);
+
+    // When
+    ResponseEntity<ImportPostsResponseDto> response = restTemplate.exchange(
+        "/api/posts/import",
+        HttpMethod.POST,
+        new HttpEntity<>(body, headers),
+        ImportPostsResponseDto.class);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull().satisfies(report -> {
+      assertThat(report.getImported()).isZero();
+      assertThat(report.getErrors()).singleElement()
+          .satisfies(error -> assertThat(error.getId()).isEqualTo(uuid));
+    });
+  }
+
+  @Test
+  void shouldNotImportWhenUserIsNotAuthenticated() {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setContentType(MediaType.APPLICATION_NDJSON);
+
+    ResponseEntity<String> response = restTemplate.exchange(
+        "/api/posts/import",
+        HttpMethod.POST,
+        new HttpEntity<>("{}", headers),
+        String.class);
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+  }
+
+  private HttpEntity<String> ndjsonRequest(String accessToken, String body) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setBearerAuth(accessToken);
+    headers.setContentType(MediaType.APPLICATION_NDJSON);
+    return new HttpEntity<>(body, headers);
+  }
+}
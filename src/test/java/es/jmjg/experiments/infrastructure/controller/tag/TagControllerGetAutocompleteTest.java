@@ -0,0 +1,53 @@
+package es.jmjg.experiments.infrastructure.controller.tag;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import es.jmjg.experiments.application.tag.AutocompleteTags;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.shared.TagFactory;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class TagControllerGetAutocompleteTest extends BaseTagControllerTest {
+
+  @Autowired
+  private AutocompleteTags autocompleteTags;
+
+  @Test
+  void shouldReturnSuggestions() throws Exception {
+    // Given
+    UUID javaUuid = UUID.randomUUID();
+    Tag java = TagFactory.createTag(javaUuid, "java");
+    Tag javascript = TagFactory.createTag(UUID.randomUUID(), "javascript");
+    when(autocompleteTags.autocomplete("jav", 5)).thenReturn(List.of(java, javascript));
+
+    // When & Then
+    mockMvc.perform(get("/api/tags/autocomplete")
+        .param("q", "jav")
+        .param("limit", "5"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$").value(hasSize(2)))
+        .andExpect(jsonPath("$[0].uuid").value(javaUuid.toString()))
+        .andExpect(jsonPath("$[0].name").value("java"))
+        .andExpect(jsonPath("$[0].posts").doesNotExist())
+        .andExpect(jsonPath("$[1].name").value("javascript"));
+  }
+
+  @Test
+  void shouldReturnEmptyListWhenNothingMatches() throws Exception {
+    // Given
+    when(autocompleteTags.autocomplete("zzz", 10)).thenReturn(List.of());
+
+    // When & Then
+    mockMvc.perform(get("/api/tags/autocomplete")
+        .param("q", "zzz"))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$").value(hasSize(0)));
+  }
+}
@@ -7,18 +7,20 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.application.tag.FindTagByPattern;
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.application.tag.dto.TagDetail;
 import es.jmjg.experiments.domain.tag.entity.Tag;
-import es.jmjg.experiments.domain.user.entity.User;
-import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
 import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.TestDataSamples;
-import es.jmjg.experiments.shared.UserFactory;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 class TagControllerGetByPatternTest extends BaseTagControllerTest {
 
@@ -40,18 +42,17 @@ class TagControllerGetByPatternTest extends BaseTagControllerTest {
   void shouldFindTagsByPattern() throws Exception {
     // Given
     String pattern = "test";
-    User user1 = UserFactory.createUser(TestDataSamples.LEANNE_UUID, TestDataSamples.LEANNE_NAME,
-        TestDataSamples.LEANNE_EMAIL, TestDataSamples.LEANNE_USERNAME);
-    User user2 = UserFactory.createUser(TestDataSamples.ERVIN_UUID, TestDataSamples.ERVIN_NAME,
-        TestDataSamples.ERVIN_EMAIL, TestDataSamples.ERVIN_USERNAME);
-    Post post1 = PostFactory.createPost(user1, TestDataSamples.POST_1_UUID, "Test Post 1", "Test content 1");
-    Post post2 = PostFactory.createPost(user2, TestDataSamples.POST_16_UUID, "Test Post 2", "Test content 2");
+    testTag.setPostCount(12);
+    testTag.setUserCount(2);
+    Slice<TagMember> posts = new SliceImpl<>(
+        List.of(new TagMember(1, TestDataSamples.POST_1_UUID), new TagMember(16, TestDataSamples.POST_16_UUID)),
+        PageRequest.of(0, 10), true);
+    Slice<TagMember> users = new SliceImpl<>(
+        List.of(new TagMember(1, TestDataSamples.LEANNE_UUID), new TagMember(2, TestDataSamples.ERVIN_UUID)),
+        PageRequest.of(0, 10), false);
 
-    testTag.setUsers(List.of(user1, user2));
-    testTag.setPosts(List.of(post1, post2));
-
-    List<Tag> tags = List.of(testTag);
-    when(findTagByPattern.findByPattern(pattern)).thenReturn(tags);
+    List<TagDetail> tags = List.of(new TagDetail(testTag, posts, users));
+    when(findTagByPattern.findDetailsByPattern(pattern, 10)).thenReturn(tags);
 
     // When & Then
     mockMvc.perform(get("/api/tags/search")
@@ -67,6 +68,9 @@ class TagControllerGetByPatternTest extends BaseTagControllerTest {
         .andExpect(jsonPath("$[0].users").isArray())
         .andExpect(jsonPath("$[0].users").value(hasSize(2)))
         .andExpect(jsonPath("$[0].users[0]").value(TestDataSamples.LEANNE_UUID.toString()))
-        .andExpect(jsonPath("$[0].users[1]").value(TestDataSamples.ERVIN_UUID.toString()));
+        .andExpect(jsonPath("$[0].users[1]").value(TestDataSamples.ERVIN_UUID.toString()))
+        .andExpect(jsonPath("$[0].postsCount").value(12))
+        .andExpect(jsonPath("$[0].postsNextCursor").value(KeysetCursor.encode(16)))
+        .andExpect(jsonPath("$[0].usersNextCursor").doesNotExist());
   }
 }
@@ -1,26 +1,35 @@
 package es.jmjg.experiments.infrastructure.controller.tag;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.application.tag.FindTagByUuid;
-import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.application.tag.dto.TagDetail;
 import es.jmjg.experiments.domain.tag.entity.Tag;
-import es.jmjg.experiments.domain.user.entity.User;
-import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.domain.tag.projection.TagMember;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
 import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.TestDataSamples;
-import es.jmjg.experiments.shared.UserFactory;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.HttpHeaders;
 
 class TagControllerGetByUuidTest extends BaseTagControllerTest {
+  private static final int PREVIEW_SIZE = 10;
+
   @Autowired
   private FindTagByUuid findTagByUuid;
 
@@ -38,19 +47,13 @@ class TagControllerGetByUuidTest extends BaseTagControllerTest {
   @Test
   void shouldFindTagByUuid() throws Exception {
     // Given - Using existing migration test data
-    User user1 = UserFactory.createUser(TestDataSamples.LEANNE_UUID, TestDataSamples.LEANNE_NAME,
-      TestDataSamples.LEANNE_EMAIL, TestDataSamples.LEANNE_USERNAME);
-    User user2 = UserFactory.createUser(TestDataSamples.ERVIN_UUID, TestDataSamples.ERVIN_NAME,
-      TestDataSamples.ERVIN_EMAIL, TestDataSamples.ERVIN_USERNAME);
-    Post post1 = PostFactory.createPost(user1, TestDataSamples.POST_1_UUID,
-      TestDataSamples.POST_1_TITLE, "Test content 1");
-    Post post2 = PostFactory.createPost(user2, TestDataSamples.POST_16_UUID, TestDataSamples.ERVIN_POST_TITLE,
-      "Test content 2");
-
-    testTag.setUsers(List.of(user1, user2));
-    testTag.setPosts(List.of(post1, post2));
+    testTag.setPostCount(2);
+    testTag.setUserCount(2);
+    TagDetail detail = new TagDetail(testTag,
+      members(false, new TagMember(1, TestDataSamples.POST_1_UUID), new TagMember(16, TestDataSamples.POST_16_UUID)),
+      members(false, new TagMember(1, TestDataSamples.LEANNE_UUID), new TagMember(2, TestDataSamples.ERVIN_UUID)));
 
-    when(findTagByUuid.findByUuid(testUuid)).thenReturn(testTag);
+    when(findTagByUuid.findDetailByUuid(testUuid, PREVIEW_SIZE)).thenReturn(detail);
 
     // When & Then
     mockMvc.perform(get("/api/tags/{uuid}", testUuid).header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
@@ -64,16 +67,38 @@ class TagControllerGetByUuidTest extends BaseTagControllerTest {
       .andExpect(jsonPath("$.users").isArray())
       .andExpect(jsonPath("$.users").value(hasSize(2)))
       .andExpect(jsonPath("$.users[0]").value(TestDataSamples.LEANNE_UUID.toString()))
-      .andExpect(jsonPath("$.users[1]").value(TestDataSamples.ERVIN_UUID.toString()));
+      .andExpect(jsonPath("$.users[1]").value(TestDataSamples.ERVIN_UUID.toString()))
+      .andExpect(jsonPath("$.postsCount").value(2))
+      .andExpect(jsonPath("$.usersCount").value(2))
+      .andExpect(jsonPath("$.postsNextCursor").doesNotExist())
+      .andExpect(jsonPath("$.usersNextCursor").doesNotExist());
   }
 
   @Test
-  void shouldFindTagByUuidWithNoRelations() throws Exception {
+  void shouldReturnCursorsWhenPreviewsAreIncomplete() throws Exception {
     // Given
-    testTag.setUsers(List.of());
-    testTag.setPosts(List.of());
+    testTag.setPostCount(25);
+    testTag.setUserCount(1);
+    TagDetail detail = new TagDetail(testTag,
+      members(true, new TagMember(20, TestDataSamples.POST_1_UUID)),
+      members(false, new TagMember(1, TestDataSamples.LEANNE_UUID)));
 
-    when(findTagByUuid.findByUuid(testUuid)).thenReturn(testTag);
+    when(findTagByUuid.findDetailByUuid(testUuid, PREVIEW_SIZE)).thenReturn(detail);
+
+    // When & Then
+    mockMvc.perform(get("/api/tags/{uuid}", testUuid).header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
+      .andExpect(status().isOk())
+      .andExpect(jsonPath("$.posts").value(hasSize(1)))
+      .andExpect(jsonPath("$.postsCount").value(25))
+      .andExpect(jsonPath("$.postsNextCursor").value(KeysetCursor.encode(20)))
+      .andExpect(jsonPath("$.usersNextCursor").doesNotExist());
+  }
+
+  @Test
+  void shouldFindTagByUuidWithNoRelations() throws Exception {
+    // Given
+    when(findTagByUuid.findDetailByUuid(testUuid, PREVIEW_SIZE))
+      .thenReturn(new TagDetail(testTag, members(false), members(false)));
 
     // When & Then
     mockMvc.perform(get("/api/tags/{uuid}", testUuid).header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
@@ -85,4 +110,23 @@ class TagControllerGetByUuidTest extends BaseTagControllerTest {
       .andExpect(jsonPath("$.users").isArray())
       .andExpect(jsonPath("$.users").value(hasSize(0)));
   }
+
+  @Test
+  void shouldAnswerNotModifiedWithoutLoadingTagWhenETagMatches() throws Exception {
+    // Given
+    when(findTagByUuid.findVersion(testUuid)).thenReturn(Optional.of(7L));
+
+    // When & Then
+    mockMvc.perform(get("/api/tags/{uuid}", testUuid)
+        .header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME)
+        .header(HttpHeaders.IF_NONE_MATCH, "W/\"7\""))
+      .andExpect(status().isNotModified())
+      .andExpect(header().string(HttpHeaders.ETAG, "W/\"7\""));
+
+    verify(findTagByUuid, never()).findDetailByUuid(testUuid, PREVIEW_SIZE);
+  }
+
+  private static Slice<TagMember> members(boolean hasNext, TagMember... members) {
+    return new SliceImpl<>(List.of(members), PageRequest.of(0, PREVIEW_SIZE), hasNext);
+  }
 }
@@ -6,7 +6,9 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.application.tag.FindPostsByTag;
+import es.jmjg.experiments.application.tag.dto.FindPostsByTagDto;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.shared.PostFactory;
@@ -18,6 +20,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.SliceImpl;
 
 class TagControllerGetPostsBySearchTagTest extends BaseTagControllerTest {
 
@@ -38,13 +41,14 @@ class TagControllerGetPostsBySearchTagTest extends BaseTagControllerTest {
     User user = UserFactory.createUser("Test User", "test@example.com", "testuser");
     Post post = PostFactory.createPost(user, UUID.randomUUID(), "Test Post", "Test content");
     List<Post> posts = List.of(post);
-    when(findPostsByTag.findByTagName("test-tag")).thenReturn(posts);
+    when(findPostsByTag.findByTagName("test-tag", new FindPostsByTagDto(null, 20, PostBodyMode.FULL)))
+        .thenReturn(new SliceImpl<>(PostFactory.toSummaries(posts)));
 
     // When & Then
     mockMvc.perform(get("/api/tags/search/posts")
         .param("name", "test-tag")
         .header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$[0].title").value("Test Post"));
+        .andExpect(jsonPath("$.content[0].title").value("Test Post"));
   }
 }
@@ -6,9 +6,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.application.tag.FindPostsByTag;
+import es.jmjg.experiments.application.tag.dto.FindPostsByTagDto;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
 import es.jmjg.experiments.shared.PostFactory;
 import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.TestDataSamples;
@@ -18,6 +21,8 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 class TagControllerGetPostsByTagUuidTest extends BaseTagControllerTest {
   @Autowired
@@ -39,13 +44,46 @@ class TagControllerGetPostsByTagUuidTest extends BaseTagControllerTest {
     User user = UserFactory.createUser("Test User", "test@example.com", "testuser");
     Post post = PostFactory.createPost(user, UUID.randomUUID(), "Test Post", "Test content");
     List<Post> posts = List.of(post);
-    when(findPostsByTag.findByTagUuid(testUuid)).thenReturn(posts);
+    when(findPostsByTag.findByTagUuid(testUuid, new FindPostsByTagDto(null, 20, PostBodyMode.FULL)))
+        .thenReturn(new SliceImpl<>(PostFactory.toSummaries(posts)));
 
     // When & Then
     mockMvc.perform(get("/api/tags/{uuid}/posts", testUuid)
         .header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
         .andExpect(status().isOk())
-        .andExpect(jsonPath("$[0].title").value("Test Post"))
-        .andExpect(jsonPath("$[0].body").value("Test content"));
+        .andExpect(jsonPath("$.content[0].title").value("Test Post"))
+        .andExpect(jsonPath("$.content[0].body").value("Test content"))
+        .andExpect(jsonPath("$.hasNext").value(false))
+        .andExpect(jsonPath("$.nextCursor").doesNotExist());
+  }
+
+  @Test
+  void shouldReadThePageAfterTheCursor() throws Exception {
+    // Given
+    User user = UserFactory.createUser("Test User", "test@example.com", "testuser");
+    Post post = PostFactory.createPost(user, UUID.randomUUID(), "Test Post", "Test content");
+    post.setId(30);
+    when(findPostsByTag.findByTagUuid(testUuid, new FindPostsByTagDto(20, 1, PostBodyMode.NONE)))
+        .thenReturn(new SliceImpl<>(PostFactory.toSummaries(List.of(post)), PageRequest.of(0, 1), true));
+
+    // When & Then
+    mockMvc.perform(get("/api/tags/{uuid}/posts", testUuid)
+        .param("cursor", KeysetCursor.encode(20))
+        .param("size", "1")
+        .param("body", "NONE")
+        .header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.content[0].title").value("Test Post"))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.hasPrevious").value(true))
+        .andExpect(jsonPath("$.nextCursor").value(KeysetCursor.encode(30)));
+  }
+
+  @Test
+  void shouldRejectAnInvalidCursor() throws Exception {
+    mockMvc.perform(get("/api/tags/{uuid}/posts", testUuid)
+        .param("cursor", "not-a-cursor")
+        .header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
+        .andExpect(status().isBadRequest());
   }
 }
@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.application.tag.FindUsersByTag;
+import es.jmjg.experiments.application.tag.dto.FindUsersByTagDto;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.shared.TagFactory;
@@ -16,6 +17,7 @@ import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.web.servlet.MockMvc;
 
 class TagControllerGetUsersBySearchTagsTest extends BaseTagControllerTest {
@@ -39,13 +41,14 @@ class TagControllerGetUsersBySearchTagsTest extends BaseTagControllerTest {
     // Given
     User user = UserFactory.createUser("Test User", "test@example.com", "testuser");
     List<User> users = List.of(user);
-    when(findUsersByTag.findByTagName("test-tag")).thenReturn(users);
+    when(findUsersByTag.findByTagName("test-tag", new FindUsersByTagDto(null, 20)))
+        .thenReturn(new SliceImpl<>(UserFactory.toSummaries(users)));
 
     // When & Then
     mockMvc.perform(get("/api/tags/search/users")
         .param("name", "test-tag")
         .header("Authorization", "Bearer " + TestDataSamples.LEANNE_USERNAME))
       .andExpect(status().isOk())
-      .andExpect(jsonPath("$[0].name").value("Test User"));
+      .andExpect(jsonPath("$.content[0].name").value("Test User"));
   }
 }
@@ -9,11 +9,40 @@ import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
 class TagControllerGetByUuidIntegrationTest extends BaseControllerIntegration {
+  @Test
+  void shouldAnswerNotModifiedWhenETagMatches() {
+    // Given
+    String etag = restTemplate.exchange(
+      "/api/tags/" + TestDataSamples.TAG_JAVA_UUID,
+      HttpMethod.GET,
+      null,
+      FindTagByUuidResponseDto.class
+    ).getHeaders().getETag();
+    assertThat(etag).isNotNull();
+
+    HttpHeaders headers = new HttpHeaders();
+    headers.setIfNoneMatch(etag);
+
+    // When
+    ResponseEntity<String> response = restTemplate.exchange(
+      "/api/tags/" + TestDataSamples.TAG_JAVA_UUID,
+      HttpMethod.GET,
+      new HttpEntity<>(headers),
+      String.class
+    );
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(response.getHeaders().getETag()).isEqualTo(etag);
+    assertThat(response.getBody()).isNull();
+  }
+
   @Test
   void shouldFindTagByUuid() {
     // Given
@@ -41,6 +70,9 @@ class TagControllerGetByUuidIntegrationTest extends BaseControllerIntegration {
       // Technology tag should have posts and users based on migration data
       assertThat(t.getPosts()).isNotEmpty();
       assertThat(t.getUsers()).isNotEmpty();
+      assertThat(t.getPosts()).hasSizeLessThanOrEqualTo(10);
+      assertThat(t.getPostsCount()).isGreaterThanOrEqualTo(t.getPosts().size());
+      assertThat(t.getUsersCount()).isGreaterThanOrEqualTo(t.getUsers().size());
     });
   }
 
@@ -2,6 +2,8 @@ package es.jmjg.experiments.infrastructure.controller.tag.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByTagResponseDto;
+import es.jmjg.experiments.infrastructure.controller.post.dto.PagedResponseDto;
 import es.jmjg.experiments.shared.BaseControllerIntegration;
 import es.jmjg.experiments.shared.TestDataSamples;
 import java.util.UUID;
@@ -35,6 +37,32 @@ class TagControllerGetPostsByTagUuidIntegrationTest extends BaseControllerIntegr
     assertThat(responseBody).isNotNull();
   }
 
+  @Test
+  void shouldPagePostsByTagWithTheNextCursor() {
+    // Given
+    String path = "/api/tags/" + TestDataSamples.TAG_TECHNOLOGY_UUID + "/posts?size=1";
+    HttpEntity<String> request = createAuthenticatedRequest(TestDataSamples.ADMIN_USERNAME,
+      TestDataSamples.ADMIN_PASSWORD);
+
+    // When
+    ResponseEntity<PagedResponseDto<FindPostByTagResponseDto>> firstPage = restTemplate.exchange(
+      path, HttpMethod.GET, request, new ParameterizedTypeReference<>() { });
+    ResponseEntity<PagedResponseDto<FindPostByTagResponseDto>> secondPage = restTemplate.exchange(
+      path + "&cursor=" + firstPage.getBody().getNextCursor(), HttpMethod.GET, request,
+      new ParameterizedTypeReference<>() { });
+
+    // Then
+    assertThat(firstPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(firstPage.getBody().getContent()).hasSize(1);
+    assertThat(firstPage.getBody().isHasNext()).isTrue();
+    assertThat(secondPage.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(secondPage.getBody()).satisfies(p -> {
+      assertThat(p.getContent()).hasSize(1);
+      assertThat(p.isHasPrevious()).isTrue();
+      assertThat(p.getContent().getFirst().getId()).isNotEqualTo(firstPage.getBody().getContent().getFirst().getId());
+    });
+  }
+
   @Test
   void shouldReturnNotFoundWhenFindingPostsByNonExistentTag() {
     // Given
@@ -2,6 +2,7 @@ package es.jmjg.experiments.infrastructure.controller.tag.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import es.jmjg.experiments.infrastructure.controller.post.dto.FindPostByUuidResponseDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.UpdateTagRequestDto;
 import es.jmjg.experiments.infrastructure.controller.tag.dto.UpdateTagResponseDto;
 import es.jmjg.experiments.shared.BaseControllerIntegration;
@@ -38,6 +39,28 @@ class TagControllerPutIntegrationTest extends BaseControllerIntegration {
     });
   }
 
+  @Test
+  void shouldRenderRenamedTagInPostsReadBeforeTheRename() {
+    // Given
+    UUID tagUuid = TestDataSamples.TAG_PROGRAMMING_UUID;
+    restTemplate.getForEntity("/api/posts/" + TestDataSamples.LEANNE_POST_UUID, FindPostByUuidResponseDto.class);
+    UpdateTagRequestDto updateDto = new UpdateTagRequestDto(tagUuid, "updated-programming");
+    HttpEntity<UpdateTagRequestDto> request = createAuthenticatedRequest(TestDataSamples.ADMIN_USERNAME,
+      TestDataSamples.ADMIN_PASSWORD, updateDto);
+    restTemplate.exchange("/api/tags/" + tagUuid, HttpMethod.PUT, request, UpdateTagResponseDto.class);
+
+    // When
+    ResponseEntity<FindPostByUuidResponseDto> response = restTemplate.getForEntity(
+      "/api/posts/" + TestDataSamples.LEANNE_POST_UUID, FindPostByUuidResponseDto.class);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody()).isNotNull()
+      .satisfies(p -> assertThat(p.getTags()).extracting("name")
+        .contains("updated-programming")
+        .doesNotContain(TestDataSamples.TAG_PROGRAMMING));
+  }
+
   @Test
   void shouldReturnNotFoundWhenUpdatingNonExistentTag() {
     // Given
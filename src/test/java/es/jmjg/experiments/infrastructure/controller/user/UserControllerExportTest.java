@@ -0,0 +1,58 @@
+package es.jmjg.experiments.infrastructure.controller.user;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.web.servlet.MvcResult;
+
+import es.jmjg.experiments.application.user.ExportUsers;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserExport;
+import es.jmjg.experiments.shared.UserDetailsFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+class UserControllerExportTest extends BaseUserControllerTest {
+
+  @Autowired
+  private ExportUsers exportUsers;
+
+  @Test
+  void shouldStreamUsersAsNdjson() throws Exception {
+    // Given
+    User adminUser = UserFactory.createAdminUser();
+    UserExport exported = new UserExport(UUID.randomUUID(), "Test User", "test@example.com", "testuser",
+        LocalDateTime.of(2025, 9, 13, 10, 0));
+    doAnswer(invocation -> {
+      invocation.<Consumer<UserExport>>getArgument(1).accept(exported);
+      return null;
+    }).when(exportUsers).export(argThat(dto -> dto.authenticatedUser().isAdmin() && dto.since() == null), any());
+
+    // When
+    MvcResult result = mockMvc
+        .perform(get("/api/users/export").with(user(UserDetailsFactory.createJwtUserDetails(adminUser))))
+        .andExpect(request().asyncStarted())
+        .andReturn();
+
+    // Then
+    mockMvc.perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Content-Type", "application/x-ndjson"))
+        .andExpect(content().string("""
+            {"id":"%s","name":"Test User","email":"test@example.com","username":"testuser","createdAt":"2025-09-13T10:00:00"}
+            """.formatted(exported.uuid())));
+  }
+}
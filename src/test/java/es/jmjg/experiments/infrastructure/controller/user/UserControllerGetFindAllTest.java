@@ -4,6 +4,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.shared.jsonsample.UserSamples;
@@ -16,10 +18,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import es.jmjg.experiments.application.user.FindAllUsers;
+import es.jmjg.experiments.application.user.FindAllUsersByCursor;
+import es.jmjg.experiments.application.user.dto.FindAllUsersByCursorDto;
 import es.jmjg.experiments.application.user.dto.FindAllUsersDto;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.infrastructure.controller.KeysetCursor;
 import es.jmjg.experiments.shared.UserFactory;
 
 class UserControllerGetFindAllTest extends BaseUserControllerTest {
@@ -27,6 +33,9 @@ class UserControllerGetFindAllTest extends BaseUserControllerTest {
   @Autowired
   private FindAllUsers findAllUsers;
 
+  @Autowired
+  private FindAllUsersByCursor findAllUsersByCursor;
+
   private User testUser;
   private User adminUser;
   private Pageable pageable;
@@ -107,4 +116,22 @@ class UserControllerGetFindAllTest extends BaseUserControllerTest {
         .andExpect(content().json(expectedEmptyJson));
   }
 
+  @Test
+  void shouldFindAllUsersWithCursor() throws Exception {
+    // Given
+    testUser.setId(7);
+    when(findAllUsersByCursor.findAll(any(FindAllUsersByCursorDto.class)))
+        .thenReturn(new SliceImpl<>(List.of(testUser), PageRequest.of(0, 1), true));
+
+    // When & Then
+    mockMvc
+        .perform(get("/api/users?size=1&cursor=").header("Authorization", "Bearer " + adminUser.getUsername()))
+        .andExpect(status().isOk())
+        .andExpect(header().doesNotExist("X-Next-Cursor"))
+        .andExpect(jsonPath("$.content[0].id").value(testUser.getUuid().toString()))
+        .andExpect(jsonPath("$.nextCursor").value(KeysetCursor.encode(7)))
+        .andExpect(jsonPath("$.hasNext").value(true))
+        .andExpect(jsonPath("$.hasPrevious").value(false))
+        .andExpect(jsonPath("$.totalElements").doesNotExist());
+  }
 }
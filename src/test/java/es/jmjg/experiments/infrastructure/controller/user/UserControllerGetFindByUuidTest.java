@@ -1,16 +1,23 @@
 package es.jmjg.experiments.infrastructure.controller.user;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import es.jmjg.experiments.domain.user.exception.UserNotFound;
 import es.jmjg.experiments.shared.jsonsample.UserSamples;
+import java.util.Optional;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 
 import es.jmjg.experiments.domain.shared.exception.Forbidden;
 import es.jmjg.experiments.application.user.FindUserByUuid;
@@ -46,6 +53,23 @@ class UserControllerGetFindByUuidTest extends BaseUserControllerTest {
         .andExpect(content().json(expectedJson));
   }
 
+  @Test
+  void shouldAnswerNotModifiedWithoutLoadingUserWhenETagMatches() throws Exception {
+    // Given
+    java.util.UUID uuid = java.util.UUID.randomUUID();
+    when(findUserByUuid.findVersion(argThat(dto -> dto.uuid().equals(uuid)))).thenReturn(Optional.of(4L));
+
+    // When & Then
+    mockMvc
+        .perform(get("/api/users/" + uuid)
+            .header("Authorization", "Bearer " + adminUser.getUsername())
+            .header(HttpHeaders.IF_NONE_MATCH, "W/\"4\""))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, "W/\"4\""));
+
+    verify(findUserByUuid, never()).findByUuid(argThat(dto -> dto.uuid().equals(uuid)));
+  }
+
   @Test
   void shouldNotFindUserWhenGivenInvalidUuid() throws Exception {
     // Given
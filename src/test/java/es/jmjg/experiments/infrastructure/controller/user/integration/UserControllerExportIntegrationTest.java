@@ -0,0 +1,54 @@
+package es.jmjg.experiments.infrastructure.controller.user.integration;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import es.jmjg.experiments.shared.BaseControllerIntegration;
+import es.jmjg.experiments.shared.TestDataSamples;
+
+class UserControllerExportIntegrationTest extends BaseControllerIntegration {
+
+  @Autowired
+  private ObjectMapper objectMapper;
+
+  @Test
+  void shouldExportUsersWhenUserIsAdmin() throws IOException {
+    // When
+    ResponseEntity<String> response = restTemplate.exchange(
+        "/api/users/export",
+        HttpMethod.GET,
+        createAuthenticatedRequest(TestDataSamples.ADMIN_USERNAME, TestDataSamples.ADMIN_PASSWORD),
+        String.class);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    List<JsonNode> users = objectMapper.readerFor(JsonNode.class).<JsonNode>readValues(response.getBody()).readAll();
+    assertThat(users).extracting(user -> user.get("username").asText())
+        .contains(TestDataSamples.LEANNE_USERNAME, TestDataSamples.ADMIN_USERNAME);
+    assertThat(users).allSatisfy(user -> assertThat(user.has("password")).isFalse());
+  }
+
+  @Test
+  void shouldNotExportUsersWhenUserIsNotAdmin() {
+    // When
+    ResponseEntity<String> response = restTemplate.exchange(
+        "/api/users/export",
+        HttpMethod.GET,
+        createAuthenticatedRequest(TestDataSamples.LEANNE_USERNAME, TestDataSamples.USER_PASSWORD),
+        String.class);
+
+    // Then
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+}
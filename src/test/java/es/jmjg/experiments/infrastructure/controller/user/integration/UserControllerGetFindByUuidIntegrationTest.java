@@ -6,6 +6,7 @@ import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -36,6 +37,37 @@ class UserControllerGetFindByUuidIntegrationTest extends BaseControllerIntegrati
     });
   }
 
+  @Test
+  void shouldAnswerNotModifiedWhenETagMatches() {
+    String accessToken = createAccessToken(TestDataSamples.ADMIN_USERNAME, TestDataSamples.ADMIN_PASSWORD);
+    String etag = restTemplate.exchange(
+        "/api/users/" + TestDataSamples.LEANNE_UUID,
+        HttpMethod.GET, createAuthenticatedRequestWithAccessToken(accessToken), FindUserByUuidResponseDto.class)
+        .getHeaders().getETag();
+    assertThat(etag).isNotNull();
+
+    ResponseEntity<String> response = restTemplate.exchange(
+        "/api/users/" + TestDataSamples.LEANNE_UUID,
+        HttpMethod.GET, ifNoneMatch(accessToken, etag), String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    assertThat(response.getBody()).isNull();
+  }
+
+  @Test
+  void shouldStillForbidOtherUsersWhenETagMatches() {
+    String adminToken = createAccessToken(TestDataSamples.ADMIN_USERNAME, TestDataSamples.ADMIN_PASSWORD);
+    String etag = restTemplate.exchange(
+        "/api/users/" + TestDataSamples.LEANNE_UUID,
+        HttpMethod.GET, createAuthenticatedRequestWithAccessToken(adminToken), FindUserByUuidResponseDto.class)
+        .getHeaders().getETag();
+
+    String ervinToken = createAccessToken(TestDataSamples.ERVIN_USERNAME, TestDataSamples.USER_PASSWORD);
+    ResponseEntity<String> response = restTemplate.exchange(
+        "/api/users/" + TestDataSamples.LEANNE_UUID,
+        HttpMethod.GET, ifNoneMatch(ervinToken, etag), String.class);
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+  }
+
   @Test
   void shouldReturnNotFoundWhenUserDoesNotExist() {
     UUID nonExistentUuid = UUID.randomUUID();
@@ -95,4 +127,10 @@ class UserControllerGetFindByUuidIntegrationTest extends BaseControllerIntegrati
     assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
   }
 
+  private static HttpEntity<Void> ifNoneMatch(String accessToken, String etag) {
+    HttpHeaders headers = new HttpHeaders();
+    headers.setBearerAuth(accessToken);
+    headers.setIfNoneMatch(etag);
+    return new HttpEntity<>(headers);
+  }
 }
@@ -6,19 +6,25 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.post.entity.PostComment;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.infrastructure.repository.jpa.PostCommentRepositoryImpl;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
 import es.jmjg.experiments.shared.BaseJpaIntegration;
+import es.jmjg.experiments.shared.PostFactory;
 import es.jmjg.experiments.shared.TestDataSamples;
 import jakarta.validation.ConstraintViolationException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.context.annotation.Import;
 
-@Import({ PostRepositoryImpl.class, UserRepositoryImpl.class, PostCommentRepositoryImpl.class })
+@Import({ PostRepositoryImpl.class, RowCountEstimator.class, AppProperties.class, UserRepositoryImpl.class, PostCommentRepositoryImpl.class })
 public class PostCommentRepositoryIntegrationTest extends BaseJpaIntegration {
 
   @Autowired
@@ -93,4 +99,64 @@ public class PostCommentRepositoryIntegrationTest extends BaseJpaIntegration {
           assertThat(cve.getConstraintViolations().iterator().next().getPropertyPath().toString()).isEqualTo("comment");
         });
   }
+
+  @Test
+  void findByPostUuid_ShouldPageCommentsOldestFirstBreakingTiesById() {
+    // Given comments saved in one transaction, which share its timestamp, after the two sample ones
+    Post post = postRepository.findByUuid(TestDataSamples.LEANNE_POST_UUID).orElseThrow();
+    User user = userRepository.findByUuid(TestDataSamples.LEANNE_UUID).orElseThrow();
+    List<UUID> saved = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      PostComment postComment = PostFactory.createPostComment(user, post, "Comment " + i);
+      postCommentRepository.save(postComment);
+      saved.add(postComment.getUuid());
+    }
+
+    // When
+    Slice<PostCommentSummary> first = postCommentRepository.findByPostUuid(post.getUuid(), null, null, 2);
+    PostCommentSummary firstLast = first.getContent().getLast();
+    Slice<PostCommentSummary> second = postCommentRepository.findByPostUuid(post.getUuid(), firstLast.createdAt(),
+        firstLast.id(), 2);
+    PostCommentSummary secondLast = second.getContent().getLast();
+    Slice<PostCommentSummary> third = postCommentRepository.findByPostUuid(post.getUuid(), secondLast.createdAt(),
+        secondLast.id(), 2);
+
+    // Then
+    assertThat(first.getContent()).extracting(PostCommentSummary::uuid).containsExactly(
+        TestDataSamples.COMMENT_LEANNE_POST_BY_ERWIN_UUID, TestDataSamples.COMMENT_LEANNE_POST_BY_CLEMENTINE_UUID);
+    assertThat(first.hasNext()).isTrue();
+    assertThat(second.getContent()).extracting(PostCommentSummary::uuid).containsExactly(saved.get(0), saved.get(1));
+    assertThat(second.hasNext()).isTrue();
+    assertThat(third.getContent()).extracting(PostCommentSummary::uuid).containsExactly(saved.get(2));
+    assertThat(third.hasNext()).isFalse();
+    assertThat(third.getContent().getFirst().userUuid()).isEqualTo(TestDataSamples.LEANNE_UUID);
+  }
+
+  @Test
+  void findPostUuidsCommentedBy_ShouldReturnEachCommentedPostOnce() {
+    // Given
+    User user = userRepository.findByUuid(TestDataSamples.PATRICIA_UUID).orElseThrow();
+    Post first = postRepository.findByUuid(TestDataSamples.POST_1_UUID).orElseThrow();
+    Post second = postRepository.findByUuid(TestDataSamples.POST_2_UUID).orElseThrow();
+    postCommentRepository.save(PostFactory.createPostComment(user, first, "first"));
+    postCommentRepository.save(PostFactory.createPostComment(user, first, "again"));
+    postCommentRepository.save(PostFactory.createPostComment(user, second, "second"));
+
+    // When
+    List<UUID> posts = postCommentRepository.findPostUuidsCommentedBy(user.getUuid());
+
+    // Then
+    assertThat(posts).contains(TestDataSamples.POST_1_UUID, TestDataSamples.POST_2_UUID).doesNotHaveDuplicates();
+    assertThat(postCommentRepository.findPostUuidsCommentedBy(UUID.randomUUID())).isEmpty();
+  }
+
+  @Test
+  void findByPostUuid_WhenPostDoesNotExist_ShouldReturnEmptySlice() {
+    // When
+    Slice<PostCommentSummary> result = postCommentRepository.findByPostUuid(UUID.randomUUID(), null, null, 10);
+
+    // Then
+    assertThat(result.getContent()).isEmpty();
+    assertThat(result.hasNext()).isFalse();
+  }
 }
@@ -0,0 +1,70 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.infrastructure.config.AppProperties.PostSearchEngine;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository.PostRow;
+import jakarta.persistence.EntityManager;
+
+@ExtendWith(MockitoExtension.class)
+class PostRepositoryImplTest {
+
+  @Mock
+  private JpaPostRepository jpaPostRepository;
+
+  @Mock
+  private RowCountEstimator rowCountEstimator;
+
+  @Mock
+  private EntityManager entityManager;
+
+  private PostRepositoryImpl postRepository;
+
+  @BeforeEach
+  void setUp() {
+    AppProperties appProperties = new AppProperties();
+    appProperties.setPostSearchEngine(PostSearchEngine.LIKE);
+    postRepository = new PostRepositoryImpl(jpaPostRepository, rowCountEstimator, entityManager, appProperties);
+  }
+
+  @Test
+  void searchByContent_WhenPostIsDeletedBetweenQueries_ShouldSkipIt() {
+    // Given
+    Pageable pageable = PageRequest.of(0, 10);
+    PostRow remaining = row(2);
+    when(jpaPostRepository.searchIdsByContent("java", pageable)).thenReturn(List.of(1, 2));
+    when(jpaPostRepository.findRowsByIdIn(List.of(1, 2), -1)).thenReturn(List.of(remaining));
+    when(jpaPostRepository.findTagRowsByPostIdIn(List.of(2))).thenReturn(List.of());
+
+    // When
+    List<PostSummary> posts = postRepository.searchByContent("java", pageable, PostBodyMode.FULL);
+
+    // Then
+    assertThat(posts).extracting(PostSummary::id).containsExactly(2);
+  }
+
+  private static PostRow row(int id) {
+    PostRow row = mock(PostRow.class);
+    when(row.getId()).thenReturn(id);
+    when(row.getUuid()).thenReturn(UUID.randomUUID());
+    when(row.getCommentCount()).thenReturn(0);
+    return row;
+  }
+}
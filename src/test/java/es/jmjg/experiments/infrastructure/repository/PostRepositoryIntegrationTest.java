@@ -5,8 +5,10 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,19 +20,25 @@ import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.transaction.annotation.Transactional;
 
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.post.entity.PostComment;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostExport;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
 import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.projection.TagSummary;
 import es.jmjg.experiments.domain.user.entity.User;
 import es.jmjg.experiments.infrastructure.repository.jpa.PostCommentRepositoryImpl;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
 import es.jmjg.experiments.shared.BaseJpaIntegration;
 import es.jmjg.experiments.shared.PostFactory;
 import es.jmjg.experiments.shared.TestDataSamples;
 import jakarta.persistence.EntityManager;
 
-@Import({ PostRepositoryImpl.class, TagRepositoryImpl.class, UserRepositoryImpl.class, PostCommentRepositoryImpl.class })
+@Import({ PostRepositoryImpl.class, RowCountEstimator.class, AppProperties.class, TagRepositoryImpl.class, UserRepositoryImpl.class, PostCommentRepositoryImpl.class })
 public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
 
   @Autowired
@@ -48,6 +56,9 @@ public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
   @Autowired
   private EntityManager entityManager;
 
+  @Autowired
+  private AppProperties appProperties;
+
   private User leanneUser;
   private Tag technologyTag;
   private Tag javaTag;
@@ -97,7 +108,7 @@ public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
     Pageable pageable = PageRequest.of(0, 10);
 
     // When
-    Page<Post> result = postRepository.findAll(pageable);
+    Page<PostSummary> result = postRepository.findAll(pageable, PostBodyMode.FULL);
 
     // Then
     assertThat(result).isNotNull();
@@ -107,13 +118,43 @@ public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
     assertThat(result.getNumber()).isEqualTo(0);
   }
 
+  @Test
+  void findAll_WithExcerptBody_ShouldReturnLeadingCharactersOfEachBody() {
+    // Given
+    Pageable allPostsPage = PageRequest.of(0, 50);
+    int excerptLength = new AppProperties().getPostExcerptLength();
+
+    // When
+    List<PostSummary> full = postRepository.findAll(allPostsPage, PostBodyMode.FULL).getContent();
+    List<PostSummary> excerpts = postRepository.findAll(allPostsPage, PostBodyMode.EXCERPT).getContent();
+
+    // Then
+    assertThat(excerpts).hasSameSizeAs(full);
+    for (int i = 0; i < full.size(); i++) {
+      String body = full.get(i).body();
+      assertThat(excerpts.get(i).body()).isEqualTo(body.substring(0, Math.min(body.length(), excerptLength)));
+    }
+  }
+
+  @Test
+  void findAll_WithoutBody_ShouldNotReturnBodies() {
+    // When
+    Page<PostSummary> result = postRepository.findAll(PageRequest.of(0, 10), PostBodyMode.NONE);
+
+    // Then
+    assertThat(result.getContent()).hasSize(10).allSatisfy(post -> {
+      assertThat(post.body()).isNull();
+      assertThat(post.title()).isNotBlank();
+    });
+  }
+
   @Test
   void findAll_WithPagination_ShouldReturnEmptyPageWhenNoPosts() {
     // Given - Test with a page that should be empty
     Pageable pageable = PageRequest.of(999, 10); // Very high page number
 
     // When
-    Page<Post> result = postRepository.findAll(pageable);
+    Page<PostSummary> result = postRepository.findAll(pageable, PostBodyMode.FULL);
 
     // Then
     assertThat(result).isNotNull();
@@ -129,8 +170,8 @@ public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
     Pageable secondPage = PageRequest.of(1, 5);
 
     // When
-    Page<Post> firstPageResult = postRepository.findAll(firstPage);
-    Page<Post> secondPageResult = postRepository.findAll(secondPage);
+    Page<PostSummary> firstPageResult = postRepository.findAll(firstPage, PostBodyMode.FULL);
+    Page<PostSummary> secondPageResult = postRepository.findAll(secondPage, PostBodyMode.FULL);
 
     // Then
     assertThat(firstPageResult.getContent()).hasSize(5);
@@ -147,13 +188,124 @@ public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
     assertThat(firstPageResult.getContent()).isNotEqualTo(secondPageResult.getContent());
   }
 
+  @Test
+  void searchByContent_WithPhrase_ShouldMatchWordsInOrder() {
+    // When
+    List<PostSummary> inOrder = postRepository.searchByContent("\"fugiat blanditiis\"", PageRequest.of(0, 10), PostBodyMode.FULL);
+    List<PostSummary> reversed = postRepository.searchByContent("\"blanditiis fugiat\"", PageRequest.of(0, 10), PostBodyMode.FULL);
+
+    // Then
+    assertThat(inOrder).hasSize(1);
+    assertThat(inOrder.getFirst().body()).contains("fugiat blanditiis");
+    assertThat(reversed).isEmpty();
+  }
+
+  @Test
+  void searchByContent_ShouldRankTitleMatchesFirst() {
+    // Given
+    Post titleMatch = postRepository.findByUuid(TestDataSamples.POST_3_UUID).orElseThrow();
+
+    // When
+    List<PostSummary> result = postRepository.searchByContent(titleMatch.getTitle(), PageRequest.of(0, 10), PostBodyMode.FULL);
+
+    // Then
+    assertThat(result).isNotEmpty();
+    assertThat(result.getFirst().uuid()).isEqualTo(TestDataSamples.POST_3_UUID);
+  }
+
+  @Test
+  void findAllWithoutCount_ShouldReturnSliceOfRequestedPage() {
+    // Given
+    Pageable pageable = PageRequest.of(4, 10);
+
+    // When
+    Slice<PostSummary> result = postRepository.findAllWithoutCount(pageable, PostBodyMode.FULL);
+
+    // Then
+    assertThat(result.getContent()).hasSize(10);
+    assertThat(result.hasNext()).isFalse(); // Last page of the 50 posts from migration
+    assertThat(result.getContent()).allSatisfy(post -> assertThat(post.userUuid()).isNotNull());
+  }
+
+  @Test
+  void findAll_ShouldSummarizeTagsAndFirstCommentsOfEveryPost() {
+    // Given
+    Pageable allPostsPage = PageRequest.of(0, 50);
+
+    // When
+    Page<PostSummary> result = postRepository.findAll(allPostsPage, PostBodyMode.FULL);
+
+    // Then
+    assertThat(result.getContent()).allSatisfy(summary -> {
+      Post post = postRepository.findByUuidWithUserAndTags(summary.uuid()).orElseThrow();
+      assertThat(summary.userUuid()).isEqualTo(post.getUser().getUuid());
+      assertThat(summary.tags()).extracting(TagSummary::uuid)
+          .containsExactlyInAnyOrderElementsOf(post.getTags().stream().map(Tag::getUuid).toList());
+      assertThat(summary.commentUuids()).containsExactlyElementsOf(post.getComments().stream()
+          .sorted(Comparator.comparing(PostComment::getCreatedAt).thenComparing(PostComment::getId))
+          .limit(appProperties.getPostCommentPreviewSize())
+          .map(PostComment::getUuid)
+          .toList());
+      assertThat(summary.commentCount()).isEqualTo(post.getComments().size());
+    });
+  }
+
+  @Test
+  void estimateCount_ShouldApproximatePostCount() {
+    // When
+    long estimate = postRepository.estimateCount();
+
+    // Then
+    assertThat(estimate).isPositive(); // Planner estimate, or an exact count if the table was never analyzed
+  }
+
+  @Test
+  void findAllAfter_WhenPostHasMoreCommentsThanPreviewSize_ShouldListOnlyTheFirstOnes() {
+    // Given
+    int previewSize = appProperties.getPostCommentPreviewSize();
+    Post post = postRepository.save(PostFactory.createBasicPost(leanneUser));
+    LocalDateTime createdAt = LocalDateTime.of(2024, 1, 1, 0, 0);
+    List<UUID> comments = new ArrayList<>();
+    for (int i = 0; i < previewSize + 2; i++) {
+      comments.add(postCommentRepository.save(
+          PostFactory.createPostComment(leanneUser, post, "comment " + i, createdAt.plusMinutes(i))).getUuid());
+    }
+    entityManager.flush();
+
+    // When
+    Slice<PostSummary> result = postRepository.findAllAfter(post.getId() - 1, 1, PostBodyMode.NONE);
+
+    // Then
+    assertThat(result.getContent()).singleElement()
+        .satisfies(summary -> assertThat(summary.commentUuids()).containsExactlyElementsOf(comments.subList(0, previewSize)));
+  }
+
+  @Test
+  void findAllAfter_ShouldWalkAllPostsWithoutOverlap() {
+    // Given
+    List<Integer> seenIds = new ArrayList<>();
+    Integer afterId = null;
+    Slice<PostSummary> slice;
+
+    // When
+    do {
+      slice = postRepository.findAllAfter(afterId, 15, PostBodyMode.FULL);
+      slice.getContent().forEach(post -> seenIds.add(post.id()));
+      afterId = slice.getContent().isEmpty() ? afterId : slice.getContent().getLast().id();
+    } while (slice.hasNext());
+
+    // Then
+    assertThat(seenIds).hasSize(50); // Exactly 50 posts from migration
+    assertThat(seenIds).isSorted().doesNotHaveDuplicates();
+  }
+
   @Test
   void shouldFindAllPostsWithCorrectTotalCount() {
     // Given
     Pageable allPostsPage = PageRequest.of(0, 50);
 
     // When
-    Page<Post> result = postRepository.findAll(allPostsPage);
+    Page<PostSummary> result = postRepository.findAll(allPostsPage, PostBodyMode.FULL);
 
     // Then
     assertThat(result).isNotNull();
@@ -411,6 +563,29 @@ public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
         TestDataSamples.TAG_SPRING_BOOT);
   }
 
+  @Test
+  void save_WhenCommentIsCountedAfterThePostWasRead_ShouldNotConflict() {
+    // Given
+    Post post = postRepository.findByUuid(TestDataSamples.LEANNE_POST_UUID).orElseThrow();
+    long version = post.getVersion();
+    long revision = post.getRevision();
+    long etagVersion = postRepository.findVersionByUuid(post.getUuid()).orElseThrow();
+    entityManager.detach(post);
+    postRepository.incrementCommentCount(post.getId(), 1);
+
+    // When
+    post.setTitle("Edited while it was commented");
+    postRepository.save(post);
+    entityManager.flush();
+    entityManager.clear();
+
+    // Then
+    Post saved = postRepository.findByUuid(post.getUuid()).orElseThrow();
+    assertThat(saved.getVersion()).isEqualTo(version + 1);
+    assertThat(saved.getRevision()).isEqualTo(revision + 1);
+    assertThat(postRepository.findVersionByUuid(post.getUuid())).contains(etagVersion + 2);
+  }
+
   @Test
   @Transactional
   void whenUpdatePostInSameTransaction_ShouldUpdatePost() {
@@ -456,4 +631,31 @@ public class PostRepositoryIntegrationTest extends BaseJpaIntegration {
     assertThat(result.getComments()).hasSize(1);
     assertThat(result.getComments().getFirst().getComment()).isEqualTo("comment 1");
   }
+
+  @Test
+  void exportCreatedSince_ShouldExportPostsCreatedSinceWithTheirTags() {
+    // Given
+    Post post = PostFactory.createBasicPost(leanneUser);
+    post.setTags(List.of(technologyTag, javaTag));
+    postRepository.save(post);
+    entityManager.flush();
+    entityManager.refresh(post);
+    List<PostExport> all = new ArrayList<>();
+    List<PostExport> created = new ArrayList<>();
+
+    // When
+    postRepository.exportCreatedSince(null, all::add);
+    postRepository.exportCreatedSince(post.getCreatedAt(), created::add);
+
+    // Then
+    assertThat(all).hasSizeGreaterThan(1);
+    assertThat(all).extracting(PostExport::uuid).contains(TestDataSamples.LEANNE_POST_UUID, post.getUuid());
+    assertThat(created).singleElement().satisfies(exported -> {
+      assertThat(exported.uuid()).isEqualTo(post.getUuid());
+      assertThat(exported.userUuid()).isEqualTo(TestDataSamples.LEANNE_UUID);
+      assertThat(exported.title()).isEqualTo(post.getTitle());
+      assertThat(exported.tagNames()).containsExactlyInAnyOrder(TestDataSamples.TAG_TECHNOLOGY, TestDataSamples.TAG_JAVA);
+      assertThat(exported.createdAt()).isEqualTo(post.getCreatedAt());
+    });
+  }
 }
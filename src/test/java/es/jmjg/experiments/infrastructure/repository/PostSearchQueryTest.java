@@ -0,0 +1,34 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class PostSearchQueryTest {
+
+  @Test
+  void shouldMatchEveryWordAsPrefix() {
+    assertThat(PostSearchQuery.toTsQuery("Sunt fugi")).isEqualTo("sunt:* & fugi:*");
+  }
+
+  @Test
+  void shouldMatchQuotedPhraseInOrder() {
+    assertThat(PostSearchQuery.toTsQuery("\"fugiat blanditiis\" qui"))
+        .isEqualTo("(fugiat <-> blanditiis) & qui:*");
+  }
+
+  @Test
+  void shouldAcceptUnterminatedPhrase() {
+    assertThat(PostSearchQuery.toTsQuery("\"fugiat blanditiis")).isEqualTo("(fugiat <-> blanditiis)");
+  }
+
+  @Test
+  void shouldDropTsQueryOperators() {
+    assertThat(PostSearchQuery.toTsQuery("sunt & !(qui | est):* <->")).isEqualTo("sunt:* & qui:* & est:*");
+  }
+
+  @Test
+  void shouldReturnNullWhenNothingToSearch() {
+    assertThat(PostSearchQuery.toTsQuery("&| ! \"\"")).isNull();
+  }
+}
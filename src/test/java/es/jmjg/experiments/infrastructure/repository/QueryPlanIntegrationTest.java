@@ -0,0 +1,368 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.transaction.AfterTransaction;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostBodyMode;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaPostRepository;
+import es.jmjg.experiments.infrastructure.repository.jpa.PostCommentRepositoryImpl;
+import es.jmjg.experiments.shared.BaseJpaIntegration;
+import jakarta.persistence.EntityManager;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Index advisor: seeds every table with enough rows for the planner to prefer indexes, runs the
+ * repository queries and fails when the plan of one of them reads a large table sequentially.
+ * Statements are captured with their bind values from a proxy of the data source and explained
+ * with those same values, so they get the plan production would.
+ */
+@Import({ PostRepositoryImpl.class, RowCountEstimator.class, AppProperties.class, UserRepositoryImpl.class,
+    TagRepositoryImpl.class, PostCommentRepositoryImpl.class, QueryPlanIntegrationTest.StatementCapture.class })
+class QueryPlanIntegrationTest extends BaseJpaIntegration {
+
+  private static final long LARGE_TABLE_ROWS = 1_000;
+  private static final List<String> SEEDED_TABLES = List.of("users", "tag", "post", "post_tag", "user_tag", "post_comment");
+
+  // Statements that read a whole table on purpose, with the reason
+  private static final Map<Pattern, String> INTENDED_FULL_SCANS = Map.of(
+      Pattern.compile("^select count\\("), "exact totals count every row, the APPROXIMATE and NONE count modes avoid it",
+      Pattern.compile("like lower\\("), "the LIKE search engine is only kept to compare with full-text search",
+      Pattern.compile("^select \\S+ from tag t1_0$"), "the tag cache is warmed with every tag",
+      Pattern.compile("offset \\? rows fetch first \\? rows only$"),
+      "unordered offset pages stop reading after the page, the keyset variants skip the offset too");
+
+  @Autowired
+  private PostRepositoryImpl postRepository;
+
+  @Autowired
+  private UserRepositoryImpl userRepository;
+
+  @Autowired
+  private TagRepositoryImpl tagRepository;
+
+  @Autowired
+  private PostCommentRepositoryImpl postCommentRepository;
+
+  @Autowired
+  private JpaPostRepository jpaPostRepository;
+
+  @Autowired
+  private StatementCapture statementCapture;
+
+  @Autowired
+  private DataSource dataSource;
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final List<String> violations = new ArrayList<>();
+  private Set<String> largeTables;
+
+  @BeforeEach
+  void seed() {
+    jdbcTemplate.execute("""
+        INSERT INTO users (uuid, name, email, username, password)
+        SELECT gen_random_uuid(), 'Load user ' || g, 'load-user-' || g || '@example.com', 'load-user-' || g, 'secret'
+        FROM generate_series(1, 20000) g""");
+    // Names that share no prefix, like real tags do, so a pattern or a trigram is selective
+    jdbcTemplate.execute("""
+        INSERT INTO tag (uuid, tag)
+        SELECT gen_random_uuid(), md5('load-tag-' || g) FROM generate_series(1, 20000) g""");
+    jdbcTemplate.execute("""
+        INSERT INTO post (uuid, user_id, title, body)
+        SELECT gen_random_uuid(), u.ids[1 + g % cardinality(u.ids)], 'Load post ' || g, repeat('lorem ipsum dolor sit amet ', 8) || g
+        FROM generate_series(1, 50000) g,
+             (SELECT array_agg(id) AS ids FROM users WHERE username LIKE 'load-user-%') u""");
+    jdbcTemplate.execute("""
+        INSERT INTO post_tag (post_id, tag_id)
+        SELECT p.id, t.ids[1 + (p.n * 31 + k * 977) % cardinality(t.ids)]
+        FROM (SELECT id, row_number() OVER () AS n FROM post) p, generate_series(1, 2) k,
+             (SELECT array_agg(id) AS ids FROM tag WHERE tag ~ '^[0-9a-f]{32}$') t
+        ON CONFLICT DO NOTHING""");
+    jdbcTemplate.execute("""
+        INSERT INTO user_tag (user_id, tag_id)
+        SELECT u.id, t.ids[1 + (u.n * 17 + k * 613) % cardinality(t.ids)]
+        FROM (SELECT id, row_number() OVER () AS n FROM users) u, generate_series(1, 2) k,
+             (SELECT array_agg(id) AS ids FROM tag WHERE tag ~ '^[0-9a-f]{32}$') t
+        ON CONFLICT DO NOTHING""");
+    jdbcTemplate.execute("""
+        INSERT INTO post_comment (uuid, post_id, user_id, comment, created_at)
+        SELECT gen_random_uuid(), p.ids[1 + g % cardinality(p.ids)], u.ids[1 + g % cardinality(u.ids)], 'Load comment ' || g,
+               TIMESTAMP '2025-01-01' + g * INTERVAL '1 second'
+        FROM generate_series(1, 100000) g,
+             (SELECT array_agg(id) AS ids FROM post WHERE title LIKE 'Load post %') p,
+             (SELECT array_agg(id) AS ids FROM users WHERE username LIKE 'load-user-%') u""");
+    jdbcTemplate.execute("INSERT INTO tag (uuid, tag) VALUES (gen_random_uuid(), 'load-tag-unused')");
+    // Autovacuum would have merged the pending entries of the GIN indexes, until then the planner
+    // costs them as a scan of the pending list and rather reads the table
+    jdbcTemplate.queryForList("""
+        SELECT gin_clean_pending_list(i.indexrelid)
+        FROM pg_index i JOIN pg_class c ON c.oid = i.indexrelid JOIN pg_am a ON a.oid = c.relam
+        WHERE a.amname = 'gin'""");
+    jdbcTemplate.execute("ANALYZE " + String.join(", ", SEEDED_TABLES));
+
+    largeTables = Set.copyOf(jdbcTemplate.queryForList(
+        "SELECT relname FROM pg_class WHERE relkind = 'r' AND reltuples >= ?", String.class, LARGE_TABLE_ROWS));
+    assertThat(largeTables).containsAll(SEEDED_TABLES);
+  }
+
+  // ANALYZE updates the row estimates of pg_class in place, so they survive the rollback of the seed
+  @AfterTransaction
+  void restoreStatistics() {
+    jdbcTemplate.execute("ANALYZE " + String.join(", ", SEEDED_TABLES));
+  }
+
+  @Test
+  void repositoryQueriesShouldNotScanLargeTablesSequentially() {
+    Post post = postRepository.findByTitle("Load post 25000").orElseThrow();
+    User user = userRepository.findByUsername("load-user-10000").orElseThrow();
+    Tag tag = tagRepository.findByName(jdbcTemplate.queryForObject("SELECT md5('load-tag-1000')", String.class))
+        .orElseThrow();
+    entityManager.clear();
+
+    // Posts
+    explain("PostRepository.findAll", () -> postRepository.findAll(PageRequest.of(2, 20), PostBodyMode.FULL));
+    explain("PostRepository.findAllAfter", () -> postRepository.findAllAfter(post.getId(), 20, PostBodyMode.EXCERPT));
+    explain("PostRepository.findAllWithoutCount", () -> postRepository.findAllWithoutCount(PageRequest.of(2, 20), PostBodyMode.NONE));
+    explain("PostRepository.findByTitle", () -> postRepository.findByTitle(post.getTitle()));
+    explain("PostRepository.findByUuid", () -> postRepository.findByUuid(post.getUuid()));
+    explain("PostRepository.findById", () -> postRepository.findById(post.getId()));
+    explain("PostRepository.findByUuidWithUserAndTags", () -> postRepository.findByUuidWithUserAndTags(post.getUuid()));
+    explain("PostRepository.searchByContent", () -> postRepository.searchByContent("25000", PageRequest.of(0, 20), PostBodyMode.FULL));
+    explain("JpaPostRepository.searchIdsByContent", () -> jpaPostRepository.searchIdsByContent("25000", PageRequest.of(0, 20)));
+    explain("PostRepository.findByTagIdAfter", () -> postRepository.findByTagIdAfter(tag.getId(), null, 20, PostBodyMode.FULL));
+    explain("PostRepository.findByTagIdAfter after", () -> postRepository.findByTagIdAfter(tag.getId(), post.getId(), 20, PostBodyMode.EXCERPT));
+    explain("PostRepository.findByUserId", () -> postRepository.findByUserId(user.getId()));
+    explain("Post.comments", () -> Hibernate.initialize(postRepository.findById(post.getId()).orElseThrow().getComments()));
+
+    // Comments
+    Slice<PostCommentSummary> comments = postCommentRepository.findByPostUuid(post.getUuid(), null, null, 1);
+    PostCommentSummary comment = comments.getContent().getFirst();
+    explain("PostCommentRepository.findByPostUuid", () -> postCommentRepository.findByPostUuid(post.getUuid(), null, null, 20));
+    explain("PostCommentRepository.findByPostUuid after", () -> postCommentRepository.findByPostUuid(post.getUuid(), comment.createdAt(), comment.id(), 20));
+    explain("PostCommentRepository.findByUuid", () -> postCommentRepository.findByUuid(comment.uuid()));
+
+    // Users
+    explain("UserRepository.findAll", () -> userRepository.findAll(PageRequest.of(2, 20)));
+    explain("UserRepository.findAllAfter", () -> userRepository.findAllAfter(user.getId(), 20));
+    explain("UserRepository.findByEmail", () -> userRepository.findByEmail(user.getEmail()));
+    explain("UserRepository.findByUsername", () -> userRepository.findByUsername(user.getUsername()));
+    explain("UserRepository.findByUuid", () -> userRepository.findByUuid(user.getUuid()));
+    explain("UserRepository.findById", () -> userRepository.findById(user.getId()));
+    explain("UserRepository.findByTagIdAfter", () -> userRepository.findByTagIdAfter(tag.getId(), null, 20));
+    explain("UserRepository.findByTagIdAfter after", () -> userRepository.findByTagIdAfter(tag.getId(), user.getId(), 20));
+    explain("User.posts, tags and comments", () -> {
+      User found = userRepository.findById(user.getId()).orElseThrow();
+      Hibernate.initialize(found.getPosts());
+      Hibernate.initialize(found.getTags());
+      Hibernate.initialize(found.getComments());
+    });
+
+    // Tags
+    explain("TagRepository.findAll", () -> tagRepository.findAll());
+    explain("TagRepository.findByUuid", () -> tagRepository.findByUuid(tag.getUuid()));
+    explain("TagRepository.findByName", () -> tagRepository.findByName(tag.getName()));
+    explain("TagRepository.findAllByNameIn", () -> tagRepository.findAllByNameIn(List.of(tag.getName(), "load-tag-unused")));
+    explain("TagRepository.findByNameContainingPattern", () -> tagRepository.findByNameContainingPattern(tag.getName().substring(10, 16)));
+    explain("TagRepository.findForAutocomplete", () -> tagRepository.findForAutocomplete(tag.getName().substring(0, 5), 10));
+    explain("TagRepository.findPostPreviews", () -> tagRepository.findPostPreviews(List.of(tag.getId()), 10));
+    explain("TagRepository.findUserPreviews", () -> tagRepository.findUserPreviews(List.of(tag.getId()), 10));
+    explain("Tag.posts and users", () -> {
+      Tag found = entityManager.find(Tag.class, tag.getId());
+      Hibernate.initialize(found.getPosts());
+      Hibernate.initialize(found.getUsers());
+    });
+
+    // Deletes, flushed so the statements they issue are captured
+    explain("TagRepository.delete", () -> {
+      tagRepository.delete(tagRepository.findByName("load-tag-unused").orElseThrow());
+      entityManager.flush();
+    });
+    explain("PostCommentRepository.deleteById", () -> {
+      postCommentRepository.deleteById(comment.id());
+      entityManager.flush();
+    });
+    explain("PostRepository.deleteById", () -> {
+      postRepository.deleteById(post.getId());
+      entityManager.flush();
+    });
+    explain("UserRepository.deleteByUuid", () -> {
+      userRepository.deleteByUuid(user.getUuid());
+      entityManager.flush();
+    });
+
+    assertThat(violations).as("Sequential scans over large tables").isEmpty();
+  }
+
+  @Test
+  void everyForeignKeyShouldLeadAnIndex() {
+    List<String> unindexed = jdbcTemplate.queryForList("""
+        SELECT c.conrelid::regclass || '(' || a.attname || ')'
+        FROM pg_constraint c
+        JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = c.conkey[1]
+        WHERE c.contype = 'f'
+          AND NOT EXISTS (
+            SELECT 1 FROM pg_index i WHERE i.indrelid = c.conrelid AND i.indkey[0] = c.conkey[1])
+        ORDER BY 1""", String.class);
+
+    assertThat(unindexed).as("Foreign keys whose deletes and joins scan the referencing table").isEmpty();
+  }
+
+  private void explain(String step, Runnable call) {
+    statementCapture.start();
+    try {
+      call.run();
+    } finally {
+      statementCapture.stop();
+    }
+    for (QueryInfo statement : statementCapture.drain()) {
+      String sql = statement.getQuery().trim();
+      String lowerSql = sql.toLowerCase();
+      if (lowerSql.startsWith("insert") || isIntendedFullScan(lowerSql)) {
+        continue;
+      }
+      for (String table : sequentiallyScannedTables(statement)) {
+        if (largeTables.contains(table)) {
+          violations.add(step + " scans " + table + ": " + sql);
+        }
+      }
+    }
+  }
+
+  private static boolean isIntendedFullScan(String lowerSql) {
+    return INTENDED_FULL_SCANS.keySet().stream().anyMatch(pattern -> pattern.matcher(lowerSql).find());
+  }
+
+  private List<String> sequentiallyScannedTables(QueryInfo statement) {
+    Connection connection = DataSourceUtils.getConnection(dataSource);
+    try (PreparedStatement explain = connection.prepareStatement("EXPLAIN (FORMAT JSON) " + statement.getQuery())) {
+      if (!statement.getParametersList().isEmpty()) {
+        for (ParameterSetOperation operation : statement.getParametersList().getFirst()) {
+          operation.getMethod().invoke(explain, operation.getArgs());
+        }
+      }
+      try (ResultSet plan = explain.executeQuery()) {
+        plan.next();
+        List<String> tables = new ArrayList<>();
+        collectSequentialScans(objectMapper.readTree(plan.getString(1)).get(0).get("Plan"), tables);
+        return tables;
+      }
+    } catch (Exception e) {
+      throw new IllegalStateException("Could not explain " + statement.getQuery(), e);
+    } finally {
+      DataSourceUtils.releaseConnection(connection, dataSource);
+    }
+  }
+
+  private static void collectSequentialScans(JsonNode node, List<String> tables) {
+    if ("Seq Scan".equals(node.path("Node Type").asText())) {
+      tables.add(node.path("Relation Name").asText());
+    }
+    node.path("Plans").forEach(child -> collectSequentialScans(child, tables));
+  }
+
+  /** Proxies the data source to record the statements, with their bind values, run while started. */
+  @TestConfiguration
+  static class StatementCapture implements QueryExecutionListener {
+
+    private final List<QueryInfo> captured = new CopyOnWriteArrayList<>();
+    private volatile boolean capturing;
+
+    @Bean
+    static BeanPostProcessor statementCaptureDataSourceProxy(ObjectProvider<StatementCapture> capture) {
+      return new BeanPostProcessor() {
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+          if (!(bean instanceof DataSource source) || bean instanceof ProxyDataSource) {
+            return bean;
+          }
+          return ProxyDataSourceBuilder.create(beanName, source)
+              .listener(new QueryExecutionListener() {
+                @Override
+                public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                }
+
+                @Override
+                public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+                  capture.getObject().afterQuery(execInfo, queryInfoList);
+                }
+              })
+              .build();
+        }
+      };
+    }
+
+    void start() {
+      captured.clear();
+      capturing = true;
+    }
+
+    void stop() {
+      capturing = false;
+    }
+
+    List<QueryInfo> drain() {
+      List<QueryInfo> statements = List.copyOf(captured);
+      captured.clear();
+      // A statement repeated with other bind values plans the same way, explaining the first is enough
+      Map<String, QueryInfo> distinct = new LinkedHashMap<>();
+      statements.forEach(statement -> distinct.putIfAbsent(statement.getQuery(), statement));
+      return List.copyOf(distinct.values());
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+      if (capturing) {
+        captured.addAll(queryInfoList);
+      }
+    }
+  }
+}
@@ -0,0 +1,106 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+@ExtendWith(MockitoExtension.class)
+class RowCountEstimatorTest {
+
+  private static final String RELTUPLES_SQL = "SELECT reltuples FROM pg_class WHERE oid = CAST(:table AS regclass)";
+  private static final String COUNT_SQL = "SELECT COUNT(*) FROM post";
+
+  @Mock
+  private EntityManager entityManager;
+
+  @Mock
+  private Query reltuplesQuery;
+
+  @Mock
+  private Query countQuery;
+
+  private AppProperties appProperties;
+
+  @BeforeEach
+  void setUp() {
+    appProperties = new AppProperties();
+    when(entityManager.createNativeQuery(RELTUPLES_SQL)).thenReturn(reltuplesQuery);
+    when(reltuplesQuery.setParameter(anyString(), anyString())).thenReturn(reltuplesQuery);
+  }
+
+  @Test
+  void estimate_ShouldReturnPlannerEstimate() {
+    // Given
+    when(reltuplesQuery.getSingleResult()).thenReturn(1234.0f);
+    RowCountEstimator estimator = new RowCountEstimator(entityManager, appProperties);
+
+    // When
+    long rows = estimator.estimate("post");
+
+    // Then
+    assertThat(rows).isEqualTo(1234);
+    verify(entityManager, never()).createNativeQuery(COUNT_SQL);
+  }
+
+  @Test
+  void estimate_WhenTableWasNeverAnalyzed_ShouldFallBackToCount() {
+    // Given
+    when(reltuplesQuery.getSingleResult()).thenReturn(-1.0f);
+    when(entityManager.createNativeQuery(COUNT_SQL)).thenReturn(countQuery);
+    when(countQuery.getSingleResult()).thenReturn(50L);
+    RowCountEstimator estimator = new RowCountEstimator(entityManager, appProperties);
+
+    // When
+    long rows = estimator.estimate("post");
+
+    // Then
+    assertThat(rows).isEqualTo(50);
+  }
+
+  @Test
+  void estimate_WithinStalenessBound_ShouldReuseEstimate() {
+    // Given
+    when(reltuplesQuery.getSingleResult()).thenReturn(10.0f, 20.0f);
+    RowCountEstimator estimator = new RowCountEstimator(entityManager, appProperties);
+
+    // When
+    long first = estimator.estimate("post");
+    long second = estimator.estimate("post");
+
+    // Then
+    assertThat(first).isEqualTo(10);
+    assertThat(second).isEqualTo(10);
+    verify(reltuplesQuery, times(1)).getSingleResult();
+  }
+
+  @Test
+  void estimate_WhenEstimateIsStale_ShouldRefreshIt() {
+    // Given
+    appProperties.setApproximateCountMaxStaleness(Duration.ZERO);
+    when(reltuplesQuery.getSingleResult()).thenReturn(10.0f, 20.0f);
+    RowCountEstimator estimator = new RowCountEstimator(entityManager, appProperties);
+
+    // When
+    estimator.estimate("post");
+    long second = estimator.estimate("post");
+
+    // Then
+    assertThat(second).isEqualTo(20);
+    verify(reltuplesQuery, times(2)).getSingleResult();
+  }
+}
@@ -0,0 +1,77 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.util.UUID;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.tag.exception.TagInUseException;
+import es.jmjg.experiments.infrastructure.repository.jpa.JpaTagRepository;
+import es.jmjg.experiments.shared.TagFactory;
+
+@ExtendWith(MockitoExtension.class)
+class TagRepositoryImplTest {
+
+  @Mock
+  private JpaTagRepository jpaTagRepository;
+
+  private TagRepositoryImpl tagRepository;
+
+  @BeforeEach
+  void setUp() {
+    tagRepository = new TagRepositoryImpl(jpaTagRepository);
+  }
+
+  @Test
+  void delete_WhenPostTagReferenceRefusesIt_ShouldReportPostsByName() {
+    // Given
+    Tag tag = TagFactory.createTag(UUID.randomUUID(), "java");
+    when(jpaTagRepository.deleteUnusedByUuid(tag.getUuid())).thenThrow(violation(TagRepositoryImpl.POST_TAG_FKEY));
+
+    // When & Then
+    assertThatThrownBy(() -> tagRepository.delete(tag))
+        .isInstanceOf(TagInUseException.class)
+        .hasMessage("Cannot delete tag 'java' because it is assigned to posts");
+  }
+
+  @Test
+  void delete_WhenUserTagReferenceRefusesIt_ShouldReportUsersByName() {
+    // Given
+    Tag tag = TagFactory.createTag(UUID.randomUUID(), "java");
+    when(jpaTagRepository.deleteUnusedByUuid(tag.getUuid())).thenThrow(violation(TagRepositoryImpl.USER_TAG_FKEY));
+
+    // When & Then
+    assertThatThrownBy(() -> tagRepository.delete(tag))
+        .isInstanceOf(TagInUseException.class)
+        .hasMessage("Cannot delete tag 'java' because it is assigned to users");
+  }
+
+  @Test
+  void delete_WhenAnotherConstraintRefusesIt_ShouldRethrow() {
+    // Given
+    Tag tag = TagFactory.createTag(UUID.randomUUID(), "java");
+    DataIntegrityViolationException violation = violation("tag_pkey");
+    when(jpaTagRepository.deleteUnusedByUuid(tag.getUuid())).thenThrow(violation);
+
+    // When & Then
+    assertThatThrownBy(() -> tagRepository.delete(tag)).isSameAs(violation);
+  }
+
+  // The message names post_tag whatever the constraint, so only the constraint name can tell them apart
+  private static DataIntegrityViolationException violation(String constraintName) {
+    SQLException sqlException = new SQLException("update or delete on table \"tag\" violates foreign key constraint",
+        "23503");
+    return new DataIntegrityViolationException("could not execute statement; post_tag",
+        new ConstraintViolationException("could not execute statement", sqlException, constraintName));
+  }
+}
@@ -4,16 +4,22 @@ import static es.jmjg.experiments.shared.TestDataSamples.*;
 import static org.assertj.core.api.Assertions.*;
 
 import es.jmjg.experiments.domain.tag.exception.TagInUseException;
+import es.jmjg.experiments.domain.tag.exception.TagNotFound;
+import es.jmjg.experiments.shared.TagFactory;
 import es.jmjg.experiments.shared.TestDataSamples;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.shared.BaseJpaIntegration;
+import jakarta.persistence.EntityManager;
 
 @Import(TagRepositoryImpl.class)
 public class TagRepositoryIntegrationTest extends BaseJpaIntegration {
@@ -21,6 +27,12 @@ public class TagRepositoryIntegrationTest extends BaseJpaIntegration {
   @Autowired
   private TagRepositoryImpl tagRepository;
 
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private EntityManager entityManager;
+
   @Test
   void shouldFindTagByName() {
     // When
@@ -61,6 +73,43 @@ public class TagRepositoryIntegrationTest extends BaseJpaIntegration {
     assertThat(databaseTag.get().getName()).isEqualTo(TAG_DATABASE);
   }
 
+  @Test
+  void shouldFindTagsContainingPattern() {
+    // When
+    List<Tag> tags = tagRepository.findByNameContainingPattern("DEVELOP");
+
+    // Then
+    assertThat(tags).extracting(Tag::getName).contains(TAG_DEVELOPER, TAG_WEB_DEVELOPMENT);
+  }
+
+  @Test
+  void shouldHonourLikeWildcardsInPattern() {
+    // When
+    List<Tag> tags = tagRepository.findByNameContainingPattern("j%a");
+
+    // Then
+    assertThat(tags).extracting(Tag::getName).contains("java", "jpa");
+  }
+
+  @Test
+  void shouldAutocompletePrefixMatchesFirst() {
+    // When
+    List<Tag> tags = tagRepository.findForAutocomplete("dev", 5);
+
+    // Then
+    assertThat(tags).isNotEmpty().hasSizeLessThanOrEqualTo(5);
+    assertThat(tags.subList(0, 2)).extracting(Tag::getName).containsExactlyInAnyOrder("devops", TAG_DEVELOPER);
+  }
+
+  @Test
+  void shouldAutocompleteSimilarNames() {
+    // When
+    List<Tag> tags = tagRepository.findForAutocomplete("databse", 5);
+
+    // Then
+    assertThat(tags).extracting(Tag::getName).contains(TAG_DATABASE);
+  }
+
   @Test
   void shouldFindTagsByName() {
     // When
@@ -79,6 +128,16 @@ public class TagRepositoryIntegrationTest extends BaseJpaIntegration {
     assertThat(bestPracticesTag.get().getUuid()).isEqualTo(TAG_BEST_PRACTICES_UUID);
   }
 
+  @Test
+  void shouldFindAllTagsByNameInOneQuery() {
+    // When
+    List<Tag> tags = tagRepository.findAllByNameIn(List.of(TAG_PROGRAMMING, TAG_WEB_DEVELOPMENT, "non-existent"));
+
+    // Then
+    assertThat(tags).extracting(Tag::getUuid)
+        .containsExactlyInAnyOrder(TAG_PROGRAMMING_UUID, TAG_WEB_DEVELOPMENT_UUID);
+  }
+
   @Test
   void shouldNotFindTagByNonExistentName() {
     // When
@@ -104,11 +163,55 @@ public class TagRepositoryIntegrationTest extends BaseJpaIntegration {
     assertThat(javaTag).isPresent();
 
     // When & Then - Should throw exception when trying to delete
-    assertThatThrownBy(() -> tagRepository.deleteByUuid(javaTag.get().getUuid()))
+    assertThatThrownBy(() -> tagRepository.delete(javaTag.get()))
         .isInstanceOf(TagInUseException.class)
         .hasMessageContaining("Cannot delete tag '" + TestDataSamples.TAG_JAVA + "' because it is assigned to posts");
   }
 
+  @Test
+  void shouldPreventDeletionOfTagAssignedToUsers() {
+    // Given - a tag only a user has
+    Tag tag = tagRepository.save(TagFactory.createTag("user-only"));
+    entityManager.flush();
+    jdbcTemplate.update("INSERT INTO user_tag (user_id, tag_id) VALUES (1, ?)", tag.getId());
+
+    // When & Then
+    assertThatThrownBy(() -> tagRepository.delete(tag))
+        .isInstanceOf(TagInUseException.class)
+        .hasMessage("Cannot delete tag 'user-only' because it is assigned to users");
+    assertThat(tagRepository.findByUuid(tag.getUuid())).isPresent();
+  }
+
+  @Test
+  void shouldDeleteUnassignedTag() {
+    // Given
+    Tag tag = tagRepository.save(TagFactory.createTag("unassigned"));
+
+    // When
+    tagRepository.delete(tag);
+
+    // Then
+    assertThat(tagRepository.findByUuid(tag.getUuid())).isEmpty();
+  }
+
+  @Test
+  void shouldThrowTagNotFoundWhenDeletingUnknownTag() {
+    Tag tag = TagFactory.createTag(UUID.randomUUID(), "unknown");
+
+    assertThatThrownBy(() -> tagRepository.delete(tag))
+        .isInstanceOf(TagNotFound.class);
+  }
+
+  @Test
+  void shouldRefuseInDatabaseToDeleteAssignedTag() {
+    // Given - an assignment the guarded delete could miss when it commits while the delete runs
+    Tag javaTag = tagRepository.findByName(TestDataSamples.TAG_JAVA).orElseThrow();
+
+    // When & Then - the references do not cascade the delete of a tag
+    assertThatThrownBy(() -> jdbcTemplate.update("DELETE FROM tag WHERE id = ?", javaTag.getId()))
+        .isInstanceOf(DataIntegrityViolationException.class);
+  }
+
   @Test
   void shouldFindAllPredefinedTags() {
     // When & Then - Verify all predefined tags exist
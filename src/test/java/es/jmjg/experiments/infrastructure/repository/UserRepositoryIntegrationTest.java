@@ -12,12 +12,13 @@ import org.springframework.context.annotation.Import;
 
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
 import es.jmjg.experiments.shared.BaseJpaIntegration;
 import es.jmjg.experiments.shared.PostFactory;
 import es.jmjg.experiments.shared.TestDataSamples;
 import es.jmjg.experiments.shared.UserFactory;
 
-@Import({ UserRepositoryImpl.class, PostRepositoryImpl.class })
+@Import({ UserRepositoryImpl.class, PostRepositoryImpl.class, RowCountEstimator.class, AppProperties.class })
 public class UserRepositoryIntegrationTest extends BaseJpaIntegration {
 
   @Autowired
@@ -47,6 +48,27 @@ public class UserRepositoryIntegrationTest extends BaseJpaIntegration {
     assertThat(foundUser).isEmpty();
   }
 
+  @Test
+  void updatePassword_ShouldReplaceTheHashWithoutChangingTheVersion() {
+    // Given
+    long version = userRepository.findVersionByUuid(TestDataSamples.LEANNE_UUID).orElseThrow();
+
+    // When
+    boolean updated = userRepository.updatePassword(TestDataSamples.LEANNE_USERNAME, "{bcrypt}rehashed");
+
+    // Then
+    assertThat(updated).isTrue();
+    assertThat(userRepository.findVersionByUuid(TestDataSamples.LEANNE_UUID)).contains(version);
+    assertThat(userRepository.findByUsername(TestDataSamples.LEANNE_USERNAME))
+        .hasValueSatisfying(user -> assertThat(user.getPassword()).isEqualTo("{bcrypt}rehashed"));
+  }
+
+  @Test
+  void updatePassword_WhenUserDoesNotExist_ShouldReturnFalse() {
+    // When & Then
+    assertThat(userRepository.updatePassword("nobody", "{bcrypt}rehashed")).isFalse();
+  }
+
   @Test
   void shouldFindUserByUsername() {
     // When
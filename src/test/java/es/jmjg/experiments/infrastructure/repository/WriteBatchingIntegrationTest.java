@@ -0,0 +1,107 @@
+package es.jmjg.experiments.infrastructure.repository;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.infrastructure.config.AppProperties;
+import es.jmjg.experiments.shared.BaseJpaIntegration;
+import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.shared.TagFactory;
+import es.jmjg.experiments.shared.TestDataSamples;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+@Import({ PostRepositoryImpl.class, RowCountEstimator.class, AppProperties.class, TagRepositoryImpl.class, UserRepositoryImpl.class })
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WriteBatchingIntegrationTest extends BaseJpaIntegration {
+
+  private static final int ROWS = 20;
+
+  @Autowired
+  private PostRepositoryImpl postRepository;
+
+  @Autowired
+  private TagRepositoryImpl tagRepository;
+
+  @Autowired
+  private UserRepositoryImpl userRepository;
+
+  @Autowired
+  private EntityManager entityManager;
+
+  @Autowired
+  private EntityManagerFactory entityManagerFactory;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  void savingTagsShouldTakeOneBlockOfIdsAndOneBatch() {
+    // Given
+    statistics.clear();
+
+    // When
+    for (int i = 0; i < ROWS; i++) {
+      tagRepository.save(TagFactory.createTag("batched-tag-" + i));
+    }
+    entityManager.flush();
+
+    // Then - one nextval for the block of ids and one batched insert
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+  }
+
+  @Test
+  void savingPostsWithTagsAndCommentsShouldBatchEveryTable() {
+    // Given
+    User user = userRepository.findById(TestDataSamples.LEANNE_ID).orElseThrow();
+    List<Tag> tags = tagRepository.findAllByNameIn(List.of(TestDataSamples.TAG_JAVA, TestDataSamples.TAG_JPA));
+    statistics.clear();
+
+    // When
+    for (int i = 0; i < ROWS; i++) {
+      Post post = PostFactory.createPost(user, "Batched post " + i, "Body " + i);
+      post.setTags(new ArrayList<>(tags));
+      post.getComments().add(PostFactory.createPostComment(user, post, "Batched comment " + i));
+      postRepository.save(post);
+    }
+    entityManager.flush();
+
+    // Then - a nextval for posts and comments, then one batched insert per table, post_tag included
+    assertThat(statistics.getEntityInsertCount()).isEqualTo(ROWS * 2);
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+  }
+
+  @Test
+  void updatingPostsShouldBatchTheUpdates() {
+    // Given
+    List<Post> posts = postRepository.findByUserId(TestDataSamples.LEANNE_ID);
+    assertThat(posts).hasSizeGreaterThan(1);
+    statistics.clear();
+
+    // When
+    posts.forEach(post -> post.setTitle(post.getTitle() + " (edited)"));
+    entityManager.flush();
+
+    // Then
+    assertThat(statistics.getEntityUpdateCount()).isEqualTo(posts.size());
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+  }
+}
@@ -0,0 +1,68 @@
+package es.jmjg.experiments.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Latencies observed per endpoint during one measurement window. Every sample is kept, which for
+ * a few minutes of load is a few megabytes, so percentiles are exact rather than bucketed.
+ */
+class LatencyRecorder {
+
+  private final Map<String, Samples> samplesByEndpoint = new ConcurrentSkipListMap<>();
+
+  void record(String endpoint, long nanos, boolean failed) {
+    samplesByEndpoint.computeIfAbsent(endpoint, name -> new Samples()).add(nanos, failed);
+  }
+
+  List<EndpointReport> report(Duration elapsed) {
+    return samplesByEndpoint.entrySet().stream()
+        .map(entry -> entry.getValue().report(entry.getKey(), elapsed))
+        .toList();
+  }
+
+  record EndpointReport(String endpoint, int requests, int errors, double throughput,
+      Duration p50, Duration p95, Duration p99, Duration max) {
+
+    double errorRate() {
+      return requests == 0 ? 0 : (double) errors / requests;
+    }
+  }
+
+  private static final class Samples {
+
+    private long[] nanos = new long[1024];
+    private int size;
+    private int errors;
+
+    synchronized void add(long value, boolean failed) {
+      if (size == nanos.length) {
+        nanos = Arrays.copyOf(nanos, size * 2);
+      }
+      nanos[size++] = value;
+      if (failed) {
+        errors++;
+      }
+    }
+
+    synchronized EndpointReport report(String endpoint, Duration elapsed) {
+      long[] sorted = Arrays.copyOf(nanos, size);
+      Arrays.sort(sorted);
+      double throughput = size / (elapsed.toNanos() / 1_000_000_000.0);
+      return new EndpointReport(endpoint, size, errors, throughput,
+          percentile(sorted, 50), percentile(sorted, 95), percentile(sorted, 99), percentile(sorted, 100));
+    }
+
+    // Nearest-rank percentile
+    private static Duration percentile(long[] sorted, int percentile) {
+      if (sorted.length == 0) {
+        return Duration.ZERO;
+      }
+      int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+      return Duration.ofNanos(sorted[Math.max(rank, 1) - 1]);
+    }
+  }
+}
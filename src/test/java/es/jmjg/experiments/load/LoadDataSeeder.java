@@ -0,0 +1,245 @@
+package es.jmjg.experiments.load;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.entity.PostComment;
+import es.jmjg.experiments.domain.tag.entity.Tag;
+import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.shared.PostFactory;
+import es.jmjg.experiments.shared.TagFactory;
+import es.jmjg.experiments.shared.UserFactory;
+
+/**
+ * Seeds the users, tags, posts and comments the load test runs against. Rows are built with the
+ * shared factories and written with JDBC batches, identifiers are reserved from the table
+ * sequences up front so the join tables can be filled without reading anything back.
+ *
+ * <p>Uuids derive from the row number, so the workload can address any seeded row without
+ * keeping them in memory, and a database that already holds the same volumes (a reused
+ * container) is not seeded twice.
+ */
+class LoadDataSeeder {
+
+  static final String USERNAME_PREFIX = "loaduser";
+  static final String TAG_PREFIX = "loadtag";
+  static final String TITLE_PREFIX = "Load post ";
+  static final List<String> WORDS = List.of(
+      "lorem", "ipsum", "dolor", "amet", "consectetur", "adipiscing", "elit", "tempor", "incididunt",
+      "labore", "dolore", "magna", "aliqua", "veniam", "nostrud", "exercitation", "ullamco", "laboris",
+      "aliquip", "commodo", "consequat", "aute", "irure", "reprehenderit", "voluptate", "velit", "esse",
+      "cillum", "fugiat", "nulla", "pariatur", "excepteur", "occaecat", "cupidatat", "proident", "culpa");
+
+  private static final Logger log = LoggerFactory.getLogger(LoadDataSeeder.class);
+  private static final int CHUNK_SIZE = 5_000;
+
+  private final JdbcTemplate jdbcTemplate;
+  private final LoadTestSettings settings;
+  private final String encodedPassword;
+  private final Random random = new Random(42);
+
+  LoadDataSeeder(JdbcTemplate jdbcTemplate, LoadTestSettings settings, String encodedPassword) {
+    this.jdbcTemplate = jdbcTemplate;
+    this.settings = settings;
+    this.encodedPassword = encodedPassword;
+  }
+
+  static UUID userUuid(int index) {
+    return uuid("user", index);
+  }
+
+  static UUID tagUuid(int index) {
+    return uuid("tag", index);
+  }
+
+  static UUID postUuid(int index) {
+    return uuid("post", index);
+  }
+
+  void seed() {
+    if (alreadySeeded()) {
+      log.info("Reusing {} users, {} tags and {} posts seeded by a previous run",
+          settings.users(), settings.tags(), settings.posts());
+      return;
+    }
+
+    clear();
+    long started = System.nanoTime();
+    List<User> users = seedUsers();
+    List<Tag> tags = seedTags();
+    seedPosts(users, tags);
+    jdbcTemplate.execute("ANALYZE");
+    log.info("Seeded {} users, {} tags and {} posts in {} s", settings.users(), settings.tags(),
+        settings.posts(), (System.nanoTime() - started) / 1_000_000_000);
+  }
+
+  private boolean alreadySeeded() {
+    return count("SELECT COUNT(*) FROM users WHERE username LIKE ?", USERNAME_PREFIX + "%") == settings.users()
+        && count("SELECT COUNT(*) FROM tag WHERE tag LIKE ?", TAG_PREFIX + "%") == settings.tags()
+        && count("SELECT COUNT(*) FROM post WHERE title LIKE ?", TITLE_PREFIX + "%") == settings.posts();
+  }
+
+  // Posts, comments and links go away with their users through ON DELETE CASCADE
+  private void clear() {
+    jdbcTemplate.update("DELETE FROM users WHERE username LIKE ?", USERNAME_PREFIX + "%");
+    jdbcTemplate.update("DELETE FROM tag WHERE tag LIKE ?", TAG_PREFIX + "%");
+  }
+
+  private List<User> seedUsers() {
+    List<User> users = new ArrayList<>(settings.users());
+    for (int from = 0; from < settings.users(); from += CHUNK_SIZE) {
+      int size = Math.min(CHUNK_SIZE, settings.users() - from);
+      List<Integer> ids = reserveIds("users", size);
+      List<User> chunk = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        int index = from + i;
+        User user = UserFactory.createUser(ids.get(i), userUuid(index), "Load User " + index,
+            USERNAME_PREFIX + index + "@load.test", USERNAME_PREFIX + index);
+        user.setPassword(encodedPassword);
+        chunk.add(user);
+      }
+      batch("INSERT INTO users (id, uuid, name, email, username, password) VALUES (?, ?, ?, ?, ?, ?)", chunk,
+          (ps, user) -> {
+            ps.setInt(1, user.getId());
+            ps.setObject(2, user.getUuid());
+            ps.setString(3, user.getName());
+            ps.setString(4, user.getEmail());
+            ps.setString(5, user.getUsername());
+            ps.setString(6, user.getPassword());
+          });
+      users.addAll(chunk);
+    }
+    return users;
+  }
+
+  private List<Tag> seedTags() {
+    List<Integer> ids = reserveIds("tag", settings.tags());
+    List<Tag> tags = new ArrayList<>(settings.tags());
+    for (int index = 0; index < settings.tags(); index++) {
+      Tag tag = TagFactory.createTag(tagUuid(index), TAG_PREFIX + index);
+      tag.setId(ids.get(index));
+      tags.add(tag);
+    }
+    batch("INSERT INTO tag (id, uuid, tag) VALUES (?, ?, ?)", tags, (ps, tag) -> {
+      ps.setInt(1, tag.getId());
+      ps.setObject(2, tag.getUuid());
+      ps.setString(3, tag.getName());
+    });
+    return tags;
+  }
+
+  private void seedPosts(List<User> users, List<Tag> tags) {
+    for (int from = 0; from < settings.posts(); from += CHUNK_SIZE) {
+      int size = Math.min(CHUNK_SIZE, settings.posts() - from);
+      List<Integer> ids = reserveIds("post", size);
+      List<Post> posts = new ArrayList<>(size);
+      List<PostComment> comments = new ArrayList<>(size * settings.commentsPerPost());
+      List<int[]> postTags = new ArrayList<>(size * settings.tagsPerPost());
+
+      for (int i = 0; i < size; i++) {
+        int index = from + i;
+        Post post = PostFactory.createPost(pick(users), postUuid(index), TITLE_PREFIX + index, sentence(40));
+        post.setId(ids.get(i));
+        posts.add(post);
+
+        for (Tag tag : pickDistinct(tags, settings.tagsPerPost())) {
+          postTags.add(new int[] { post.getId(), tag.getId() });
+        }
+        // Fan-out varies between none and twice the configured mean
+        int commentCount = random.nextInt(2 * settings.commentsPerPost() + 1);
+        for (int c = 0; c < commentCount; c++) {
+          comments.add(PostFactory.createPostComment(pick(users), post, sentence(12)));
+        }
+      }
+
+      batch("INSERT INTO post (id, uuid, user_id, title, body) VALUES (?, ?, ?, ?, ?)", posts, (ps, post) -> {
+        ps.setInt(1, post.getId());
+        ps.setObject(2, post.getUuid());
+        ps.setInt(3, post.getUser().getId());
+        ps.setString(4, post.getTitle());
+        ps.setString(5, post.getBody());
+      });
+      batch("INSERT INTO post_tag (post_id, tag_id) VALUES (?, ?)", postTags, (ps, link) -> {
+        ps.setInt(1, link[0]);
+        ps.setInt(2, link[1]);
+      });
+      batch("INSERT INTO post_comment (uuid, post_id, user_id, comment) VALUES (?, ?, ?, ?)", comments,
+          (ps, comment) -> {
+            ps.setObject(1, comment.getUuid());
+            ps.setInt(2, comment.getPost().getId());
+            ps.setInt(3, comment.getUser().getId());
+            ps.setString(4, comment.getComment());
+          });
+
+      if ((from / CHUNK_SIZE) % 20 == 0) {
+        log.info("Seeded {} of {} posts", from + size, settings.posts());
+      }
+    }
+  }
+
+  // Each nextval hands out a block of ids starting at the value returned, as it does to Hibernate
+  private List<Integer> reserveIds(String table, int count) {
+    int blockSize = jdbcTemplate.queryForObject(
+        "SELECT seqincrement FROM pg_sequence WHERE seqrelid = pg_get_serial_sequence(?, 'id')::regclass",
+        Integer.class, table);
+    List<Integer> blocks = jdbcTemplate.queryForList(
+        "SELECT nextval(pg_get_serial_sequence(?, 'id')) FROM generate_series(1, ?)", Integer.class, table,
+        (count + blockSize - 1) / blockSize);
+    List<Integer> ids = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      ids.add(blocks.get(i / blockSize) + i % blockSize);
+    }
+    return ids;
+  }
+
+  private <T> void batch(String sql, List<T> rows, ParameterizedPreparedStatementSetter<T> setter) {
+    if (rows.isEmpty()) {
+      return;
+    }
+    jdbcTemplate.batchUpdate(sql, rows, rows.size(), setter);
+  }
+
+  private long count(String sql, String pattern) {
+    Long count = jdbcTemplate.queryForObject(sql, Long.class, pattern);
+    return count == null ? 0 : count;
+  }
+
+  private <T> T pick(List<T> values) {
+    return values.get(random.nextInt(values.size()));
+  }
+
+  private <T> Set<T> pickDistinct(List<T> values, int count) {
+    Set<T> picked = new LinkedHashSet<>();
+    int wanted = Math.min(count, values.size());
+    while (picked.size() < wanted) {
+      picked.add(pick(values));
+    }
+    return picked;
+  }
+
+  private String sentence(int words) {
+    StringBuilder sentence = new StringBuilder();
+    for (int i = 0; i < words; i++) {
+      if (i > 0) {
+        sentence.append(' ');
+      }
+      sentence.append(pick(WORDS));
+    }
+    return sentence.toString();
+  }
+
+  private static UUID uuid(String kind, int index) {
+    return UUID.nameUUIDFromBytes(("load-" + kind + "-" + index).getBytes(StandardCharsets.UTF_8));
+  }
+}
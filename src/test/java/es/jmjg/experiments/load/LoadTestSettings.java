@@ -0,0 +1,74 @@
+package es.jmjg.experiments.load;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Knobs of the load test, read from system properties so they can be passed on the Maven command
+ * line, e.g. {@code mvn test -Pload-tests -Dload.posts=50000 -Dload.duration=30s}.
+ *
+ * <p>Latency budgets apply to every endpoint and may be overridden per endpoint with
+ * {@code load.budget.<endpoint>.p95} and {@code load.budget.<endpoint>.p99}.
+ */
+public record LoadTestSettings(
+    int users,
+    int tags,
+    int posts,
+    int tagsPerPost,
+    int commentsPerPost,
+    int concurrency,
+    Duration warmup,
+    Duration duration,
+    Duration p95Budget,
+    Duration p99Budget,
+    double maxErrorRate,
+    Path report) {
+
+  public static LoadTestSettings fromSystemProperties() {
+    return new LoadTestSettings(
+        Integer.getInteger("load.users", 100_000),
+        Integer.getInteger("load.tags", 10_000),
+        Integer.getInteger("load.posts", 1_000_000),
+        Integer.getInteger("load.tags-per-post", 3),
+        Integer.getInteger("load.comments-per-post", 3),
+        Integer.getInteger("load.concurrency", 32),
+        duration("load.warmup", "15s"),
+        duration("load.duration", "60s"),
+        duration("load.budget.p95", "250ms"),
+        duration("load.budget.p99", "1s"),
+        Double.parseDouble(System.getProperty("load.max-error-rate", "0.001")),
+        Path.of(System.getProperty("load.report", "target/load-report.csv")));
+  }
+
+  public Duration p95Budget(String endpoint) {
+    return duration("load.budget." + endpoint + ".p95", p95Budget);
+  }
+
+  public Duration p99Budget(String endpoint) {
+    return duration("load.budget." + endpoint + ".p99", p99Budget);
+  }
+
+  private static Duration duration(String property, String defaultValue) {
+    return parse(System.getProperty(property, defaultValue));
+  }
+
+  private static Duration duration(String property, Duration defaultValue) {
+    String value = System.getProperty(property);
+    return value == null ? defaultValue : parse(value);
+  }
+
+  // Accepts 250ms, 30s or 2m, like the durations in application.properties
+  private static Duration parse(String value) {
+    String trimmed = value.trim().toLowerCase();
+    if (trimmed.endsWith("ms")) {
+      return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+    }
+    if (trimmed.endsWith("s")) {
+      return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+    }
+    if (trimmed.endsWith("m")) {
+      return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+    }
+    return Duration.ofMillis(Long.parseLong(trimmed));
+  }
+}
@@ -0,0 +1,228 @@
+package es.jmjg.experiments.load;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.TestPropertySource;
+
+import es.jmjg.experiments.load.LatencyRecorder.EndpointReport;
+import es.jmjg.experiments.shared.BaseControllerIntegration;
+import es.jmjg.experiments.shared.TestDataSamples;
+
+/**
+ * Drives a mixed read and write workload over the REST endpoints of a seeded database and fails
+ * when an endpoint misses its latency budget. It is left out of the regular profiles, run it with
+ * {@code mvn test -Pload-tests}; see {@link LoadTestSettings} for the volumes and budgets.
+ */
+@TestPropertySource(properties = {
+    "spring.datasource.hikari.maximum-pool-size=${load.pool-size:20}",
+    // The test profile logs warnings only, the seeding progress and the report are info
+    "logging.level.es.jmjg.experiments.load=INFO" })
+class MixedWorkloadLoadTest extends BaseControllerIntegration {
+
+  private static final Logger log = LoggerFactory.getLogger(MixedWorkloadLoadTest.class);
+
+  @Autowired
+  private JdbcTemplate jdbcTemplate;
+
+  @Autowired
+  private PasswordEncoder passwordEncoder;
+
+  private LoadTestSettings settings;
+  private HttpClient httpClient;
+  private String userToken;
+  private String adminToken;
+
+  @BeforeEach
+  void setUp() {
+    settings = LoadTestSettings.fromSystemProperties();
+    new LoadDataSeeder(jdbcTemplate, settings, passwordEncoder.encode(TestDataSamples.USER_PASSWORD)).seed();
+
+    httpClient = HttpClient.newBuilder()
+        .version(HttpClient.Version.HTTP_1_1)
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    userToken = createAccessToken(TestDataSamples.LEANNE_USERNAME, TestDataSamples.LEANNE_PASSWORD);
+    adminToken = createAccessToken(TestDataSamples.ADMIN_USERNAME, TestDataSamples.ADMIN_PASSWORD);
+  }
+
+  @Test
+  void mixedWorkloadShouldStayWithinLatencyBudgets() throws IOException {
+    List<Endpoint> endpoints = endpoints();
+
+    run(endpoints, settings.warmup());
+    LatencyRecorder recorder = new LatencyRecorder();
+    Duration elapsed = run(endpoints, settings.duration(), recorder);
+    List<EndpointReport> reports = recorder.report(elapsed);
+
+    log.info("Latencies over {} s{}", elapsed.toSeconds(), table(reports));
+    Files.createDirectories(settings.report().toAbsolutePath().getParent());
+    Files.writeString(settings.report(), csv(reports));
+
+    assertThat(violations(reports)).isEmpty();
+  }
+
+  // Weights approximate a read-heavy blog: mostly browsing posts, some searching and commenting
+  private List<Endpoint> endpoints() {
+    return List.of(
+        new Endpoint("posts-page", 20, () -> get("/api/posts?size=20&page=" + random(500), null)),
+        new Endpoint("post-by-uuid", 25, () -> get("/api/posts/" + LoadDataSeeder.postUuid(random(settings.posts())), null)),
+        new Endpoint("post-search", 10, () -> get("/api/posts/search?limit=20&q=" + randomWord(), null)),
+        new Endpoint("tag-by-uuid", 5, () -> get("/api/tags/" + LoadDataSeeder.tagUuid(random(settings.tags())), null)),
+        new Endpoint("tag-posts", 10, () -> get("/api/tags/" + LoadDataSeeder.tagUuid(random(settings.tags())) + "/posts", null)),
+        new Endpoint("user-by-uuid", 10, () -> get("/api/users/" + LoadDataSeeder.userUuid(random(settings.users())), adminToken)),
+        new Endpoint("add-comment", 8, this::addComment),
+        new Endpoint("authenticate", 2, this::authenticate));
+  }
+
+  private HttpRequest get(String path, String token) {
+    HttpRequest.Builder request = request(path).GET();
+    if (token != null) {
+      request.header("Authorization", "Bearer " + token);
+    }
+    return request.build();
+  }
+
+  private HttpRequest addComment() {
+    String body = """
+        {"id":"%s","comment":"%s %s"}""".formatted(UUID.randomUUID(), randomWord(), randomWord());
+    return request("/api/posts/" + LoadDataSeeder.postUuid(random(settings.posts())) + "/comments")
+        .header("Authorization", "Bearer " + userToken)
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private HttpRequest authenticate() {
+    String body = """
+        {"login":"%s","password":"%s"}""".formatted(TestDataSamples.LEANNE_USERNAME, TestDataSamples.LEANNE_PASSWORD);
+    return request("/authenticate")
+        .header("Content-Type", "application/json")
+        .POST(HttpRequest.BodyPublishers.ofString(body))
+        .build();
+  }
+
+  private HttpRequest.Builder request(String path) {
+    return HttpRequest.newBuilder(URI.create(restTemplate.getRootUri() + path))
+        .timeout(Duration.ofSeconds(30));
+  }
+
+  private void run(List<Endpoint> endpoints, Duration duration) {
+    run(endpoints, duration, new LatencyRecorder());
+  }
+
+  // Closed loop: each virtual user sends its next request as soon as the previous one completes
+  private Duration run(List<Endpoint> endpoints, Duration duration, LatencyRecorder recorder) {
+    int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+    long started = System.nanoTime();
+    long deadline = started + duration.toNanos();
+
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      for (int i = 0; i < settings.concurrency(); i++) {
+        executor.submit(() -> {
+          while (System.nanoTime() < deadline) {
+            Endpoint endpoint = pick(endpoints, totalWeight);
+            HttpRequest request = endpoint.request().get();
+            long sent = System.nanoTime();
+            boolean failed;
+            try {
+              failed = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() >= 400;
+            } catch (IOException e) {
+              failed = true;
+            }
+            recorder.record(endpoint.name(), System.nanoTime() - sent, failed);
+          }
+          return null;
+        });
+      }
+    }
+    return Duration.ofNanos(System.nanoTime() - started);
+  }
+
+  private List<String> violations(List<EndpointReport> reports) {
+    List<String> violations = new ArrayList<>();
+    for (EndpointReport report : reports) {
+      Duration p95Budget = settings.p95Budget(report.endpoint());
+      Duration p99Budget = settings.p99Budget(report.endpoint());
+      if (report.p95().compareTo(p95Budget) > 0) {
+        violations.add("%s p95 %d ms exceeds %d ms".formatted(report.endpoint(), report.p95().toMillis(), p95Budget.toMillis()));
+      }
+      if (report.p99().compareTo(p99Budget) > 0) {
+        violations.add("%s p99 %d ms exceeds %d ms".formatted(report.endpoint(), report.p99().toMillis(), p99Budget.toMillis()));
+      }
+      if (report.errorRate() > settings.maxErrorRate()) {
+        violations.add("%s error rate %.4f exceeds %.4f".formatted(report.endpoint(), report.errorRate(), settings.maxErrorRate()));
+      }
+    }
+    return violations;
+  }
+
+  private static String table(List<EndpointReport> reports) {
+    StringBuilder table = new StringBuilder(String.format(Locale.ROOT, "%n%-14s %9s %7s %9s %9s %9s %9s %9s%n",
+        "endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+    for (EndpointReport report : reports) {
+      table.append(String.format(Locale.ROOT, "%-14s %9d %7d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+          report.endpoint(), report.requests(), report.errors(), report.throughput(), millis(report.p50()),
+          millis(report.p95()), millis(report.p99()), millis(report.max())));
+    }
+    return table.toString();
+  }
+
+  private static String csv(List<EndpointReport> reports) {
+    StringBuilder csv = new StringBuilder("endpoint,requests,errors,throughput,p50_ms,p95_ms,p99_ms,max_ms\n");
+    for (EndpointReport report : reports) {
+      csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.2f,%.3f,%.3f,%.3f,%.3f%n",
+          report.endpoint(), report.requests(), report.errors(), report.throughput(), millis(report.p50()),
+          millis(report.p95()), millis(report.p99()), millis(report.max())));
+    }
+    return csv.toString();
+  }
+
+  private static double millis(Duration duration) {
+    return duration.toNanos() / 1_000_000.0;
+  }
+
+  private static Endpoint pick(List<Endpoint> endpoints, int totalWeight) {
+    int ticket = random(totalWeight);
+    for (Endpoint endpoint : endpoints) {
+      ticket -= endpoint.weight();
+      if (ticket < 0) {
+        return endpoint;
+      }
+    }
+    return endpoints.getLast();
+  }
+
+  private static int random(int bound) {
+    return ThreadLocalRandom.current().nextInt(bound);
+  }
+
+  private static String randomWord() {
+    return LoadDataSeeder.WORDS.get(random(LoadDataSeeder.WORDS.size()));
+  }
+
+  private record Endpoint(String name, int weight, Supplier<HttpRequest> request) {
+  }
+}
@@ -6,11 +6,17 @@ import es.jmjg.experiments.domain.post.entity.PostComment;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import es.jmjg.experiments.application.post.dto.DeletePostDto;
 import es.jmjg.experiments.application.post.dto.SavePostDto;
 import es.jmjg.experiments.application.post.dto.UpdatePostDto;
 import es.jmjg.experiments.domain.post.entity.Post;
+import es.jmjg.experiments.domain.post.projection.PostCommentSummary;
+import es.jmjg.experiments.domain.post.projection.PostSummary;
+import es.jmjg.experiments.domain.tag.projection.TagSummary;
 import es.jmjg.experiments.domain.user.entity.User;
 
 public class PostFactory {
@@ -42,6 +48,37 @@ public class PostFactory {
     return post;
   }
 
+  public static PostSummary toSummary(Post post) {
+    return new PostSummary(
+        post.getId(),
+        post.getUuid(),
+        post.getUser() != null ? post.getUser().getUuid() : null,
+        post.getTitle(),
+        post.getBody(),
+        post.getTags().stream().map(tag -> new TagSummary(tag.getUuid(), tag.getName())).toList(),
+        post.getComments().stream().map(PostComment::getUuid).toList(),
+        post.getCommentCount());
+  }
+
+  public static List<PostSummary> toSummaries(List<Post> posts) {
+    return posts.stream().map(PostFactory::toSummary).toList();
+  }
+
+  public static PostCommentSummary toCommentSummary(PostComment postComment) {
+    return new PostCommentSummary(
+        postComment.getId(),
+        postComment.getUuid(),
+        postComment.getUser() != null ? postComment.getUser().getUuid() : null,
+        postComment.getComment(),
+        postComment.getCreatedAt());
+  }
+
+  /** The comments of the post as the single page a post of that few comments previews. */
+  public static Slice<PostCommentSummary> toCommentSlice(Post post) {
+    List<PostCommentSummary> comments = post.getComments().stream().map(PostFactory::toCommentSummary).toList();
+    return new SliceImpl<>(comments, PageRequest.of(0, Math.max(comments.size(), 1)), false);
+  }
+
   public static PostComment createPostComment(User user, Post post, String comment) {
     PostComment postComment = new PostComment();
     postComment.setUser(user);
@@ -7,6 +7,7 @@ import java.util.UUID;
 import es.jmjg.experiments.domain.post.entity.Post;
 import es.jmjg.experiments.domain.tag.entity.Tag;
 import es.jmjg.experiments.domain.user.entity.User;
+import es.jmjg.experiments.domain.user.projection.UserSummary;
 
 public class UserFactory {
 
@@ -83,4 +84,20 @@ public class UserFactory {
     user.setPassword("encodedPassword123");
     return user;
   }
+
+  public static UserSummary toSummary(User user) {
+    return new UserSummary(
+        user.getId(),
+        user.getUuid(),
+        user.getName(),
+        user.getEmail(),
+        user.getUsername(),
+        user.getPosts().stream().map(Post::getUuid).toList(),
+        user.getTags().stream().map(Tag::getName).toList(),
+        user.getPostCount());
+  }
+
+  public static List<UserSummary> toSummaries(List<User> users) {
+    return users.stream().map(UserFactory::toSummary).toList();
+  }
 }
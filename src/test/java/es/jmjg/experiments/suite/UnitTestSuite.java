@@ -10,7 +10,7 @@ import org.springframework.test.context.ActiveProfiles;
 @Suite
 @SelectPackages("es.jmjg.experiments")
 @IncludeClassNamePatterns(".*Test$")
-@ExcludeClassNamePatterns(".*IntegrationTest$")
+@ExcludeClassNamePatterns({ ".*IntegrationTest$", ".*LoadTest$" })
 @ActiveProfiles("test")
 @Tag("unit")
 public class UnitTestSuite {